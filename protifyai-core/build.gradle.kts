@@ -40,7 +40,7 @@ tasks.processResources {
 
 tasks.test {
     useJUnitPlatform {
-        excludeTags("smoke", "integration")
+        excludeTags("smoke", "integration", "benchmark")
     }
 }
 
@@ -60,6 +60,15 @@ tasks.register<Test>("integrationTest") {
     }
 }
 
+tasks.register<Test>("benchmarkTest") {
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    testLogging.showStandardStreams = true
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+}
+
 mavenPublishing {
     publishToMavenCentral()
     signAllPublications()
@@ -16,6 +16,7 @@
 
 package ai.protify.core;
 
+import ai.protify.core.batch.AIBatchBuilder;
 import ai.protify.core.conversation.AIConversation;
 import ai.protify.core.conversation.AIConversationBuilder;
 import ai.protify.core.conversation.AIConversationStore;
@@ -44,4 +45,12 @@ public interface AIClient {
     AIConversationBuilder newConversation();
 
     AIConversation loadConversation(String conversationId, AIConversationStore store);
+
+    /**
+     * Starts a batch of requests for the provider's batch API. Throws
+     * {@link UnsupportedOperationException} if the provider has none.
+     */
+    default AIBatchBuilder newBatch() {
+        return new AIBatchBuilder(this);
+    }
 }
@@ -18,15 +18,23 @@ package ai.protify.core;
 
 import ai.protify.core.internal.ProtifyAIClient;
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.routing.Route;
+import ai.protify.core.internal.routing.RoutingAIClient;
 import ai.protify.core.provider.AIProvider;
 import ai.protify.core.internal.util.Logger;
 import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.resiliency.CircuitBreakerPolicy;
+import ai.protify.core.resiliency.HedgingPolicy;
 import ai.protify.core.resiliency.RetryPolicy;
+import ai.protify.core.routing.RoutingStrategy;
 
 import java.util.Objects;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 
 public class AIClientBuilder {
@@ -37,6 +45,8 @@ public class AIClientBuilder {
     private AIModel model;
     private AIProvider provider;
     private String explicitModelVersion;
+    private final List<Route> routes = new ArrayList<>();
+    private RoutingStrategy routingStrategy = RoutingStrategy.EWMA_LATENCY;
 
     public AIClientBuilder apiKey(String apiKey) {
         LOGGER.debug("API key set");
@@ -133,6 +143,170 @@ public class AIClientBuilder {
         return this;
     }
 
+    /**
+     * Sends a duplicate of calls that run past the policy's latency percentile and keeps the
+     * first answer. Off by default.
+     */
+    public AIClientBuilder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+        LOGGER.debug("Hedging policy set to {}", hedgingPolicy);
+        clientProperties.put(AIConfigProperty.HEDGING_POLICY, hedgingPolicy);
+        return this;
+    }
+
+    /**
+     * Fails calls fast with a {@code CircuitOpenException} while the provider endpoint keeps
+     * failing, instead of waiting on timeouts. Circuits are kept per endpoint and shared by every
+     * client calling it; the first one to send a request sets the policy.
+     */
+    public AIClientBuilder circuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        LOGGER.debug("Circuit breaker policy set to {}", circuitBreakerPolicy);
+        clientProperties.put(AIConfigProperty.CIRCUIT_BREAKER_POLICY, circuitBreakerPolicy);
+        return this;
+    }
+
+    /**
+     * Limits calls to this client's provider and model to {@code requestsPerMinute}. Calls over
+     * the limit wait in order instead of failing. The limit is shared by every client of the
+     * same provider and model; the first one to send a request sets it.
+     */
+    public AIClientBuilder requestsPerMinute(int requestsPerMinute) {
+        LOGGER.debug("Requests per minute set to {}", requestsPerMinute);
+        clientProperties.put(AIConfigProperty.RATE_LIMIT_REQUESTS_PER_MINUTE, requestsPerMinute);
+        return this;
+    }
+
+    /**
+     * Limits estimated input plus {@code maxOutputTokens} per minute, the way providers count
+     * tokens against their own limits.
+     */
+    public AIClientBuilder tokensPerMinute(int tokensPerMinute) {
+        LOGGER.debug("Tokens per minute set to {}", tokensPerMinute);
+        clientProperties.put(AIConfigProperty.RATE_LIMIT_TOKENS_PER_MINUTE, tokensPerMinute);
+        return this;
+    }
+
+    /**
+     * Caps concurrent calls, starting at {@code initialLimit} and adapting between
+     * {@code minLimit} and {@code maxLimit}: it grows while calls succeed at full load and shrinks
+     * on 429 responses and rising latency.
+     */
+    public AIClientBuilder concurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        LOGGER.debug("Concurrency limit set to {} ({}..{})", initialLimit, minLimit, maxLimit);
+        clientProperties.put(AIConfigProperty.CONCURRENCY_LIMIT_INITIAL, initialLimit);
+        clientProperties.put(AIConfigProperty.CONCURRENCY_LIMIT_MIN, minLimit);
+        clientProperties.put(AIConfigProperty.CONCURRENCY_LIMIT_MAX, maxLimit);
+        return this;
+    }
+
+    /**
+     * Runs {@code executeAsync}, service proxy futures and conversation streaming for this client
+     * on {@code executor} instead of the library default: virtual threads on JDK 21+, otherwise
+     * a daemon pool of at most {@code execution.maxThreads} platform threads.
+     */
+    public AIClientBuilder executor(Executor executor) {
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        LOGGER.debug("Executor set to {}", executor);
+        clientProperties.put(AIConfigProperty.EXECUTOR, executor);
+        return this;
+    }
+
+    /**
+     * Uploads file inputs of at least {@code files.upload.minBytes} through the provider's file
+     * API once, then references them by file id instead of inlining base64 in every request.
+     * Supported by OpenAI, Anthropic and Gemini; other providers keep inlining.
+     */
+    public AIClientBuilder uploadFiles(boolean uploadFiles) {
+        LOGGER.debug("File upload set to {}", uploadFiles);
+        clientProperties.put(AIConfigProperty.FILE_UPLOAD_ENABLED, uploadFiles);
+        return this;
+    }
+
+    public AIClientBuilder fileUploadMinBytes(long minBytes) {
+        LOGGER.debug("File upload threshold set to {} bytes", minBytes);
+        clientProperties.put(AIConfigProperty.FILE_UPLOAD_ENABLED, true);
+        clientProperties.put(AIConfigProperty.FILE_UPLOAD_MIN_BYTES, minBytes);
+        return this;
+    }
+
+    /**
+     * Marks the stable prefix of each request (tools, instructions and earlier conversation
+     * turns) as cacheable where the provider supports explicit prompt caching, so repeated
+     * prefixes are billed and processed at the cached rate. On by default.
+     */
+    public AIClientBuilder promptCaching(boolean promptCaching) {
+        LOGGER.debug("Prompt caching set to {}", promptCaching);
+        clientProperties.put(AIConfigProperty.PROMPT_CACHING_ENABLED, promptCaching);
+        return this;
+    }
+
+    /**
+     * Stores the stable prefix of Gemini and Vertex AI requests (instructions, tools and attached
+     * documents) as a provider context cache and references it from later requests instead of
+     * resending it. Caches in use are renewed in the background; idle ones expire after
+     * {@code contextCache.ttlSecs}. Caches are billed for storage, so this is off by default.
+     */
+    public AIClientBuilder contextCaching(boolean contextCaching) {
+        LOGGER.debug("Context caching set to {}", contextCaching);
+        clientProperties.put(AIConfigProperty.CONTEXT_CACHE_ENABLED, contextCaching);
+        return this;
+    }
+
+    public AIClientBuilder contextCacheTtlSecs(int ttlSecs) {
+        if (ttlSecs <= 0) {
+            throw new IllegalArgumentException("Context cache TTL must be positive");
+        }
+        LOGGER.debug("Context cache TTL set to {} seconds", ttlSecs);
+        clientProperties.put(AIConfigProperty.CONTEXT_CACHE_ENABLED, true);
+        clientProperties.put(AIConfigProperty.CONTEXT_CACHE_TTL_SECS, ttlSecs);
+        return this;
+    }
+
+    /**
+     * Keeps each response as received with an index of where its top-level fields lie, and
+     * decodes a field only when an accessor reads it. A caller that reads only {@code text()},
+     * the token counts and the stop reason then skips decoding tool calls, reasoning and the
+     * rest of the payload. Off by default.
+     */
+    public AIClientBuilder lazyResponseParsing(boolean lazyResponseParsing) {
+        LOGGER.debug("Lazy response parsing set to {}", lazyResponseParsing);
+        clientProperties.put(AIConfigProperty.RESPONSE_LAZY_PARSING, lazyResponseParsing);
+        return this;
+    }
+
+    /**
+     * Adds a client to route to, with weight 1. A builder with routes builds a client that picks
+     * one of them per request by the {@link #routingStrategy(RoutingStrategy) routing strategy}
+     * and fails over to the others on retriable errors, instead of calling a model of its own.
+     */
+    public AIClientBuilder route(AIClient client) {
+        return route(client, 1, 0);
+    }
+
+    public AIClientBuilder route(AIClient client, int weight) {
+        return route(client, weight, 0);
+    }
+
+    /**
+     * @param weight share of calls under {@code WEIGHTED_ROUND_ROBIN}, and a bias under the other
+     *               strategies; 0 keeps the client as a fallback only
+     * @param cost   relative cost used by {@code LOWEST_COST}, e.g. price per million tokens
+     */
+    public AIClientBuilder route(AIClient client, int weight, double cost) {
+        LOGGER.debug("Route added to {} with weight {} and cost {}", client, weight, cost);
+        routes.add(new Route(client, weight, cost));
+        return this;
+    }
+
+    public AIClientBuilder routingStrategy(RoutingStrategy routingStrategy) {
+        Objects.requireNonNull(routingStrategy, "RoutingStrategy cannot be null");
+        LOGGER.debug("Routing strategy set to {}", routingStrategy);
+        this.routingStrategy = routingStrategy;
+        return this;
+    }
+
     public AIClientBuilder region(String region) {
         LOGGER.debug("Region set to {}", region);
         clientProperties.put(AIConfigProperty.REGION, region);
@@ -184,6 +358,13 @@ public class AIClientBuilder {
     public AIClient build() {
         LOGGER.debug("Building client");
 
+        if (!routes.isEmpty()) {
+            if (model != null || provider != null) {
+                throw new IllegalArgumentException("A routing client takes its models from its routes; do not set a model or provider.");
+            }
+            return new RoutingAIClient(clientProperties, routes, routingStrategy);
+        }
+
         String modelName;
         if (model != null) {
             modelName = model.getName();
@@ -208,6 +389,7 @@ public class AIClientBuilder {
                 ", model=" + model +
                 ", provider=" + provider +
                 ", explicitModelVersion='" + explicitModelVersion + '\'' +
+                ", routes=" + routes +
                 '}';
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.batch;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * A set of requests submitted to a provider's batch API, which processes them asynchronously,
+ * typically within 24 hours and at a lower price than individual calls. Requests are written to
+ * and results read from files in the batch's work directory, so a batch of any size is never
+ * held in memory.
+ */
+public interface AIBatch {
+
+    /**
+     * The provider's batch ids. A batch larger than the provider's per-batch limits is split
+     * into several provider batches.
+     */
+    List<String> getProviderBatchIds();
+
+    AIBatchStatus getStatus();
+
+    int size();
+
+    Path getWorkDirectory();
+
+    /**
+     * Blocks until every provider batch has finished and its results have been downloaded.
+     */
+    AIBatch await();
+
+    CompletableFuture<AIBatch> awaitAsync();
+
+    /**
+     * The results in the order the requests were added, read lazily from disk. Waits for the
+     * batch to finish first. The stream holds open files and should be closed, e.g. with
+     * try-with-resources.
+     */
+    Stream<AIBatchResult> results();
+
+    /**
+     * Asks the provider to stop processing. Results of requests that already finished remain
+     * available once the batch reaches {@link AIBatchStatus#CANCELLED}.
+     */
+    void cancel();
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.batch;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.batch.ProtifyAIBatch;
+import ai.protify.core.internal.provider.batch.ProviderBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchRegistry;
+import ai.protify.core.request.AIRequest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Collects requests for an {@link AIBatch}. Each request is serialized to the batch's work
+ * directory as soon as it is added, so the builder does not keep the requests themselves.
+ */
+public class AIBatchBuilder {
+
+    private final AIClient client;
+    private final ProviderBatchClient batchClient;
+
+    private Path workDirectory;
+    private Duration initialPollInterval = Duration.ofSeconds(10);
+    private Duration maxPollInterval = Duration.ofMinutes(5);
+    private ProtifyAIBatch batch;
+
+    public AIBatchBuilder(AIClient client) {
+        this.client = client;
+        this.batchClient = ProviderBatchRegistry.getInstance().get(client.getProvider());
+        if (batchClient == null) {
+            throw new UnsupportedOperationException("Batches are not supported by provider " + client.getProvider().getName());
+        }
+    }
+
+    /**
+     * Where input and result files are kept. Defaults to a new temporary directory. Must be set
+     * before the first request is added.
+     */
+    public AIBatchBuilder workDirectory(Path workDirectory) {
+        if (batch != null) {
+            throw new IllegalStateException("The work directory must be set before requests are added");
+        }
+        this.workDirectory = workDirectory;
+        return this;
+    }
+
+    /**
+     * How often the provider is asked whether the batch has finished. The interval starts at
+     * {@code initial} and doubles after each check up to {@code max}.
+     */
+    public AIBatchBuilder pollInterval(Duration initial, Duration max) {
+        Objects.requireNonNull(initial, "Initial poll interval cannot be null");
+        Objects.requireNonNull(max, "Max poll interval cannot be null");
+        if (initial.isNegative() || initial.isZero()) {
+            throw new IllegalArgumentException("Initial poll interval must be positive");
+        }
+        this.initialPollInterval = initial;
+        this.maxPollInterval = max;
+        return this;
+    }
+
+    /**
+     * Adds a request under a generated correlation id.
+     */
+    public AIBatchBuilder add(AIRequest request) {
+        return add(UUID.randomUUID().toString(), request);
+    }
+
+    /**
+     * Adds a request whose result and response will carry {@code correlationId}.
+     */
+    public AIBatchBuilder add(String correlationId, AIRequest request) {
+        Objects.requireNonNull(correlationId, "Correlation id cannot be null");
+        Objects.requireNonNull(request, "Request cannot be null");
+        if (correlationId.indexOf('\n') >= 0 || correlationId.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Correlation id cannot contain line breaks");
+        }
+        if (!client.getProvider().equals(request.getClient().getProvider())) {
+            throw new IllegalArgumentException("Request targets provider " + request.getClient().getProvider().getName()
+                    + " but the batch is for " + client.getProvider().getName());
+        }
+        if (batch == null) {
+            batch = new ProtifyAIBatch(client, batchClient, workDirectory);
+        }
+        batch.add(correlationId, request);
+        return this;
+    }
+
+    /**
+     * Uploads the batch and starts polling for its completion.
+     */
+    public AIBatch submit() {
+        if (batch == null) {
+            throw new IllegalStateException("No requests have been added to the batch");
+        }
+        return batch.submit(initialPollInterval, maxPollInterval);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.batch;
+
+import ai.protify.core.response.AIResponse;
+
+/**
+ * The outcome of one request in an {@link AIBatch}: either the provider's response or the
+ * reason the request produced none.
+ */
+public final class AIBatchResult {
+
+    private final int index;
+    private final String correlationId;
+    private final AIResponse response;
+    private final String error;
+
+    public AIBatchResult(int index, String correlationId, AIResponse response, String error) {
+        this.index = index;
+        this.correlationId = correlationId;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * The position of the request in the order it was added to the batch.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * The id the request was added with; also returned by the response's
+     * {@link AIResponse#getCorrelationId()}.
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public AIResponse getResponse() {
+        return response;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return response != null;
+    }
+
+    @Override
+    public String toString() {
+        return "AIBatchResult{" +
+                "index=" + index +
+                ", correlationId=" + correlationId +
+                (response != null ? ", responseId=" + response.getResponseId() : ", error=" + error) +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.batch;
+
+public enum AIBatchStatus {
+
+    /** The provider is still validating or processing the batch. */
+    IN_PROGRESS,
+
+    /** Every request was processed; individual results may still have failed. */
+    COMPLETED,
+
+    /** The provider rejected or could not run the batch. */
+    FAILED,
+
+    /** The completion window passed; requests finished before the deadline still have results. */
+    EXPIRED,
+
+    /** The batch was cancelled; requests finished before cancellation still have results. */
+    CANCELLED
+}
@@ -82,6 +82,16 @@ public class AIConversationBuilder {
         return this;
     }
 
+    /**
+     * Whether turns continue the provider's stored copy of the conversation, sending only the new
+     * messages, where the provider supports it (OpenAI). On by default; the full history is sent
+     * whenever the stored copy is gone.
+     */
+    public AIConversationBuilder responseChaining(boolean responseChaining) {
+        this.properties.put(AIConfigProperty.CONVERSATION_RESPONSE_CHAINING, responseChaining);
+        return this;
+    }
+
     public AIConversationBuilder addTool(AITool tool) {
         this.tools.add(tool);
         return this;
@@ -101,11 +111,13 @@ public class AIConversationBuilder {
     public AIConversation build() {
         String conversationId = this.id;
         List<AIMessage> existingMessages = Collections.emptyList();
+        String responseId = null;
 
         if (conversationId != null && store != null) {
             AIConversationState loaded = store.load(conversationId);
             if (loaded != null) {
                 existingMessages = loaded.getMessages();
+                responseId = loaded.getResponseId();
             }
         }
 
@@ -121,7 +133,8 @@ public class AIConversationBuilder {
                 properties,
                 tools,
                 toolHandlers,
-                maxToolRounds
+                maxToolRounds,
+                responseId
         );
     }
 }
@@ -26,6 +26,8 @@ public class AIConversationState {
 
     private String conversationId;
     private List<AIMessage> messages;
+    // Provider-side id of the latest response, which a provider holding the earlier turns can continue from
+    private String responseId;
 
     public AIConversationState() {
         this.messages = new ArrayList<>();
@@ -52,6 +54,14 @@ public class AIConversationState {
         this.messages = messages != null ? new ArrayList<>(messages) : new ArrayList<>();
     }
 
+    public String getResponseId() {
+        return responseId;
+    }
+
+    public void setResponseId(String responseId) {
+        this.responseId = responseId;
+    }
+
     public String toJson() {
         List<Map<String, Object>> serializedMessages = new ArrayList<>();
         for (AIMessage message : messages) {
@@ -71,6 +81,9 @@ public class AIConversationState {
         Map<String, Object> root = new LinkedHashMap<>();
         root.put("conversationId", conversationId);
         root.put("messages", serializedMessages);
+        if (responseId != null) {
+            root.put("responseId", responseId);
+        }
 
         return ProtifyJson.toJsonMap(root);
     }
@@ -95,6 +108,8 @@ public class AIConversationState {
             }
         }
 
-        return new AIConversationState(conversationId, messages);
+        AIConversationState state = new AIConversationState(conversationId, messages);
+        state.setResponseId((String) map.get("responseId"));
+        return state;
     }
 }
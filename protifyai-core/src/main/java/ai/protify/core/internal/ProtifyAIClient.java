@@ -103,7 +103,8 @@ public class ProtifyAIClient implements AIClient {
                 Collections.emptyMap(),
                 Collections.emptyList(),
                 Collections.emptyMap(),
-                10
+                10,
+                state != null ? state.getResponseId() : null
         );
     }
 
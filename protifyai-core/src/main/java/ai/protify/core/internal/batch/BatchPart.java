@@ -0,0 +1,46 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.batch;
+
+import ai.protify.core.internal.provider.batch.ProviderBatchState;
+
+import java.nio.file.Path;
+
+/**
+ * One provider batch within an {@link ProtifyAIBatch}: a contiguous range of the batch's
+ * requests, its input file and the file its results are downloaded to.
+ */
+final class BatchPart {
+
+    final int start;
+    final Path input;
+    final Path results;
+    int count;
+
+    volatile String providerId;
+    volatile ProviderBatchState state;
+
+    // Where each request's result line sits in the results file; built on first read
+    long[] offsets;
+    int[] lengths;
+
+    BatchPart(int start, Path input, Path results) {
+        this.start = start;
+        this.input = input;
+        this.results = results;
+    }
+}
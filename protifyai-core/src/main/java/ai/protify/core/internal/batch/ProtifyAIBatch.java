@@ -0,0 +1,480 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.batch;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.batch.AIBatch;
+import ai.protify.core.batch.AIBatchResult;
+import ai.protify.core.batch.AIBatchStatus;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.config.CredentialHelperFactory;
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.provider.batch.ProviderBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchResult;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.provider.AIProviderRequest;
+import ai.protify.core.request.AIRequest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Writes requests to input files as they are added, one file per provider batch, submits them
+ * and polls each provider batch with exponential backoff until it finishes and its results are
+ * downloaded. Results are read back in submission order by indexing each results file once and
+ * then reading lines at their recorded offsets.
+ * <p>
+ * Requests are sent with the custom id {@code req-<index>}; the caller's correlation ids are
+ * kept in a file alongside the input, so neither has to fit the provider's id rules.
+ */
+public class ProtifyAIBatch implements AIBatch {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProtifyAIBatch.class);
+
+    private static final String CUSTOM_ID_PREFIX = "req-";
+    private static final int MAX_POLL_FAILURES = 3;
+    // Headroom for the provider's wrapper around each request body when sizing input files
+    private static final int REQUEST_OVERHEAD_BYTES = 256;
+
+    private final AIClient client;
+    private final ProviderBatchClient batchClient;
+    private final Path workDirectory;
+    private final String credential;
+    private final List<BatchPart> parts = new ArrayList<>();
+    private final Writer ids;
+
+    private CountingOutputStream out;
+    private ProviderBatchClient.Input input;
+    private int size;
+    private volatile CompletableFuture<AIBatch> completion;
+
+    public ProtifyAIBatch(AIClient client, ProviderBatchClient batchClient, Path workDirectory) {
+        this.client = client;
+        this.batchClient = batchClient;
+        this.credential = CredentialHelperFactory.getInstance().getCredential(client.getProvider(), client.getConfiguration());
+        try {
+            this.workDirectory = (workDirectory != null)
+                    ? Files.createDirectories(workDirectory)
+                    : Files.createTempDirectory("protify-batch-");
+            this.ids = Files.newBufferedWriter(this.workDirectory.resolve("ids.txt"), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create batch work directory", e);
+        }
+    }
+
+    public synchronized void add(String correlationId, AIRequest request) {
+        if (completion != null) {
+            throw new IllegalStateException("The batch has already been submitted");
+        }
+        JsonBody body = toProviderRequest(request).toJsonBody();
+        long length = Math.max(0, body.getContentLength()) + REQUEST_OVERHEAD_BYTES;
+        BatchPart part = parts.isEmpty() ? null : parts.get(parts.size() - 1);
+        try {
+            if (part == null || part.count == batchClient.getMaxRequests()
+                    || (part.count > 0 && out.count + length > batchClient.getMaxBytes())) {
+                part = openPart();
+            }
+            input.add(CUSTOM_ID_PREFIX + size, body);
+            ids.write(correlationId);
+            ids.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write batch input", e);
+        }
+        part.count++;
+        size++;
+    }
+
+    private static AIProviderRequest toProviderRequest(AIRequest request) {
+        Configuration configuration = (request instanceof ProtifyAIRequest)
+                ? ((ProtifyAIRequest) request).deriveConfiguration(null)
+                : request.getConfiguration();
+        return request.getProviderClient().transformRequest(request, configuration);
+    }
+
+    private BatchPart openPart() throws IOException {
+        closeInput();
+        int n = parts.size();
+        BatchPart part = new BatchPart(size, workDirectory.resolve("input-" + n + ".jsonl"),
+                workDirectory.resolve("results-" + n + ".jsonl"));
+        out = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(part.input)));
+        input = batchClient.newInput(out);
+        parts.add(part);
+        return part;
+    }
+
+    private void closeInput() throws IOException {
+        if (out != null) {
+            input.finish();
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Submits every input file and starts polling. If any submission fails, the provider
+     * batches that were created are cancelled and the failure is thrown.
+     */
+    public synchronized AIBatch submit(Duration initialPollInterval, Duration maxPollInterval) {
+        if (completion != null) {
+            throw new IllegalStateException("The batch has already been submitted");
+        }
+        try {
+            closeInput();
+            ids.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write batch input", e);
+        }
+        CompletableFuture<?>[] submissions = parts.stream()
+                .map(part -> batchClient.submit(part.input, credential).thenAccept(id -> part.providerId = id))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(submissions).join();
+        } catch (CompletionException e) {
+            cancel();
+            throw unwrap(e, "Failed to submit batch");
+        }
+        LOGGER.info("Submitted batch of {} requests as {}", size, getProviderBatchIds());
+
+        long initial = initialPollInterval.toMillis();
+        long max = Math.max(initial, maxPollInterval.toMillis());
+        completion = CompletableFuture.allOf(parts.stream()
+                        .map(part -> poll(part, initial, max, 0))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(v -> this);
+        return this;
+    }
+
+    private CompletableFuture<Void> poll(BatchPart part, long delayMillis, long maxMillis, int failures) {
+        // Polls only start non-blocking HTTP calls, so the shared scheduler runs them off the common pool
+        Executor delayed = task -> ProtifyHttpClient.getInstance().getScheduler()
+                .schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        long next = Math.min(maxMillis, delayMillis * 2);
+        return CompletableFuture.supplyAsync(() -> part.providerId, delayed)
+                .thenCompose(id -> batchClient.poll(id, credential))
+                .handle((state, ex) -> {
+                    if (ex != null) {
+                        // A failed status check says nothing about the batch, so keep polling for a while
+                        if (failures + 1 >= MAX_POLL_FAILURES) {
+                            return CompletableFuture.<Void>failedFuture(ex);
+                        }
+                        LOGGER.warn("Polling batch {} failed, retrying: {}", part.providerId, ex.getMessage());
+                        return poll(part, next, maxMillis, failures + 1);
+                    }
+                    part.state = state;
+                    if (state.getStatus() == AIBatchStatus.IN_PROGRESS) {
+                        return poll(part, next, maxMillis, 0);
+                    }
+                    LOGGER.debug("Batch {} finished as {}", part.providerId, state.getStatus());
+                    return downloadResults(part);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> downloadResults(BatchPart part) {
+        try {
+            Files.deleteIfExists(part.results);
+            Files.createFile(part.results);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return batchClient.download(part.state, credential, part.results);
+    }
+
+    @Override
+    public List<String> getProviderBatchIds() {
+        return parts.stream()
+                .map(part -> part.providerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public AIBatchStatus getStatus() {
+        CompletableFuture<AIBatch> done = completion;
+        if (done == null || !done.isDone()) {
+            return AIBatchStatus.IN_PROGRESS;
+        }
+        if (done.isCompletedExceptionally()) {
+            return AIBatchStatus.FAILED;
+        }
+        List<AIBatchStatus> statuses = parts.stream()
+                .map(part -> part.state.getStatus())
+                .collect(Collectors.toList());
+        for (AIBatchStatus status : List.of(AIBatchStatus.FAILED, AIBatchStatus.EXPIRED, AIBatchStatus.CANCELLED)) {
+            if (statuses.contains(status)) {
+                return status;
+            }
+        }
+        return AIBatchStatus.COMPLETED;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Path getWorkDirectory() {
+        return workDirectory;
+    }
+
+    @Override
+    public AIBatch await() {
+        try {
+            return awaitAsync().join();
+        } catch (CompletionException e) {
+            throw unwrap(e, "Batch failed");
+        }
+    }
+
+    @Override
+    public CompletableFuture<AIBatch> awaitAsync() {
+        CompletableFuture<AIBatch> done = completion;
+        if (done == null) {
+            throw new IllegalStateException("The batch has not been submitted");
+        }
+        return done;
+    }
+
+    @Override
+    public Stream<AIBatchResult> results() {
+        await();
+        ResultReader reader = new ResultReader();
+        return StreamSupport.stream(Spliterators.spliterator(reader, size, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(reader::close);
+    }
+
+    @Override
+    public void cancel() {
+        for (BatchPart part : parts) {
+            if (part.providerId != null) {
+                batchClient.cancel(part.providerId, credential).exceptionally(ex -> {
+                    LOGGER.warn("Cancelling batch {} failed: {}", part.providerId, ex.getMessage());
+                    return null;
+                });
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException e, String message) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new ProtifyApiException(message, e.getCause());
+    }
+
+    /**
+     * Records the offset and length of each result line in the part's results file, keyed by
+     * request index. Requests without a result line keep offset {@code -1}.
+     */
+    private void index(BatchPart part) throws IOException {
+        long[] offsets = new long[part.count];
+        int[] lengths = new int[part.count];
+        Arrays.fill(offsets, -1);
+        if (Files.exists(part.results)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(part.results))) {
+                ByteArrayOutputStream line = new ByteArrayOutputStream();
+                long position = 0;
+                long lineStart = 0;
+                int b;
+                while ((b = in.read()) != -1) {
+                    position++;
+                    if (b == '\n') {
+                        record(part, line, lineStart, offsets, lengths);
+                        line.reset();
+                        lineStart = position;
+                    } else {
+                        line.write(b);
+                    }
+                }
+                record(part, line, lineStart, offsets, lengths);
+            }
+        }
+        part.offsets = offsets;
+        part.lengths = lengths;
+    }
+
+    private void record(BatchPart part, ByteArrayOutputStream line, long offset, long[] offsets, int[] lengths) {
+        String text = new String(line.toByteArray(), StandardCharsets.UTF_8);
+        if (text.isBlank()) {
+            return;
+        }
+        String customId = batchClient.parseResult(text).getCustomId();
+        int index = -1;
+        if (customId != null && customId.startsWith(CUSTOM_ID_PREFIX)) {
+            try {
+                index = Integer.parseInt(customId.substring(CUSTOM_ID_PREFIX.length())) - part.start;
+            } catch (NumberFormatException e) {
+                index = -1;
+            }
+        }
+        if (index < 0 || index >= part.count) {
+            LOGGER.warn("Ignoring batch result with unknown custom id {}", customId);
+            return;
+        }
+        offsets[index] = offset;
+        lengths[index] = line.size();
+    }
+
+    private final class ResultReader implements Iterator<AIBatchResult> {
+
+        private final BufferedReader correlationIds;
+        private int index;
+        private int partIndex = -1;
+        private FileChannel channel;
+
+        ResultReader() {
+            try {
+                correlationIds = Files.newBufferedReader(workDirectory.resolve("ids.txt"), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read batch results", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public AIBatchResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                String correlationId = correlationIds.readLine();
+                BatchPart part = partFor(index);
+                int slot = index - part.start;
+                AIBatchResult result;
+                if (part.offsets[slot] < 0) {
+                    result = new AIBatchResult(index, correlationId, null, "No result was returned for the request");
+                } else {
+                    result = toResult(index, correlationId, readLine(part.offsets[slot], part.lengths[slot]));
+                }
+                index++;
+                return result;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read batch results", e);
+            }
+        }
+
+        private BatchPart partFor(int i) throws IOException {
+            BatchPart part = (partIndex >= 0) ? parts.get(partIndex) : null;
+            if (part == null || i >= part.start + part.count) {
+                closeChannel();
+                part = parts.get(++partIndex);
+                if (part.offsets == null) {
+                    index(part);
+                }
+                if (Files.exists(part.results)) {
+                    channel = FileChannel.open(part.results);
+                }
+            }
+            return part;
+        }
+
+        private String readLine(long offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of batch results");
+                }
+            }
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        }
+
+        private AIBatchResult toResult(int i, String correlationId, String line) {
+            ProviderBatchResult result = batchClient.parseResult(line);
+            if (result.getBody() == null) {
+                return new AIBatchResult(i, correlationId, null, result.getError());
+            }
+            return new AIBatchResult(i, correlationId,
+                    batchClient.toResponse(result.getBody(), correlationId, client.getModelName()), null);
+        }
+
+        private void closeChannel() throws IOException {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+
+        void close() {
+            try {
+                closeChannel();
+                correlationIds.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close batch results", e);
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -18,8 +18,12 @@ package ai.protify.core.internal.config;
 
 import ai.protify.core.internal.SupportedModel;
 import ai.protify.core.provider.AIProvider;
+import ai.protify.core.resiliency.CircuitBreakerPolicy;
+import ai.protify.core.resiliency.HedgingPolicy;
 import ai.protify.core.resiliency.RetryPolicy;
 
+import java.util.concurrent.Executor;
+
 /*  Master enum of all properties available that can be set to
     influence a client request's behavior.
 
@@ -40,6 +44,8 @@ public enum AIConfigProperty {
     REQUEST_TIMEOUT_MS("request.timeoutMillis", false, 60000, Integer.class),
 
     RETRY_POLICY( "retryPolicy", false, null, RetryPolicy.class),
+    HEDGING_POLICY("hedgingPolicy", false, null, HedgingPolicy.class),
+    CIRCUIT_BREAKER_POLICY("circuitBreakerPolicy", false, null, CircuitBreakerPolicy.class),
 
     RETRY_MAX_RETRIES("request.retryPolicy.maxRetries", false, null, Integer.class),
     RETRY_DELAY_MS("request.retryPolicy.delayMillis", false, null, Long.class),
@@ -53,6 +59,38 @@ public enum AIConfigProperty {
 
     RESPONSE_CACHE_MAX_ENTRIES("response.cache.maxEntries", false, 1000, Integer.class),
     RESPONSE_CACHE_TTL_SECS("response.cache.ttlSecs", false, 3600, Integer.class),
+    RESPONSE_CACHE_KEY_ALGORITHM("response.cache.keyAlgorithm", false, "MURMUR3_128", String.class),
+    RESPONSE_CACHE_DISK_PATH("response.cache.disk.path", false, null, String.class),
+    RESPONSE_CACHE_DISK_MAX_BYTES("response.cache.disk.maxBytes", false, 256L * 1024 * 1024, Long.class),
+    RESPONSE_LAZY_PARSING("response.lazyParsing", false, false, Boolean.class),
+
+    HTTP_VERSION("http.version", false, "HTTP_2", String.class),
+    HTTP_CONNECT_TIMEOUT_MS("http.connectTimeoutMillis", false, 10000, Integer.class),
+    HTTP_IDLE_TIMEOUT_SECS("http.idleTimeoutSecs", false, null, Integer.class),
+    HTTP_MAX_REQUESTS_PER_HOST("http.maxRequestsPerHost", false, 0, Integer.class),
+    HTTP_EXECUTOR_THREADS("http.executor.threads", false, 0, Integer.class),
+    HTTP_EXECUTOR_VIRTUAL_THREADS("http.executor.virtualThreads", false, false, Boolean.class),
+
+    RATE_LIMIT_REQUESTS_PER_MINUTE("rateLimit.requestsPerMinute", false, 0, Integer.class),
+    RATE_LIMIT_TOKENS_PER_MINUTE("rateLimit.tokensPerMinute", false, 0, Integer.class),
+    CONCURRENCY_LIMIT_INITIAL("concurrencyLimit.initial", false, 0, Integer.class),
+    CONCURRENCY_LIMIT_MIN("concurrencyLimit.min", false, 1, Integer.class),
+    CONCURRENCY_LIMIT_MAX("concurrencyLimit.max", false, 64, Integer.class),
+
+    EXECUTOR("executor", false, null, Executor.class),
+    EXECUTION_VIRTUAL_THREADS("execution.virtualThreads", false, true, Boolean.class),
+    EXECUTION_MAX_THREADS("execution.maxThreads", false, 256, Integer.class),
+
+    FILE_UPLOAD_ENABLED("files.upload.enabled", false, false, Boolean.class),
+    FILE_UPLOAD_MIN_BYTES("files.upload.minBytes", false, 256L * 1024, Long.class),
+    FILE_UPLOAD_TTL_SECS("files.upload.ttlSecs", false, 86400, Integer.class),
+
+    PROMPT_CACHING_ENABLED("promptCaching.enabled", false, true, Boolean.class),
+    CONVERSATION_RESPONSE_CHAINING("conversation.responseChaining", false, true, Boolean.class),
+    CONTEXT_CACHE_ENABLED("contextCache.enabled", false, false, Boolean.class),
+    CONTEXT_CACHE_TTL_SECS("contextCache.ttlSecs", false, 3600, Integer.class),
+    CONTEXT_CACHE_MIN_BYTES("contextCache.minBytes", false, 32L * 1024, Long.class),
+    CONTEXT_CACHE_MAX_ENTRIES("contextCache.maxEntries", false, 64, Integer.class),
 
     OVERRIDE_PIPELINE_CONFIG("overridePipelineConfig", false, false, Boolean.class),
 
@@ -18,6 +18,7 @@ package ai.protify.core.internal.config;
 
 import ai.protify.core.internal.util.Logger;
 import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.http.RequestKeyAlgorithm;
 import ai.protify.core.resiliency.RetryBackoffStrategy;
 import ai.protify.core.resiliency.RetryPolicy;
 
@@ -62,6 +63,32 @@ public final class BaseConfiguration {
 
             AIConfigProperty.RESPONSE_CACHE_MAX_ENTRIES,
             AIConfigProperty.RESPONSE_CACHE_TTL_SECS,
+            AIConfigProperty.RESPONSE_CACHE_KEY_ALGORITHM,
+            AIConfigProperty.RESPONSE_CACHE_DISK_PATH,
+            AIConfigProperty.RESPONSE_CACHE_DISK_MAX_BYTES,
+            AIConfigProperty.RESPONSE_LAZY_PARSING,
+            AIConfigProperty.HTTP_VERSION,
+            AIConfigProperty.HTTP_CONNECT_TIMEOUT_MS,
+            AIConfigProperty.HTTP_IDLE_TIMEOUT_SECS,
+            AIConfigProperty.HTTP_MAX_REQUESTS_PER_HOST,
+            AIConfigProperty.HTTP_EXECUTOR_THREADS,
+            AIConfigProperty.HTTP_EXECUTOR_VIRTUAL_THREADS,
+            AIConfigProperty.RATE_LIMIT_REQUESTS_PER_MINUTE,
+            AIConfigProperty.RATE_LIMIT_TOKENS_PER_MINUTE,
+            AIConfigProperty.CONCURRENCY_LIMIT_INITIAL,
+            AIConfigProperty.CONCURRENCY_LIMIT_MIN,
+            AIConfigProperty.CONCURRENCY_LIMIT_MAX,
+            AIConfigProperty.EXECUTION_VIRTUAL_THREADS,
+            AIConfigProperty.EXECUTION_MAX_THREADS,
+            AIConfigProperty.FILE_UPLOAD_ENABLED,
+            AIConfigProperty.FILE_UPLOAD_MIN_BYTES,
+            AIConfigProperty.FILE_UPLOAD_TTL_SECS,
+            AIConfigProperty.PROMPT_CACHING_ENABLED,
+            AIConfigProperty.CONVERSATION_RESPONSE_CHAINING,
+            AIConfigProperty.CONTEXT_CACHE_ENABLED,
+            AIConfigProperty.CONTEXT_CACHE_TTL_SECS,
+            AIConfigProperty.CONTEXT_CACHE_MIN_BYTES,
+            AIConfigProperty.CONTEXT_CACHE_MAX_ENTRIES,
             AIConfigProperty.REQUEST_TIMEOUT_MS
     );
 
@@ -144,6 +171,7 @@ public final class BaseConfiguration {
 
         propertiesToSet.putAll(newProperties);
         propertiesToSet.put(AIConfigProperty.RETRY_POLICY, createRetryPolicy(newProperties));
+        validateKeyAlgorithm(propertiesToSet);
         this.properties = Collections.unmodifiableMap(propertiesToSet);
         this.configuration = new Configuration(properties);
         this.logMessage = constructLogMessage();
@@ -334,6 +362,17 @@ public final class BaseConfiguration {
                 .build();
     }
 
+    private void validateKeyAlgorithm(Map<AIConfigProperty, Object> props) {
+        String value = getProperty(AIConfigProperty.RESPONSE_CACHE_KEY_ALGORITHM, props);
+        try {
+            RequestKeyAlgorithm.getFromValue(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unknown %s '%s'; expected one of %s",
+                    AIConfigProperty.RESPONSE_CACHE_KEY_ALGORITHM.getName(), value,
+                    Arrays.toString(RequestKeyAlgorithm.values())), e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T getProperty(AIConfigProperty property, Map<AIConfigProperty, Object> props) {
         if (!BASE_PROPERTY_SET.contains(property)) {
@@ -21,6 +21,7 @@ import ai.protify.core.conversation.AIConversation;
 import ai.protify.core.conversation.AIConversationState;
 import ai.protify.core.conversation.AIConversationStore;
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
 import ai.protify.core.internal.message.ProtifyAIMessage;
 import ai.protify.core.internal.request.ProtifyAIRequest;
 import ai.protify.core.message.AIMessage;
@@ -49,6 +50,8 @@ public class ProtifyAIConversation implements AIConversation {
     private final List<AITool> tools;
     private final Map<String, AIToolHandler> toolHandlers;
     private final int maxToolRounds;
+    // Id of the response that produced the last assistant message, for providers that chain turns
+    private volatile String responseId;
 
     public ProtifyAIConversation(
             AIClient client,
@@ -59,6 +62,19 @@ public class ProtifyAIConversation implements AIConversation {
             List<AITool> tools,
             Map<String, AIToolHandler> toolHandlers,
             int maxToolRounds) {
+        this(client, conversationId, messages, store, properties, tools, toolHandlers, maxToolRounds, null);
+    }
+
+    public ProtifyAIConversation(
+            AIClient client,
+            String conversationId,
+            List<AIMessage> messages,
+            AIConversationStore store,
+            Map<AIConfigProperty, Object> properties,
+            List<AITool> tools,
+            Map<String, AIToolHandler> toolHandlers,
+            int maxToolRounds,
+            String responseId) {
         this.client = client;
         this.conversationId = conversationId;
         this.messages = messages;
@@ -67,6 +83,7 @@ public class ProtifyAIConversation implements AIConversation {
         this.tools = tools;
         this.toolHandlers = toolHandlers;
         this.maxToolRounds = maxToolRounds;
+        this.responseId = responseId;
     }
 
     @Override
@@ -134,7 +151,8 @@ public class ProtifyAIConversation implements AIConversation {
                 Collections.emptyList(),
                 null,
                 maxToolRounds,
-                new ArrayList<>(messages)
+                new ArrayList<>(messages),
+                responseId
         );
 
         AIProviderClient<AIProviderRequest> providerClient =
@@ -151,11 +169,12 @@ public class ProtifyAIConversation implements AIConversation {
             AIResponse completed = streamResponse.toResponse();
             AIMessage assistantMessage = ProtifyAIMessage.fromResponse(completed);
             messages.add(assistantMessage);
+            recordResponseId(completed);
             if (store != null) {
                 store.save(getState());
             }
             wrapper.complete(completed);
-        });
+        }, ProtifyExecutors.resolve(request.getConfiguration(), client.getConfiguration()));
 
         return wrapper;
     }
@@ -181,7 +200,8 @@ public class ProtifyAIConversation implements AIConversation {
                 Collections.emptyList(),
                 null,
                 maxToolRounds,
-                new ArrayList<>(messages)
+                new ArrayList<>(messages),
+                responseId
         );
 
         // 3. Execute request
@@ -194,6 +214,7 @@ public class ProtifyAIConversation implements AIConversation {
         // 4. Build assistant message and append
         AIMessage assistantMessage = ProtifyAIMessage.fromResponse(response);
         messages.add(assistantMessage);
+        recordResponseId(response);
 
         // 5. Tool loop if needed
         if (!toolHandlers.isEmpty() && response.hasToolCalls()) {
@@ -244,7 +265,8 @@ public class ProtifyAIConversation implements AIConversation {
                     Collections.emptyList(),
                     null,
                     maxToolRounds - rounds,
-                    new ArrayList<>(messages)
+                    new ArrayList<>(messages),
+                    responseId
             );
 
             AIProviderRequest providerRequest = client.getProviderClient()
@@ -254,11 +276,19 @@ public class ProtifyAIConversation implements AIConversation {
             // Replace last assistant message with updated response
             AIMessage newAssistantMessage = ProtifyAIMessage.fromResponse(response);
             messages.add(newAssistantMessage);
+            recordResponseId(response);
         }
 
         return response;
     }
 
+    // Only a provider response id can be sent back as previous_response_id; a turn answered by
+    // a provider without one, e.g. through a routing client, ends the chain
+    private void recordResponseId(AIResponse response) {
+        String id = response.getProviderResponseId();
+        this.responseId = (id != null && !id.isEmpty()) ? id : null;
+    }
+
     @Override
     public String getId() {
         return conversationId;
@@ -271,11 +301,14 @@ public class ProtifyAIConversation implements AIConversation {
 
     @Override
     public AIConversationState getState() {
-        return new AIConversationState(conversationId, messages);
+        AIConversationState state = new AIConversationState(conversationId, messages);
+        state.setResponseId(responseId);
+        return state;
     }
 
     @Override
     public void clear() {
         messages.clear();
+        responseId = null;
     }
 }
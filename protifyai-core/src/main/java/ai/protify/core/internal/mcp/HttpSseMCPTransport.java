@@ -16,20 +16,21 @@
 
 package ai.protify.core.internal.mcp;
 
+import ai.protify.core.internal.util.http.HttpTransport;
+
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 
 public class HttpSseMCPTransport implements MCPTransport {
 
     private final String url;
-    private final HttpClient httpClient;
+    private final HttpTransport httpTransport;
     private boolean open = false;
 
     public HttpSseMCPTransport(String url) {
         this.url = url;
-        this.httpClient = HttpClient.newHttpClient();
+        this.httpTransport = HttpTransport.getInstance();
     }
 
     @Override
@@ -46,7 +47,7 @@ public class HttpSseMCPTransport implements MCPTransport {
                     .POST(HttpRequest.BodyPublishers.ofString(jsonRpc))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpTransport.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() >= 400) {
                 throw new IllegalStateException("MCP HTTP request failed with status " + response.statusCode()
@@ -17,6 +17,7 @@
 package ai.protify.core.internal.mcp;
 
 import ai.protify.core.internal.tool.ProtifyAITool;
+import ai.protify.core.internal.util.json.JsonPath;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.internal.util.json.ProtifyJsonObject;
 import ai.protify.core.mcp.MCPClient;
@@ -28,6 +29,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class ProtifyMCPClient implements MCPClient {
 
+    private static final JsonPath ERROR = JsonPath.compile("error");
+    private static final JsonPath RESULT_TOOLS = JsonPath.compile("result.tools");
+    private static final JsonPath RESULT_TEXT = JsonPath.compile("result.content.0.text");
+
     private final MCPTransport transport;
     private final AtomicInteger requestId = new AtomicInteger(1);
     private boolean connected = false;
@@ -72,12 +77,12 @@ public class ProtifyMCPClient implements MCPClient {
         String response = sendJsonRpc("tools/list", Collections.emptyMap());
         ProtifyJsonObject json = ProtifyJson.parse(response);
 
-        Object error = json.get("error");
+        Object error = json.get(ERROR);
         if (error != null) {
             throw new IllegalStateException("MCP tools/list error: " + error);
         }
 
-        Object toolsObj = json.get("result.tools");
+        Object toolsObj = json.get(RESULT_TOOLS);
         if (!(toolsObj instanceof List)) {
             return Collections.emptyList();
         }
@@ -104,7 +109,7 @@ public class ProtifyMCPClient implements MCPClient {
         String response = sendJsonRpc("tools/call", params);
         ProtifyJsonObject json = ProtifyJson.parse(response);
 
-        Object error = json.get("error");
+        Object error = json.get(ERROR);
         if (error instanceof Map) {
             Map<String, Object> errorMap = (Map<String, Object>) error;
             Object code = errorMap.get("code");
@@ -113,7 +118,7 @@ public class ProtifyMCPClient implements MCPClient {
         }
 
         // Extract result.content.0.text
-        String text = json.getString("result.content.0.text");
+        String text = json.getString(RESULT_TEXT);
         return text != null ? text : "";
     }
 
@@ -147,7 +152,7 @@ public class ProtifyMCPClient implements MCPClient {
 
     private void validateResponse(String response) {
         ProtifyJsonObject json = ProtifyJson.parse(response);
-        Object error = json.get("error");
+        Object error = json.get(ERROR);
         if (error != null) {
             throw new IllegalStateException("MCP initialization error: " + error);
         }
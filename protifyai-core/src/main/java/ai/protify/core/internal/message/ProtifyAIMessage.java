@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.message;
 
+import ai.protify.core.internal.util.json.JsonFragment;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
 import ai.protify.core.request.AIInput;
@@ -24,6 +25,8 @@ import ai.protify.core.tool.AIToolCall;
 import ai.protify.core.tool.AIToolResult;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public final class ProtifyAIMessage implements AIMessage {
 
@@ -32,6 +35,8 @@ public final class ProtifyAIMessage implements AIMessage {
     private final List<AIInput> inputs;
     private final List<AIToolCall> toolCalls;
     private final List<AIToolResult> toolResults;
+    // Serialized provider items for this message, keyed by wire format
+    private final Map<String, List<JsonFragment>> fragments = new ConcurrentHashMap<>(2);
 
     private ProtifyAIMessage(String role,
                              String text,
@@ -98,6 +103,22 @@ public final class ProtifyAIMessage implements AIMessage {
         return !toolCalls.isEmpty();
     }
 
+    /**
+     * Returns the provider items this message becomes in {@code format}, serialized by
+     * {@code builder} the first time and reused on every later turn. The message is immutable,
+     * so the items only change with the format.
+     */
+    public List<JsonFragment> fragments(String format, Supplier<List<?>> builder) {
+        return fragments.computeIfAbsent(format, f -> {
+            List<?> items = builder.get();
+            List<JsonFragment> serialized = new ArrayList<>(items.size());
+            for (Object item : items) {
+                serialized.add(JsonFragment.of(item));
+            }
+            return Collections.unmodifiableList(serialized);
+        });
+    }
+
     public Map<String, Object> toSerializableMap() {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("role", role);
@@ -17,6 +17,8 @@
 package ai.protify.core.internal.pipeline;
 
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
 import ai.protify.core.pipeline.AIPipeline;
 import ai.protify.core.pipeline.AIPipelineContext;
 import ai.protify.core.pipeline.AIPipelineResponse;
@@ -95,7 +97,8 @@ Advanced: "Did the LLM actually return a valid JSON table like I asked?"
 
     @Override
     public CompletableFuture<AIPipelineResponse> executeAsync() {
-        return CompletableFuture.supplyAsync(this::execute);
+        return CompletableFuture.supplyAsync(this::execute,
+                ProtifyExecutors.resolve(new Configuration(this.pipelineProperties)));
     }
 
     @Override
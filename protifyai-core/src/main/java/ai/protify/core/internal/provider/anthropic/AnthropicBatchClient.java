@@ -0,0 +1,149 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.anthropic;
+
+import ai.protify.core.batch.AIBatchStatus;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
+import ai.protify.core.internal.provider.batch.ProtifyProviderBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchResult;
+import ai.protify.core.internal.provider.batch.ProviderBatchState;
+import ai.protify.core.internal.util.json.JsonPath;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.response.AIResponse;
+
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs Messages API requests through Message Batches. The input is a single JSON document,
+ * {@code {"requests":[{"custom_id":..,"params":..}]}}, streamed from disk as the request body;
+ * results are JSON Lines read from the batch's {@code results_url}.
+ */
+public class AnthropicBatchClient extends ProtifyProviderBatchClient {
+
+    private static final String BASE_URL = "https://api.anthropic.com";
+    private static final JsonPath.Selection RESULT_FIELDS = JsonPath.select(
+            "custom_id", "result.type", "result.error.error.message", "result.error.message");
+
+    public AnthropicBatchClient() {
+        this(BASE_URL);
+    }
+
+    public AnthropicBatchClient(String baseUrl) {
+        super(ProtifyAIProvider.ANTHROPIC, baseUrl);
+    }
+
+    @Override
+    public int getMaxRequests() {
+        return 100_000;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return 256L * 1024 * 1024;
+    }
+
+    @Override
+    protected String requestHead(String customId) {
+        return "{\"custom_id\":\"" + customId + "\",\"params\":";
+    }
+
+    @Override
+    protected String inputHead() {
+        return "{\"requests\":[";
+    }
+
+    @Override
+    protected String inputSeparator() {
+        return ",\n";
+    }
+
+    @Override
+    protected String inputTail() {
+        return "]}";
+    }
+
+    @Override
+    public CompletableFuture<String> submit(Path input, String credential) {
+        HttpRequest.BodyPublisher body;
+        try {
+            body = HttpRequest.BodyPublishers.ofFile(input);
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException("Failed to read batch input " + input, e);
+        }
+        return sendForJson(newRequest(getBaseUrl() + "/v1/messages/batches", credential, "application/json")
+                .POST(body)
+                .build())
+                .thenApply(batch -> requireString(batch, "id"));
+    }
+
+    @Override
+    public CompletableFuture<ProviderBatchState> poll(String batchId, String credential) {
+        return sendForJson(newRequest(getBaseUrl() + "/v1/messages/batches/" + batchId, credential, "application/json")
+                .GET()
+                .build())
+                .thenApply(batch -> {
+                    // in_progress and canceling are still running; per-request outcomes are in the results
+                    if (!"ended".equals(requireString(batch, "processing_status"))) {
+                        return new ProviderBatchState(AIBatchStatus.IN_PROGRESS, Collections.emptyList());
+                    }
+                    String resultsUrl = batch.getString("results_url");
+                    List<String> results = (resultsUrl != null) ? List.of(resultsUrl) : Collections.emptyList();
+                    AIBatchStatus status = (batch.getString("cancel_initiated_at") != null)
+                            ? AIBatchStatus.CANCELLED : AIBatchStatus.COMPLETED;
+                    return new ProviderBatchState(status, results);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(String batchId, String credential) {
+        return sendForJson(newRequest(getBaseUrl() + "/v1/messages/batches/" + batchId + "/cancel", credential, "application/json")
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build())
+                .thenApply(batch -> null);
+    }
+
+    @Override
+    public ProviderBatchResult parseResult(String line) {
+        Object[] fields = ProtifyJson.parse(line).getAll(RESULT_FIELDS);
+        String customId = string(fields[0]);
+        String type = string(fields[1]);
+        if ("succeeded".equals(type)) {
+            return ProviderBatchResult.success(customId, rawMember(rawMember(line, "result"), "message"));
+        }
+        String message = string(fields[2]);
+        if (message == null) {
+            message = string(fields[3]);
+        }
+        if (message == null) {
+            message = "Request " + type;
+        }
+        return ProviderBatchResult.failure(customId, message);
+    }
+
+    @Override
+    public AIResponse toResponse(String body, String correlationId, String modelName) {
+        return new AnthropicResponse(false, null, correlationId, modelName, body,
+                ProtifyJson.fromJson(body, AnthropicResponseBody.class));
+    }
+}
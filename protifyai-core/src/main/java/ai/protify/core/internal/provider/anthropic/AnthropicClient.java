@@ -21,20 +21,37 @@ import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
 import ai.protify.core.internal.response.ProtifyAIStreamResponse;
 import ai.protify.core.internal.util.http.ProtifyHttpClient;
 import ai.protify.core.internal.util.http.ProtifyHttpResponse;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.provider.ProtifyAIProviderClient;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class AnthropicClient extends ProtifyAIProviderClient<AnthropicRequest> {
 
     private static final String MESSAGES_URI = "https://api.anthropic.com/v1/messages";
 
     @Override
     public AIResponse execute(AnthropicRequest request) {
-        ProtifyHttpResponse response = ProtifyHttpClient.getInstance().post(request, MESSAGES_URI);
-        String rawJson = response.getResponseBody();
-        AnthropicResponseBody body = ProtifyJson.fromJson(rawJson, AnthropicResponseBody.class);
+        return toResponse(ProtifyHttpClient.getInstance().post(request, MESSAGES_URI), request);
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(AnthropicRequest request) {
+        return ProtifyHttpClient.getInstance().postAsync(request, MESSAGES_URI)
+                .thenApply(response -> toResponse(response, request));
+    }
+
+    private AIResponse toResponse(ProtifyHttpResponse response, AnthropicRequest request) {
+        byte[] rawJson = response.getResponseBytes();
+        if (isLazyResponseParsing(request)) {
+            return new AnthropicResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson,
+                    LazyJsonBean.lazy(rawJson, AnthropicResponseBody.class));
+        }
+        AnthropicResponseBody body = ProtifyJson.fromReader(new JsonReader(rawJson), AnthropicResponseBody.class);
         return new AnthropicResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson, body);
     }
 
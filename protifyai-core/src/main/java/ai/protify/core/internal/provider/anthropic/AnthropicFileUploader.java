@@ -0,0 +1,57 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.anthropic;
+
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.file.MultipartBody;
+import ai.protify.core.internal.provider.file.ProtifyProviderFileUploader;
+import ai.protify.core.internal.provider.file.ProviderFile;
+import ai.protify.core.request.AIFileInput;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Uploads to the Files API ({@code POST /v1/files}). Anthropic keeps files until they are
+ * deleted, so reuse is bounded only by the store's TTL. Messages that reference a file id must
+ * send the same beta header.
+ */
+public class AnthropicFileUploader extends ProtifyProviderFileUploader {
+
+    public static final String FILES_API_BETA = "files-api-2025-04-14";
+
+    private static final String BASE_URL = "https://api.anthropic.com";
+
+    public AnthropicFileUploader() {
+        this(BASE_URL);
+    }
+
+    public AnthropicFileUploader(String baseUrl) {
+        super(ProtifyAIProvider.ANTHROPIC, baseUrl);
+    }
+
+    @Override
+    public CompletableFuture<ProviderFile> upload(AIFileInput input, String credential, int ttlSecs) {
+        MultipartBody body = new MultipartBody()
+                .file("file", input.getFilename(), input.getMediaType(), input.getContentLength(), input::openStream);
+
+        return sendForJson(newRequest(getBaseUrl() + "/v1/files", credential, body.getContentType())
+                .header("anthropic-beta", FILES_API_BETA)
+                .POST(body.toBodyPublisher())
+                .build())
+                .thenApply(json -> new ProviderFile(requireString(json, "id"), input.getMediaType(), Long.MAX_VALUE));
+    }
+}
@@ -17,11 +17,15 @@
 package ai.protify.core.internal.provider.anthropic;
 
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicCacheControl;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicContentBlock;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicMessage;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicRequestBody;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicThinking;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicTool;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.internal.util.json.JsonBuilder;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
@@ -29,6 +33,7 @@ import ai.protify.core.provider.ProtifyAIProviderRequest;
 import ai.protify.core.request.AIFileInput;
 import ai.protify.core.request.AIInput;
 import ai.protify.core.request.AITextInput;
+import ai.protify.core.request.FileDataReferenceType;
 import ai.protify.core.request.InputType;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.tool.AIToolCall;
@@ -44,6 +49,11 @@ import java.util.stream.Collectors;
 
 public final class AnthropicRequest extends ProtifyAIProviderRequest {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnthropicRequest.class);
+
+    // Key for the serialized conversation items kept on each message
+    private static final String WIRE_FORMAT = "anthropic.messages";
+
     private static final Set<AIConfigProperty> THINKING_UNSUPPORTED = Collections.unmodifiableSet(
             EnumSet.of(AIConfigProperty.TEMPERATURE, AIConfigProperty.TOP_P, AIConfigProperty.TOP_K));
 
@@ -59,6 +69,8 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
     private String json;
     private String loggableJson;
     private boolean stream = false;
+    // Set while building the body; messages that reference uploaded files need the Files API beta
+    private boolean usesFileReferences = false;
 
     void setStream(boolean stream) {
         this.stream = stream;
@@ -73,6 +85,19 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         return this.json;
     }
 
+    @Override
+    public JsonBody toJsonBody() {
+        return ProtifyJson.toJsonBody(buildRequestBody());
+    }
+
+    @Override
+    public Map<String, String> getAdditionalHeaders() {
+        if (usesFileReferences) {
+            return Map.of("anthropic-beta", AnthropicFileUploader.FILES_API_BETA);
+        }
+        return Collections.emptyMap();
+    }
+
     public String toLoggableJson() {
         boolean prettyPrint = super.getConfiguration().getProperty(AIConfigProperty.PRETTY_PRINT_JSON);
 
@@ -98,8 +123,21 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         body.setTopK(topK);
         body.setStream(stream);
 
+        List<Object> messages = buildMessages();
+        // Only a multi-turn exchange reads back what this call writes; marking a one-shot request
+        // would pay the cache-write premium on its system prompt and tools for nothing
+        boolean promptCaching = !Boolean.FALSE.equals(
+                super.getConfiguration().getProperty(AIConfigProperty.PROMPT_CACHING_ENABLED))
+                && (isConversation() || messages.size() > 1);
+
         if (instructions != null) {
-            body.setSystem(instructions);
+            if (promptCaching) {
+                AnthropicContentBlock systemBlock = AnthropicContentBlock.text(instructions);
+                systemBlock.setCacheControl(AnthropicCacheControl.ephemeral());
+                body.setSystem(List.of(systemBlock));
+            } else {
+                body.setSystem(instructions);
+            }
         }
 
         // Thinking / extended reasoning
@@ -113,15 +151,58 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
             List<AnthropicTool> anthropicTools = super.getTools().stream()
                     .map(AnthropicTool::from)
                     .collect(Collectors.toList());
+            if (promptCaching) {
+                anthropicTools.get(anthropicTools.size() - 1).setCacheControl(AnthropicCacheControl.ephemeral());
+            }
             body.setTools(anthropicTools);
         }
 
-        // Build messages
-        body.setMessages(buildMessages());
+        if (promptCaching) {
+            markCacheBreakpoints(messages, isConversation());
+        }
+        body.setMessages(messages);
 
         return body;
     }
 
+    /*  Called only for multi-turn requests. Tools and system already carry a breakpoint each,
+        leaving two of the four allowed. The end of the turns before the newest message is the
+        prefix this call can read back; in conversation mode the newest message is marked too,
+        so the next turn reads it. Serialized fragments cannot be marked, so the history
+        breakpoint goes on the nearest message object before the newest one.
+     */
+    static void markCacheBreakpoints(List<Object> messages, boolean markNewest) {
+        if (messages.size() > 1) {
+            int i = messages.size() - 2;
+            while (i >= 0 && !markLastBlock(messages.get(i))) {
+                i--;
+            }
+            if (i < 0) {
+                LOGGER.debug("No message before the newest one can carry a cache breakpoint; history is not cached");
+            }
+        }
+        if (markNewest && !messages.isEmpty()) {
+            markLastBlock(messages.get(messages.size() - 1));
+        }
+    }
+
+    private boolean isConversation() {
+        List<AIMessage> conversationMessages = super.getMessages();
+        return conversationMessages != null && !conversationMessages.isEmpty();
+    }
+
+    private static boolean markLastBlock(Object message) {
+        if (!(message instanceof AnthropicMessage)) {
+            return false;
+        }
+        List<AnthropicContentBlock> content = ((AnthropicMessage) message).getContent();
+        if (content == null || content.isEmpty()) {
+            return false;
+        }
+        content.get(content.size() - 1).setCacheControl(AnthropicCacheControl.ephemeral());
+        return true;
+    }
+
     private static int mapReasoningEffortToBudgetTokens(String effort, Integer maxTokens) {
         int max = maxTokens != null ? maxTokens : 4096;
         switch (effort) {
@@ -136,7 +217,7 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         }
     }
 
-    private List<AnthropicMessage> buildMessages() {
+    private List<Object> buildMessages() {
         // Conversation mode: use full message history
         List<AIMessage> conversationMessages = super.getMessages();
         if (conversationMessages != null && !conversationMessages.isEmpty()) {
@@ -144,7 +225,7 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         }
 
         // Legacy single-turn mode
-        List<AnthropicMessage> messages = new ArrayList<>();
+        List<Object> messages = new ArrayList<>();
 
         List<AIInput> inputs = super.getInputs();
         AIResponse previousResponse = super.getPreviousAssistantResponse();
@@ -188,48 +269,66 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         return messages;
     }
 
-    private List<AnthropicMessage> buildMessagesFromConversation(List<AIMessage> conversationMessages) {
-        List<AnthropicMessage> messages = new ArrayList<>();
+    private List<Object> buildMessagesFromConversation(List<AIMessage> conversationMessages) {
+        // The last two turns with content stay objects so cache breakpoints can be set on them
+        int reusable = conversationMessages.size();
+        List<List<AnthropicMessage>> tail = new ArrayList<>();
+        int withContent = 0;
+        while (reusable > 0 && withContent < 2) {
+            List<AnthropicMessage> converted = toAnthropicMessages(conversationMessages.get(--reusable));
+            tail.add(converted);
+            withContent += converted.isEmpty() ? 0 : 1;
+        }
 
-        for (AIMessage msg : conversationMessages) {
-            List<AnthropicContentBlock> contentBlocks = new ArrayList<>();
+        List<Object> messages = new ArrayList<>();
+        for (int i = 0; i < reusable; i++) {
+            AIMessage msg = conversationMessages.get(i);
+            messages.addAll(messageItems(msg, WIRE_FORMAT, () -> toAnthropicMessages(msg)));
+        }
+        for (int i = tail.size() - 1; i >= 0; i--) {
+            messages.addAll(tail.get(i));
+        }
 
-            if ("user".equals(msg.getRole())) {
-                // User message with tool results
-                if (!msg.getToolResults().isEmpty()) {
-                    for (AIToolResult result : msg.getToolResults()) {
-                        contentBlocks.add(AnthropicContentBlock.toolResult(
-                                result.getToolCallId(), result.getContent(), result.isError()));
-                    }
-                } else {
-                    // User text message, possibly with file inputs
-                    if (msg.getText() != null) {
-                        contentBlocks.add(AnthropicContentBlock.text(msg.getText()));
-                    }
-                    if (!msg.getInputs().isEmpty()) {
-                        contentBlocks.addAll(buildContentBlocks(msg.getInputs()));
-                    }
+        return messages;
+    }
+
+    private List<AnthropicMessage> toAnthropicMessages(AIMessage msg) {
+        List<AnthropicContentBlock> contentBlocks = new ArrayList<>();
+
+        if ("user".equals(msg.getRole())) {
+            // User message with tool results
+            if (!msg.getToolResults().isEmpty()) {
+                for (AIToolResult result : msg.getToolResults()) {
+                    contentBlocks.add(AnthropicContentBlock.toolResult(
+                            result.getToolCallId(), result.getContent(), result.isError()));
                 }
-            } else if ("assistant".equals(msg.getRole())) {
-                // Assistant text
+            } else {
+                // User text message, possibly with file inputs
                 if (msg.getText() != null) {
                     contentBlocks.add(AnthropicContentBlock.text(msg.getText()));
                 }
-                // Assistant tool calls
-                if (msg.hasToolCalls()) {
-                    for (AIToolCall call : msg.getToolCalls()) {
-                        contentBlocks.add(AnthropicContentBlock.toolUse(
-                                call.getId(), call.getName(), call.getArguments()));
-                    }
+                if (!msg.getInputs().isEmpty()) {
+                    contentBlocks.addAll(buildContentBlocks(msg.getInputs()));
                 }
             }
-
-            if (!contentBlocks.isEmpty()) {
-                messages.add(new AnthropicMessage(msg.getRole(), contentBlocks));
+        } else if ("assistant".equals(msg.getRole())) {
+            // Assistant text
+            if (msg.getText() != null) {
+                contentBlocks.add(AnthropicContentBlock.text(msg.getText()));
+            }
+            // Assistant tool calls
+            if (msg.hasToolCalls()) {
+                for (AIToolCall call : msg.getToolCalls()) {
+                    contentBlocks.add(AnthropicContentBlock.toolUse(
+                            call.getId(), call.getName(), call.getArguments()));
+                }
             }
         }
 
-        return messages;
+        if (contentBlocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return List.of(new AnthropicMessage(msg.getRole(), contentBlocks));
     }
 
     private List<AnthropicContentBlock> buildContentBlocks(List<AIInput> inputs) {
@@ -238,14 +337,21 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
             if (InputType.TEXT == input.getType()) {
                 blocks.add(AnthropicContentBlock.text(((AITextInput) input).getText()));
             } else if (InputType.IMAGE == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
-                String mediaType = extractMediaType(fileInput.getData());
-                String base64Data = extractBase64Data(fileInput.getData());
-                blocks.add(AnthropicContentBlock.image(mediaType, base64Data));
+                AIFileInput fileInput = resolveFileReference((AIFileInput) input);
+                if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
+                    usesFileReferences = true;
+                    blocks.add(AnthropicContentBlock.imageFromFileId(fileInput.getData()));
+                } else {
+                    blocks.add(AnthropicContentBlock.image(fileInput.getMediaType(), base64Payload(fileInput)));
+                }
             } else if (InputType.PDF == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
-                String base64Data = extractBase64Data(fileInput.getData());
-                blocks.add(AnthropicContentBlock.document(base64Data));
+                AIFileInput fileInput = resolveFileReference((AIFileInput) input);
+                if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
+                    usesFileReferences = true;
+                    blocks.add(AnthropicContentBlock.documentFromFileId(fileInput.getData()));
+                } else {
+                    blocks.add(AnthropicContentBlock.document(base64Payload(fileInput)));
+                }
             }
         }
         return blocks;
@@ -334,8 +440,8 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
     }
 
     private void appendImageContent(JsonBuilder builder, AIFileInput fileInput) {
-        String mediaType = extractMediaType(fileInput.getData());
-        String base64Data = extractBase64Data(fileInput.getData());
+        String mediaType = fileInput.getMediaType();
+        String base64Data = extractBase64Data(fileInput.getLoggableData());
 
         builder.appendIndent(4);
         builder.append("{");
@@ -361,7 +467,7 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
     }
 
     private void appendDocumentContent(JsonBuilder builder, AIFileInput fileInput) {
-        String base64Data = extractBase64Data(fileInput.getData());
+        String base64Data = extractBase64Data(fileInput.getLoggableData());
 
         builder.appendIndent(4);
         builder.append("{");
@@ -386,16 +492,6 @@ public final class AnthropicRequest extends ProtifyAIProviderRequest {
         builder.appendNewLine();
     }
 
-    private static String extractMediaType(String dataUrl) {
-        if (dataUrl != null && dataUrl.startsWith("data:")) {
-            int semicolon = dataUrl.indexOf(';');
-            if (semicolon > 5) {
-                return dataUrl.substring(5, semicolon);
-            }
-        }
-        return "application/octet-stream";
-    }
-
     private static String extractBase64Data(String dataUrl) {
         if (dataUrl != null && dataUrl.contains(",")) {
             return dataUrl.substring(dataUrl.indexOf(',') + 1);
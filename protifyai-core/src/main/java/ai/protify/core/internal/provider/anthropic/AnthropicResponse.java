@@ -18,8 +18,10 @@ package ai.protify.core.internal.provider.anthropic;
 
 import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
 import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseContent;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicUsage;
 import ai.protify.core.internal.response.ProtifyAIResponse;
 import ai.protify.core.internal.tool.ProtifyAIToolCall;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.tool.AIToolCall;
 
@@ -30,32 +32,64 @@ import java.util.Map;
 
 public class AnthropicResponse extends ProtifyAIResponse {
 
-    private final AnthropicResponseBody body;
+    private final LazyJsonBean<AnthropicResponseBody> body;
 
     public AnthropicResponse(boolean cachedResponse, String pipelineId, String correlationId,
                              String modelName, String rawResponse, AnthropicResponseBody body) {
         super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    public AnthropicResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                             String modelName, byte[] rawResponse, AnthropicResponseBody body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    /**
+     * Binds each part of the body from {@code body} only when an accessor first reads it.
+     */
+    public AnthropicResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                             String modelName, byte[] rawResponse, LazyJsonBean<AnthropicResponseBody> body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
         this.body = body;
     }
 
     @Override
     public String getResponseId() {
-        return body.getId() != null ? body.getId() : "";
+        String id = body.get("id").getId();
+        return id != null ? id : "";
     }
 
     @Override
     public String getModelName() {
-        return body.getModel() != null ? body.getModel() : "";
+        String model = body.get("model").getModel();
+        return model != null ? model : "";
     }
 
+    // The provider reports cached tokens apart from input_tokens; count them as input like other providers do
     @Override
     public long getInputTokens() {
-        return body.getUsage() != null ? body.getUsage().getInputTokens() : 0;
+        AnthropicUsage usage = usage();
+        if (usage == null) {
+            return 0;
+        }
+        return usage.getInputTokens() + usage.getCacheCreationInputTokens() + usage.getCacheReadInputTokens();
+    }
+
+    @Override
+    public long getCacheReadInputTokens() {
+        return usage() != null ? usage().getCacheReadInputTokens() : 0;
+    }
+
+    @Override
+    public long getCacheWriteInputTokens() {
+        return usage() != null ? usage().getCacheCreationInputTokens() : 0;
     }
 
     @Override
     public long getOutputTokens() {
-        return body.getUsage() != null ? body.getUsage().getOutputTokens() : 0;
+        return usage() != null ? usage().getOutputTokens() : 0;
     }
 
     @Override
@@ -75,8 +109,8 @@ public class AnthropicResponse extends ProtifyAIResponse {
 
     @Override
     public String text() {
-        if (body.getContent() != null) {
-            for (AnthropicResponseContent block : body.getContent()) {
+        if (content() != null) {
+            for (AnthropicResponseContent block : content()) {
                 if ("text".equals(block.getType()) && block.getText() != null) {
                     return block.getText();
                 }
@@ -87,9 +121,9 @@ public class AnthropicResponse extends ProtifyAIResponse {
 
     @Override
     public String getReasoningContent() {
-        if (body.getContent() != null) {
+        if (content() != null) {
             StringBuilder sb = new StringBuilder();
-            for (AnthropicResponseContent block : body.getContent()) {
+            for (AnthropicResponseContent block : content()) {
                 if ("thinking".equals(block.getType()) && block.getThinking() != null) {
                     if (sb.length() > 0) sb.append("\n");
                     sb.append(block.getThinking());
@@ -104,7 +138,7 @@ public class AnthropicResponse extends ProtifyAIResponse {
 
     @Override
     public String getStopReason() {
-        return body.getStopReason();
+        return body.get("stop_reason").getStopReason();
     }
 
     @Override
@@ -114,12 +148,12 @@ public class AnthropicResponse extends ProtifyAIResponse {
 
     @Override
     public List<AIToolCall> getToolCalls() {
-        if (body.getContent() == null) {
+        if (content() == null) {
             return Collections.emptyList();
         }
 
         List<AIToolCall> toolCalls = new ArrayList<>();
-        for (AnthropicResponseContent block : body.getContent()) {
+        for (AnthropicResponseContent block : content()) {
             if ("tool_use".equals(block.getType())) {
                 String id = block.getId() != null ? block.getId() : "";
                 String name = block.getName() != null ? block.getName() : "";
@@ -132,4 +166,12 @@ public class AnthropicResponse extends ProtifyAIResponse {
         }
         return toolCalls;
     }
+
+    private AnthropicUsage usage() {
+        return body.get("usage").getUsage();
+    }
+
+    private List<AnthropicResponseContent> content() {
+        return body.get("content").getContent();
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.anthropic.model;
+
+/**
+ * Marks the end of a cacheable prompt prefix. Everything up to and including the marked block
+ * (tools, then system, then messages) is cached by the provider for a few minutes.
+ */
+public final class AnthropicCacheControl {
+
+    private static final AnthropicCacheControl EPHEMERAL = new AnthropicCacheControl("ephemeral");
+
+    private final String type;
+
+    private AnthropicCacheControl(String type) {
+        this.type = type;
+    }
+
+    public static AnthropicCacheControl ephemeral() {
+        return EPHEMERAL;
+    }
+
+    public String getType() {
+        return type;
+    }
+}
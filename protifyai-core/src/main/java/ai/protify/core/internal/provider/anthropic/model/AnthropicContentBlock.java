@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.anthropic.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 import java.util.Map;
@@ -39,6 +40,9 @@ public final class AnthropicContentBlock {
     @ProtifyJsonProperty("is_error")
     private Boolean isError;
 
+    @ProtifyJsonProperty("cache_control")
+    private AnthropicCacheControl cacheControl;
+
     private AnthropicContentBlock() {
     }
 
@@ -49,20 +53,34 @@ public final class AnthropicContentBlock {
         return block;
     }
 
-    public static AnthropicContentBlock image(String mediaType, String base64Data) {
+    public static AnthropicContentBlock image(String mediaType, JsonStreamValue base64Data) {
         AnthropicContentBlock block = new AnthropicContentBlock();
         block.type = "image";
         block.source = AnthropicSource.base64(mediaType, base64Data);
         return block;
     }
 
-    public static AnthropicContentBlock document(String base64Data) {
+    public static AnthropicContentBlock document(JsonStreamValue base64Data) {
         AnthropicContentBlock block = new AnthropicContentBlock();
         block.type = "document";
         block.source = AnthropicSource.base64("application/pdf", base64Data);
         return block;
     }
 
+    public static AnthropicContentBlock imageFromFileId(String fileId) {
+        AnthropicContentBlock block = new AnthropicContentBlock();
+        block.type = "image";
+        block.source = AnthropicSource.file(fileId);
+        return block;
+    }
+
+    public static AnthropicContentBlock documentFromFileId(String fileId) {
+        AnthropicContentBlock block = new AnthropicContentBlock();
+        block.type = "document";
+        block.source = AnthropicSource.file(fileId);
+        return block;
+    }
+
     public static AnthropicContentBlock toolUse(String id, String name, Map<String, Object> input) {
         AnthropicContentBlock block = new AnthropicContentBlock();
         block.type = "tool_use";
@@ -124,4 +142,13 @@ public final class AnthropicContentBlock {
     public Boolean getIsError() {
         return isError;
     }
+
+    @ProtifyJsonProperty("cache_control")
+    public AnthropicCacheControl getCacheControl() {
+        return cacheControl;
+    }
+
+    public void setCacheControl(AnthropicCacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+    }
 }
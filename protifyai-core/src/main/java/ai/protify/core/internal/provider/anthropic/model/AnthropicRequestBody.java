@@ -36,9 +36,11 @@ public final class AnthropicRequestBody {
     private Integer topK;
 
     private boolean stream;
-    private String system;
+    // Either a plain string or a list of text blocks, so a cache breakpoint can follow it
+    private Object system;
     private AnthropicThinking thinking;
-    private List<AnthropicMessage> messages;
+    // AnthropicMessage items, or serialized fragments of earlier conversation turns
+    private List<Object> messages;
     private List<AnthropicTool> tools;
 
     public String getModel() {
@@ -92,7 +94,7 @@ public final class AnthropicRequestBody {
         this.stream = stream;
     }
 
-    public String getSystem() {
+    public Object getSystem() {
         return system;
     }
 
@@ -100,6 +102,10 @@ public final class AnthropicRequestBody {
         this.system = system;
     }
 
+    public void setSystem(List<AnthropicContentBlock> system) {
+        this.system = system;
+    }
+
     public AnthropicThinking getThinking() {
         return thinking;
     }
@@ -108,11 +114,11 @@ public final class AnthropicRequestBody {
         this.thinking = thinking;
     }
 
-    public List<AnthropicMessage> getMessages() {
+    public List<Object> getMessages() {
         return messages;
     }
 
-    public void setMessages(List<AnthropicMessage> messages) {
+    public void setMessages(List<Object> messages) {
         this.messages = messages;
     }
 
@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.anthropic.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 public final class AnthropicSource {
@@ -25,12 +26,15 @@ public final class AnthropicSource {
     @ProtifyJsonProperty("media_type")
     private String mediaType;
 
-    private String data;
+    private JsonStreamValue data;
+
+    @ProtifyJsonProperty("file_id")
+    private String fileId;
 
     private AnthropicSource() {
     }
 
-    static AnthropicSource base64(String mediaType, String data) {
+    static AnthropicSource base64(String mediaType, JsonStreamValue data) {
         AnthropicSource source = new AnthropicSource();
         source.type = "base64";
         source.mediaType = mediaType;
@@ -38,6 +42,13 @@ public final class AnthropicSource {
         return source;
     }
 
+    static AnthropicSource file(String fileId) {
+        AnthropicSource source = new AnthropicSource();
+        source.type = "file";
+        source.fileId = fileId;
+        return source;
+    }
+
     public String getType() {
         return type;
     }
@@ -47,7 +58,12 @@ public final class AnthropicSource {
         return mediaType;
     }
 
-    public String getData() {
+    public JsonStreamValue getData() {
         return data;
     }
+
+    @ProtifyJsonProperty("file_id")
+    public String getFileId() {
+        return fileId;
+    }
 }
@@ -31,6 +31,9 @@ public final class AnthropicTool {
     @ProtifyJsonProperty("input_schema")
     private Map<String, Object> inputSchema;
 
+    @ProtifyJsonProperty("cache_control")
+    private AnthropicCacheControl cacheControl;
+
     private AnthropicTool() {
     }
 
@@ -71,4 +74,13 @@ public final class AnthropicTool {
     public Map<String, Object> getInputSchema() {
         return inputSchema;
     }
+
+    @ProtifyJsonProperty("cache_control")
+    public AnthropicCacheControl getCacheControl() {
+        return cacheControl;
+    }
+
+    public void setCacheControl(AnthropicCacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+    }
 }
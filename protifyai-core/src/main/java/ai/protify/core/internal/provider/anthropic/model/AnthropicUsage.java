@@ -26,6 +26,12 @@ public class AnthropicUsage {
     @ProtifyJsonProperty("output_tokens")
     private long outputTokens;
 
+    @ProtifyJsonProperty("cache_creation_input_tokens")
+    private long cacheCreationInputTokens;
+
+    @ProtifyJsonProperty("cache_read_input_tokens")
+    private long cacheReadInputTokens;
+
     @ProtifyJsonProperty("input_tokens")
     public long getInputTokens() {
         return inputTokens;
@@ -43,4 +49,22 @@ public class AnthropicUsage {
     public void setOutputTokens(long outputTokens) {
         this.outputTokens = outputTokens;
     }
+
+    @ProtifyJsonProperty("cache_creation_input_tokens")
+    public long getCacheCreationInputTokens() {
+        return cacheCreationInputTokens;
+    }
+
+    public void setCacheCreationInputTokens(long cacheCreationInputTokens) {
+        this.cacheCreationInputTokens = cacheCreationInputTokens;
+    }
+
+    @ProtifyJsonProperty("cache_read_input_tokens")
+    public long getCacheReadInputTokens() {
+        return cacheReadInputTokens;
+    }
+
+    public void setCacheReadInputTokens(long cacheReadInputTokens) {
+        this.cacheReadInputTokens = cacheReadInputTokens;
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.batch;
+
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.provider.AIProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base for batch clients that talk to a provider's batch API over the shared HTTP client. The
+ * default input format is JSON Lines; each request line is {@link #requestHead(String)}, the
+ * request body and {@link #requestTail()}. The base URL is configurable so tests can point a
+ * client at a local server.
+ */
+public abstract class ProtifyProviderBatchClient implements ProviderBatchClient {
+
+    private static final Duration TRANSFER_TIMEOUT = Duration.ofMinutes(10);
+
+    private final AIProvider provider;
+    private final String baseUrl;
+
+    protected ProtifyProviderBatchClient(AIProvider provider, String baseUrl) {
+        this.provider = provider;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    protected String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /** Text written before the wrapped request body, starting with the custom id. */
+    protected abstract String requestHead(String customId);
+
+    protected String requestTail() {
+        return "}";
+    }
+
+    protected String inputHead() {
+        return "";
+    }
+
+    protected String inputSeparator() {
+        return "\n";
+    }
+
+    protected String inputTail() {
+        return "\n";
+    }
+
+    @Override
+    public Input newInput(OutputStream out) {
+        return new Input() {
+            private boolean first = true;
+
+            @Override
+            public void add(String customId, JsonBody body) throws IOException {
+                write(first ? inputHead() : inputSeparator());
+                first = false;
+                write(requestHead(customId));
+                try (InputStream in = body.openStream()) {
+                    in.transferTo(out);
+                }
+                write(requestTail());
+            }
+
+            @Override
+            public void finish() throws IOException {
+                write(first ? inputHead() + inputTail() : inputTail());
+            }
+
+            private void write(String text) throws IOException {
+                out.write(text.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    /**
+     * Downloads each result location in turn, appending to {@code target} and keeping every
+     * result on its own line.
+     */
+    @Override
+    public CompletableFuture<Void> download(ProviderBatchState state, String credential, Path target) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (String uri : state.getResultUris()) {
+            chain = chain.thenCompose(v -> send(newRequest(uri, credential, "application/json").GET().build(),
+                            toFile(target)))
+                    .thenRun(() -> endLine(target));
+        }
+        return chain;
+    }
+
+    /**
+     * A request to {@code uri} carrying the provider's auth headers, with the JSON content type
+     * replaced by {@code contentType}.
+     */
+    protected HttpRequest.Builder newRequest(String uri, String credential, String contentType) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(uri))
+                .timeout(TRANSFER_TIMEOUT);
+        provider.getHeaders(credential).forEach((name, value) -> {
+            if (!"Content-Type".equalsIgnoreCase(name)) {
+                builder.header(name, value);
+            }
+        });
+        return builder.header("Content-Type", contentType);
+    }
+
+    protected CompletableFuture<ProtifyJsonObject> sendForJson(HttpRequest request) {
+        return send(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> ProtifyJson.parse(response.body()));
+    }
+
+    private static <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return ProtifyHttpClient.getInstance().sendAsync(request, info -> {
+            if (info.statusCode() / 100 == 2) {
+                return handler.apply(info);
+            }
+            // Error bodies are read as text and never reach the handler's target
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                    body -> {
+                        throw ProtifyHttpClient.createApiException(info.statusCode(), body);
+                    });
+        });
+    }
+
+    private static HttpResponse.BodyHandler<Path> toFile(Path target) {
+        return HttpResponse.BodyHandlers.ofFile(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static void endLine(Path target) {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            if (last.get(0) != '\n') {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}), size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write batch results to " + target, e);
+        }
+    }
+
+    protected static String requireString(ProtifyJsonObject json, String path) {
+        String value = json.getString(path);
+        if (value == null || value.isEmpty()) {
+            throw new ProtifyApiException("Batch response is missing '" + path + "'");
+        }
+        return value;
+    }
+
+    protected static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * The raw JSON text of the top-level member {@code name} of the object {@code json}, or
+     * {@code null} if it has none. Lets a response body be handed on verbatim instead of being
+     * parsed and serialized again.
+     */
+    protected static String rawMember(String json, String name) {
+        if (json == null) {
+            return null;
+        }
+        int i = json.indexOf('{');
+        if (i < 0) {
+            return null;
+        }
+        i = skipWhitespace(json, i + 1);
+        while (i < json.length() && json.charAt(i) == '"') {
+            int keyEnd = skipValue(json, i);
+            String key = json.substring(i + 1, keyEnd - 1);
+            int valueStart = skipWhitespace(json, skipWhitespace(json, keyEnd) + 1);
+            int valueEnd = skipValue(json, valueStart);
+            if (key.equals(name)) {
+                String value = json.substring(valueStart, valueEnd);
+                return "null".equals(value) ? null : value;
+            }
+            i = skipWhitespace(json, valueEnd);
+            if (i < json.length() && json.charAt(i) == ',') {
+                i = skipWhitespace(json, i + 1);
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String json, int i) {
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipValue(String json, int start) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = start; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) {
+                    return i;
+                }
+                if (--depth == 0) {
+                    return i + 1;
+                }
+            } else if (depth == 0 && (c == ',' || Character.isWhitespace(c))) {
+                return i;
+            }
+        }
+        return json.length();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.batch;
+
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.response.AIResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Talks to a provider's batch API: writes request bodies in the provider's input format,
+ * submits and polls batches, downloads their results and turns each result line back into a
+ * response. Input and results are always exchanged through files.
+ */
+public interface ProviderBatchClient {
+
+    /** The most requests one provider batch accepts. */
+    int getMaxRequests();
+
+    /** The largest input file one provider batch accepts, in bytes. */
+    long getMaxBytes();
+
+    /**
+     * Writes one input file to {@code out}: {@link Input#add} is called once per request, then
+     * {@link Input#finish()}.
+     */
+    Input newInput(OutputStream out);
+
+    /** Submits the input file and completes with the provider's batch id. */
+    CompletableFuture<String> submit(Path input, String credential);
+
+    CompletableFuture<ProviderBatchState> poll(String batchId, String credential);
+
+    /**
+     * Writes every result line of a finished batch to {@code target}, one result per line, in
+     * whatever order the provider returns them.
+     */
+    CompletableFuture<Void> download(ProviderBatchState state, String credential, Path target);
+
+    CompletableFuture<Void> cancel(String batchId, String credential);
+
+    ProviderBatchResult parseResult(String line);
+
+    AIResponse toResponse(String body, String correlationId, String modelName);
+
+    interface Input {
+
+        void add(String customId, JsonBody body) throws IOException;
+
+        void finish() throws IOException;
+    }
+}
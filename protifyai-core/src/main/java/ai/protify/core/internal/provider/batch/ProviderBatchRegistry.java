@@ -0,0 +1,53 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.batch;
+
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.AnthropicBatchClient;
+import ai.protify.core.internal.provider.openai.OpenAIBatchClient;
+import ai.protify.core.provider.AIProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ProviderBatchRegistry {
+
+    private static final ProviderBatchRegistry INSTANCE = new ProviderBatchRegistry();
+
+    private final Map<AIProvider, ProviderBatchClient> clients = new ConcurrentHashMap<>();
+
+    ProviderBatchRegistry() {
+        clients.put(ProtifyAIProvider.OPEN_AI, new OpenAIBatchClient());
+        clients.put(ProtifyAIProvider.ANTHROPIC, new AnthropicBatchClient());
+    }
+
+    public static ProviderBatchRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers or replaces the batch client for a provider, e.g. for a custom provider with a
+     * compatible batch API. Returns the client it replaced, if any.
+     */
+    public ProviderBatchClient register(AIProvider provider, ProviderBatchClient client) {
+        return clients.put(provider, client);
+    }
+
+    public ProviderBatchClient get(AIProvider provider) {
+        return clients.get(provider);
+    }
+}
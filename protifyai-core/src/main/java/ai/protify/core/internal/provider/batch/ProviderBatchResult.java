@@ -0,0 +1,54 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.batch;
+
+/**
+ * One decoded result line: the custom id the request was submitted with and either the raw
+ * response body or an error message.
+ */
+public final class ProviderBatchResult {
+
+    private final String customId;
+    private final String body;
+    private final String error;
+
+    private ProviderBatchResult(String customId, String body, String error) {
+        this.customId = customId;
+        this.body = body;
+        this.error = error;
+    }
+
+    public static ProviderBatchResult success(String customId, String body) {
+        return new ProviderBatchResult(customId, body, null);
+    }
+
+    public static ProviderBatchResult failure(String customId, String error) {
+        return new ProviderBatchResult(customId, null, error);
+    }
+
+    public String getCustomId() {
+        return customId;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.batch;
+
+import ai.protify.core.batch.AIBatchStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A provider batch as last polled: its status and, once it has finished, where its result
+ * lines can be downloaded from.
+ */
+public final class ProviderBatchState {
+
+    private final AIBatchStatus status;
+    private final List<String> resultUris;
+
+    public ProviderBatchState(AIBatchStatus status, List<String> resultUris) {
+        this.status = status;
+        this.resultUris = resultUris != null ? resultUris : Collections.emptyList();
+    }
+
+    public AIBatchStatus getStatus() {
+        return status;
+    }
+
+    public List<String> getResultUris() {
+        return resultUris;
+    }
+}
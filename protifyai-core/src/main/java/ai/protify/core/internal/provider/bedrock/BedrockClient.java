@@ -18,31 +18,38 @@ package ai.protify.core.internal.provider.bedrock;
 
 import ai.protify.core.internal.config.AIConfigProperty;
 import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.util.http.HttpTransport;
 import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.http.RequestKeyAlgorithm;
+import ai.protify.core.internal.util.http.RequestKeyHasher;
 import ai.protify.core.internal.provider.bedrock.auth.AwsCredentialResolver;
 import ai.protify.core.internal.provider.bedrock.auth.AwsCredentials;
 import ai.protify.core.internal.provider.bedrock.auth.AwsSigV4Signer;
 import ai.protify.core.internal.provider.bedrock.model.BedrockResponseBody;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.provider.ProtifyAIProviderClient;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class BedrockClient extends ProtifyAIProviderClient<BedrockRequest> {
 
     private static final String SERVICE = "bedrock";
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-
     private String resolveRegion() {
         String region = super.getConfiguration().getProperty(AIConfigProperty.REGION);
         if (region == null || region.isEmpty()) {
@@ -63,45 +70,87 @@ public class BedrockClient extends ProtifyAIProviderClient<BedrockRequest> {
 
     @Override
     public AIResponse execute(BedrockRequest request) {
+        HttpRequest httpRequest = buildHttpRequest(request);
+        try {
+            HttpResponse<byte[]> response = HttpTransport.getInstance().send(
+                    httpRequest, ProtifyHttpClient.ofJsonBytes());
+            return toResponse(response, request);
+        } catch (ProtifyApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProtifyApiException("Failed to execute Bedrock request", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(BedrockRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = buildHttpRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return HttpTransport.getInstance().sendAsync(httpRequest, ProtifyHttpClient.ofJsonBytes())
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                        if (cause instanceof ProtifyApiException) {
+                            throw (ProtifyApiException) cause;
+                        }
+                        throw new ProtifyApiException("Failed to execute Bedrock request", cause);
+                    }
+                    return toResponse(response, request);
+                });
+    }
+
+    private HttpRequest buildHttpRequest(BedrockRequest request) {
         String region = resolveRegion();
 
         AwsCredentials credentials = AwsCredentialResolver.resolve(super.getConfiguration());
         String endpointUrl = getEndpointUrl(region);
         URI uri = URI.create(endpointUrl);
-        String jsonBody = request.toJson();
+        JsonBody jsonBody = request.toJsonBody();
 
         int timeoutMillis = super.getConfiguration().getProperty(AIConfigProperty.REQUEST_TIMEOUT_MS);
 
-        // Sign the request with SigV4
-        Map<String, String> sigV4Headers = AwsSigV4Signer.sign(
+        // Sign the request with SigV4; the payload hash is computed by streaming the body
+        String payloadHash = payloadHash(jsonBody);
+        Map<String, String> sigV4Headers = AwsSigV4Signer.signPayloadHash(
                 "POST", uri, Map.of("content-type", "application/json"),
-                jsonBody, credentials, region, SERVICE);
+                payloadHash, credentials, region, SERVICE);
 
-        // Build the HTTP request
         HttpRequest.Builder reqBuilder = HttpRequest.newBuilder()
                 .uri(uri)
                 .timeout(Duration.ofMillis(timeoutMillis))
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+                .POST(jsonBody.toBodyPublisher());
 
         sigV4Headers.forEach(reqBuilder::header);
+        return reqBuilder.build();
+    }
 
-        try {
-            HttpResponse<String> response = httpClient.send(
-                    reqBuilder.build(), HttpResponse.BodyHandlers.ofString());
+    private AIResponse toResponse(HttpResponse<byte[]> response, BedrockRequest request) {
+        byte[] rawJson = response.body();
+        if (response.statusCode() != 200) {
+            throw ProtifyHttpClient.createApiException(response.statusCode(), new String(rawJson, StandardCharsets.UTF_8));
+        }
 
-            if (response.statusCode() != 200) {
-                throw ProtifyHttpClient.createApiException(response.statusCode(), response.body());
-            }
+        if (isLazyResponseParsing(request)) {
+            return new BedrockResponse(false, null, null, super.getModelName(), rawJson,
+                    LazyJsonBean.lazy(rawJson, BedrockResponseBody.class));
+        }
+        BedrockResponseBody body = ProtifyJson.fromReader(new JsonReader(rawJson), BedrockResponseBody.class);
+        return new BedrockResponse(false, null, null, super.getModelName(), rawJson, body);
+    }
 
-            String rawJson = response.body();
-            BedrockResponseBody body = ProtifyJson.fromJson(rawJson, BedrockResponseBody.class);
-            return new BedrockResponse(false, null, null, super.getModelName(), rawJson, body);
-        } catch (ProtifyApiException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ProtifyApiException("Failed to execute Bedrock request", e);
+    private static String payloadHash(JsonBody body) {
+        RequestKeyHasher hasher = RequestKeyAlgorithm.SHA_256.newHasher();
+        try (InputStream in = body.openStream()) {
+            hasher.update(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
         }
+        return hasher.finish().toHexString();
     }
 
     @Override
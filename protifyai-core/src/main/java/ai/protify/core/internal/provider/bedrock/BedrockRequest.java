@@ -22,6 +22,7 @@ import ai.protify.core.internal.provider.bedrock.model.BedrockInferenceConfig;
 import ai.protify.core.internal.provider.bedrock.model.BedrockMessage;
 import ai.protify.core.internal.provider.bedrock.model.BedrockRequestBody;
 import ai.protify.core.internal.provider.bedrock.model.BedrockToolConfig;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
 import ai.protify.core.provider.ProtifyAIProviderRequest;
@@ -73,9 +74,14 @@ public class BedrockRequest extends ProtifyAIProviderRequest {
         return this.json;
     }
 
+    @Override
+    public JsonBody toJsonBody() {
+        return ProtifyJson.toJsonBody(buildRequestBody());
+    }
+
     public String toLoggableJson() {
         if (this.loggableJson == null) {
-            this.loggableJson = toJson();
+            this.loggableJson = ProtifyJson.toLoggableJson(buildRequestBody());
         }
         return this.loggableJson;
     }
@@ -232,32 +238,14 @@ public class BedrockRequest extends ProtifyAIProviderRequest {
                 blocks.add(BedrockContentBlock.text(((AITextInput) input).getText()));
             } else if (InputType.IMAGE == input.getType()) {
                 AIFileInput fileInput = (AIFileInput) input;
-                String mediaType = extractMediaType(fileInput.getData());
-                String base64Data = extractBase64Data(fileInput.getData());
+                String mediaType = fileInput.getMediaType();
                 String format = mediaTypeToFormat(mediaType);
-                blocks.add(BedrockContentBlock.image(format, base64Data));
+                blocks.add(BedrockContentBlock.image(format, base64Payload(fileInput)));
             }
         }
         return blocks;
     }
 
-    private static String extractMediaType(String dataUrl) {
-        if (dataUrl != null && dataUrl.startsWith("data:")) {
-            int semicolon = dataUrl.indexOf(';');
-            if (semicolon > 5) {
-                return dataUrl.substring(5, semicolon);
-            }
-        }
-        return "application/octet-stream";
-    }
-
-    private static String extractBase64Data(String dataUrl) {
-        if (dataUrl != null && dataUrl.contains(",")) {
-            return dataUrl.substring(dataUrl.indexOf(',') + 1);
-        }
-        return dataUrl;
-    }
-
     private static String mediaTypeToFormat(String mediaType) {
         switch (mediaType) {
             case "image/png": return "png";
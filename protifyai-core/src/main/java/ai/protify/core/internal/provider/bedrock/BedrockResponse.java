@@ -21,6 +21,7 @@ import ai.protify.core.internal.provider.bedrock.model.BedrockMessage;
 import ai.protify.core.internal.provider.bedrock.model.BedrockResponseBody;
 import ai.protify.core.internal.response.ProtifyAIResponse;
 import ai.protify.core.internal.tool.ProtifyAIToolCall;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.tool.AIToolCall;
 
@@ -31,11 +32,26 @@ import java.util.Map;
 
 public class BedrockResponse extends ProtifyAIResponse {
 
-    private final BedrockResponseBody body;
+    private final LazyJsonBean<BedrockResponseBody> body;
 
     public BedrockResponse(boolean cachedResponse, String pipelineId, String correlationId,
                            String modelName, String rawResponse, BedrockResponseBody body) {
         super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    public BedrockResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                           String modelName, byte[] rawResponse, BedrockResponseBody body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    /**
+     * Binds each part of the body from {@code body} only when an accessor first reads it.
+     */
+    public BedrockResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                           String modelName, byte[] rawResponse, LazyJsonBean<BedrockResponseBody> body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
         this.body = body;
     }
 
@@ -51,17 +67,17 @@ public class BedrockResponse extends ProtifyAIResponse {
 
     @Override
     public long getInputTokens() {
-        return body.getUsage() != null ? body.getUsage().getInputTokens() : 0;
+        return usage() != null ? usage().getInputTokens() : 0;
     }
 
     @Override
     public long getOutputTokens() {
-        return body.getUsage() != null ? body.getUsage().getOutputTokens() : 0;
+        return usage() != null ? usage().getOutputTokens() : 0;
     }
 
     @Override
     public long getTotalTokens() {
-        return body.getUsage() != null ? body.getUsage().getTotalTokens() : 0;
+        return usage() != null ? usage().getTotalTokens() : 0;
     }
 
     @Override
@@ -106,12 +122,12 @@ public class BedrockResponse extends ProtifyAIResponse {
 
     @Override
     public String getStopReason() {
-        return body.getStopReason();
+        return body.get("stopReason").getStopReason();
     }
 
     @Override
     public boolean hasToolCalls() {
-        return "tool_use".equals(body.getStopReason());
+        return "tool_use".equals(body.get("stopReason").getStopReason());
     }
 
     @Override
@@ -137,9 +153,14 @@ public class BedrockResponse extends ProtifyAIResponse {
     }
 
     private BedrockMessage getOutputMessage() {
-        if (body.getOutput() != null) {
-            return body.getOutput().getMessage();
+        BedrockResponseBody.BedrockOutputContent output = body.get("output").getOutput();
+        if (output != null) {
+            return output.getMessage();
         }
         return null;
     }
+
+    private BedrockResponseBody.BedrockUsage usage() {
+        return body.get("usage").getUsage();
+    }
 }
@@ -48,6 +48,22 @@ public final class AwsSigV4Signer {
             AwsCredentials credentials,
             String region,
             String service) {
+        return signPayloadHash(method, uri, headers, sha256Hex(body != null ? body : ""),
+                credentials, region, service);
+    }
+
+    /**
+     * Signs a request whose payload has already been hashed, so a streamed body does not
+     * have to be materialized just to compute {@code x-amz-content-sha256}.
+     */
+    public static Map<String, String> signPayloadHash(
+            String method,
+            URI uri,
+            Map<String, String> headers,
+            String bodyHash,
+            AwsCredentials credentials,
+            String region,
+            String service) {
 
         ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
         String amzDate = now.format(ISO8601_FORMAT);
@@ -66,7 +82,6 @@ public final class AwsSigV4Signer {
             sortedHeaders.put("x-amz-security-token", credentials.getSessionToken());
         }
 
-        String bodyHash = sha256Hex(body != null ? body : "");
         sortedHeaders.put("x-amz-content-sha256", bodyHash);
 
         // Canonical headers and signed headers
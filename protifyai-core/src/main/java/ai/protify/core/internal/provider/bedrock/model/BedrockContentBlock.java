@@ -16,6 +16,8 @@
 
 package ai.protify.core.internal.provider.bedrock.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
+
 import java.util.Map;
 
 public class BedrockContentBlock {
@@ -32,7 +34,7 @@ public class BedrockContentBlock {
         return block;
     }
 
-    public static BedrockContentBlock image(String format, String base64Data) {
+    public static BedrockContentBlock image(String format, JsonStreamValue base64Data) {
         BedrockContentBlock block = new BedrockContentBlock();
         BedrockImageBlock img = new BedrockImageBlock();
         img.setFormat(format);
@@ -92,10 +94,10 @@ public class BedrockContentBlock {
     }
 
     public static class BedrockImageSource {
-        private String bytes;
+        private JsonStreamValue bytes;
 
-        public String getBytes() { return bytes; }
-        public void setBytes(String bytes) { this.bytes = bytes; }
+        public JsonStreamValue getBytes() { return bytes; }
+        public void setBytes(JsonStreamValue bytes) { this.bytes = bytes; }
     }
 
     public static class BedrockToolUseBlock {
@@ -21,20 +21,37 @@ import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseBody;
 import ai.protify.core.internal.response.ProtifyAIStreamResponse;
 import ai.protify.core.internal.util.http.ProtifyHttpClient;
 import ai.protify.core.internal.util.http.ProtifyHttpResponse;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.provider.ProtifyAIProviderClient;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class ChatCompletionsClient<T extends ChatCompletionsRequest> extends ProtifyAIProviderClient<T> {
 
     protected abstract String getEndpointUrl();
 
     @Override
     public AIResponse execute(T request) {
-        ProtifyHttpResponse response = ProtifyHttpClient.getInstance().post(request, getEndpointUrl());
-        String rawJson = response.getResponseBody();
-        ChatResponseBody body = ProtifyJson.fromJson(rawJson, ChatResponseBody.class);
+        return toResponse(ProtifyHttpClient.getInstance().post(request, getEndpointUrl()), request);
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(T request) {
+        return ProtifyHttpClient.getInstance().postAsync(request, getEndpointUrl())
+                .thenApply(response -> toResponse(response, request));
+    }
+
+    private AIResponse toResponse(ProtifyHttpResponse response, ChatCompletionsRequest request) {
+        byte[] rawJson = response.getResponseBytes();
+        if (isLazyResponseParsing(request)) {
+            return new ChatCompletionsResponse(response.isCachedResponse(), null, null,
+                    super.getModelName(), rawJson, LazyJsonBean.lazy(rawJson, ChatResponseBody.class));
+        }
+        ChatResponseBody body = ProtifyJson.fromReader(new JsonReader(rawJson), ChatResponseBody.class);
         return new ChatCompletionsResponse(response.isCachedResponse(), null, null,
                 super.getModelName(), rawJson, body);
     }
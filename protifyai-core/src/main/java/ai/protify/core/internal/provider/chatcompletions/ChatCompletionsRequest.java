@@ -22,6 +22,7 @@ import ai.protify.core.internal.provider.chatcompletions.model.ChatMessage;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatRequestBody;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatTool;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatToolCall;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.internal.util.json.JsonBuilder;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
@@ -44,6 +45,9 @@ import java.util.stream.Collectors;
 
 public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
 
+    // Key for the serialized conversation items kept on each message
+    private static final String WIRE_FORMAT = "chat.completions";
+
     private static final Set<AIConfigProperty> UNSUPPORTED = Collections.unmodifiableSet(
             EnumSet.of(AIConfigProperty.TOP_K));
 
@@ -69,6 +73,11 @@ public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
         return this.json;
     }
 
+    @Override
+    public JsonBody toJsonBody() {
+        return ProtifyJson.toJsonBody(buildRequestBody());
+    }
+
     public String toLoggableJson() {
         boolean prettyPrint = super.getConfiguration().getProperty(AIConfigProperty.PRETTY_PRINT_JSON);
         if (this.loggableJson == null) {
@@ -101,13 +110,13 @@ public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
         return body;
     }
 
-    private List<ChatMessage> buildMessages(String instructions) {
+    private List<Object> buildMessages(String instructions) {
         List<AIMessage> conversationMessages = super.getMessages();
         if (conversationMessages != null && !conversationMessages.isEmpty()) {
             return buildMessagesFromConversation(conversationMessages, instructions);
         }
 
-        List<ChatMessage> messages = new ArrayList<>();
+        List<Object> messages = new ArrayList<>();
 
         if (instructions != null) {
             messages.add(ChatMessage.system(instructions));
@@ -141,44 +150,52 @@ public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
         return messages;
     }
 
-    private List<ChatMessage> buildMessagesFromConversation(List<AIMessage> conversationMessages,
-                                                            String instructions) {
-        List<ChatMessage> messages = new ArrayList<>();
+    private List<Object> buildMessagesFromConversation(List<AIMessage> conversationMessages,
+                                                       String instructions) {
+        List<Object> messages = new ArrayList<>();
 
         if (instructions != null) {
             messages.add(ChatMessage.system(instructions));
         }
 
         for (AIMessage msg : conversationMessages) {
-            if ("user".equals(msg.getRole())) {
-                if (!msg.getToolResults().isEmpty()) {
-                    for (AIToolResult result : msg.getToolResults()) {
-                        messages.add(ChatMessage.toolResult(result.getToolCallId(), result.getContent()));
-                    }
-                } else {
-                    List<AIInput> msgInputs = msg.getInputs();
-                    if (!msgInputs.isEmpty()) {
-                        List<ChatContentBlock> blocks = new ArrayList<>();
-                        if (msg.getText() != null) {
-                            blocks.add(ChatContentBlock.text(msg.getText()));
-                        }
-                        blocks.addAll(buildContentBlocks(msgInputs));
-                        messages.add(ChatMessage.userMultipart(blocks));
-                    } else if (msg.getText() != null) {
-                        messages.add(ChatMessage.user(msg.getText()));
-                    }
+            messages.addAll(messageItems(msg, WIRE_FORMAT, () -> toChatMessages(msg)));
+        }
+
+        return messages;
+    }
+
+    private List<ChatMessage> toChatMessages(AIMessage msg) {
+        List<ChatMessage> messages = new ArrayList<>();
+
+        if ("user".equals(msg.getRole())) {
+            if (!msg.getToolResults().isEmpty()) {
+                for (AIToolResult result : msg.getToolResults()) {
+                    messages.add(ChatMessage.toolResult(result.getToolCallId(), result.getContent()));
                 }
-            } else if ("assistant".equals(msg.getRole())) {
-                if (msg.hasToolCalls()) {
-                    List<ChatToolCall> toolCallList = new ArrayList<>();
-                    for (AIToolCall call : msg.getToolCalls()) {
-                        toolCallList.add(ChatToolCall.of(call.getId(), call.getName(),
-                                ProtifyJson.toJsonMap(call.getArguments())));
+            } else {
+                List<AIInput> msgInputs = msg.getInputs();
+                if (!msgInputs.isEmpty()) {
+                    List<ChatContentBlock> blocks = new ArrayList<>();
+                    if (msg.getText() != null) {
+                        blocks.add(ChatContentBlock.text(msg.getText()));
                     }
-                    messages.add(ChatMessage.assistantWithToolCalls(msg.getText(), toolCallList));
-                } else {
-                    messages.add(ChatMessage.assistant(msg.getText()));
+                    blocks.addAll(buildContentBlocks(msgInputs));
+                    messages.add(ChatMessage.userMultipart(blocks));
+                } else if (msg.getText() != null) {
+                    messages.add(ChatMessage.user(msg.getText()));
+                }
+            }
+        } else if ("assistant".equals(msg.getRole())) {
+            if (msg.hasToolCalls()) {
+                List<ChatToolCall> toolCallList = new ArrayList<>();
+                for (AIToolCall call : msg.getToolCalls()) {
+                    toolCallList.add(ChatToolCall.of(call.getId(), call.getName(),
+                            ProtifyJson.toJsonMap(call.getArguments())));
                 }
+                messages.add(ChatMessage.assistantWithToolCalls(msg.getText(), toolCallList));
+            } else {
+                messages.add(ChatMessage.assistant(msg.getText()));
             }
         }
 
@@ -203,7 +220,7 @@ public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
                 blocks.add(ChatContentBlock.text(((AITextInput) input).getText()));
             } else if (InputType.IMAGE == input.getType() || InputType.PDF == input.getType()) {
                 AIFileInput fileInput = (AIFileInput) input;
-                blocks.add(ChatContentBlock.imageUrl(fileInput.getData()));
+                blocks.add(ChatContentBlock.imageUrl(dataUrl(fileInput)));
             }
         }
         return ChatMessage.userMultipart(blocks);
@@ -216,7 +233,7 @@ public class ChatCompletionsRequest extends ProtifyAIProviderRequest {
                 blocks.add(ChatContentBlock.text(((AITextInput) input).getText()));
             } else if (InputType.IMAGE == input.getType() || InputType.PDF == input.getType()) {
                 AIFileInput fileInput = (AIFileInput) input;
-                blocks.add(ChatContentBlock.imageUrl(fileInput.getData()));
+                blocks.add(ChatContentBlock.imageUrl(dataUrl(fileInput)));
             }
         }
         return blocks;
@@ -20,8 +20,11 @@ import ai.protify.core.internal.provider.chatcompletions.model.ChatChoice;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseBody;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseMessage;
 import ai.protify.core.internal.provider.chatcompletions.model.ChatToolCall;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatUsage;
 import ai.protify.core.internal.response.ProtifyAIResponse;
 import ai.protify.core.internal.tool.ProtifyAIToolCall;
+import ai.protify.core.internal.util.json.JsonIndex;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.tool.AIToolCall;
 
@@ -32,37 +35,55 @@ import java.util.Map;
 
 public class ChatCompletionsResponse extends ProtifyAIResponse {
 
-    private final ChatResponseBody body;
+    private final LazyJsonBean<ChatResponseBody> body;
+    private volatile ChatChoice firstChoice;
 
     public ChatCompletionsResponse(boolean cachedResponse, String pipelineId, String correlationId,
                                    String modelName, String rawResponse, ChatResponseBody body) {
         super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    public ChatCompletionsResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                                   String modelName, byte[] rawResponse, ChatResponseBody body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    /**
+     * Binds each part of the body from {@code body} only when an accessor first reads it.
+     */
+    public ChatCompletionsResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                                   String modelName, byte[] rawResponse, LazyJsonBean<ChatResponseBody> body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
         this.body = body;
     }
 
     @Override
     public String getResponseId() {
-        return body.getId() != null ? body.getId() : "";
+        String id = body.get("id").getId();
+        return id != null ? id : "";
     }
 
     @Override
     public String getModelName() {
-        return body.getModel() != null ? body.getModel() : "";
+        String model = body.get("model").getModel();
+        return model != null ? model : "";
     }
 
     @Override
     public long getInputTokens() {
-        return body.getUsage() != null ? body.getUsage().getPromptTokens() : 0;
+        return usage() != null ? usage().getPromptTokens() : 0;
     }
 
     @Override
     public long getOutputTokens() {
-        return body.getUsage() != null ? body.getUsage().getCompletionTokens() : 0;
+        return usage() != null ? usage().getCompletionTokens() : 0;
     }
 
     @Override
     public long getTotalTokens() {
-        return body.getUsage() != null ? body.getUsage().getTotalTokens() : 0;
+        return usage() != null ? usage().getTotalTokens() : 0;
     }
 
     @Override
@@ -90,10 +111,8 @@ public class ChatCompletionsResponse extends ProtifyAIResponse {
 
     @Override
     public String getStopReason() {
-        if (body.getChoices() != null && !body.getChoices().isEmpty()) {
-            return body.getChoices().get(0).getFinishReason();
-        }
-        return null;
+        ChatChoice choice = getFirstChoice();
+        return choice != null ? choice.getFinishReason() : null;
     }
 
     @Override
@@ -133,9 +152,27 @@ public class ChatCompletionsResponse extends ProtifyAIResponse {
     }
 
     private ChatResponseMessage getFirstChoiceMessage() {
-        if (body.getChoices() != null && !body.getChoices().isEmpty()) {
-            return body.getChoices().get(0).getMessage();
+        ChatChoice choice = getFirstChoice();
+        return choice != null ? choice.getMessage() : null;
+    }
+
+    // A lazily bound body decodes only the first choice
+    private ChatChoice getFirstChoice() {
+        ChatChoice choice = this.firstChoice;
+        if (choice == null) {
+            JsonIndex index = body.getIndex();
+            if (index != null) {
+                choice = index.get("choices", 0, ChatChoice.class);
+            } else {
+                List<ChatChoice> choices = body.get("choices").getChoices();
+                choice = (choices != null && !choices.isEmpty()) ? choices.get(0) : null;
+            }
+            this.firstChoice = choice;
         }
-        return null;
+        return choice;
+    }
+
+    private ChatUsage usage() {
+        return body.get("usage").getUsage();
     }
 }
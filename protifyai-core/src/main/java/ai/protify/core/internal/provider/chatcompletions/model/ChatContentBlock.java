@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.chatcompletions.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 public final class ChatContentBlock {
@@ -36,7 +37,7 @@ public final class ChatContentBlock {
         return block;
     }
 
-    public static ChatContentBlock imageUrl(String url) {
+    public static ChatContentBlock imageUrl(JsonStreamValue url) {
         ChatContentBlock block = new ChatContentBlock();
         block.type = "image_url";
         block.imageUrl = new ChatImageUrl(url);
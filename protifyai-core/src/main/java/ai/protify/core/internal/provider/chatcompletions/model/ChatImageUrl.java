@@ -16,22 +16,24 @@
 
 package ai.protify.core.internal.provider.chatcompletions.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
+
 public final class ChatImageUrl {
 
-    private String url;
+    private JsonStreamValue url;
 
     public ChatImageUrl() {
     }
 
-    public ChatImageUrl(String url) {
+    public ChatImageUrl(JsonStreamValue url) {
         this.url = url;
     }
 
-    public String getUrl() {
+    public JsonStreamValue getUrl() {
         return url;
     }
 
-    public void setUrl(String url) {
+    public void setUrl(JsonStreamValue url) {
         this.url = url;
     }
 }
@@ -23,7 +23,8 @@ import java.util.List;
 public final class ChatRequestBody {
 
     private String model;
-    private List<ChatMessage> messages;
+    // ChatMessage items, or serialized fragments of earlier conversation turns
+    private List<Object> messages;
     private Double temperature;
 
     @ProtifyJsonProperty("top_p")
@@ -43,11 +44,11 @@ public final class ChatRequestBody {
         this.model = model;
     }
 
-    public List<ChatMessage> getMessages() {
+    public List<Object> getMessages() {
         return messages;
     }
 
-    public void setMessages(List<ChatMessage> messages) {
+    public void setMessages(List<Object> messages) {
         this.messages = messages;
     }
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A {@code multipart/form-data} body whose file parts are streamed from their source each time
+ * the body is published, so uploads never hold the file content on the heap.
+ */
+public final class MultipartBody {
+
+    /**
+     * Opens a part's content; called once per publication of the body.
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+        InputStream open() throws IOException;
+    }
+
+    private final String boundary = "protify-" + UUID.randomUUID();
+    // Each part is either a byte[] of encoded text or a ContentSource
+    private final List<Object> parts = new ArrayList<>();
+    private long contentLength;
+
+    public MultipartBody field(String name, String value) {
+        addText("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n");
+        return this;
+    }
+
+    /**
+     * @param length the content size in bytes, or {@code -1} if unknown
+     */
+    public MultipartBody file(String name, String filename, String contentType, long length, ContentSource content) {
+        addText("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename.replace("\"", "") + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n");
+        parts.add(content);
+        contentLength = (length < 0 || contentLength < 0) ? -1 : contentLength + length;
+        addText("\r\n");
+        return this;
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    public HttpRequest.BodyPublisher toBodyPublisher() {
+        byte[] closing = ("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        long length = (contentLength < 0) ? -1 : contentLength + closing.length;
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> openStream(closing));
+        return (length > 0) ? HttpRequest.BodyPublishers.fromPublisher(publisher, length) : publisher;
+    }
+
+    private void addText(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        parts.add(bytes);
+        if (contentLength >= 0) {
+            contentLength += bytes.length;
+        }
+    }
+
+    private InputStream openStream(byte[] closing) {
+        List<Object> all = new ArrayList<>(parts);
+        all.add(closing);
+        Enumeration<Object> sources = Collections.enumeration(all);
+        // Sources are opened lazily as the sequence reaches them
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return sources.hasMoreElements();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                Object part = sources.nextElement();
+                if (part instanceof byte[]) {
+                    return new ByteArrayInputStream((byte[]) part);
+                }
+                try {
+                    return ((ContentSource) part).open();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to open multipart content", e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.provider.AIProvider;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base for uploaders that talk to a provider's file API over the shared HTTP client. The base
+ * URL is configurable so tests can point an uploader at a local server.
+ */
+public abstract class ProtifyProviderFileUploader implements ProviderFileUploader {
+
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofMinutes(5);
+
+    private final AIProvider provider;
+    private final String baseUrl;
+
+    protected ProtifyProviderFileUploader(AIProvider provider, String baseUrl) {
+        this.provider = provider;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    protected String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * A request to {@code uri} carrying the provider's auth headers, with the JSON content type
+     * replaced by {@code contentType}.
+     */
+    protected HttpRequest.Builder newRequest(String uri, String credential, String contentType) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(uri))
+                .timeout(UPLOAD_TIMEOUT);
+        provider.getHeaders(credential).forEach((name, value) -> {
+            if (!"Content-Type".equalsIgnoreCase(name)) {
+                builder.header(name, value);
+            }
+        });
+        return builder.header("Content-Type", contentType);
+    }
+
+    protected CompletableFuture<HttpResponse<String>> send(HttpRequest request) {
+        return ProtifyHttpClient.getInstance().sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw ProtifyHttpClient.createApiException(response.statusCode(), response.body());
+                    }
+                    return response;
+                });
+    }
+
+    protected CompletableFuture<ProtifyJsonObject> sendForJson(HttpRequest request) {
+        return send(request).thenApply(response -> ProtifyJson.parse(response.body()));
+    }
+
+    protected static String requireString(ProtifyJsonObject json, String path) {
+        String value = json.getString(path);
+        if (value == null || value.isEmpty()) {
+            throw new ProtifyApiException("File upload response is missing '" + path + "'");
+        }
+        return value;
+    }
+}
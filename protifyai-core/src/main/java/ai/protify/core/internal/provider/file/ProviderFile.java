@@ -0,0 +1,53 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+/**
+ * A file stored with a provider's file API. {@code id} is whatever the provider's requests use
+ * to reference the file: an id for OpenAI and Anthropic, a URI for Gemini.
+ */
+public final class ProviderFile {
+
+    private final String id;
+    private final String mimeType;
+    private final long expiresAtMillis;
+
+    /**
+     * @param expiresAtMillis when the provider deletes the file, or {@link Long#MAX_VALUE} if never
+     */
+    public ProviderFile(String id, String mimeType, long expiresAtMillis) {
+        this.id = id;
+        this.mimeType = mimeType;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    ProviderFile expiringBy(long deadlineMillis) {
+        return (deadlineMillis < expiresAtMillis) ? new ProviderFile(id, mimeType, deadlineMillis) : this;
+    }
+}
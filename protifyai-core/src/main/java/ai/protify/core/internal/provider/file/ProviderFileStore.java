@@ -0,0 +1,128 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.AnthropicFileUploader;
+import ai.protify.core.internal.provider.gemini.GeminiFileUploader;
+import ai.protify.core.internal.provider.openai.OpenAIFileUploader;
+import ai.protify.core.internal.util.FileUtil;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.request.AIFileInput;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed map from attachment content to the provider file it was uploaded as.
+ * Each distinct content is uploaded once per provider account; later requests reuse the file
+ * until it expires, and concurrent requests for the same content share a single upload.
+ */
+public final class ProviderFileStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProviderFileStore.class);
+
+    // Re-upload shortly before the provider deletes a file so a request in flight never references it
+    private static final long EXPIRY_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final ProviderFileStore INSTANCE = new ProviderFileStore();
+
+    private final Map<AIProvider, ProviderFileUploader> uploaders = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ProviderFile>> files = new ConcurrentHashMap<>();
+
+    ProviderFileStore() {
+        uploaders.put(ProtifyAIProvider.OPEN_AI, new OpenAIFileUploader());
+        uploaders.put(ProtifyAIProvider.ANTHROPIC, new AnthropicFileUploader());
+        uploaders.put(ProtifyAIProvider.GOOGLE, new GeminiFileUploader());
+    }
+
+    public static ProviderFileStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers or replaces the uploader for a provider, e.g. for a custom provider with a
+     * compatible file API.
+     */
+    public void registerUploader(AIProvider provider, ProviderFileUploader uploader) {
+        uploaders.put(provider, uploader);
+    }
+
+    public boolean supports(AIProvider provider) {
+        return uploaders.containsKey(provider);
+    }
+
+    /**
+     * Returns the provider file holding the input's content, uploading it if this content has
+     * not been uploaded for the credential's account, or its earlier upload has expired.
+     *
+     * @param ttlSecs how long a new upload is reused before the content is uploaded again
+     */
+    public CompletableFuture<ProviderFile> getOrUpload(AIProvider provider, String credential,
+                                                       AIFileInput input, int ttlSecs) {
+        ProviderFileUploader uploader = uploaders.get(provider);
+        if (uploader == null) {
+            throw new IllegalArgumentException("No file uploader registered for provider " + provider.getName());
+        }
+        String contentHash = input.getContentHash();
+        if (contentHash == null) {
+            throw new IllegalArgumentException("Input has no inline content to upload: " + input.getFilename());
+        }
+        // File ids are scoped to an account, so the credential is part of the key
+        String key = provider.getName() + ':' + FileUtil.computeSHA256(String.valueOf(credential)) + ':' + contentHash;
+
+        CompletableFuture<ProviderFile> future = files.compute(key, (k, existing) -> {
+            if (existing != null && !isStale(existing)) {
+                return existing;
+            }
+            LOGGER.debug("Uploading {} to {}", input.getFilename(), provider.getName());
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSecs);
+            return uploader.upload(input, credential, ttlSecs)
+                    .thenApply(file -> file.expiringBy(
+                            Math.min(deadline, file.getExpiresAtMillis() - EXPIRY_MARGIN_MILLIS)));
+        });
+        // Failed uploads are dropped so the next request tries again
+        future.whenComplete((file, ex) -> {
+            if (ex != null) {
+                files.remove(key, future);
+            }
+        });
+        return future;
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public void clear() {
+        files.clear();
+    }
+
+    private static boolean isStale(CompletableFuture<ProviderFile> entry) {
+        if (!entry.isDone()) {
+            return false;
+        }
+        if (entry.isCompletedExceptionally()) {
+            return true;
+        }
+        return entry.join().getExpiresAtMillis() <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+import ai.protify.core.request.AIFileInput;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Uploads file content through a provider's file API. Implementations read the content from
+ * {@link AIFileInput#openStream()} so file-backed inputs are streamed rather than loaded.
+ */
+public interface ProviderFileUploader {
+
+    /**
+     * @param ttlSecs how long the caller intends to reference the file; providers that accept an
+     *                expiry on upload use it so unused files are cleaned up server side
+     */
+    CompletableFuture<ProviderFile> upload(AIFileInput input, String credential, int ttlSecs);
+}
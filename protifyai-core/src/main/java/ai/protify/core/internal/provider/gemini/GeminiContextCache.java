@@ -0,0 +1,335 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.gemini;
+
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.BaseConfiguration;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.gemini.model.GeminiCachedContent;
+import ai.protify.core.internal.util.FileUtil;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.http.RequestKey;
+import ai.protify.core.internal.util.http.RequestKeyAlgorithm;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.provider.AIProvider;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Context caches ({@code cachedContents} resources) for Gemini and Vertex AI. A request whose
+ * stable prefix was cached before references the cache by name instead of resending the prefix,
+ * and concurrent requests with the same prefix share a single create call. Caches used within
+ * their TTL are renewed on the shared scheduler shortly before they expire; idle ones are left
+ * to expire, and the least recently used cache beyond {@code contextCache.maxEntries} is deleted.
+ */
+public final class GeminiContextCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeminiContextCache.class);
+
+    private static final Map<AIProvider, String> DEFAULT_BASE_URLS = Map.of(
+            ProtifyAIProvider.GOOGLE, "https://generativelanguage.googleapis.com/v1beta",
+            ProtifyAIProvider.VERTEX_AI, "https://{region}-aiplatform.googleapis.com/v1");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+    // A cache this close to expiry is not handed out, so a request in flight never references an expired one
+    private static final long MIN_REMAINING_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long RENEW_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    // After a failed create the prefix is sent inline for a while rather than retried on every request
+    private static final long FAILURE_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long SWEEP_INTERVAL_SECS = 30;
+
+    private static final GeminiContextCache INSTANCE = new GeminiContextCache(maxEntriesFromConfiguration());
+
+    private final int maxEntries;
+    private final Map<AIProvider, String> baseUrls = new ConcurrentHashMap<>(DEFAULT_BASE_URLS);
+    // Access-ordered, so iteration starts at the least recently used cache
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+
+    GeminiContextCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public static GeminiContextCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Points a provider's cache API at another base URL, e.g. a proxy. {@code {region}} in the
+     * URL is replaced by the configured region.
+     */
+    public void registerBaseUrl(AIProvider provider, String baseUrl) {
+        baseUrls.put(provider, baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+    }
+
+    public boolean supports(AIProvider provider) {
+        return baseUrls.containsKey(provider);
+    }
+
+    /**
+     * Returns the name of a cache holding {@code prefix} for the model, creating the cache if
+     * this prefix has none that is still live. Completes with {@code null} when the prefix could
+     * not be cached, e.g. because it is below the model's minimum size, and should be sent inline.
+     *
+     * @param ttlSecs how long the cache lives without use; renewals extend it by the same amount
+     */
+    public CompletableFuture<String> getOrCreate(AIProvider provider, String modelName, Configuration configuration,
+                                                 String credential, GeminiCachedContent prefix, int ttlSecs) {
+        String baseUrl = baseUrls.get(provider);
+        if (baseUrl == null) {
+            throw new IllegalArgumentException("No context cache API registered for provider " + provider.getName());
+        }
+        String collection;
+        String keyScope;
+        if (ProtifyAIProvider.VERTEX_AI == provider) {
+            String region = configuration.getProperty(AIConfigProperty.REGION);
+            String projectId = configuration.getProperty(AIConfigProperty.PROJECT_ID);
+            if (region == null || region.isEmpty() || projectId == null || projectId.isEmpty()) {
+                throw new IllegalArgumentException("Vertex AI context caching requires a region and project ID");
+            }
+            baseUrl = baseUrl.replace("{region}", region);
+            String parent = "projects/" + projectId + "/locations/" + region;
+            collection = parent + "/cachedContents";
+            prefix.setModel(parent + "/publishers/google/models/" + modelName);
+            // Vertex caches belong to the project in the URL, whichever short-lived token created them
+            keyScope = "";
+        } else {
+            collection = "cachedContents";
+            prefix.setModel("models/" + modelName);
+            // Gemini caches belong to the API key's project
+            keyScope = FileUtil.computeSHA256(String.valueOf(credential));
+        }
+        prefix.setTtl(ttlSecs + "s");
+
+        JsonBody body = ProtifyJson.toJsonBody(prefix);
+        String key = provider.getName() + ':' + keyScope + ':' + baseUrl + '/' + collection + ':'
+                + RequestKey.of(body, RequestKeyAlgorithm.SHA_256).toHexString();
+
+        long now = System.currentTimeMillis();
+        List<Entry> evicted = new ArrayList<>();
+        Entry entry;
+        boolean create = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null || !entry.isUsable(now)) {
+                entry = new Entry(provider, baseUrl, TimeUnit.SECONDS.toMillis(ttlSecs));
+                entries.put(key, entry);
+                create = true;
+                Iterator<Entry> it = entries.values().iterator();
+                while (entries.size() > maxEntries && it.hasNext()) {
+                    evicted.add(it.next());
+                    it.remove();
+                }
+            }
+            entry.credential = credential;
+            entry.lastUsedMillis = now;
+        }
+        evicted.forEach(this::delete);
+        if (create) {
+            create(entry, baseUrl + '/' + collection, body);
+        }
+        scheduleSweep();
+        return entry.name;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Renews caches that expire soon and were used within their TTL, and forgets caches that
+     * have expired. Runs on the shared scheduler every {@value #SWEEP_INTERVAL_SECS} seconds.
+     */
+    void renewDue() {
+        long now = System.currentTimeMillis();
+        List<Entry> due = new ArrayList<>();
+        synchronized (entries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (!entry.name.isDone()) {
+                    continue;
+                }
+                if (now >= entry.expiresAtMillis) {
+                    it.remove();
+                } else if (entry.name.join() != null
+                        && now >= entry.expiresAtMillis - Math.min(RENEW_MARGIN_MILLIS, entry.ttlMillis / 2)
+                        && now - entry.lastUsedMillis < entry.ttlMillis) {
+                    due.add(entry);
+                }
+            }
+        }
+        due.forEach(this::renew);
+    }
+
+    private void create(Entry entry, String url, JsonBody body) {
+        HttpRequest request = newRequest(entry.provider, url, entry.credential)
+                .POST(body.toBodyPublisher())
+                .build();
+        sendForJson(request).whenComplete((json, ex) -> {
+            String name = (json != null) ? json.getString("name") : null;
+            if (name == null || name.isEmpty()) {
+                Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                LOGGER.warn("Creating a context cache on {} failed, sending the prefix inline: {}",
+                        entry.provider.getName(), (cause != null) ? cause.getMessage() : "no cache name returned");
+                entry.expiresAtMillis = System.currentTimeMillis() + Math.min(FAILURE_BACKOFF_MILLIS, entry.ttlMillis);
+                entry.name.complete(null);
+                return;
+            }
+            LOGGER.debug("Created context cache {} on {}", name, entry.provider.getName());
+            entry.expiresAtMillis = parseExpiry(json.getString("expireTime"), entry.ttlMillis);
+            entry.name.complete(name);
+        });
+    }
+
+    private void renew(Entry entry) {
+        String name = entry.name.join();
+        String ttl = TimeUnit.MILLISECONDS.toSeconds(entry.ttlMillis) + "s";
+        HttpRequest request = newRequest(entry.provider, entry.baseUrl + '/' + name + "?updateMask=ttl", entry.credential)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        ProtifyJson.toJsonMap(ProtifyJson.mapOf("ttl", ttl))))
+                .build();
+        sendForJson(request).whenComplete((json, ex) -> {
+            if (ex != null) {
+                // Left to expire; the next request after that creates a new cache
+                LOGGER.debug("Renewing context cache {} failed: {}", name, ex.getMessage());
+            } else {
+                entry.expiresAtMillis = parseExpiry(json.getString("expireTime"), entry.ttlMillis);
+            }
+        });
+    }
+
+    private void delete(Entry entry) {
+        entry.name.thenAccept(name -> {
+            if (name == null) {
+                return;
+            }
+            HttpRequest request = newRequest(entry.provider, entry.baseUrl + '/' + name, entry.credential)
+                    .DELETE()
+                    .build();
+            sendForJson(request).whenComplete((json, ex) -> {
+                if (ex != null) {
+                    LOGGER.debug("Deleting context cache {} failed, it will expire instead: {}", name, ex.getMessage());
+                }
+            });
+        });
+    }
+
+    private void scheduleSweep() {
+        if (sweepScheduled.compareAndSet(false, true)) {
+            ProtifyHttpClient.getInstance().getScheduler().scheduleWithFixedDelay(() -> {
+                try {
+                    renewDue();
+                } catch (RuntimeException e) {
+                    // A task that throws is never run again
+                    LOGGER.warn("Context cache renewal failed", e);
+                }
+            }, SWEEP_INTERVAL_SECS, SWEEP_INTERVAL_SECS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static HttpRequest.Builder newRequest(AIProvider provider, String uri, String credential) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(uri))
+                .timeout(REQUEST_TIMEOUT);
+        provider.getHeaders(credential).forEach(builder::header);
+        return builder;
+    }
+
+    private static CompletableFuture<ProtifyJsonObject> sendForJson(HttpRequest request) {
+        return ProtifyHttpClient.getInstance().sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw ProtifyHttpClient.createApiException(response.statusCode(), response.body());
+                    }
+                    String responseBody = response.body();
+                    return ProtifyJson.parse(responseBody == null || responseBody.isEmpty() ? "{}" : responseBody);
+                });
+    }
+
+    private static long parseExpiry(String expireTime, long ttlMillis) {
+        if (expireTime != null) {
+            try {
+                return Instant.parse(expireTime).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                // Fall through to the requested TTL
+            }
+        }
+        return System.currentTimeMillis() + ttlMillis;
+    }
+
+    private static int maxEntriesFromConfiguration() {
+        Integer maxEntries = BaseConfiguration.getInstance().getProperty(AIConfigProperty.CONTEXT_CACHE_MAX_ENTRIES);
+        return (maxEntries != null) ? maxEntries : 64;
+    }
+
+    private static final class Entry {
+
+        final AIProvider provider;
+        final String baseUrl;
+        final long ttlMillis;
+        // Completes with null when the create call failed
+        final CompletableFuture<String> name = new CompletableFuture<>();
+
+        // Refreshed on every use so renewals carry a current credential
+        volatile String credential;
+        volatile long lastUsedMillis;
+        volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        Entry(AIProvider provider, String baseUrl, long ttlMillis) {
+            this.provider = provider;
+            this.baseUrl = baseUrl;
+            this.ttlMillis = ttlMillis;
+        }
+
+        boolean isUsable(long now) {
+            if (!name.isDone()) {
+                return true;
+            }
+            long margin = (name.join() != null) ? MIN_REMAINING_MILLIS : 0;
+            return now < expiresAtMillis - margin;
+        }
+    }
+}
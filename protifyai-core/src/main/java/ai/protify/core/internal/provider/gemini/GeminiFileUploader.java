@@ -0,0 +1,100 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.gemini;
+
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.file.ProtifyProviderFileUploader;
+import ai.protify.core.internal.provider.file.ProviderFile;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.request.AIFileInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Uploads through the Gemini resumable upload protocol: a start request announces the size and
+ * type and returns an upload URL, then a single upload-and-finalize request sends the content.
+ * Gemini deletes files after 48 hours and requests reference them by URI.
+ */
+public class GeminiFileUploader extends ProtifyProviderFileUploader {
+
+    private static final String BASE_URL = "https://generativelanguage.googleapis.com";
+
+    public GeminiFileUploader() {
+        this(BASE_URL);
+    }
+
+    public GeminiFileUploader(String baseUrl) {
+        super(ProtifyAIProvider.GOOGLE, baseUrl);
+    }
+
+    @Override
+    public CompletableFuture<ProviderFile> upload(AIFileInput input, String credential, int ttlSecs) {
+        long length = input.getContentLength();
+        String mimeType = input.getMediaType();
+        String metadata = ProtifyJson.toJsonMap(ProtifyJson.mapOf(
+                "file", ProtifyJson.mapOf("display_name", input.getFilename())));
+
+        HttpRequest start = newRequest(getBaseUrl() + "/upload/v1beta/files", credential, "application/json")
+                .header("X-Goog-Upload-Protocol", "resumable")
+                .header("X-Goog-Upload-Command", "start")
+                .header("X-Goog-Upload-Header-Content-Length", String.valueOf(length))
+                .header("X-Goog-Upload-Header-Content-Type", mimeType)
+                .POST(HttpRequest.BodyPublishers.ofString(metadata))
+                .build();
+
+        return send(start)
+                .thenCompose(response -> {
+                    String uploadUrl = response.headers().firstValue("X-Goog-Upload-URL")
+                            .orElseThrow(() -> new ProtifyApiException("Gemini upload start returned no upload URL"));
+                    HttpRequest upload = newRequest(uploadUrl, credential, mimeType)
+                            .header("X-Goog-Upload-Offset", "0")
+                            .header("X-Goog-Upload-Command", "upload, finalize")
+                            .POST(HttpRequest.BodyPublishers.fromPublisher(
+                                    HttpRequest.BodyPublishers.ofInputStream(() -> open(input)), length))
+                            .build();
+                    return sendForJson(upload);
+                })
+                .thenApply(json -> new ProviderFile(requireString(json, "file.uri"),
+                        mimeType, parseExpiry(json.getString("file.expirationTime"))));
+    }
+
+    private static InputStream open(AIFileInput input) {
+        try {
+            return input.openStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + input.getFilename(), e);
+        }
+    }
+
+    private static long parseExpiry(String expirationTime) {
+        if (expirationTime == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Instant.parse(expirationTime).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
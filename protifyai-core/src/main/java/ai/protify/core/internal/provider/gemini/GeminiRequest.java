@@ -17,12 +17,18 @@
 package ai.protify.core.internal.provider.gemini;
 
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.config.CredentialHelperFactory;
+import ai.protify.core.internal.provider.gemini.model.GeminiCachedContent;
 import ai.protify.core.internal.provider.gemini.model.GeminiContent;
 import ai.protify.core.internal.provider.gemini.model.GeminiGenerationConfig;
 import ai.protify.core.internal.provider.gemini.model.GeminiPart;
 import ai.protify.core.internal.provider.gemini.model.GeminiRequestBody;
 import ai.protify.core.internal.provider.gemini.model.GeminiThinkingConfig;
 import ai.protify.core.internal.provider.gemini.model.GeminiTool;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.internal.util.json.JsonBuilder;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
@@ -30,6 +36,7 @@ import ai.protify.core.provider.ProtifyAIProviderRequest;
 import ai.protify.core.request.AIFileInput;
 import ai.protify.core.request.AIInput;
 import ai.protify.core.request.AITextInput;
+import ai.protify.core.request.FileDataReferenceType;
 import ai.protify.core.request.InputType;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.tool.AIToolCall;
@@ -40,13 +47,20 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 public final class GeminiRequest extends ProtifyAIProviderRequest {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeminiRequest.class);
+
     private String json;
     private String loggableJson;
 
+    // The cache the prefix resolved to, or null once it is to be sent inline; set on first use
+    private volatile CompletableFuture<String> contextCacheName;
+
     public String toJson() {
         if (this.json == null) {
             this.json = ProtifyJson.toJson(buildRequestBody());
@@ -54,6 +68,11 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
         return this.json;
     }
 
+    @Override
+    public JsonBody toJsonBody() {
+        return ProtifyJson.toJsonBody(buildRequestBody());
+    }
+
     public String toLoggableJson() {
         boolean prettyPrint = super.getConfiguration().getProperty(AIConfigProperty.PRETTY_PRINT_JSON);
 
@@ -63,7 +82,37 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
         return this.loggableJson;
     }
 
+    /**
+     * Uploads attachments, then creates or looks up the context cache for the prefix, so
+     * building the body afterwards does not wait on either.
+     */
+    @Override
+    public CompletableFuture<Void> prepareAsync() {
+        return super.prepareAsync().thenCompose(uploaded -> {
+            ContextCachePrefix prefix = contextCachePrefix(buildUncachedRequestBody());
+            return (prefix != null)
+                    ? contextCacheName(prefix.content).thenAccept(name -> { })
+                    : CompletableFuture.completedFuture(null);
+        });
+    }
+
     private GeminiRequestBody buildRequestBody() {
+        GeminiRequestBody body = buildUncachedRequestBody();
+        ContextCachePrefix prefix = contextCachePrefix(body);
+        if (prefix != null) {
+            // Already resolved by prepareAsync() on the async path; only synchronous callers wait here
+            String cacheName = contextCacheName(prefix.content).join();
+            if (cacheName != null) {
+                body.setCachedContent(cacheName);
+                body.setSystemInstruction(null);
+                body.setTools(null);
+                body.setContents(prefix.remainingContents);
+            }
+        }
+        return body;
+    }
+
+    private GeminiRequestBody buildUncachedRequestBody() {
         Double temperature = super.getConfiguration().getProperty(AIConfigProperty.TEMPERATURE);
         Double topP = super.getConfiguration().getProperty(AIConfigProperty.TOP_P);
         Integer topK = super.getConfiguration().getProperty(AIConfigProperty.TOP_K);
@@ -103,6 +152,97 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
         return body;
     }
 
+    /*  The stable prefix to move into a context cache and reference by name: the instructions,
+        the tools and the attachments of the first user message, which is where a shared corpus
+        goes. The attachments are cached ahead of that message's text. Returns null when the
+        prefix is smaller than contextCache.minBytes; one that fails to cache is sent inline too.
+     */
+    private ContextCachePrefix contextCachePrefix(GeminiRequestBody body) {
+        Configuration configuration = super.getConfiguration();
+        if (!Boolean.TRUE.equals(configuration.getProperty(AIConfigProperty.CONTEXT_CACHE_ENABLED))
+                || !GeminiContextCache.getInstance().supports(super.getProvider())) {
+            return null;
+        }
+
+        List<GeminiContent> contents = body.getContents();
+        List<GeminiContent> cachedContents = new ArrayList<>();
+        List<GeminiContent> remainingContents = new ArrayList<>(contents);
+        if (!contents.isEmpty() && "user".equals(contents.get(0).getRole())) {
+            List<GeminiPart> fileParts = new ArrayList<>();
+            List<GeminiPart> otherParts = new ArrayList<>();
+            for (GeminiPart part : contents.get(0).getParts()) {
+                if (part.getInlineData() != null || part.getFileData() != null) {
+                    fileParts.add(part);
+                } else {
+                    otherParts.add(part);
+                }
+            }
+            // The request must still carry some content of its own
+            if (!fileParts.isEmpty() && (!otherParts.isEmpty() || contents.size() > 1)) {
+                cachedContents.add(new GeminiContent("user", fileParts));
+                remainingContents.remove(0);
+                if (!otherParts.isEmpty()) {
+                    remainingContents.add(0, new GeminiContent("user", otherParts));
+                }
+            }
+        }
+        if (body.getSystemInstruction() == null && body.getTools() == null && cachedContents.isEmpty()) {
+            return null;
+        }
+
+        GeminiCachedContent prefix = new GeminiCachedContent(body.getSystemInstruction(),
+                cachedContents.isEmpty() ? null : cachedContents, body.getTools());
+        Long minBytes = configuration.getProperty(AIConfigProperty.CONTEXT_CACHE_MIN_BYTES);
+        long size = ProtifyJson.toJsonBody(prefix).getContentLength();
+        // Uploaded files are referenced by URI, so their size does not show in the JSON
+        boolean referencesFiles = cachedContents.stream()
+                .flatMap(content -> content.getParts().stream())
+                .anyMatch(part -> part.getFileData() != null);
+        if (!referencesFiles && size >= 0 && minBytes != null && size < minBytes) {
+            return null;
+        }
+        return new ContextCachePrefix(prefix, remainingContents);
+    }
+
+    // The prefix is the same on every build of this request, so it is resolved once
+    private CompletableFuture<String> contextCacheName(GeminiCachedContent prefix) {
+        CompletableFuture<String> name = contextCacheName;
+        if (name != null) {
+            return name;
+        }
+        Configuration configuration = super.getConfiguration();
+        Integer ttlSecs = configuration.getProperty(AIConfigProperty.CONTEXT_CACHE_TTL_SECS);
+        CompletableFuture<String> created;
+        try {
+            String credential = CredentialHelperFactory.getInstance().getCredential(super.getProvider(), configuration);
+            created = GeminiContextCache.getInstance().getOrCreate(super.getProvider(), super.getModelName(),
+                    configuration, credential, prefix, (ttlSecs != null) ? ttlSecs : 3600);
+        } catch (IllegalArgumentException e) {
+            created = CompletableFuture.failedFuture(e);
+        }
+        name = created.handle((cacheName, ex) -> {
+            if (ex != null) {
+                Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                LOGGER.warn("Context caching on {} failed, sending the prefix inline: {}",
+                        super.getProvider().getName(), cause.getMessage());
+                return null;
+            }
+            return cacheName;
+        });
+        contextCacheName = name;
+        return name;
+    }
+
+    private static final class ContextCachePrefix {
+        final GeminiCachedContent content;
+        final List<GeminiContent> remainingContents;
+
+        ContextCachePrefix(GeminiCachedContent content, List<GeminiContent> remainingContents) {
+            this.content = content;
+            this.remainingContents = remainingContents;
+        }
+    }
+
     private List<GeminiContent> buildContents() {
         // Conversation mode: use full message history
         List<AIMessage> conversationMessages = super.getMessages();
@@ -201,15 +341,14 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
         for (AIInput input : inputs) {
             if (InputType.TEXT == input.getType()) {
                 parts.add(GeminiPart.text(((AITextInput) input).getText()));
-            } else if (InputType.IMAGE == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
-                String mediaType = extractMediaType(fileInput.getData());
-                String base64Data = extractBase64Data(fileInput.getData());
-                parts.add(GeminiPart.inlineData(mediaType, base64Data));
-            } else if (InputType.PDF == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
-                String base64Data = extractBase64Data(fileInput.getData());
-                parts.add(GeminiPart.inlineData("application/pdf", base64Data));
+            } else if (InputType.IMAGE == input.getType() || InputType.PDF == input.getType()) {
+                AIFileInput fileInput = resolveFileReference((AIFileInput) input);
+                String mediaType = InputType.PDF == input.getType() ? "application/pdf" : fileInput.getMediaType();
+                if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
+                    parts.add(GeminiPart.fileData(mediaType, fileInput.getData()));
+                } else {
+                    parts.add(GeminiPart.inlineData(mediaType, base64Payload(fileInput)));
+                }
             }
         }
         return parts;
@@ -286,8 +425,8 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
             } else if (InputType.IMAGE == input.getType() || InputType.PDF == input.getType()) {
                 AIFileInput fileInput = (AIFileInput) input;
                 String mimeType = InputType.PDF == input.getType()
-                        ? "application/pdf" : extractMediaType(fileInput.getData());
-                String base64Data = extractBase64Data(fileInput.getData());
+                        ? "application/pdf" : fileInput.getMediaType();
+                String base64Data = extractBase64Data(fileInput.getLoggableData());
 
                 builder.appendIndent(4);
                 builder.append("{");
@@ -322,16 +461,6 @@ public final class GeminiRequest extends ProtifyAIProviderRequest {
         builder.appendNewLine();
     }
 
-    private static String extractMediaType(String dataUrl) {
-        if (dataUrl != null && dataUrl.startsWith("data:")) {
-            int semicolon = dataUrl.indexOf(';');
-            if (semicolon > 5) {
-                return dataUrl.substring(5, semicolon);
-            }
-        }
-        return "application/octet-stream";
-    }
-
     private static String extractBase64Data(String dataUrl) {
         if (dataUrl != null && dataUrl.contains(",")) {
             return dataUrl.substring(dataUrl.indexOf(',') + 1);
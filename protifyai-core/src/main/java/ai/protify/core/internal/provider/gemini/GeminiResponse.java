@@ -21,8 +21,11 @@ import ai.protify.core.internal.provider.gemini.model.GeminiContent;
 import ai.protify.core.internal.provider.gemini.model.GeminiFunctionCall;
 import ai.protify.core.internal.provider.gemini.model.GeminiPart;
 import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
+import ai.protify.core.internal.provider.gemini.model.GeminiUsage;
 import ai.protify.core.internal.response.ProtifyAIResponse;
 import ai.protify.core.internal.tool.ProtifyAIToolCall;
+import ai.protify.core.internal.util.json.JsonIndex;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.tool.AIToolCall;
 
@@ -34,11 +37,27 @@ import java.util.UUID;
 
 public class GeminiResponse extends ProtifyAIResponse {
 
-    private final GeminiResponseBody body;
+    private final LazyJsonBean<GeminiResponseBody> body;
+    private volatile GeminiCandidate firstCandidate;
 
     public GeminiResponse(boolean cachedResponse, String pipelineId, String correlationId,
                           String modelName, String rawResponse, GeminiResponseBody body) {
         super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    public GeminiResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                          String modelName, byte[] rawResponse, GeminiResponseBody body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    /**
+     * Binds each part of the body from {@code body} only when an accessor first reads it.
+     */
+    public GeminiResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                          String modelName, byte[] rawResponse, LazyJsonBean<GeminiResponseBody> body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
         this.body = body;
     }
 
@@ -49,22 +68,28 @@ public class GeminiResponse extends ProtifyAIResponse {
 
     @Override
     public String getModelName() {
-        return body.getModelVersion() != null ? body.getModelVersion() : "";
+        String modelVersion = body.get("modelVersion").getModelVersion();
+        return modelVersion != null ? modelVersion : "";
     }
 
     @Override
     public long getInputTokens() {
-        return body.getUsageMetadata() != null ? body.getUsageMetadata().getPromptTokenCount() : 0;
+        return usage() != null ? usage().getPromptTokenCount() : 0;
+    }
+
+    @Override
+    public long getCacheReadInputTokens() {
+        return usage() != null ? usage().getCachedContentTokenCount() : 0;
     }
 
     @Override
     public long getOutputTokens() {
-        return body.getUsageMetadata() != null ? body.getUsageMetadata().getCandidatesTokenCount() : 0;
+        return usage() != null ? usage().getCandidatesTokenCount() : 0;
     }
 
     @Override
     public long getTotalTokens() {
-        return body.getUsageMetadata() != null ? body.getUsageMetadata().getTotalTokenCount() : 0;
+        return usage() != null ? usage().getTotalTokenCount() : 0;
     }
 
     @Override
@@ -109,10 +134,8 @@ public class GeminiResponse extends ProtifyAIResponse {
 
     @Override
     public String getStopReason() {
-        if (body.getCandidates() != null && !body.getCandidates().isEmpty()) {
-            return body.getCandidates().get(0).getFinishReason();
-        }
-        return null;
+        GeminiCandidate candidate = getFirstCandidate();
+        return candidate != null ? candidate.getFinishReason() : null;
     }
 
     @Override
@@ -150,10 +173,27 @@ public class GeminiResponse extends ProtifyAIResponse {
     }
 
     private GeminiContent getFirstCandidateContent() {
-        if (body.getCandidates() != null && !body.getCandidates().isEmpty()) {
-            GeminiCandidate candidate = body.getCandidates().get(0);
-            return candidate.getContent();
+        GeminiCandidate candidate = getFirstCandidate();
+        return candidate != null ? candidate.getContent() : null;
+    }
+
+    // A lazily bound body decodes only the first candidate
+    private GeminiCandidate getFirstCandidate() {
+        GeminiCandidate candidate = this.firstCandidate;
+        if (candidate == null) {
+            JsonIndex index = body.getIndex();
+            if (index != null) {
+                candidate = index.get("candidates", 0, GeminiCandidate.class);
+            } else {
+                List<GeminiCandidate> candidates = body.get("candidates").getCandidates();
+                candidate = (candidates != null && !candidates.isEmpty()) ? candidates.get(0) : null;
+            }
+            this.firstCandidate = candidate;
         }
-        return null;
+        return candidate;
+    }
+
+    private GeminiUsage usage() {
+        return body.get("usageMetadata").getUsageMetadata();
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.gemini.model;
+
+import ai.protify.core.internal.util.json.ProtifyJsonProperty;
+
+import java.util.List;
+
+/**
+ * Body of a {@code cachedContents} create request: the stable prefix of later generate
+ * requests, which then reference the cache by name instead of resending it.
+ */
+public final class GeminiCachedContent {
+
+    private String model;
+
+    @ProtifyJsonProperty("systemInstruction")
+    private GeminiContent systemInstruction;
+
+    private List<GeminiContent> contents;
+    private List<GeminiTool> tools;
+    private String ttl;
+
+    public GeminiCachedContent() {
+    }
+
+    public GeminiCachedContent(GeminiContent systemInstruction, List<GeminiContent> contents, List<GeminiTool> tools) {
+        this.systemInstruction = systemInstruction;
+        this.contents = contents;
+        this.tools = tools;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    @ProtifyJsonProperty("systemInstruction")
+    public GeminiContent getSystemInstruction() {
+        return systemInstruction;
+    }
+
+    public void setSystemInstruction(GeminiContent systemInstruction) {
+        this.systemInstruction = systemInstruction;
+    }
+
+    public List<GeminiContent> getContents() {
+        return contents;
+    }
+
+    public void setContents(List<GeminiContent> contents) {
+        this.contents = contents;
+    }
+
+    public List<GeminiTool> getTools() {
+        return tools;
+    }
+
+    public void setTools(List<GeminiTool> tools) {
+        this.tools = tools;
+    }
+
+    public String getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(String ttl) {
+        this.ttl = ttl;
+    }
+}
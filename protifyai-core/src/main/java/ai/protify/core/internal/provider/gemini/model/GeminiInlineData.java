@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.gemini.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 public final class GeminiInlineData {
@@ -23,12 +24,12 @@ public final class GeminiInlineData {
     @ProtifyJsonProperty("mimeType")
     private String mimeType;
 
-    private String data;
+    private JsonStreamValue data;
 
     public GeminiInlineData() {
     }
 
-    GeminiInlineData(String mimeType, String data) {
+    GeminiInlineData(String mimeType, JsonStreamValue data) {
         this.mimeType = mimeType;
         this.data = data;
     }
@@ -42,11 +43,11 @@ public final class GeminiInlineData {
         this.mimeType = mimeType;
     }
 
-    public String getData() {
+    public JsonStreamValue getData() {
         return data;
     }
 
-    public void setData(String data) {
+    public void setData(JsonStreamValue data) {
         this.data = data;
     }
 }
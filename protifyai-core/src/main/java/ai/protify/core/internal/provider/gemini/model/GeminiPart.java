@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.gemini.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 import java.util.Map;
@@ -28,6 +29,9 @@ public final class GeminiPart {
     @ProtifyJsonProperty("inlineData")
     private GeminiInlineData inlineData;
 
+    @ProtifyJsonProperty("fileData")
+    private GeminiFileData fileData;
+
     @ProtifyJsonProperty("functionCall")
     private GeminiFunctionCall functionCall;
 
@@ -43,12 +47,18 @@ public final class GeminiPart {
         return part;
     }
 
-    public static GeminiPart inlineData(String mimeType, String base64Data) {
+    public static GeminiPart inlineData(String mimeType, JsonStreamValue base64Data) {
         GeminiPart part = new GeminiPart();
         part.inlineData = new GeminiInlineData(mimeType, base64Data);
         return part;
     }
 
+    public static GeminiPart fileData(String mimeType, String fileUri) {
+        GeminiPart part = new GeminiPart();
+        part.fileData = new GeminiFileData(mimeType, fileUri);
+        return part;
+    }
+
     public static GeminiPart functionCall(String name, Map<String, Object> args) {
         GeminiPart part = new GeminiPart();
         part.functionCall = new GeminiFunctionCall(name, args);
@@ -78,6 +88,11 @@ public final class GeminiPart {
         return inlineData;
     }
 
+    @ProtifyJsonProperty("fileData")
+    public GeminiFileData getFileData() {
+        return fileData;
+    }
+
     @ProtifyJsonProperty("functionCall")
     public GeminiFunctionCall getFunctionCall() {
         return functionCall;
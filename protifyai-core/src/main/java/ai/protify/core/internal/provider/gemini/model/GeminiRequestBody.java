@@ -32,6 +32,9 @@ public final class GeminiRequestBody {
 
     private List<GeminiTool> tools;
 
+    @ProtifyJsonProperty("cachedContent")
+    private String cachedContent;
+
     public List<GeminiContent> getContents() {
         return contents;
     }
@@ -65,4 +68,13 @@ public final class GeminiRequestBody {
     public void setTools(List<GeminiTool> tools) {
         this.tools = tools;
     }
+
+    @ProtifyJsonProperty("cachedContent")
+    public String getCachedContent() {
+        return cachedContent;
+    }
+
+    public void setCachedContent(String cachedContent) {
+        this.cachedContent = cachedContent;
+    }
 }
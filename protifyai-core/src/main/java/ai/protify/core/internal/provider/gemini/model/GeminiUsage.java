@@ -29,6 +29,9 @@ public class GeminiUsage {
     @ProtifyJsonProperty("totalTokenCount")
     private long totalTokenCount;
 
+    @ProtifyJsonProperty("cachedContentTokenCount")
+    private long cachedContentTokenCount;
+
     @ProtifyJsonProperty("promptTokenCount")
     public long getPromptTokenCount() {
         return promptTokenCount;
@@ -55,4 +58,13 @@ public class GeminiUsage {
     public void setTotalTokenCount(long totalTokenCount) {
         this.totalTokenCount = totalTokenCount;
     }
+
+    @ProtifyJsonProperty("cachedContentTokenCount")
+    public long getCachedContentTokenCount() {
+        return cachedContentTokenCount;
+    }
+
+    public void setCachedContentTokenCount(long cachedContentTokenCount) {
+        this.cachedContentTokenCount = cachedContentTokenCount;
+    }
 }
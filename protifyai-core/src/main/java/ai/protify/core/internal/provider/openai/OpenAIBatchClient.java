@@ -0,0 +1,166 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.openai;
+
+import ai.protify.core.batch.AIBatchStatus;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.batch.ProtifyProviderBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchResult;
+import ai.protify.core.internal.provider.batch.ProviderBatchState;
+import ai.protify.core.internal.provider.file.MultipartBody;
+import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
+import ai.protify.core.internal.util.json.JsonPath;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.response.AIResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs Responses API requests through the Batch API: the input is a JSON Lines file uploaded
+ * with purpose {@code batch}, and results are read from the batch's output and error files.
+ */
+public class OpenAIBatchClient extends ProtifyProviderBatchClient {
+
+    private static final String BASE_URL = "https://api.openai.com";
+    private static final String ENDPOINT = "/v1/responses";
+    private static final JsonPath.Selection RESULT_FIELDS = JsonPath.select(
+            "custom_id", "response.status_code", "response.body.error.message", "error.message");
+
+    public OpenAIBatchClient() {
+        this(BASE_URL);
+    }
+
+    public OpenAIBatchClient(String baseUrl) {
+        super(ProtifyAIProvider.OPEN_AI, baseUrl);
+    }
+
+    @Override
+    public int getMaxRequests() {
+        return 50_000;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return 200L * 1024 * 1024;
+    }
+
+    @Override
+    protected String requestHead(String customId) {
+        return "{\"custom_id\":\"" + customId + "\",\"method\":\"POST\",\"url\":\"" + ENDPOINT + "\",\"body\":";
+    }
+
+    @Override
+    public CompletableFuture<String> submit(Path input, String credential) {
+        long length;
+        try {
+            length = Files.size(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read batch input " + input, e);
+        }
+        MultipartBody upload = new MultipartBody()
+                .field("purpose", "batch")
+                .file("file", input.getFileName().toString(), "application/jsonl", length, () -> Files.newInputStream(input));
+
+        return sendForJson(newRequest(getBaseUrl() + "/v1/files", credential, upload.getContentType())
+                .POST(upload.toBodyPublisher())
+                .build())
+                .thenCompose(file -> sendForJson(newRequest(getBaseUrl() + "/v1/batches", credential, "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"input_file_id\":\"" + requireString(file, "id")
+                                + "\",\"endpoint\":\"" + ENDPOINT + "\",\"completion_window\":\"24h\"}"))
+                        .build()))
+                .thenApply(batch -> requireString(batch, "id"));
+    }
+
+    @Override
+    public CompletableFuture<ProviderBatchState> poll(String batchId, String credential) {
+        return sendForJson(newRequest(getBaseUrl() + "/v1/batches/" + batchId, credential, "application/json")
+                .GET()
+                .build())
+                .thenApply(batch -> {
+                    AIBatchStatus status = toStatus(requireString(batch, "status"));
+                    List<String> results = new ArrayList<>();
+                    if (status != AIBatchStatus.IN_PROGRESS) {
+                        addFile(results, batch, "output_file_id");
+                        addFile(results, batch, "error_file_id");
+                    }
+                    return new ProviderBatchState(status, results);
+                });
+    }
+
+    private void addFile(List<String> results, ProtifyJsonObject batch, String path) {
+        String fileId = batch.getString(path);
+        if (fileId != null && !fileId.isEmpty()) {
+            results.add(getBaseUrl() + "/v1/files/" + fileId + "/content");
+        }
+    }
+
+    private static AIBatchStatus toStatus(String status) {
+        switch (status) {
+            case "completed":
+                return AIBatchStatus.COMPLETED;
+            case "failed":
+                return AIBatchStatus.FAILED;
+            case "expired":
+                return AIBatchStatus.EXPIRED;
+            case "cancelled":
+                return AIBatchStatus.CANCELLED;
+            default:
+                // validating, in_progress, finalizing, cancelling
+                return AIBatchStatus.IN_PROGRESS;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> cancel(String batchId, String credential) {
+        return sendForJson(newRequest(getBaseUrl() + "/v1/batches/" + batchId + "/cancel", credential, "application/json")
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build())
+                .thenApply(batch -> null);
+    }
+
+    @Override
+    public ProviderBatchResult parseResult(String line) {
+        Object[] fields = ProtifyJson.parse(line).getAll(RESULT_FIELDS);
+        String customId = string(fields[0]);
+        String statusCode = string(fields[1]);
+        if ("200".equals(statusCode)) {
+            return ProviderBatchResult.success(customId, rawMember(rawMember(line, "response"), "body"));
+        }
+        String message = string(fields[2]);
+        if (message == null) {
+            message = string(fields[3]);
+        }
+        if (message == null) {
+            message = "Request failed with status " + statusCode;
+        }
+        return ProviderBatchResult.failure(customId, message);
+    }
+
+    @Override
+    public AIResponse toResponse(String body, String correlationId, String modelName) {
+        return new OpenAIResponse(false, null, correlationId, modelName, body,
+                ProtifyJson.fromJson(body, OpenAIResponseBody.class));
+    }
+}
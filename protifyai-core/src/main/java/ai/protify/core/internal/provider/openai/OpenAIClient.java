@@ -17,24 +17,95 @@
 package ai.protify.core.internal.provider.openai;
 
 import ai.protify.core.internal.config.CredentialHelper;
+import ai.protify.core.internal.exception.BadRequestException;
+import ai.protify.core.internal.exception.NotFoundException;
+import ai.protify.core.internal.exception.ProtifyApiException;
 import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
 import ai.protify.core.internal.response.ProtifyAIStreamResponse;
 import ai.protify.core.internal.util.http.ProtifyHttpClient;
 import ai.protify.core.internal.util.http.ProtifyHttpResponse;
+import ai.protify.core.internal.util.json.JsonPath;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
 import ai.protify.core.provider.ProtifyAIProviderClient;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public class OpenAIClient extends ProtifyAIProviderClient<OpenAIRequest> {
 
     private static final String RESPONSES_URI = "https://api.openai.com/v1/responses";
+    private static final String PREVIOUS_RESPONSE_ID = "previous_response_id";
+    private static final String PREVIOUS_RESPONSE_NOT_FOUND = "previous_response_not_found";
+    private static final JsonPath ERROR_PARAM = JsonPath.compile("error.param");
+    private static final JsonPath ERROR_CODE = JsonPath.compile("error.code");
 
     @Override
     public AIResponse execute(OpenAIRequest request) {
-        ProtifyHttpResponse response = ProtifyHttpClient.getInstance().post(request, RESPONSES_URI);
-        String rawJson = response.getResponseBody();
-        OpenAIResponseBody body = ProtifyJson.fromJson(rawJson, OpenAIResponseBody.class);
+        try {
+            return toResponse(ProtifyHttpClient.getInstance().post(request, RESPONSES_URI), request);
+        } catch (RuntimeException e) {
+            if (!isExpiredChain(request, e)) {
+                throw e;
+            }
+            request.unchain();
+            return toResponse(ProtifyHttpClient.getInstance().post(request, RESPONSES_URI), request);
+        }
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(OpenAIRequest request) {
+        return ProtifyHttpClient.getInstance().postAsync(request, RESPONSES_URI)
+                .handle((response, ex) -> {
+                    if (ex == null) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                    if (!isExpiredChain(request, cause)) {
+                        return CompletableFuture.<ProtifyHttpResponse>failedFuture(cause);
+                    }
+                    request.unchain();
+                    return ProtifyHttpClient.getInstance().postAsync(request, RESPONSES_URI);
+                })
+                .thenCompose(f -> f)
+                .thenApply(response -> toResponse(response, request));
+    }
+
+    /**
+     * A chained request fails with a 400 or 404 whose error names {@code previous_response_id}
+     * once the stored response has expired or was never stored; the full history is then sent
+     * instead. Any other client error, such as an unknown model, is left to the caller.
+     */
+    static boolean isExpiredChain(OpenAIRequest request, Throwable error) {
+        if (!request.isChained()
+                || !(error instanceof BadRequestException || error instanceof NotFoundException)) {
+            return false;
+        }
+        String body = ((ProtifyApiException) error).getRawResponseBody();
+        if (body == null || body.isBlank()) {
+            return false;
+        }
+        try {
+            ProtifyJsonObject json = ProtifyJson.parse(body);
+            return PREVIOUS_RESPONSE_ID.equals(json.getString(ERROR_PARAM))
+                    || PREVIOUS_RESPONSE_NOT_FOUND.equals(json.getString(ERROR_CODE));
+        } catch (RuntimeException e) {
+            // Not a JSON error body
+            return false;
+        }
+    }
+
+    private AIResponse toResponse(ProtifyHttpResponse response, OpenAIRequest request) {
+        byte[] rawJson = response.getResponseBytes();
+        if (isLazyResponseParsing(request)) {
+            return new OpenAIResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson,
+                    LazyJsonBean.lazy(rawJson, OpenAIResponseBody.class));
+        }
+        OpenAIResponseBody body = ProtifyJson.fromReader(new JsonReader(rawJson), OpenAIResponseBody.class);
         return new OpenAIResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson, body);
     }
 
@@ -43,6 +114,11 @@ public class OpenAIClient extends ProtifyAIProviderClient<OpenAIRequest> {
         request.setStream(true);
 
         ProtifyAIStreamResponse streamResponse = new ProtifyAIStreamResponse();
+        stream(request, streamResponse);
+        return streamResponse;
+    }
+
+    private void stream(OpenAIRequest request, ProtifyAIStreamResponse streamResponse) {
         String[] completedResponseJson = {null};
 
         ProtifyHttpClient.getInstance().postStream(request, RESPONSES_URI,
@@ -70,11 +146,16 @@ public class OpenAIClient extends ProtifyAIProviderClient<OpenAIRequest> {
                     }
                 }
         ).exceptionally(ex -> {
-            streamResponse.completeExceptionally(ex);
+            Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+            // An HTTP error arrives before any event, so restarting unchained cannot repeat tokens
+            if (isExpiredChain(request, cause)) {
+                request.unchain();
+                stream(request, streamResponse);
+            } else {
+                streamResponse.completeExceptionally(ex);
+            }
             return null;
         });
-
-        return streamResponse;
     }
 
     private static String extractNestedObject(String json, int startIndex) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.openai;
+
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.file.MultipartBody;
+import ai.protify.core.internal.provider.file.ProtifyProviderFileUploader;
+import ai.protify.core.internal.provider.file.ProviderFile;
+import ai.protify.core.request.AIFileInput;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads to {@code POST /v1/files} with purpose {@code user_data}, which the Responses API
+ * accepts for both {@code input_file} and {@code input_image}. The file is given an expiry so
+ * OpenAI deletes it once the store no longer references it.
+ */
+public class OpenAIFileUploader extends ProtifyProviderFileUploader {
+
+    private static final String BASE_URL = "https://api.openai.com";
+
+    // Bounds OpenAI accepts for expires_after.seconds
+    private static final long MIN_EXPIRY_SECS = TimeUnit.HOURS.toSeconds(1);
+    private static final long MAX_EXPIRY_SECS = TimeUnit.DAYS.toSeconds(30);
+
+    public OpenAIFileUploader() {
+        this(BASE_URL);
+    }
+
+    public OpenAIFileUploader(String baseUrl) {
+        super(ProtifyAIProvider.OPEN_AI, baseUrl);
+    }
+
+    @Override
+    public CompletableFuture<ProviderFile> upload(AIFileInput input, String credential, int ttlSecs) {
+        long expirySecs = Math.max(MIN_EXPIRY_SECS, Math.min(MAX_EXPIRY_SECS, ttlSecs));
+        MultipartBody body = new MultipartBody()
+                .field("purpose", "user_data")
+                .field("expires_after[anchor]", "created_at")
+                .field("expires_after[seconds]", String.valueOf(expirySecs))
+                .file("file", input.getFilename(), input.getMediaType(), input.getContentLength(), input::openStream);
+
+        return sendForJson(newRequest(getBaseUrl() + "/v1/files", credential, body.getContentType())
+                .POST(body.toBodyPublisher())
+                .build())
+                .thenApply(json -> {
+                    String expiresAt = json.getString("expires_at");
+                    long expiresAtMillis = (expiresAt != null)
+                            ? TimeUnit.SECONDS.toMillis(new BigDecimal(expiresAt).longValue())
+                            : Long.MAX_VALUE;
+                    return new ProviderFile(requireString(json, "id"), input.getMediaType(), expiresAtMillis);
+                });
+    }
+}
@@ -24,6 +24,7 @@ import ai.protify.core.internal.provider.openai.model.OpenAIReasoning;
 import ai.protify.core.internal.provider.openai.model.OpenAIRequestBody;
 import ai.protify.core.internal.provider.openai.model.OpenAITool;
 import ai.protify.core.request.*;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.internal.util.json.JsonBuilder;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.message.AIMessage;
@@ -43,6 +44,9 @@ import java.util.stream.Collectors;
 
 public final class OpenAIRequest extends ProtifyAIProviderRequest {
 
+    // Key for the serialized conversation items kept on each message
+    private static final String WIRE_FORMAT = "openai.responses";
+
     private static final Set<AIConfigProperty> UNSUPPORTED = Collections.unmodifiableSet(
             EnumSet.of(AIConfigProperty.TOP_K));
 
@@ -65,6 +69,8 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
     private String json;
     private String loggableJson;
     private boolean stream = false;
+    // Cleared when the provider no longer holds the chained response, so the full history is sent
+    private boolean chainable = true;
 
     void setStream(boolean stream) {
         this.stream = stream;
@@ -72,6 +78,25 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
         this.loggableJson = null;
     }
 
+    /**
+     * Whether the body continues a stored response with {@code previous_response_id} and carries
+     * only the messages after it.
+     */
+    boolean isChained() {
+        if (!chainable || super.getPreviousResponseId() == null) {
+            return false;
+        }
+        Boolean enabled = super.getConfiguration().getProperty(AIConfigProperty.CONVERSATION_RESPONSE_CHAINING);
+        return !Boolean.FALSE.equals(enabled) && lastAssistantIndex(super.getMessages()) >= 0;
+    }
+
+    /** Falls back to sending the full history, e.g. after the chained response expired. */
+    void unchain() {
+        this.chainable = false;
+        this.json = null;
+        this.loggableJson = null;
+    }
+
     public String toJson() {
         if (this.json == null) {
             this.json = ProtifyJson.toJson(buildRequestBody());
@@ -79,6 +104,11 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
         return this.json;
     }
 
+    @Override
+    public JsonBody toJsonBody() {
+        return ProtifyJson.toJsonBody(buildRequestBody());
+    }
+
     public String toLoggableJson() {
         boolean prettyPrint = super.getConfiguration().getProperty(AIConfigProperty.PRETTY_PRINT_JSON);
 
@@ -116,11 +146,27 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
         }
 
         // Build input
-        body.setInput(buildInput());
+        if (isChained()) {
+            List<AIMessage> messages = super.getMessages();
+            body.setPreviousResponseId(super.getPreviousResponseId());
+            body.setInput(buildInputFromConversation(
+                    messages.subList(lastAssistantIndex(messages) + 1, messages.size())));
+        } else {
+            body.setInput(buildInput());
+        }
 
         return body;
     }
 
+    private static int lastAssistantIndex(List<AIMessage> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if ("assistant".equals(messages.get(i).getRole())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @SuppressWarnings("unchecked")
     private List<Object> buildInput() {
         // Conversation mode: use full message history
@@ -172,46 +218,52 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
 
     private List<Object> buildInputFromConversation(List<AIMessage> conversationMessages) {
         List<Object> inputItems = new ArrayList<>();
-
         for (AIMessage msg : conversationMessages) {
-            if ("user".equals(msg.getRole())) {
-                // User message with tool results
-                if (!msg.getToolResults().isEmpty()) {
-                    for (AIToolResult result : msg.getToolResults()) {
-                        inputItems.add(OpenAIFunctionCallOutput.of(result.getToolCallId(), result.getContent()));
-                    }
-                } else {
-                    // User text message, possibly with file inputs
-                    List<OpenAIContentBlock> contentBlocks = new ArrayList<>();
-                    if (msg.getText() != null) {
-                        contentBlocks.add(OpenAIContentBlock.text(msg.getText()));
-                    }
-                    if (!msg.getInputs().isEmpty()) {
-                        contentBlocks.addAll(buildContentBlocks(msg.getInputs()));
-                    }
-                    if (!contentBlocks.isEmpty()) {
-                        inputItems.add(new OpenAIInputMessage("user", contentBlocks));
-                    }
-                }
-            } else if ("assistant".equals(msg.getRole())) {
-                // Assistant tool calls — emit as raw function_call maps
-                if (msg.hasToolCalls()) {
-                    for (AIToolCall call : msg.getToolCalls()) {
-                        Map<String, Object> functionCall = new LinkedHashMap<>();
-                        functionCall.put("type", "function_call");
-                        functionCall.put("call_id", call.getId());
-                        functionCall.put("name", call.getName());
-                        functionCall.put("arguments", call.getArgumentsJson());
-                        inputItems.add(functionCall);
-                    }
+            inputItems.addAll(messageItems(msg, WIRE_FORMAT, () -> toInputItems(msg)));
+        }
+        return inputItems;
+    }
+
+    private List<Object> toInputItems(AIMessage msg) {
+        List<Object> inputItems = new ArrayList<>();
+
+        if ("user".equals(msg.getRole())) {
+            // User message with tool results
+            if (!msg.getToolResults().isEmpty()) {
+                for (AIToolResult result : msg.getToolResults()) {
+                    inputItems.add(OpenAIFunctionCallOutput.of(result.getToolCallId(), result.getContent()));
                 }
-                // Assistant text — emit as output_text content block
+            } else {
+                // User text message, possibly with file inputs
+                List<OpenAIContentBlock> contentBlocks = new ArrayList<>();
                 if (msg.getText() != null) {
-                    List<OpenAIContentBlock> contentBlocks = new ArrayList<>();
-                    contentBlocks.add(OpenAIContentBlock.outputText(msg.getText()));
-                    inputItems.add(new OpenAIInputMessage("assistant", contentBlocks));
+                    contentBlocks.add(OpenAIContentBlock.text(msg.getText()));
+                }
+                if (!msg.getInputs().isEmpty()) {
+                    contentBlocks.addAll(buildContentBlocks(msg.getInputs()));
+                }
+                if (!contentBlocks.isEmpty()) {
+                    inputItems.add(new OpenAIInputMessage("user", contentBlocks));
                 }
             }
+        } else if ("assistant".equals(msg.getRole())) {
+            // Assistant tool calls — emit as raw function_call maps
+            if (msg.hasToolCalls()) {
+                for (AIToolCall call : msg.getToolCalls()) {
+                    Map<String, Object> functionCall = new LinkedHashMap<>();
+                    functionCall.put("type", "function_call");
+                    functionCall.put("call_id", call.getId());
+                    functionCall.put("name", call.getName());
+                    functionCall.put("arguments", call.getArgumentsJson());
+                    inputItems.add(functionCall);
+                }
+            }
+            // Assistant text — emit as output_text content block
+            if (msg.getText() != null) {
+                List<OpenAIContentBlock> contentBlocks = new ArrayList<>();
+                contentBlocks.add(OpenAIContentBlock.outputText(msg.getText()));
+                inputItems.add(new OpenAIInputMessage("assistant", contentBlocks));
+            }
         }
 
         return inputItems;
@@ -223,20 +275,20 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
             if (InputType.TEXT == input.getType()) {
                 blocks.add(OpenAIContentBlock.text(((AITextInput) input).getText()));
             } else if (InputType.IMAGE == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
+                AIFileInput fileInput = resolveFileReference((AIFileInput) input);
                 if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
                     blocks.add(OpenAIContentBlock.imageFromFileId(fileInput.getData()));
                 } else {
-                    blocks.add(OpenAIContentBlock.imageFromUrl(fileInput.getData()));
+                    blocks.add(OpenAIContentBlock.imageFromUrl(dataUrl(fileInput)));
                 }
             } else if (InputType.PDF == input.getType()) {
-                AIFileInput fileInput = (AIFileInput) input;
+                AIFileInput fileInput = resolveFileReference((AIFileInput) input);
                 if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
                     blocks.add(OpenAIContentBlock.fileFromId(fileInput.getData()));
                 } else if (FileDataReferenceType.DATA_URL == fileInput.getReferenceType()) {
-                    blocks.add(OpenAIContentBlock.fileFromUrl(fileInput.getData()));
+                    blocks.add(OpenAIContentBlock.fileFromUrl(dataUrl(fileInput)));
                 } else {
-                    blocks.add(OpenAIContentBlock.fileFromUrl(fileInput.getData(), fileInput.getFilename()));
+                    blocks.add(OpenAIContentBlock.fileFromUrl(dataUrl(fileInput), fileInput.getFilename()));
                 }
             }
         }
@@ -323,7 +375,7 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
         if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
             properties.put("file_id", fileInput.getData());
         } else {
-            properties.put("image_url", fileInput.getData());
+            properties.put("image_url", fileInput.getLoggableData());
         }
         appendInput(builder, properties);
     }
@@ -334,7 +386,7 @@ public final class OpenAIRequest extends ProtifyAIProviderRequest {
         if (FileDataReferenceType.PROVIDER_ID == fileInput.getReferenceType()) {
             properties.put("file_id", fileInput.getData());
         } else if (FileDataReferenceType.DATA_URL == fileInput.getReferenceType()) {
-            properties.put("file_url", fileInput.getData());
+            properties.put("file_url", fileInput.getLoggableData());
         } else {
             properties.put("file_url", fileInput.getData());
             properties.put("filename", fileInput.getFilename());
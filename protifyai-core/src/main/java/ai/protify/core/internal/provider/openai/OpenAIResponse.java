@@ -19,8 +19,10 @@ package ai.protify.core.internal.provider.openai;
 import ai.protify.core.internal.provider.openai.model.OpenAIOutputContent;
 import ai.protify.core.internal.provider.openai.model.OpenAIOutputItem;
 import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
+import ai.protify.core.internal.provider.openai.model.OpenAIUsage;
 import ai.protify.core.internal.response.ProtifyAIResponse;
 import ai.protify.core.internal.tool.ProtifyAIToolCall;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.tool.AIToolCall;
 
@@ -31,42 +33,60 @@ import java.util.Map;
 
 public class OpenAIResponse extends ProtifyAIResponse {
 
-    private final OpenAIResponseBody body;
+    private final LazyJsonBean<OpenAIResponseBody> body;
 
     public OpenAIResponse(boolean cachedResponse, String pipelineId, String correlationId,
                           String modelName, String rawResponse, OpenAIResponseBody body) {
         super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    public OpenAIResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                          String modelName, byte[] rawResponse, OpenAIResponseBody body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
+        this.body = LazyJsonBean.of(body);
+    }
+
+    /**
+     * Binds each part of the body from {@code body} only when an accessor first reads it.
+     */
+    public OpenAIResponse(boolean cachedResponse, String pipelineId, String correlationId,
+                          String modelName, byte[] rawResponse, LazyJsonBean<OpenAIResponseBody> body) {
+        super(cachedResponse, pipelineId, correlationId, modelName, rawResponse);
         this.body = body;
     }
 
     @Override
-    public String getCorrelationId() {
-        return "";
+    public String getResponseId() {
+        String id = body.get("id").getId();
+        return id != null ? id : "";
     }
 
     @Override
-    public String getResponseId() {
-        return body.getId() != null ? body.getId() : "";
+    public String getProviderResponseId() {
+        String id = getResponseId();
+        return id.isEmpty() ? null : id;
     }
 
     @Override
     public String getModelName() {
-        return body.getModel() != null ? body.getModel() : "";
+        String model = body.get("model").getModel();
+        return model != null ? model : "";
     }
 
     @Override
     public long getInputTokens() {
-        return body.getUsage() != null ? body.getUsage().getInputTokens() : 0;
+        return usage() != null ? usage().getInputTokens() : 0;
     }
 
     @Override
     public long getOutputTokens() {
-        return body.getUsage() != null ? body.getUsage().getOutputTokens() : 0;
+        return usage() != null ? usage().getOutputTokens() : 0;
     }
 
     @Override
     public long getTotalTokens() {
-        return body.getUsage() != null ? body.getUsage().getTotalTokens() : 0;
+        return usage() != null ? usage().getTotalTokens() : 0;
     }
 
     @Override
@@ -81,8 +101,8 @@ public class OpenAIResponse extends ProtifyAIResponse {
 
     @Override
     public String text() {
-        if (body.getOutput() != null) {
-            for (OpenAIOutputItem item : body.getOutput()) {
+        if (output() != null) {
+            for (OpenAIOutputItem item : output()) {
                 if ("message".equals(item.getType()) && item.getContent() != null) {
                     for (OpenAIOutputContent block : item.getContent()) {
                         if (block.getText() != null) {
@@ -97,9 +117,9 @@ public class OpenAIResponse extends ProtifyAIResponse {
 
     @Override
     public String getReasoningContent() {
-        if (body.getOutput() != null) {
+        if (output() != null) {
             StringBuilder sb = new StringBuilder();
-            for (OpenAIOutputItem item : body.getOutput()) {
+            for (OpenAIOutputItem item : output()) {
                 if ("reasoning".equals(item.getType()) && item.getSummary() != null) {
                     for (OpenAIOutputContent block : item.getSummary()) {
                         if (block.getText() != null) {
@@ -118,15 +138,15 @@ public class OpenAIResponse extends ProtifyAIResponse {
 
     @Override
     public String getStopReason() {
-        return body.getStatus();
+        return body.get("status").getStatus();
     }
 
     @Override
     public boolean hasToolCalls() {
-        if (body.getOutput() == null) {
+        if (output() == null) {
             return false;
         }
-        for (OpenAIOutputItem item : body.getOutput()) {
+        for (OpenAIOutputItem item : output()) {
             if ("function_call".equals(item.getType())) {
                 return true;
             }
@@ -137,12 +157,12 @@ public class OpenAIResponse extends ProtifyAIResponse {
     @Override
     @SuppressWarnings("unchecked")
     public List<AIToolCall> getToolCalls() {
-        if (body.getOutput() == null) {
+        if (output() == null) {
             return Collections.emptyList();
         }
 
         List<AIToolCall> toolCalls = new ArrayList<>();
-        for (OpenAIOutputItem item : body.getOutput()) {
+        for (OpenAIOutputItem item : output()) {
             if ("function_call".equals(item.getType())) {
                 String id = item.getCallId() != null ? item.getCallId() : "";
                 String name = item.getName() != null ? item.getName() : "";
@@ -161,4 +181,12 @@ public class OpenAIResponse extends ProtifyAIResponse {
         }
         return toolCalls;
     }
+
+    private OpenAIUsage usage() {
+        return body.get("usage").getUsage();
+    }
+
+    private List<OpenAIOutputItem> output() {
+        return body.get("output").getOutput();
+    }
 }
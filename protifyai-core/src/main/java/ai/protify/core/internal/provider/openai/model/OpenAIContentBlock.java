@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.provider.openai.model;
 
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.internal.util.json.ProtifyJsonProperty;
 
 public final class OpenAIContentBlock {
@@ -24,13 +25,13 @@ public final class OpenAIContentBlock {
     private String text;
 
     @ProtifyJsonProperty("image_url")
-    private String imageUrl;
+    private JsonStreamValue imageUrl;
 
     @ProtifyJsonProperty("file_id")
     private String fileId;
 
     @ProtifyJsonProperty("file_url")
-    private String fileUrl;
+    private JsonStreamValue fileUrl;
 
     private String filename;
 
@@ -51,7 +52,7 @@ public final class OpenAIContentBlock {
         return block;
     }
 
-    public static OpenAIContentBlock imageFromUrl(String imageUrl) {
+    public static OpenAIContentBlock imageFromUrl(JsonStreamValue imageUrl) {
         OpenAIContentBlock block = new OpenAIContentBlock();
         block.type = "input_image";
         block.imageUrl = imageUrl;
@@ -72,14 +73,14 @@ public final class OpenAIContentBlock {
         return block;
     }
 
-    public static OpenAIContentBlock fileFromUrl(String fileUrl) {
+    public static OpenAIContentBlock fileFromUrl(JsonStreamValue fileUrl) {
         OpenAIContentBlock block = new OpenAIContentBlock();
         block.type = "input_file";
         block.fileUrl = fileUrl;
         return block;
     }
 
-    public static OpenAIContentBlock fileFromUrl(String fileUrl, String filename) {
+    public static OpenAIContentBlock fileFromUrl(JsonStreamValue fileUrl, String filename) {
         OpenAIContentBlock block = new OpenAIContentBlock();
         block.type = "input_file";
         block.fileUrl = fileUrl;
@@ -96,7 +97,7 @@ public final class OpenAIContentBlock {
     }
 
     @ProtifyJsonProperty("image_url")
-    public String getImageUrl() {
+    public JsonStreamValue getImageUrl() {
         return imageUrl;
     }
 
@@ -106,7 +107,7 @@ public final class OpenAIContentBlock {
     }
 
     @ProtifyJsonProperty("file_url")
-    public String getFileUrl() {
+    public JsonStreamValue getFileUrl() {
         return fileUrl;
     }
 
@@ -37,6 +37,9 @@ public final class OpenAIRequestBody {
     private List<Object> input;
     private List<OpenAITool> tools;
 
+    @ProtifyJsonProperty("previous_response_id")
+    private String previousResponseId;
+
     public String getModel() {
         return model;
     }
@@ -110,4 +113,13 @@ public final class OpenAIRequestBody {
     public void setTools(List<OpenAITool> tools) {
         this.tools = tools;
     }
+
+    @ProtifyJsonProperty("previous_response_id")
+    public String getPreviousResponseId() {
+        return previousResponseId;
+    }
+
+    public void setPreviousResponseId(String previousResponseId) {
+        this.previousResponseId = previousResponseId;
+    }
 }
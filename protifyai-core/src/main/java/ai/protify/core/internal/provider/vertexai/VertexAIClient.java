@@ -24,11 +24,15 @@ import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
 import ai.protify.core.internal.response.ProtifyAIStreamResponse;
 import ai.protify.core.internal.util.http.ProtifyHttpClient;
 import ai.protify.core.internal.util.http.ProtifyHttpResponse;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
 import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.provider.ProtifyAIProviderClient;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public class VertexAIClient extends ProtifyAIProviderClient<GeminiRequest> {
 
     private String getGenerateContentUrl() {
@@ -69,9 +73,22 @@ public class VertexAIClient extends ProtifyAIProviderClient<GeminiRequest> {
 
     @Override
     public AIResponse execute(GeminiRequest request) {
-        ProtifyHttpResponse response = ProtifyHttpClient.getInstance().post(request, getGenerateContentUrl());
-        String rawJson = response.getResponseBody();
-        GeminiResponseBody body = ProtifyJson.fromJson(rawJson, GeminiResponseBody.class);
+        return toResponse(ProtifyHttpClient.getInstance().post(request, getGenerateContentUrl()), request);
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(GeminiRequest request) {
+        return ProtifyHttpClient.getInstance().postAsync(request, getGenerateContentUrl())
+                .thenApply(response -> toResponse(response, request));
+    }
+
+    private AIResponse toResponse(ProtifyHttpResponse response, GeminiRequest request) {
+        byte[] rawJson = response.getResponseBytes();
+        if (isLazyResponseParsing(request)) {
+            return new GeminiResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson,
+                    LazyJsonBean.lazy(rawJson, GeminiResponseBody.class));
+        }
+        GeminiResponseBody body = ProtifyJson.fromReader(new JsonReader(rawJson), GeminiResponseBody.class);
         return new GeminiResponse(response.isCachedResponse(), null, null, super.getModelName(), rawJson, body);
     }
 
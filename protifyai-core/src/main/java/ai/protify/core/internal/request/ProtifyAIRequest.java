@@ -21,6 +21,7 @@ import ai.protify.core.internal.config.AIConfigProperty;
 import ai.protify.core.internal.config.BaseConfiguration;
 import ai.protify.core.internal.config.Configuration;
 import ai.protify.core.internal.config.DerivedProperties;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
 import ai.protify.core.message.AIMessage;
 import ai.protify.core.pipeline.AIPipelineContext;
 import ai.protify.core.provider.AIProviderClient;
@@ -37,6 +38,7 @@ import ai.protify.core.tool.AIToolResult;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class ProtifyAIRequest implements AIRequest {
 
@@ -51,6 +53,7 @@ public class ProtifyAIRequest implements AIRequest {
     private final AIResponse previousAssistantResponse;
     private final int maxToolRounds;
     private final List<AIMessage> messages;
+    private final String previousResponseId;
 
     @SuppressWarnings("unchecked")
     public ProtifyAIRequest(
@@ -86,6 +89,27 @@ public class ProtifyAIRequest implements AIRequest {
             AIResponse previousAssistantResponse,
             int maxToolRounds,
             List<AIMessage> messages) {
+        this(client, inputs, properties, tools, toolHandlers, toolResults,
+                previousAssistantResponse, maxToolRounds, messages, null);
+    }
+
+    /**
+     * @param previousResponseId provider-side id of the response that ended {@code messages} up
+     *                           to their last assistant message; providers that keep conversation
+     *                           state send only the messages after it
+     */
+    @SuppressWarnings("unchecked")
+    public ProtifyAIRequest(
+            AIClient client,
+            List<AIInput> inputs,
+            Map<AIConfigProperty, Object> properties,
+            List<AITool> tools,
+            Map<String, AIToolHandler> toolHandlers,
+            List<AIToolResult> toolResults,
+            AIResponse previousAssistantResponse,
+            int maxToolRounds,
+            List<AIMessage> messages,
+            String previousResponseId) {
         this.client = client;
         this.inputs = inputs;
         this.configuration = new Configuration(properties);
@@ -95,6 +119,7 @@ public class ProtifyAIRequest implements AIRequest {
         this.previousAssistantResponse = previousAssistantResponse;
         this.maxToolRounds = maxToolRounds;
         this.messages = messages != null ? messages : Collections.emptyList();
+        this.previousResponseId = previousResponseId;
 
         this.internalProviderClient = (AIProviderClient<AIProviderRequest>) client.getProviderClient();
     }
@@ -137,46 +162,92 @@ public class ProtifyAIRequest implements AIRequest {
         int rounds = 0;
         while (response.hasToolCalls() && rounds < maxToolRounds) {
             rounds++;
+            List<AIToolResult> results = runToolHandlers(response);
+            AIProviderRequest providerRequest = followUpRequest(response, results, rounds, derivedConfiguration);
+            response = this.internalProviderClient.execute(providerRequest);
+        }
+        return response;
+    }
 
-            List<AIToolResult> results = new ArrayList<>();
-            for (AIToolCall call : response.getToolCalls()) {
-                AIToolHandler handler = toolHandlers.get(call.getName());
-                if (handler != null) {
-                    try {
-                        String result = handler.execute(call.getArguments());
-                        results.add(new AIToolResult(call.getId(), result));
-                    } catch (Exception e) {
-                        results.add(new AIToolResult(call.getId(), e.getMessage(), true));
-                    }
+    private CompletableFuture<AIResponse> executeToolLoopAsync(AIResponse response, Configuration derivedConfiguration,
+                                                               int rounds, Executor executor) {
+        if (!response.hasToolCalls() || rounds >= maxToolRounds) {
+            return CompletableFuture.completedFuture(response);
+        }
+        // Tool handlers are user code and may block, so they run on the executor rather than the HTTP threads
+        return CompletableFuture.supplyAsync(() -> runToolHandlers(response), executor)
+                .thenCompose(results -> this.internalProviderClient.executeAsync(
+                        followUpRequest(response, results, rounds + 1, derivedConfiguration)))
+                .thenCompose(next -> executeToolLoopAsync(next, derivedConfiguration, rounds + 1, executor));
+    }
+
+    private List<AIToolResult> runToolHandlers(AIResponse response) {
+        List<AIToolResult> results = new ArrayList<>();
+        for (AIToolCall call : response.getToolCalls()) {
+            AIToolHandler handler = toolHandlers.get(call.getName());
+            if (handler != null) {
+                try {
+                    String result = handler.execute(call.getArguments());
+                    results.add(new AIToolResult(call.getId(), result));
+                } catch (Exception e) {
+                    results.add(new AIToolResult(call.getId(), e.getMessage(), true));
                 }
             }
-
-            ProtifyAIRequest followUp = new ProtifyAIRequest(
-                    client,
-                    new ArrayList<>(inputs),
-                    new EnumMap<>(AIConfigProperty.class),
-                    tools,
-                    toolHandlers,
-                    results,
-                    response,
-                    maxToolRounds - rounds
-            );
-
-            AIProviderRequest providerRequest = this.client.getProviderClient()
-                    .transformRequest(followUp, derivedConfiguration);
-            response = this.internalProviderClient.execute(providerRequest);
         }
-        return response;
+        return results;
+    }
+
+    private AIProviderRequest followUpRequest(AIResponse response, List<AIToolResult> results, int rounds,
+                                              Configuration derivedConfiguration) {
+        ProtifyAIRequest followUp = new ProtifyAIRequest(
+                client,
+                new ArrayList<>(inputs),
+                new EnumMap<>(AIConfigProperty.class),
+                tools,
+                toolHandlers,
+                results,
+                response,
+                maxToolRounds - rounds
+        );
+        return this.client.getProviderClient().transformRequest(followUp, derivedConfiguration);
     }
 
     @Override
     public CompletableFuture<AIResponse> executeAsync() {
-        return CompletableFuture.supplyAsync(this::execute);
+        return doExecuteAsync(null, ProtifyExecutors.resolve(this.configuration, this.client.getConfiguration()));
     }
 
     @Override
     public CompletableFuture<AIResponse> executeAsync(AIPipelineContext pipelineContext) {
-        return CompletableFuture.supplyAsync(() -> execute(pipelineContext));
+        if (pipelineContext.getPreviousStepResponse() != null) {
+            this.inputs.add(AITextInput.of(pipelineContext.getPreviousStepResponse().text()));
+        }
+
+        Configuration pipelineCfg = new Configuration(pipelineContext.getPipelineProperties());
+        return doExecuteAsync(pipelineCfg,
+                ProtifyExecutors.resolve(this.configuration, pipelineCfg, this.client.getConfiguration()));
+    }
+
+    /*
+     * No stage blocks: the provider call completes on the HTTP transport's threads and only tool
+     * handlers are handed to the executor, so a small pool can keep many requests in flight.
+     */
+    private CompletableFuture<AIResponse> doExecuteAsync(Configuration pipelineCfg, Executor executor) {
+        Configuration derivedConfiguration;
+        CompletableFuture<AIResponse> response;
+        try {
+            derivedConfiguration = this.deriveConfiguration(pipelineCfg);
+            AIProviderRequest providerRequest = this.client.getProviderClient()
+                    .transformRequest(this, derivedConfiguration);
+            response = this.internalProviderClient.executeAsync(providerRequest);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (toolHandlers.isEmpty()) {
+            return response;
+        }
+        return response.thenCompose(r -> executeToolLoopAsync(r, derivedConfiguration, 0, executor));
     }
 
     @Override
@@ -233,6 +304,10 @@ public class ProtifyAIRequest implements AIRequest {
         return this.previousAssistantResponse;
     }
 
+    public String getPreviousResponseId() {
+        return this.previousResponseId;
+    }
+
     public Map<String, AIToolHandler> getToolHandlers() {
         return this.toolHandlers;
     }
@@ -20,6 +20,7 @@ import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.internal.util.json.ProtifyJsonObject;
 import ai.protify.core.response.AIResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 public abstract class ProtifyAIResponse implements AIResponse {
@@ -28,8 +29,9 @@ public abstract class ProtifyAIResponse implements AIResponse {
     private final String responseId = UUID.randomUUID().toString();
     private final String pipelineId;
     private final String correlationId;
-    private final String rawResponse;
-    private final ProtifyJsonObject jsonObject;
+    private final byte[] rawBytes;
+    private volatile String rawResponse;
+    private volatile ProtifyJsonObject jsonObject;
     private final String modelName;
 
     protected ProtifyAIResponse(
@@ -47,7 +49,23 @@ public abstract class ProtifyAIResponse implements AIResponse {
         this.pipelineId = pipelineId;
         this.modelName = modelName;
         this.rawResponse = rawResponse;
-        this.jsonObject = ProtifyJson.parse(rawResponse);
+        this.rawBytes = null;
+    }
+
+    /**
+     * Keeps the response as received; {@link #getProviderResponse()} decodes it on first call.
+     */
+    protected ProtifyAIResponse(
+            boolean cachedResponse,
+            String pipelineId,
+            String correlationId,
+            String modelName,
+            byte[] rawResponse) {
+        this.cachedResponse = cachedResponse;
+        this.correlationId = (correlationId != null) ? correlationId : this.responseId;
+        this.pipelineId = pipelineId;
+        this.modelName = modelName;
+        this.rawBytes = rawResponse;
     }
 
     @Override
@@ -80,7 +98,12 @@ public abstract class ProtifyAIResponse implements AIResponse {
 
     @Override
     public String getProviderResponse() {
-        return this.rawResponse;
+        String raw = this.rawResponse;
+        if (raw == null && rawBytes != null) {
+            raw = new String(rawBytes, StandardCharsets.UTF_8);
+            this.rawResponse = raw;
+        }
+        return raw;
     }
 
     @Override
@@ -88,7 +111,13 @@ public abstract class ProtifyAIResponse implements AIResponse {
         return "";
     }
 
+    // Parsed on first use; the provider subclasses read their bound response body instead
     protected ProtifyJsonObject getJsonObject() {
-        return this.jsonObject;
+        ProtifyJsonObject json = this.jsonObject;
+        if (json == null) {
+            json = (rawBytes != null) ? ProtifyJson.parse(rawBytes) : ProtifyJson.parse(rawResponse);
+            this.jsonObject = json;
+        }
+        return json;
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.AIClient;
+
+/**
+ * One client behind a routing client and its load statistics. Mutable fields are guarded by
+ * the owning {@link Router}.
+ */
+public final class Route {
+
+    private final AIClient client;
+    private final int weight;
+    private final double cost;
+
+    // Peak-sensitive latency average in nanoseconds; 0 until the first sample
+    double latencyNanos;
+    long sampledAtNanos;
+    int inFlight;
+    // Smooth weighted round robin credit
+    long credit;
+
+    public Route(AIClient client, int weight, double cost) {
+        if (client == null) {
+            throw new IllegalArgumentException("Routed client cannot be null");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Route weight must be >= 0");
+        }
+        this.client = client;
+        this.weight = weight;
+        this.cost = cost;
+    }
+
+    public AIClient getClient() {
+        return client;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return client.getProvider().getName() + "/" + client.getModelName();
+    }
+}
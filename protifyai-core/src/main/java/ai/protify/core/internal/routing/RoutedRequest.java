@@ -0,0 +1,82 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderRequest;
+import ai.protify.core.request.AIInput;
+import ai.protify.core.request.AIRequest;
+
+import java.util.List;
+
+/**
+ * A request addressed to a routing client. It is only turned into a provider request once a
+ * route is chosen, so each attempt gets the body its provider expects.
+ */
+public class RoutedRequest implements AIProviderRequest {
+
+    private final RoutingProviderClient routingClient;
+    private AIRequest request;
+    private Configuration configuration;
+
+    RoutedRequest(RoutingProviderClient routingClient) {
+        this.routingClient = routingClient;
+    }
+
+    @Override
+    public void initialize(AIRequest request, Configuration derivedConfiguration) {
+        this.request = request;
+        this.configuration = derivedConfiguration;
+    }
+
+    AIRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public String getModelName() {
+        return routingClient.getPrimary().getClient().getModelName();
+    }
+
+    @Override
+    public AIProvider getProvider() {
+        return routingClient.getPrimary().getClient().getProvider();
+    }
+
+    @Override
+    public List<AIInput> getInputs() {
+        return request.getInputs();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    /** The body as the primary route would send it. */
+    @Override
+    public String toJson() {
+        return routingClient.transformFor(routingClient.getPrimary(), this).toJson();
+    }
+
+    @Override
+    public String toLoggableJson() {
+        return routingClient.transformFor(routingClient.getPrimary(), this).toLoggableJson();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.routing.RoutingStrategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Orders routes for each call under a {@link RoutingStrategy} and keeps their load statistics.
+ * <p>
+ * Latency is tracked as a peak EWMA: a sample above the average replaces it, a lower one is
+ * blended in with a weight that grows with the time since the last sample, and the average
+ * decays toward zero while a route is idle. A slow or failing route is therefore left alone
+ * immediately and tried again once its average has decayed.
+ */
+final class Router {
+
+    enum Outcome {
+        SUCCESS,
+        FAILED,
+        // Finished without saying anything about the route's health, e.g. a bad request
+        IGNORED
+    }
+
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // Zero-weight routes are only used when every other route has failed
+    private static final Comparator<Route> FALLBACKS_LAST = Comparator.comparing(r -> r.getWeight() == 0);
+
+    private final List<Route> routes;
+    private final RoutingStrategy strategy;
+    private final LongSupplier nanoClock;
+    private final long totalWeight;
+
+    Router(List<Route> routes, RoutingStrategy strategy) {
+        this(routes, strategy, System::nanoTime);
+    }
+
+    Router(List<Route> routes, RoutingStrategy strategy, LongSupplier nanoClock) {
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("At least one route is required");
+        }
+        this.routes = List.copyOf(routes);
+        this.strategy = strategy;
+        this.nanoClock = nanoClock;
+        this.totalWeight = routes.stream().mapToLong(Route::getWeight).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("At least one route must have a weight above 0");
+        }
+    }
+
+    List<Route> getRoutes() {
+        return routes;
+    }
+
+    RoutingStrategy getStrategy() {
+        return strategy;
+    }
+
+    /** The routes to try for one call, best first. */
+    synchronized List<Route> plan() {
+        long now = nanoClock.getAsLong();
+        List<Route> order = new ArrayList<>(routes);
+        switch (strategy) {
+            case LEAST_IN_FLIGHT:
+                order.sort(FALLBACKS_LAST.thenComparingDouble(r -> (r.inFlight + 1) / weight(r))
+                        .thenComparingDouble(r -> latency(r, now)));
+                break;
+            case WEIGHTED_ROUND_ROBIN:
+                Route chosen = nextRoundRobin();
+                order.sort(Comparator.comparingInt(Route::getWeight).reversed());
+                order.remove(chosen);
+                order.add(0, chosen);
+                break;
+            case LOWEST_COST:
+                order.sort(FALLBACKS_LAST.thenComparingDouble(Route::getCost)
+                        .thenComparingDouble(r -> latency(r, now) * (r.inFlight + 1) / weight(r)));
+                break;
+            case EWMA_LATENCY:
+            default:
+                order.sort(FALLBACKS_LAST.thenComparingDouble(r -> latency(r, now) * (r.inFlight + 1) / weight(r)));
+                break;
+        }
+        return order;
+    }
+
+    synchronized void start(Route route) {
+        route.inFlight++;
+    }
+
+    synchronized void finish(Route route, long durationNanos, Outcome outcome) {
+        route.inFlight--;
+        if (outcome == Outcome.SUCCESS) {
+            observe(route, durationNanos);
+        } else if (outcome == Outcome.FAILED) {
+            observe(route, Math.max(durationNanos, FAILURE_PENALTY_NANOS));
+        }
+    }
+
+    /** Current latency average of {@code route}, in nanoseconds. */
+    synchronized double latencyNanos(Route route) {
+        return latency(route, nanoClock.getAsLong());
+    }
+
+    synchronized int inFlight(Route route) {
+        return route.inFlight;
+    }
+
+    private void observe(Route route, long sampleNanos) {
+        long now = nanoClock.getAsLong();
+        if (sampleNanos > route.latencyNanos) {
+            route.latencyNanos = sampleNanos;
+        } else {
+            double w = Math.exp(-(double) (now - route.sampledAtNanos) / DECAY_NANOS);
+            route.latencyNanos = route.latencyNanos * w + sampleNanos * (1 - w);
+        }
+        route.sampledAtNanos = now;
+    }
+
+    private static double latency(Route route, long now) {
+        if (route.latencyNanos == 0) {
+            return 0;
+        }
+        return route.latencyNanos * Math.exp(-(double) (now - route.sampledAtNanos) / DECAY_NANOS);
+    }
+
+    private static double weight(Route route) {
+        return Math.max(1, route.getWeight());
+    }
+
+    // Smooth weighted round robin: even spacing, e.g. A A B A for weights 3 and 1
+    private Route nextRoundRobin() {
+        Route best = null;
+        for (Route route : routes) {
+            route.credit += route.getWeight();
+            if (best == null || route.credit > best.credit) {
+                best = route;
+            }
+        }
+        best.credit -= totalWeight;
+        return best;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationState;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.conversation.ProtifyAIConversation;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.request.AIRequestBuilder;
+import ai.protify.core.routing.RoutingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link AIClient} that spreads requests over several clients. Its own settings apply to
+ * every route unless the routed client sets them itself; the model and provider it reports are
+ * those of the first route.
+ */
+public class RoutingAIClient implements AIClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingAIClient.class);
+
+    private final Configuration configuration;
+    private final RoutingProviderClient providerClient;
+
+    public RoutingAIClient(Map<AIConfigProperty, Object> properties, List<Route> routes, RoutingStrategy strategy) {
+        this.configuration = new Configuration(properties);
+        this.providerClient = new RoutingProviderClient(new Router(routes, strategy));
+
+        LOGGER.info("Protify AI routing client created for {} using {}", routes, strategy);
+    }
+
+    public List<Route> getRoutes() {
+        return providerClient.getRouter().getRoutes();
+    }
+
+    public RoutingStrategy getStrategy() {
+        return providerClient.getRouter().getStrategy();
+    }
+
+    /** The current latency average of {@code route} in milliseconds; 0 before its first call. */
+    public double getLatencyMillis(Route route) {
+        return providerClient.getRouter().latencyNanos(route) / 1_000_000d;
+    }
+
+    public int getInFlight(Route route) {
+        return providerClient.getRouter().inFlight(route);
+    }
+
+    @Override
+    public String getModelName() {
+        return providerClient.getPrimary().getClient().getModelName();
+    }
+
+    @Override
+    public AIProvider getProvider() {
+        return providerClient.getPrimary().getClient().getProvider();
+    }
+
+    @Override
+    public AIProviderClient<?> getProviderClient() {
+        return providerClient;
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public AIRequestBuilder newRequest() {
+        return new AIRequestBuilder(this);
+    }
+
+    @Override
+    public AIConversationBuilder newConversation() {
+        return new AIConversationBuilder(this);
+    }
+
+    @Override
+    public AIConversation loadConversation(String conversationId, AIConversationStore store) {
+        AIConversationState state = store.load(conversationId);
+        List<AIMessage> messages = state != null ? new ArrayList<>(state.getMessages()) : new ArrayList<>();
+
+        return new ProtifyAIConversation(
+                this,
+                conversationId,
+                messages,
+                store,
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                Collections.emptyMap(),
+                10,
+                state != null ? state.getResponseId() : null
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "RoutingAIClient{" +
+                "routes=" + getRoutes() +
+                ", strategy=" + getStrategy() +
+                '}';
+    }
+}
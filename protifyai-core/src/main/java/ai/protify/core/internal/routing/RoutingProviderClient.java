@@ -0,0 +1,241 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.exception.CircuitOpenException;
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.provider.AIProviderRequest;
+import ai.protify.core.request.AIRequest;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.response.AIStreamResponse;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Sends each request through the route its {@link Router} ranks first and fails over to the
+ * next one on retriable errors. Requests, conversations, pipelines and services all reach the
+ * provider through this client, so all of them are routed.
+ * <p>
+ * A tool-call follow-up is pinned to the route that asked for the tools, since the previous
+ * response it carries is provider-specific.
+ */
+public class RoutingProviderClient implements AIProviderClient<RoutedRequest> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingProviderClient.class);
+
+    private final Router router;
+    // Responses that asked for tools, and the route that produced them
+    private final Map<AIResponse, Route> toolCallRoutes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    RoutingProviderClient(Router router) {
+        this.router = router;
+    }
+
+    @Override
+    public void initialize(Configuration configuration, AIProvider provider, String modelName) {
+        // Routed clients are initialized by their own builders
+    }
+
+    @Override
+    public RoutedRequest transformRequest(AIRequest request, Configuration configuration) {
+        RoutedRequest routed = new RoutedRequest(this);
+        routed.initialize(request, configuration);
+        return routed;
+    }
+
+    @Override
+    public AIResponse execute(RoutedRequest request) {
+        RuntimeException last = null;
+        for (Route route : plan(request)) {
+            long startNanos = System.nanoTime();
+            router.start(route);
+            try {
+                AIResponse response = providerClient(route).execute(transformFor(route, request));
+                router.finish(route, System.nanoTime() - startNanos, Router.Outcome.SUCCESS);
+                remember(response, route);
+                return response;
+            } catch (RuntimeException e) {
+                boolean failover = isFailover(e);
+                router.finish(route, System.nanoTime() - startNanos,
+                        failover ? Router.Outcome.FAILED : Router.Outcome.IGNORED);
+                if (!failover) {
+                    throw e;
+                }
+                LOGGER.warn("Route {} failed, trying the next one: {}", route, e.getMessage());
+                last = e;
+            }
+        }
+        throw last;
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> executeAsync(RoutedRequest request) {
+        return executeAsync(request, plan(request), 0);
+    }
+
+    private CompletableFuture<AIResponse> executeAsync(RoutedRequest request, List<Route> plan, int index) {
+        Route route = plan.get(index);
+        long startNanos = System.nanoTime();
+        router.start(route);
+        CompletableFuture<AIResponse> attempt;
+        try {
+            attempt = providerClient(route).executeAsync(transformFor(route, request));
+        } catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        return attempt.handle((response, ex) -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (ex == null) {
+                router.finish(route, durationNanos, Router.Outcome.SUCCESS);
+                remember(response, route);
+                return CompletableFuture.completedFuture(response);
+            }
+            Throwable cause = unwrap(ex);
+            boolean failover = isFailover(cause);
+            router.finish(route, durationNanos, failover ? Router.Outcome.FAILED : Router.Outcome.IGNORED);
+            if (!failover || index + 1 >= plan.size()) {
+                return CompletableFuture.<AIResponse>failedFuture(cause);
+            }
+            LOGGER.warn("Route {} failed, trying the next one: {}", route, cause.getMessage());
+            return executeAsync(request, plan, index + 1);
+        }).thenCompose(f -> f);
+    }
+
+    /**
+     * Streams from the first route that starts a stream. Failover covers errors raised while
+     * starting it; streams are not counted in the latency averages.
+     */
+    @Override
+    public AIStreamResponse executeStream(RoutedRequest request) {
+        RuntimeException last = null;
+        for (Route route : plan(request)) {
+            try {
+                return providerClient(route).executeStream(transformFor(route, request));
+            } catch (RuntimeException e) {
+                if (!isFailover(e)) {
+                    throw e;
+                }
+                LOGGER.warn("Route {} failed to stream, trying the next one: {}", route, e.getMessage());
+                last = e;
+            }
+        }
+        throw last;
+    }
+
+    Router getRouter() {
+        return router;
+    }
+
+    Route getPrimary() {
+        return router.getRoutes().get(0);
+    }
+
+    /**
+     * Builds the provider request for one route: the routing client's settings, overridden by
+     * the routed client's own (credentials, model options), overridden by the request's.
+     */
+    AIProviderRequest transformFor(Route route, RoutedRequest routed) {
+        AIClient target = route.getClient();
+        AIRequest original = routed.getRequest();
+
+        Map<AIConfigProperty, Object> properties = new EnumMap<>(AIConfigProperty.class);
+        properties.putAll(routed.getConfiguration().getProperties());
+        properties.putAll(target.getConfiguration().getProperties());
+        properties.putAll(original.getConfiguration().getProperties());
+
+        ProtifyAIRequest view;
+        if (original instanceof ProtifyAIRequest) {
+            ProtifyAIRequest request = (ProtifyAIRequest) original;
+            view = new ProtifyAIRequest(target, request.getInputs(), request.getConfiguration().getProperties(),
+                    request.getTools(), Collections.emptyMap(), request.getToolResults(),
+                    request.getPreviousAssistantResponse(), request.getMaxToolRounds(), request.getMessages(),
+                    request.getPreviousResponseId());
+        } else {
+            view = new ProtifyAIRequest(target, original.getInputs(), original.getConfiguration().getProperties(),
+                    original.getTools(), Collections.emptyMap(), Collections.emptyList(),
+                    null, 0, original.getMessages());
+        }
+        return target.getProviderClient().transformRequest(view, new Configuration(properties));
+    }
+
+    private List<Route> plan(RoutedRequest request) {
+        AIRequest original = request.getRequest();
+        if (original instanceof ProtifyAIRequest) {
+            AIResponse previous = ((ProtifyAIRequest) original).getPreviousAssistantResponse();
+            Route pinned = (previous != null) ? toolCallRoutes.get(previous) : null;
+            if (pinned != null) {
+                return List.of(pinned);
+            }
+        }
+        return router.plan();
+    }
+
+    private void remember(AIResponse response, Route route) {
+        if (response != null && response.hasToolCalls()) {
+            toolCallRoutes.put(response, route);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AIProviderClient<AIProviderRequest> providerClient(Route route) {
+        return (AIProviderClient<AIProviderRequest>) route.getClient().getProviderClient();
+    }
+
+    /**
+     * Another route is worth trying after an open circuit, a transport failure, a timeout, rate
+     * limiting or a server error. Client errors would fail the same way everywhere.
+     */
+    static boolean isFailover(Throwable error) {
+        Throwable t = unwrap(error);
+        if (t instanceof CircuitOpenException || t instanceof IOException) {
+            return true;
+        }
+        if (t instanceof ProtifyApiException) {
+            int status = ((ProtifyApiException) t).getStatusCode();
+            if (status == 0) {
+                for (Throwable c = t.getCause(); c != null; c = c.getCause()) {
+                    if (c instanceof IOException) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return status == 408 || status == 429 || status >= 500;
+        }
+        return false;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+    }
+}
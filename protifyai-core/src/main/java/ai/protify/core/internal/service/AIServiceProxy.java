@@ -18,6 +18,8 @@ package ai.protify.core.internal.service;
 
 import ai.protify.core.AIClient;
 import ai.protify.core.ReasoningEffort;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
+import ai.protify.core.request.AIRequest;
 import ai.protify.core.request.AIRequestBuilder;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
@@ -31,15 +33,22 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public final class AIServiceProxy implements InvocationHandler {
 
     private final AIClient client;
     private final Map<Method, MethodMetadata> methodCache;
+    private final Map<Method, RequestCoalescer> coalescers = new HashMap<>();
 
     private AIServiceProxy(AIClient client, Map<Method, MethodMetadata> methodCache) {
         this.client = client;
         this.methodCache = methodCache;
+        methodCache.forEach((method, metadata) -> {
+            if (metadata.coalesce != null) {
+                coalescers.put(method, newCoalescer(metadata));
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -68,52 +77,94 @@ public final class AIServiceProxy implements InvocationHandler {
         Map<String, Object> variables = buildVariableMap(metadata, args);
         String resolvedMessage = MessageTemplateResolver.resolve(metadata.template, variables);
 
-        String instructions = metadata.instructions;
-        String formatGuidance = ReturnTypeMapper.getResponseFormatGuidance(metadata.returnTypeInfo);
-        if (formatGuidance != null) {
-            instructions = instructions != null
-                    ? instructions + "\n\n" + formatGuidance
-                    : formatGuidance;
+        RequestCoalescer coalescer = coalescers.get(method);
+        if (coalescer != null) {
+            return invokeCoalesced(coalescer, resolvedMessage, metadata);
         }
 
+        String instructions = withFormatGuidance(metadata.instructions, metadata.returnTypeInfo);
+
         if (metadata.returnTypeInfo.getCategory() == ReturnTypeMapper.ReturnCategory.AI_STREAM_RESPONSE) {
             return executeStream(resolvedMessage, instructions, metadata);
         }
 
         if (metadata.returnTypeInfo.getCategory() == ReturnTypeMapper.ReturnCategory.COMPLETABLE_FUTURE) {
-            String finalInstructions = instructions;
-            return CompletableFuture.supplyAsync(() -> {
-                AIResponse response = executeSync(resolvedMessage, finalInstructions, metadata);
-                ReturnTypeMapper.ReturnTypeInfo innerType = metadata.returnTypeInfo.getInnerTypeInfo();
-                if (innerType == null) {
-                    return response;
-                }
-                return ReturnTypeMapper.mapResponse(response, innerType);
-            });
+            ReturnTypeMapper.ReturnTypeInfo innerType = metadata.returnTypeInfo.getInnerTypeInfo();
+            return buildRequest(resolvedMessage, instructions, metadata).executeAsync()
+                    .thenApply(response -> innerType == null
+                            ? response
+                            : ReturnTypeMapper.mapResponse(response, innerType));
         }
 
         AIResponse response = executeSync(resolvedMessage, instructions, metadata);
         return ReturnTypeMapper.mapResponse(response, metadata.returnTypeInfo);
     }
 
-    private AIResponse executeSync(String message, String instructions, MethodMetadata metadata) {
-        AIRequestBuilder builder = client.newRequest().addInput(message);
-        if (instructions != null) {
-            builder.instructions(instructions);
+    private static String withFormatGuidance(String instructions, ReturnTypeMapper.ReturnTypeInfo returnTypeInfo) {
+        String formatGuidance = ReturnTypeMapper.getResponseFormatGuidance(returnTypeInfo);
+        if (formatGuidance == null) {
+            return instructions;
         }
-        if (metadata.temperature != null) {
-            builder.temperature(metadata.temperature);
+        return instructions != null
+                ? instructions + "\n\n" + formatGuidance
+                : formatGuidance;
+    }
+
+    private static Object invokeCoalesced(RequestCoalescer coalescer, String message, MethodMetadata metadata) throws Throwable {
+        CompletableFuture<Object> result = coalescer.submit(message);
+        if (metadata.returnTypeInfo.getCategory() == ReturnTypeMapper.ReturnCategory.COMPLETABLE_FUTURE) {
+            return result;
         }
-        if (metadata.maxTokens != null) {
-            builder.maxOutputTokens(metadata.maxTokens);
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
         }
-        if (metadata.reasoningEffort != null) {
-            builder.reasoningEffort(metadata.reasoningEffort);
+    }
+
+    private RequestCoalescer newCoalescer(MethodMetadata metadata) {
+        ReturnTypeMapper.ReturnTypeInfo itemType = itemType(metadata.returnTypeInfo);
+        return new RequestCoalescer(
+                (message, instructions, items) -> buildRequest(message, instructions, metadata, items),
+                itemType,
+                metadata.instructions,
+                withFormatGuidance(metadata.instructions, itemType),
+                metadata.coalesce.maxBatchSize(),
+                metadata.coalesce.maxWaitMillis(),
+                ProtifyExecutors.resolve(client.getConfiguration()));
+    }
+
+    /**
+     * The type each coalesced call resolves to, or {@code null} if calls returning this type
+     * cannot share a request.
+     */
+    private static ReturnTypeMapper.ReturnTypeInfo itemType(ReturnTypeMapper.ReturnTypeInfo returnTypeInfo) {
+        ReturnTypeMapper.ReturnTypeInfo itemType = returnTypeInfo;
+        if (returnTypeInfo.getCategory() == ReturnTypeMapper.ReturnCategory.COMPLETABLE_FUTURE) {
+            itemType = returnTypeInfo.getInnerTypeInfo();
+        }
+        if (itemType == null || ReturnTypeMapper.getItemFormatGuidance(itemType) == null) {
+            return null;
         }
-        return builder.build().execute();
+        return itemType;
+    }
+
+    private AIResponse executeSync(String message, String instructions, MethodMetadata metadata) {
+        return buildRequest(message, instructions, metadata).execute();
     }
 
     private AIStreamResponse executeStream(String message, String instructions, MethodMetadata metadata) {
+        return buildRequest(message, instructions, metadata).executeStream();
+    }
+
+    private AIRequest buildRequest(String message, String instructions, MethodMetadata metadata) {
+        return buildRequest(message, instructions, metadata, 1);
+    }
+
+    /**
+     * @param items how many calls the message carries; the output token limit is scaled by it
+     */
+    private AIRequest buildRequest(String message, String instructions, MethodMetadata metadata, int items) {
         AIRequestBuilder builder = client.newRequest().addInput(message);
         if (instructions != null) {
             builder.instructions(instructions);
@@ -122,12 +173,12 @@ public final class AIServiceProxy implements InvocationHandler {
             builder.temperature(metadata.temperature);
         }
         if (metadata.maxTokens != null) {
-            builder.maxOutputTokens(metadata.maxTokens);
+            builder.maxOutputTokens(metadata.maxTokens * items);
         }
         if (metadata.reasoningEffort != null) {
             builder.reasoningEffort(metadata.reasoningEffort);
         }
-        return builder.build().executeStream();
+        return builder.build();
     }
 
     private static Map<String, Object> buildVariableMap(MethodMetadata metadata, Object[] args) {
@@ -155,6 +206,7 @@ public final class AIServiceProxy implements InvocationHandler {
         Map<Method, MethodMetadata> cache = new HashMap<>();
         Instructions typeInstructions = serviceInterface.getAnnotation(Instructions.class);
         String typeInstructionsValue = typeInstructions != null ? typeInstructions.value() : null;
+        Coalesce typeCoalesce = serviceInterface.getAnnotation(Coalesce.class);
 
         for (Method method : serviceInterface.getMethods()) {
             if (method.getDeclaringClass() == Object.class) {
@@ -163,12 +215,12 @@ public final class AIServiceProxy implements InvocationHandler {
             if (method.isDefault()) {
                 continue;
             }
-            cache.put(method, buildMethodMetadata(method, typeInstructionsValue));
+            cache.put(method, buildMethodMetadata(method, typeInstructionsValue, typeCoalesce));
         }
         return cache;
     }
 
-    private static MethodMetadata buildMethodMetadata(Method method, String typeInstructions) {
+    private static MethodMetadata buildMethodMetadata(Method method, String typeInstructions, Coalesce typeCoalesce) {
         UserMessage userMessage = method.getAnnotation(UserMessage.class);
         if (userMessage == null) {
             throw new IllegalArgumentException(
@@ -192,7 +244,32 @@ public final class AIServiceProxy implements InvocationHandler {
         String[] paramNames = resolveParamNames(method);
         ReturnTypeMapper.ReturnTypeInfo returnTypeInfo = ReturnTypeMapper.analyze(method);
 
-        return new MethodMetadata(template, instructions, paramNames, returnTypeInfo, temperature, maxTokens, reasoningEffort);
+        Coalesce coalesce = resolveCoalesce(method, returnTypeInfo, typeCoalesce);
+
+        return new MethodMetadata(template, instructions, paramNames, returnTypeInfo, temperature, maxTokens,
+                reasoningEffort, coalesce);
+    }
+
+    private static Coalesce resolveCoalesce(Method method, ReturnTypeMapper.ReturnTypeInfo returnTypeInfo,
+                                            Coalesce typeCoalesce) {
+        Coalesce methodCoalesce = method.getAnnotation(Coalesce.class);
+        Coalesce coalesce = methodCoalesce != null ? methodCoalesce : typeCoalesce;
+        if (coalesce == null) {
+            return null;
+        }
+        if (itemType(returnTypeInfo) == null) {
+            // An interface-level @Coalesce skips methods it cannot apply to
+            if (methodCoalesce == null) {
+                return null;
+            }
+            throw new IllegalArgumentException("Method '" + method.getName() + "' cannot use @Coalesce: return type "
+                    + method.getGenericReturnType().getTypeName() + " cannot be split per call.");
+        }
+        if (coalesce.maxBatchSize() < 1 || coalesce.maxWaitMillis() < 0) {
+            throw new IllegalArgumentException("@Coalesce on method '" + method.getName()
+                    + "' needs maxBatchSize >= 1 and maxWaitMillis >= 0.");
+        }
+        return coalesce;
     }
 
     private static String[] resolveParamNames(Method method) {
@@ -228,10 +305,11 @@ public final class AIServiceProxy implements InvocationHandler {
         final Double temperature;
         final Integer maxTokens;
         final ReasoningEffort reasoningEffort;
+        final Coalesce coalesce;
 
         MethodMetadata(String template, String instructions, String[] paramNames,
                        ReturnTypeMapper.ReturnTypeInfo returnTypeInfo, Double temperature, Integer maxTokens,
-                       ReasoningEffort reasoningEffort) {
+                       ReasoningEffort reasoningEffort, Coalesce coalesce) {
             this.template = template;
             this.instructions = instructions;
             this.paramNames = paramNames;
@@ -239,6 +317,7 @@ public final class AIServiceProxy implements InvocationHandler {
             this.temperature = temperature;
             this.maxTokens = maxTokens;
             this.reasoningEffort = reasoningEffort;
+            this.coalesce = coalesce;
         }
     }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.service;
+
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.request.AIRequest;
+import ai.protify.core.response.AIResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects calls to one service method within a size or time window and sends them as one
+ * request whose prompt lists the calls as indexed items. The model answers with a JSON array
+ * of {@code {"index", "result"}} objects; each result is mapped with {@link ReturnTypeMapper}
+ * and handed to its caller. Items without a usable result fall back to an individual call, as
+ * do messages containing the item delimiter, which would break the framing.
+ */
+final class RequestCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private static final String ITEM_OPEN = "<item";
+    private static final String ITEM_CLOSE = "</item>";
+
+    /**
+     * Builds the request for a prompt; {@code items} is how many calls the prompt carries.
+     */
+    @FunctionalInterface
+    interface RequestFactory {
+        AIRequest create(String message, String instructions, int items);
+    }
+
+    private final RequestFactory requestFactory;
+    private final ReturnTypeMapper.ReturnTypeInfo itemType;
+    private final String singleInstructions;
+    private final String instructions;
+    private final int maxBatchSize;
+    private final long maxWaitMillis;
+    private final Executor executor;
+
+    private List<PendingCall> pending = new ArrayList<>();
+
+    /**
+     * @param instructions       the method's own instructions, or {@code null}
+     * @param singleInstructions the instructions for an individual call, including the
+     *                           response format guidance
+     * @param executor           runs the flush of a window that times out
+     */
+    RequestCoalescer(RequestFactory requestFactory, ReturnTypeMapper.ReturnTypeInfo itemType,
+                     String instructions, String singleInstructions, int maxBatchSize, long maxWaitMillis,
+                     Executor executor) {
+        this.requestFactory = requestFactory;
+        this.itemType = itemType;
+        this.instructions = instructions;
+        this.singleInstructions = singleInstructions;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.executor = executor;
+    }
+
+    CompletableFuture<Object> submit(String message) {
+        PendingCall call = new PendingCall(message);
+        if (message.contains(ITEM_OPEN) || message.contains(ITEM_CLOSE)) {
+            executeIndividually(call);
+            return call.result;
+        }
+        List<PendingCall> full = null;
+        synchronized (this) {
+            pending.add(call);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new ArrayList<>();
+            } else if (pending.size() == 1) {
+                List<PendingCall> window = pending;
+                // The shared scheduler only times the window; the request is built and sent on the executor
+                ProtifyHttpClient.getInstance().getScheduler().schedule(
+                        () -> executor.execute(() -> flush(window)), maxWaitMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return call.result;
+    }
+
+    private void flush(List<PendingCall> window) {
+        synchronized (this) {
+            // Already sent because it filled up
+            if (pending != window) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        dispatch(window);
+    }
+
+    private void dispatch(List<PendingCall> calls) {
+        if (calls.size() == 1) {
+            executeIndividually(calls.get(0));
+            return;
+        }
+        AIRequest request;
+        try {
+            request = requestFactory.create(batchMessage(calls), batchInstructions(calls.size()), calls.size());
+        } catch (RuntimeException e) {
+            calls.forEach(call -> call.result.completeExceptionally(e));
+            return;
+        }
+        request.executeAsync().whenComplete((response, ex) -> {
+            if (ex != null) {
+                calls.forEach(call -> call.result.completeExceptionally(ex));
+            } else {
+                distribute(calls, response);
+            }
+        });
+    }
+
+    private void distribute(List<PendingCall> calls, AIResponse response) {
+        Map<Integer, Object> results = parseResults(response.text());
+        int fallbacks = 0;
+        for (int i = 0; i < calls.size(); i++) {
+            PendingCall call = calls.get(i);
+            Object mapped = null;
+            if (results.containsKey(i)) {
+                try {
+                    mapped = mapResult(results.get(i));
+                } catch (RuntimeException e) {
+                    mapped = null;
+                }
+            }
+            if (mapped != null) {
+                call.result.complete(mapped);
+            } else {
+                fallbacks++;
+                executeIndividually(call);
+            }
+        }
+        if (fallbacks > 0) {
+            LOGGER.debug("Coalesced response had no usable result for {} of {} items", fallbacks, calls.size());
+        }
+    }
+
+    private Map<Integer, Object> parseResults(String text) {
+        Map<Integer, Object> results = new HashMap<>();
+        Object root;
+        try {
+            root = ProtifyJson.parseLenient(text).get("");
+        } catch (RuntimeException e) {
+            return results;
+        }
+        if (!(root instanceof List)) {
+            return results;
+        }
+        for (Object item : (List<?>) root) {
+            if (item instanceof Map && ((Map<?, ?>) item).get("index") instanceof Number) {
+                Map<?, ?> entry = (Map<?, ?>) item;
+                results.putIfAbsent(((Number) entry.get("index")).intValue(), entry.get("result"));
+            }
+        }
+        return results;
+    }
+
+    private Object mapResult(Object result) {
+        if (result == null) {
+            return null;
+        }
+        String text = (result instanceof String) ? (String) result : ProtifyJson.toJsonValue(result);
+        return ReturnTypeMapper.mapText(text, itemType);
+    }
+
+    private void executeIndividually(PendingCall call) {
+        CompletableFuture<AIResponse> response;
+        try {
+            response = requestFactory.create(call.message, singleInstructions, 1).executeAsync();
+        } catch (RuntimeException e) {
+            call.result.completeExceptionally(e);
+            return;
+        }
+        response.whenComplete((r, ex) -> {
+            if (ex != null) {
+                call.result.completeExceptionally(ex);
+                return;
+            }
+            try {
+                call.result.complete(ReturnTypeMapper.mapResponse(r, itemType));
+            } catch (RuntimeException e) {
+                call.result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private String batchInstructions(int items) {
+        String guidance = "The input contains " + items + " items, each in an <item index=\"n\"> element. "
+                + "Handle each item on its own, exactly as if it were the only input. "
+                + "Respond with a JSON array holding one object per item, {\"index\": n, \"result\": ...}, where result is "
+                + ReturnTypeMapper.getItemFormatGuidance(itemType) + ". "
+                + "Do not include any text outside the JSON array.";
+        return instructions != null ? instructions + "\n\n" + guidance : guidance;
+    }
+
+    private static String batchMessage(List<PendingCall> calls) {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < calls.size(); i++) {
+            message.append(ITEM_OPEN).append(" index=\"").append(i).append("\">\n")
+                    .append(calls.get(i).message)
+                    .append('\n').append(ITEM_CLOSE).append('\n');
+        }
+        return message.toString();
+    }
+
+    private static final class PendingCall {
+        final String message;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        PendingCall(String message) {
+            this.message = message;
+        }
+    }
+}
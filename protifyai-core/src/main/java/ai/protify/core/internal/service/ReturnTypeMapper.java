@@ -16,6 +16,7 @@
 
 package ai.protify.core.internal.service;
 
+import ai.protify.core.internal.util.json.ProtifyJson;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
@@ -130,6 +131,53 @@ public final class ReturnTypeMapper {
         }
     }
 
+    /**
+     * Maps the text of one answer, e.g. an item of a coalesced response, the way
+     * {@link #mapResponse} maps a whole response.
+     */
+    public static Object mapText(String text, ReturnTypeInfo typeInfo) {
+        switch (typeInfo.category) {
+            case STRING:
+                return text;
+            case POJO:
+                return ProtifyJson.fromJson(text, typeInfo.targetClass);
+            case LIST:
+                return ProtifyJson.fromJsonList(text, typeInfo.targetClass);
+            case ENUM:
+                return parseEnum(text, typeInfo.targetClass);
+            case PRIMITIVE:
+                return parsePrimitive(text, typeInfo.targetClass);
+            default:
+                throw new IllegalStateException("Unsupported return category: " + typeInfo.category);
+        }
+    }
+
+    /**
+     * Describes the JSON value expected for one item of a coalesced response, or {@code null}
+     * if the type cannot be answered per item.
+     */
+    public static String getItemFormatGuidance(ReturnTypeInfo typeInfo) {
+        switch (typeInfo.category) {
+            case STRING:
+                return "the complete answer for that item as a JSON string";
+            case POJO:
+                return "a JSON object";
+            case LIST:
+                return "a JSON array";
+            case ENUM:
+                return "a JSON string with exactly one of: " + getEnumValues(typeInfo.targetClass);
+            case PRIMITIVE:
+                Class<?> type = typeInfo.targetClass;
+                if (type == boolean.class || type == Boolean.class) {
+                    return "a JSON boolean";
+                }
+                return (type == double.class || type == Double.class || type == float.class || type == Float.class)
+                        ? "a JSON number" : "a JSON integer";
+            default:
+                return null;
+        }
+    }
+
     public static String getResponseFormatGuidance(ReturnTypeInfo typeInfo) {
         switch (typeInfo.category) {
             case POJO:
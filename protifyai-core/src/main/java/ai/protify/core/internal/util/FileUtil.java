@@ -18,7 +18,14 @@ package ai.protify.core.internal.util;
 
 import ai.protify.core.internal.exception.ProtifyApiException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -49,23 +56,70 @@ public final class FileUtil {
     }
 
     public static String computeSHA256(String text) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+        MessageDigest digest = newSHA256();
+        return toHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
 
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
+    /**
+     * Hashes a file through a read-only mapping, so the content is never copied onto the heap.
+     */
+    public static String computeSHA256(Path file) throws IOException {
+        MessageDigest digest = newSHA256();
+        digest.update(mapReadOnly(file));
+        return toHex(digest.digest());
+    }
+
+    public static String computeSHA256(InputStream in) throws IOException {
+        MessageDigest digest = newSHA256();
+        byte[] buffer = new byte[16 * 1024];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Fails if {@code file} no longer has the size and modification time recorded when it was
+     * attached to a request. A negative {@code modifiedMillis} skips the time check.
+     */
+    public static void checkUnchanged(Path file, long size, long modifiedMillis) throws IOException {
+        if (Files.size(file) != size
+                || (modifiedMillis >= 0 && Files.getLastModifiedTime(file).toMillis() != modifiedMillis)) {
+            throw new IOException("File changed after it was attached to the request: " + file);
+        }
+    }
 
-            return hexString.toString();
+    /**
+     * Maps a whole file read-only. The mapping stays valid after the channel is closed.
+     */
+    public static MappedByteBuffer mapReadOnly(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to attach (" + size + " bytes): " + file);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
 
+    private static MessageDigest newSHA256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new ProtifyApiException("SHA-256 algorithm not found", e);
         }
     }
+
+    private static String toHex(byte[] hashBytes) {
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hashBytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hexString.append('0');
+            }
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.concurrent;
+
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.BaseConfiguration;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Executors for the blocking work behind {@code executeAsync}, parallel pipeline steps, service
+ * proxies and conversation streaming. None of it runs on the common {@code ForkJoinPool}, where
+ * blocked callers would starve unrelated tasks.
+ * <p>
+ * The executor set on a client, pipeline or request ({@code AIConfigProperty.EXECUTOR}) wins;
+ * otherwise a shared default is used: a virtual thread per task on JDK 21+ (unless
+ * {@code execution.virtualThreads=false}), or a pool of at most {@code execution.maxThreads}
+ * daemon platform threads.
+ */
+public final class ProtifyExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProtifyExecutors.class);
+
+    @SuppressWarnings({"java:S3077"})
+    private static volatile Executor defaultExecutor;
+
+    private ProtifyExecutors() { }
+
+    public static Executor getDefault() {
+        if (defaultExecutor == null) {
+            synchronized (ProtifyExecutors.class) {
+                if (defaultExecutor == null) {
+                    BaseConfiguration config = BaseConfiguration.getInstance();
+                    Boolean virtual = config.getProperty(AIConfigProperty.EXECUTION_VIRTUAL_THREADS);
+                    Integer maxThreads = config.getProperty(AIConfigProperty.EXECUTION_MAX_THREADS);
+                    defaultExecutor = createDefault(!Boolean.FALSE.equals(virtual), (maxThreads != null) ? maxThreads : 256);
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Returns the first executor set in {@code configurations}, in the order given, or the
+     * shared default. {@code null} configurations are skipped.
+     */
+    public static Executor resolve(Configuration... configurations) {
+        for (Configuration configuration : configurations) {
+            if (configuration != null) {
+                Executor executor = configuration.getProperty(AIConfigProperty.EXECUTOR);
+                if (executor != null) {
+                    return executor;
+                }
+            }
+        }
+        return getDefault();
+    }
+
+    static ExecutorService createDefault(boolean virtualThreads, int maxThreads) {
+        if (virtualThreads) {
+            ExecutorService virtual = VirtualThreads.newThreadPerTaskExecutor("protify-exec-");
+            if (virtual != null) {
+                LOGGER.debug("Using virtual threads for blocking execution");
+                return virtual;
+            }
+        }
+        int threads = Math.max(1, maxThreads);
+        LOGGER.debug("Using up to {} platform threads for blocking execution", threads);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreadFactory("protify-exec-"));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName(namePrefix + counter.incrementAndGet());
+            return t;
+        };
+    }
+
+    /**
+     * Runs {@code tasks} concurrently on {@code executor} and waits for all of them, returning
+     * the results in order. The calling thread runs every task the executor has not started yet
+     * itself, so nested fan-out on a saturated bounded pool still makes progress instead of
+     * deadlocking. Failures surface as from {@link CompletableFuture#join()}.
+     */
+    public static <T> List<T> invokeAll(List<? extends Supplier<T>> tasks, Executor executor) {
+        List<ClaimableTask<T>> claimable = tasks.stream()
+                .map(ClaimableTask::new)
+                .collect(Collectors.toList());
+
+        for (int i = 1; i < claimable.size(); i++) {
+            try {
+                executor.execute(claimable.get(i));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Executor rejected a parallel task; running it on the calling thread");
+            }
+        }
+        for (ClaimableTask<T> task : claimable) {
+            task.run();
+        }
+
+        CompletableFuture.allOf(claimable.stream()
+                .map(task -> task.result)
+                .toArray(CompletableFuture[]::new)).join();
+
+        List<T> results = new ArrayList<>(claimable.size());
+        for (ClaimableTask<T> task : claimable) {
+            results.add(task.result.join());
+        }
+        return results;
+    }
+
+    private static final class ClaimableTask<T> implements Runnable {
+
+        private final Supplier<T> supplier;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        ClaimableTask(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(supplier.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread support for the Java 11 baseline. On JDK 21+ the executor is created through
+ * reflection, so the library compiles and runs unchanged on older JVMs, which have no virtual
+ * threads.
+ */
+public final class VirtualThreads {
+
+    // Executors.newThreadPerTaskExecutor(ThreadFactory), or null before JDK 21
+    private static final Method NEW_EXECUTOR = lookup(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+    private static final Method NAME = lookup(type("java.lang.Thread$Builder"), "name", String.class, long.class);
+    private static final Method FACTORY = lookup(type("java.lang.Thread$Builder"), "factory");
+
+    private VirtualThreads() { }
+
+    public static boolean isSupported() {
+        return NEW_EXECUTOR != null && OF_VIRTUAL != null && NAME != null && FACTORY != null;
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread per task, named {@code namePrefix}
+     * followed by a counter, or {@code null} if this JVM has no virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+            return (ExecutorService) NEW_EXECUTOR.invoke(null, FACTORY.invoke(builder));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method lookup(Class<?> type, String name, Class<?>... parameterTypes) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
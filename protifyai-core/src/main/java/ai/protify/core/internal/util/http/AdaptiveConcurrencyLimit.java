@@ -0,0 +1,75 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+/**
+ * An additive-increase, multiplicative-decrease concurrency limit. The limit grows by one for
+ * each successful call made while at least half the limit was in use, halves on a rate-limit
+ * response, and shrinks by 10% when latency rises past twice the observed baseline.
+ * <p>
+ * Model latency depends heavily on output length, so the latency signal is deliberately gentle;
+ * 429 responses are the primary signal. Not thread-safe; callers synchronize.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double RATE_LIMITED_FACTOR = 0.5;
+    private static final double SLOW_FACTOR = 0.9;
+    private static final double SLOW_TOLERANCE = 2.0;
+    // Lets the baseline drift up slowly so a change in typical workload is eventually accepted
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double baselineNanos = -1;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @param inFlight calls in flight when this one started, including itself
+     */
+    void onSuccess(long latencyNanos, int inFlight) {
+        if (baselineNanos < 0 || latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_DRIFT;
+        }
+
+        if (latencyNanos > baselineNanos * SLOW_TOLERANCE) {
+            decrease(SLOW_FACTOR);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    void onRateLimited() {
+        decrease(RATE_LIMITED_FACTOR);
+    }
+
+    private void decrease(double factor) {
+        limit = Math.max(minLimit, limit * factor);
+    }
+}
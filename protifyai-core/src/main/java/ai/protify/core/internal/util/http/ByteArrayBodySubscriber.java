@@ -0,0 +1,81 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Collects a response body into one byte array. With a known Content-Length the array is
+ * allocated once at full size and each buffer is copied into it as it arrives, so the body is
+ * neither held as a list of buffers nor joined at the end.
+ */
+final class ByteArrayBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+    // A larger declared length is not trusted for the first allocation; the array grows instead
+    private static final int MAX_PRESIZE = 64 * 1024 * 1024;
+    private static final int DEFAULT_SIZE = 8 * 1024;
+
+    private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+    private byte[] body;
+    private int length;
+
+    ByteArrayBodySubscriber(long contentLength) {
+        this.body = new byte[(contentLength >= 0 && contentLength <= MAX_PRESIZE) ? (int) contentLength : DEFAULT_SIZE];
+    }
+
+    @Override
+    public CompletionStage<byte[]> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        for (ByteBuffer item : items) {
+            int count = item.remaining();
+            if (length + count > body.length) {
+                body = Arrays.copyOf(body, Math.max(length + count, body.length * 2));
+            }
+            item.get(body, length, count);
+            length += count;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body = null;
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        byte[] complete = (length == body.length) ? body : Arrays.copyOf(body, length);
+        body = null;
+        result.complete(complete);
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * A persistent {@link ResponseCacheStore} backed by an append-only log file.
+ * <p>
+ * Each response is appended as a self-describing record; the in-memory index (key to record
+ * offset) is rebuilt on startup by scanning record headers only, so it loads without reading
+ * response bodies. Bodies are read through a read-only memory mapping of the log.
+ * <p>
+ * Several processes on one host may share a directory: appends and compaction are serialized
+ * with an OS file lock, and each process picks up records appended by others (or a compacted
+ * replacement file) the next time it misses its own index. When the log grows past
+ * {@code maxBytes}, expired and superseded records are dropped and, if still too large, the
+ * oldest live records are discarded until the log fits in three quarters of the cap.
+ */
+public final class DiskResponseCacheStore implements ResponseCacheStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskResponseCacheStore.class);
+
+    static final String DATA_FILE_NAME = "protifyai-responses.log";
+    private static final String LOCK_FILE_NAME = "protifyai-responses.lock";
+
+    // magic, keyLength, createdAt, statusCode, bodyLength
+    private static final int MAGIC = 0x50524331;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4;
+    private static final int MAX_KEY_BYTES = 1024;
+
+    private final Path dataFile;
+    private final Path directory;
+    private final long ttlMillis;
+    private final long maxBytes;
+    private final LongSupplier clock;
+    private final FileChannel lockChannel;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    @SuppressWarnings({"java:S3077"})
+    private volatile LogFile current;
+
+    public DiskResponseCacheStore(Path directory, long ttlMillis, long maxBytes) throws IOException {
+        this(directory, ttlMillis, maxBytes, System::currentTimeMillis);
+    }
+
+    DiskResponseCacheStore(Path directory, long ttlMillis, long maxBytes, LongSupplier clock) throws IOException {
+        // The log may briefly hold one record past the cap, and must stay mappable as one buffer
+        if (maxBytes <= HEADER_BYTES || maxBytes > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("maxBytes must be between " + (HEADER_BYTES + 1)
+                    + " and " + (Integer.MAX_VALUE / 2));
+        }
+        this.directory = directory;
+        this.dataFile = directory.resolve(DATA_FILE_NAME);
+        this.ttlMillis = ttlMillis;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        synchronized (this) {
+            reopen();
+        }
+        LOGGER.info("Disk response cache opened at {} with {} entries, max size {} bytes",
+                dataFile, index.size(), maxBytes);
+    }
+
+    @Override
+    public ProtifyHttpResponse get(RequestKey requestKey) {
+        String key = requestKey.toHexString();
+        IndexEntry entry = index.get(key);
+        if (entry == null) {
+            entry = refreshAndGet(key);
+            if (entry == null) {
+                return null;
+            }
+        }
+        if (entry.isExpired(clock.getAsLong(), ttlMillis)) {
+            index.remove(key, entry);
+            return null;
+        }
+        try {
+            ByteBuffer view = entry.file.mapped(entry.bodyOffset + entry.bodyLength).duplicate();
+            view.position((int) entry.bodyOffset);
+            byte[] body = new byte[entry.bodyLength];
+            view.get(body);
+            return new ProtifyHttpResponse(false, body, entry.statusCode, 0);
+        } catch (IOException | RuntimeException e) {
+            // The log may have been compacted away underneath a stale entry
+            LOGGER.debug("Disk cache read failed for {}: {}", key, e.getMessage());
+            index.remove(key, entry);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(RequestKey requestKey, ProtifyHttpResponse response) {
+        String key = requestKey.toHexString();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] body = response.getResponseBytes() != null ? response.getResponseBytes() : new byte[0];
+        long recordLength = (long) HEADER_BYTES + keyBytes.length + body.length;
+        if (keyBytes.length > MAX_KEY_BYTES || recordLength > maxBytes) {
+            return;
+        }
+
+        long createdAt = clock.getAsLong();
+        ByteBuffer record = ByteBuffer.allocate((int) recordLength);
+        record.putInt(MAGIC).putInt(keyBytes.length).putLong(createdAt)
+                .putInt(response.getStatusCode()).putInt(body.length)
+                .put(keyBytes).put(body).flip();
+
+        synchronized (this) {
+            try {
+                FileLock lock = lockChannel.lock();
+                try {
+                    LogFile file = syncWithDisk();
+                    if (file.channel.size() > file.scannedTo) {
+                        // Torn tail from a crashed writer; safe to drop while we hold the lock
+                        file.channel.truncate(file.scannedTo);
+                    }
+                    long position = file.scannedTo;
+                    while (record.hasRemaining()) {
+                        file.channel.write(record, position + record.position());
+                    }
+                    file.scannedTo = position + recordLength;
+                    index.put(key, new IndexEntry(file, position + HEADER_BYTES + keyBytes.length,
+                            body.length, (int) recordLength, response.getStatusCode(), createdAt));
+
+                    if (file.scannedTo > maxBytes) {
+                        compactLocked();
+                    }
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write response to disk cache: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        index.values().removeIf(entry -> entry.isExpired(now, ttlMillis));
+
+        LogFile file = current;
+        long liveBytes = liveBytes();
+        if (file.scannedTo > 0 && liveBytes < file.scannedTo / 2) {
+            synchronized (this) {
+                try {
+                    FileLock lock = lockChannel.lock();
+                    try {
+                        syncWithDisk();
+                        compactLocked();
+                    } finally {
+                        lock.release();
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to compact disk cache: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long getFileSizeBytes() {
+        return current.scannedTo;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            current.channel.close();
+            lockChannel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close disk cache: {}", e.getMessage());
+        }
+    }
+
+    private IndexEntry refreshAndGet(String key) {
+        synchronized (this) {
+            try {
+                syncWithDisk();
+            } catch (IOException e) {
+                LOGGER.debug("Disk cache refresh failed: {}", e.getMessage());
+            }
+        }
+        return index.get(key);
+    }
+
+    /**
+     * Brings the index up to date with the file on disk: reopens it if another process
+     * compacted it, otherwise indexes any records appended since the last scan.
+     */
+    private LogFile syncWithDisk() throws IOException {
+        LogFile file = current;
+        Object diskKey = Files.exists(dataFile)
+                ? Files.readAttributes(dataFile, BasicFileAttributes.class).fileKey() : null;
+        if (!Objects.equals(diskKey, file.fileKey) || file.channel.size() < file.scannedTo) {
+            return reopen();
+        }
+        if (file.channel.size() > file.scannedTo) {
+            scan(file);
+        }
+        return file;
+    }
+
+    private LogFile reopen() throws IOException {
+        LogFile previous = current;
+        FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Object fileKey = Files.readAttributes(dataFile, BasicFileAttributes.class).fileKey();
+        LogFile file = new LogFile(channel, fileKey);
+        index.clear();
+        scan(file);
+        current = file;
+        if (previous != null) {
+            previous.channel.close();
+        }
+        return file;
+    }
+
+    private void scan(LogFile file) throws IOException {
+        long size = file.channel.size();
+        long position = file.scannedTo;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(file.channel, header, position);
+            header.flip();
+
+            int magic = header.getInt();
+            int keyLength = header.getInt();
+            long createdAt = header.getLong();
+            int statusCode = header.getInt();
+            int bodyLength = header.getInt();
+            long recordLength = (long) HEADER_BYTES + keyLength + bodyLength;
+            if (magic != MAGIC || keyLength < 0 || keyLength > MAX_KEY_BYTES
+                    || bodyLength < 0 || position + recordLength > size) {
+                break;
+            }
+
+            ByteBuffer keyBuffer = ByteBuffer.allocate(keyLength);
+            readFully(file.channel, keyBuffer, position + HEADER_BYTES);
+            String key = new String(keyBuffer.array(), StandardCharsets.UTF_8);
+
+            index.put(key, new IndexEntry(file, position + HEADER_BYTES + keyLength,
+                    bodyLength, (int) recordLength, statusCode, createdAt));
+            position += recordLength;
+        }
+        file.scannedTo = position;
+    }
+
+    private void compactLocked() throws IOException {
+        LogFile file = current;
+        long now = clock.getAsLong();
+
+        List<Map.Entry<String, IndexEntry>> live = new ArrayList<>();
+        for (Map.Entry<String, IndexEntry> e : index.entrySet()) {
+            if (e.getValue().file == file && !e.getValue().isExpired(now, ttlMillis)) {
+                live.add(e);
+            }
+        }
+        live.sort(Comparator.comparingLong((Map.Entry<String, IndexEntry> e) -> e.getValue().createdAt).reversed());
+
+        long budget = maxBytes - maxBytes / 4;
+        Path temp = Files.createTempFile(directory, "protifyai-responses", ".compact");
+        int kept = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long written = 0;
+            for (Map.Entry<String, IndexEntry> e : live) {
+                IndexEntry entry = e.getValue();
+                if (written + entry.recordLength > budget) {
+                    continue;
+                }
+                long recordStart = entry.bodyOffset - (entry.recordLength - entry.bodyLength);
+                long copied = 0;
+                while (copied < entry.recordLength) {
+                    copied += file.channel.transferTo(recordStart + copied, entry.recordLength - copied, out);
+                }
+                written += entry.recordLength;
+                kept++;
+            }
+            out.force(true);
+        }
+        Files.move(temp, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.debug("Disk response cache compacted: kept {} of {} indexed entries", kept, index.size());
+        reopen();
+    }
+
+    private long liveBytes() {
+        long total = 0;
+        for (IndexEntry entry : index.values()) {
+            total += entry.recordLength;
+        }
+        return total;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of disk cache file");
+            }
+        }
+    }
+
+    private static final class LogFile {
+        final FileChannel channel;
+        final Object fileKey;
+        // Offset up to which the file has been indexed; always a record boundary
+        volatile long scannedTo;
+        @SuppressWarnings({"java:S3077"})
+        private volatile MappedByteBuffer mapped;
+
+        LogFile(FileChannel channel, Object fileKey) {
+            this.channel = channel;
+            this.fileKey = fileKey;
+        }
+
+        MappedByteBuffer mapped(long requiredEnd) throws IOException {
+            MappedByteBuffer buffer = mapped;
+            if (buffer == null || buffer.capacity() < requiredEnd) {
+                synchronized (this) {
+                    buffer = mapped;
+                    if (buffer == null || buffer.capacity() < requiredEnd) {
+                        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                        mapped = buffer;
+                    }
+                }
+            }
+            return buffer;
+        }
+    }
+
+    private static final class IndexEntry {
+        final LogFile file;
+        final long bodyOffset;
+        final int bodyLength;
+        final int recordLength;
+        final int statusCode;
+        final long createdAt;
+
+        IndexEntry(LogFile file, long bodyOffset, int bodyLength, int recordLength, int statusCode, long createdAt) {
+            this.file = file;
+            this.bodyOffset = bodyOffset;
+            this.bodyLength = bodyLength;
+            this.recordLength = recordLength;
+            this.statusCode = statusCode;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return (now - createdAt) > ttlMillis;
+        }
+    }
+}
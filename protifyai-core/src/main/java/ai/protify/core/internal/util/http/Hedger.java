@@ -0,0 +1,226 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.resiliency.HedgingPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs calls under a {@link HedgingPolicy} for one provider and model. Tracks the latency of
+ * recent calls in a sliding window, and after the policy's percentile of that latency sends one
+ * duplicate of a call that has not yet been claimed, if the budget allows.
+ * <p>
+ * An attempt claims the call when it has something to deliver: a successful response, or the
+ * first event of a stream. The first claim wins, the other attempt is cancelled, and the claim
+ * latency is what the window records.
+ */
+final class Hedger {
+
+    private static final int WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 16;
+    // Most hedges that may be saved up during a quiet spell and spent in a burst
+    private static final double MAX_SAVED_HEDGES = 10;
+
+    private final HedgingPolicy policy;
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int sinceRecompute;
+    private long delayMillis = -1;
+    private double budget;
+    private long hedges;
+    private long hedgeWins;
+
+    Hedger(HedgingPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @param attempt   starts one attempt; it calls the supplied claim when it has something to
+     *                  deliver and must drop its output if the claim returns false
+     * @param succeeded whether a completed attempt may win; an attempt that does not is only
+     *                  returned if no other attempt can still win
+     */
+    <T> CompletableFuture<T> execute(Function<BooleanSupplier, CompletableFuture<T>> attempt,
+                                     Predicate<T> succeeded, ScheduledExecutorService scheduler) {
+        long delay;
+        synchronized (this) {
+            budget = Math.min(MAX_SAVED_HEDGES, budget + policy.getBudgetPercent() / 100);
+            delay = delayMillis;
+        }
+        HedgedCall<T> call = new HedgedCall<>(attempt, succeeded);
+        call.launch(false);
+        if (delay >= 0 && !call.result.isDone()) {
+            ScheduledFuture<?> timer = scheduler.schedule(call::hedge, delay, TimeUnit.MILLISECONDS);
+            call.result.whenComplete((value, ex) -> timer.cancel(false));
+        }
+        return call.result;
+    }
+
+    /**
+     * @return the current hedge delay, or -1 until enough calls have been observed
+     */
+    synchronized long getDelayMillis() {
+        return delayMillis;
+    }
+
+    synchronized long getHedges() {
+        return hedges;
+    }
+
+    /** Hedges whose duplicate answered before the original. */
+    synchronized long getHedgeWins() {
+        return hedgeWins;
+    }
+
+    private synchronized boolean trySpend() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        hedges++;
+        return true;
+    }
+
+    private synchronized void record(long latencyMillis, boolean hedge) {
+        if (hedge) {
+            hedgeWins++;
+        }
+        samples[nextSample] = latencyMillis;
+        nextSample = (nextSample + 1) % WINDOW;
+        sampleCount = Math.min(sampleCount + 1, WINDOW);
+        if (sampleCount >= policy.getMinSamples() && (delayMillis < 0 || ++sinceRecompute >= RECOMPUTE_EVERY)) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(policy.getPercentile() / 100 * sampleCount) - 1;
+            long value = sorted[Math.max(0, Math.min(sampleCount - 1, index))];
+            delayMillis = Math.max(policy.getMinDelayMillis(), Math.min(policy.getMaxDelayMillis(), value));
+        }
+    }
+
+    private final class HedgedCall<T> {
+
+        private final Function<BooleanSupplier, CompletableFuture<T>> attempt;
+        private final Predicate<T> succeeded;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Attempt<T>> attempts = new ArrayList<>(2);
+        private int outstanding;
+        private Attempt<T> winner;
+
+        HedgedCall(Function<BooleanSupplier, CompletableFuture<T>> attempt, Predicate<T> succeeded) {
+            this.attempt = attempt;
+            this.succeeded = succeeded;
+        }
+
+        void hedge() {
+            synchronized (this) {
+                if (result.isDone() || winner != null || outstanding == 0) {
+                    return;
+                }
+            }
+            if (trySpend()) {
+                launch(true);
+            }
+        }
+
+        void launch(boolean hedge) {
+            Attempt<T> self = new Attempt<>(hedge);
+            synchronized (this) {
+                outstanding++;
+                attempts.add(self);
+            }
+            CompletableFuture<T> future;
+            try {
+                future = attempt.apply(() -> claim(self));
+            } catch (RuntimeException e) {
+                settle(self, null, e);
+                return;
+            }
+            boolean lost;
+            synchronized (this) {
+                self.future = future;
+                lost = winner != null && winner != self;
+            }
+            if (lost) {
+                future.cancel(true);
+            }
+            future.whenComplete((value, ex) -> settle(self, value, ex));
+        }
+
+        private boolean claim(Attempt<T> self) {
+            List<CompletableFuture<T>> losers = new ArrayList<>(1);
+            synchronized (this) {
+                if (winner != null) {
+                    return winner == self;
+                }
+                winner = self;
+                for (Attempt<T> other : attempts) {
+                    if (other != self && other.future != null) {
+                        losers.add(other.future);
+                    }
+                }
+            }
+            record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - self.startNanos), self.hedge);
+            for (CompletableFuture<T> loser : losers) {
+                loser.cancel(true);
+            }
+            return true;
+        }
+
+        private void settle(Attempt<T> self, T value, Throwable ex) {
+            boolean failed = ex != null || !succeeded.test(value);
+            if (!failed) {
+                claim(self);
+            }
+            synchronized (this) {
+                outstanding--;
+                boolean last = winner == null && outstanding == 0;
+                if (winner != self && !last) {
+                    return;
+                }
+            }
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+
+    private static final class Attempt<T> {
+
+        private final long startNanos = System.nanoTime();
+        private final boolean hedge;
+        private CompletableFuture<T> future;
+
+        Attempt(boolean hedge) {
+            this.hedge = hedge;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.BaseConfiguration;
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
+import ai.protify.core.internal.util.concurrent.VirtualThreads;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The single {@link HttpClient} behind all outbound traffic: provider calls, file uploads,
+ * Bedrock and MCP over HTTP. Sharing one client shares its connection pool, so each host costs
+ * one TLS handshake and, over HTTP/2, one multiplexed connection.
+ * <p>
+ * Configured from the {@code http.*} properties when first used:
+ * <ul>
+ *     <li>{@code http.version}: {@code HTTP_2} (default) or {@code HTTP_1_1}</li>
+ *     <li>{@code http.connectTimeoutMillis}: TCP/TLS connect timeout</li>
+ *     <li>{@code http.idleTimeoutSecs}: how long idle pooled connections are kept; this is a
+ *     JVM-wide JDK setting and only applies if no {@code HttpClient} was created before</li>
+ *     <li>{@code http.maxRequestsPerHost}: requests in flight per host; further requests wait
+ *     in order without blocking a thread. {@code 0} means unlimited</li>
+ *     <li>{@code http.executor.threads} and {@code http.executor.virtualThreads}: the executor
+ *     that runs response handling and completion stages</li>
+ * </ul>
+ */
+public final class HttpTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpTransport.class);
+
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    @SuppressWarnings({"java:S3077"})
+    private static volatile HttpTransport instance;
+
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final int maxRequestsPerHost;
+    private final Map<String, HostPermits> hosts = new ConcurrentHashMap<>();
+
+    HttpTransport(HttpClient.Version version, Duration connectTimeout, int maxRequestsPerHost, Executor executor) {
+        this.executor = executor;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    public static HttpTransport getInstance() {
+        if (instance == null) {
+            synchronized (HttpTransport.class) {
+                if (instance == null) {
+                    instance = fromConfiguration(BaseConfiguration.getInstance(), null);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the shared transport with one that runs on {@code executor}, e.g. a container
+     * managed executor. Other settings still come from the {@code http.*} properties. Call
+     * during startup, before the first request.
+     */
+    public static void initialize(Executor executor) {
+        synchronized (HttpTransport.class) {
+            instance = fromConfiguration(BaseConfiguration.getInstance(), executor);
+        }
+    }
+
+    private static HttpTransport fromConfiguration(BaseConfiguration config, Executor executor) {
+        String versionProp = config.getProperty(AIConfigProperty.HTTP_VERSION);
+        HttpClient.Version version = parseVersion(versionProp);
+
+        Integer connectTimeoutProp = config.getProperty(AIConfigProperty.HTTP_CONNECT_TIMEOUT_MS);
+        Duration connectTimeout = Duration.ofMillis((connectTimeoutProp != null) ? connectTimeoutProp : 10000);
+
+        Integer idleTimeoutProp = config.getProperty(AIConfigProperty.HTTP_IDLE_TIMEOUT_SECS);
+        if (idleTimeoutProp != null && System.getProperty(KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(KEEP_ALIVE_PROPERTY, String.valueOf(idleTimeoutProp));
+        }
+
+        Integer maxPerHostProp = config.getProperty(AIConfigProperty.HTTP_MAX_REQUESTS_PER_HOST);
+        int maxPerHost = (maxPerHostProp != null) ? maxPerHostProp : 0;
+
+        if (executor == null) {
+            Integer threads = config.getProperty(AIConfigProperty.HTTP_EXECUTOR_THREADS);
+            Boolean virtual = config.getProperty(AIConfigProperty.HTTP_EXECUTOR_VIRTUAL_THREADS);
+            executor = createExecutor((threads != null) ? threads : 0, Boolean.TRUE.equals(virtual));
+        }
+
+        LOGGER.info("HttpTransport initialized with version: {}, connect timeout: {} ms, max requests per host: {}",
+                version, connectTimeout.toMillis(), (maxPerHost > 0) ? maxPerHost : "unlimited");
+        return new HttpTransport(version, connectTimeout, maxPerHost, executor);
+    }
+
+    static HttpClient.Version parseVersion(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return HttpClient.Version.HTTP_2;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT).replace('.', '_').replace('/', '_');
+        if ("HTTP_1_1".equals(normalized) || "HTTP1".equals(normalized) || "HTTP_1".equals(normalized)) {
+            return HttpClient.Version.HTTP_1_1;
+        }
+        if (!"HTTP_2".equals(normalized) && !"HTTP2".equals(normalized)) {
+            LOGGER.warn("Unknown http.version '{}', using HTTP_2", value);
+        }
+        return HttpClient.Version.HTTP_2;
+    }
+
+    static ExecutorService createExecutor(int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            ExecutorService virtual = VirtualThreads.newThreadPerTaskExecutor("protify-http-");
+            if (virtual != null) {
+                return virtual;
+            }
+            LOGGER.warn("Virtual threads requested but not supported by this JVM; using platform threads");
+        }
+        ThreadFactory factory = ProtifyExecutors.daemonThreadFactory("protify-http-");
+        return (threads > 0) ? Executors.newFixedThreadPool(threads, factory) : Executors.newCachedThreadPool(factory);
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sends through the shared client, waiting for a per-host permit first when
+     * {@code http.maxRequestsPerHost} is set. The permit is held until the response headers
+     * arrive; streamed bodies are read after it is released.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        if (maxRequestsPerHost <= 0) {
+            return httpClient.sendAsync(request, handler);
+        }
+        HostPermits permits = hosts.computeIfAbsent(hostKey(request.uri()), k -> new HostPermits(maxRequestsPerHost, executor));
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        permits.acquire(() -> {
+            CompletableFuture<HttpResponse<T>> sent;
+            try {
+                sent = httpClient.sendAsync(request, handler);
+            } catch (RuntimeException e) {
+                permits.release();
+                result.completeExceptionally(e);
+                return;
+            }
+            sent.whenComplete((response, ex) -> {
+                permits.release();
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(response);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Blocking form of {@link #sendAsync}, with the same exceptions as {@link HttpClient#send}.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        try {
+            return sendAsync(request, handler).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    int waitingFor(URI uri) {
+        HostPermits permits = hosts.get(hostKey(uri));
+        return (permits != null) ? permits.waitingCount() : 0;
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    // FIFO permits that hand a freed slot straight to the next waiter instead of blocking threads
+    private static final class HostPermits {
+
+        private final int max;
+        private final Executor handoff;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        HostPermits(int max, Executor handoff) {
+            this.max = max;
+            this.handoff = handoff;
+        }
+
+        void acquire(Runnable onGranted) {
+            synchronized (this) {
+                if (active >= max) {
+                    waiting.addLast(onGranted);
+                    return;
+                }
+                active++;
+            }
+            onGranted.run();
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.pollFirst();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            // Hand off rather than run inline, so a run of fast failures cannot recurse deeply
+            handoff.execute(next);
+        }
+
+        synchronized int waitingCount() {
+            return waiting.size();
+        }
+    }
+}
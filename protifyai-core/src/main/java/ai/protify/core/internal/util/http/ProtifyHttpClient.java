@@ -22,27 +22,38 @@ import ai.protify.core.internal.config.Configuration;
 import ai.protify.core.internal.config.CredentialHelperFactory;
 import ai.protify.core.internal.exception.*;
 import ai.protify.core.internal.exception.TimeoutException;
-import ai.protify.core.internal.util.FileUtil;
 import ai.protify.core.internal.util.Logger;
 import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.provider.AIProvider;
 import ai.protify.core.provider.AIProviderRequest;
+import ai.protify.core.resiliency.CircuitBreaker;
+import ai.protify.core.resiliency.CircuitBreakerPolicy;
+import ai.protify.core.resiliency.HedgingPolicy;
+import ai.protify.core.resiliency.RetryAttempt;
+import ai.protify.core.resiliency.RetryListener;
 import ai.protify.core.resiliency.RetryPolicy;
 
+import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.Duration;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
- * A thread-safe, singleton HTTP client for Protify AI, featuring built-in
- * LRU caching and thundering-herd protection without external dependencies.
+ * A thread-safe, singleton HTTP client for Protify AI, featuring a built-in
+ * segmented response cache and thundering-herd protection without external dependencies.
  */
 public class ProtifyHttpClient {
 
@@ -51,34 +62,31 @@ public class ProtifyHttpClient {
     @SuppressWarnings({"java:S3077"})
     private static volatile ProtifyHttpClient instance;
 
-    // Cache with true LRU (access-order) and fixed size limit
-    private final Map<String, CacheEntry> cache;
+    // Segmented cache with approximate LRU eviction; reads never take a global lock
+    private final ResponseCache<RequestKey> cache;
+    // Optional persistent tier consulted on in-memory misses; null when not configured
+    private final ResponseCacheStore secondTier;
     // Tracks requests currently over the wire to prevent duplicate calls for the same payload
-    private final Map<String, CompletableFuture<ProtifyHttpResponse>> inFlight = new ConcurrentHashMap<>();
-
-    private final HttpClient httpClient;
+    private final Map<RequestKey, CompletableFuture<ProtifyHttpResponse>> inFlight = new ConcurrentHashMap<>();
+    // Admission control per provider and model; only present when limits are configured
+    private final Map<String, RateGovernor> governors = new ConcurrentHashMap<>();
+    // Latency windows and budgets for hedged calls; only present when a hedging policy is set
+    private final Map<String, Hedger> hedgers = new ConcurrentHashMap<>();
+    // Circuit state per endpoint; only present when a circuit breaker policy is set
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private final HttpTransport transport;
     private final ScheduledExecutorService scheduler;
-    private final long ttlMillis;
 
     public static void initialize() {
         getInstance();
     }
 
-    private ProtifyHttpClient(long ttlMillis, int maxCacheSize) {
-        this.ttlMillis = ttlMillis;
+    private ProtifyHttpClient(long ttlMillis, int maxCacheSize, ResponseCacheStore secondTier) {
+        this.cache = new ResponseCache<>(ttlMillis, maxCacheSize);
+        this.secondTier = secondTier;
 
-        // true = access-order (LRU). removeEldestEntry ensures we never exceed maxCacheSize.
-        Map<String, CacheEntry> internalMap = new LinkedHashMap<>(maxCacheSize, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
-                return size() > maxCacheSize;
-            }
-        };
-        this.cache = Collections.synchronizedMap(internalMap);
-
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
+        this.transport = HttpTransport.getInstance();
 
         int threadPoolSize = Math.min(4, Math.max(2, Runtime.getRuntime().availableProcessors() - 2));
         this.scheduler = Executors.newScheduledThreadPool(threadPoolSize, r -> {
@@ -89,7 +97,10 @@ public class ProtifyHttpClient {
         });
 
         // Background maintenance task for TTL expiration
-        this.scheduler.scheduleAtFixedRate(this::evictExpired, 1, 1, TimeUnit.MINUTES);
+        this.scheduler.scheduleAtFixedRate(cache::evictExpired, 1, 1, TimeUnit.MINUTES);
+        if (secondTier != null) {
+            this.scheduler.scheduleAtFixedRate(secondTier::evictExpired, 1, 1, TimeUnit.MINUTES);
+        }
         LOGGER.info("ProtifyHttpClient initialized with cache TTL: " +
                 "{} seconds, max cache size: {}", TimeUnit.MILLISECONDS.toSeconds(ttlMillis), maxCacheSize);
     }
@@ -105,7 +116,8 @@ public class ProtifyHttpClient {
                     Integer maxCacheSizeProp= config.getProperty(AIConfigProperty.RESPONSE_CACHE_MAX_ENTRIES);
                     int maxCacheSize = (maxCacheSizeProp != null) ? maxCacheSizeProp : 1000;
 
-                    instance = new ProtifyHttpClient(TimeUnit.SECONDS.toMillis(cacheTTL), maxCacheSize);
+                    long ttlMillis = TimeUnit.SECONDS.toMillis(cacheTTL);
+                    instance = new ProtifyHttpClient(ttlMillis, maxCacheSize, createDiskTier(config, ttlMillis));
                 }
             }
         }
@@ -117,8 +129,31 @@ public class ProtifyHttpClient {
      * Call this during application startup before the first getInstance().
      */
     public static void initialize(long ttlMillis, int maxCacheSize) {
+        initialize(ttlMillis, maxCacheSize, null);
+    }
+
+    /**
+     * Initializes the singleton with a second-tier cache store behind the in-memory cache,
+     * e.g. a {@link DiskResponseCacheStore} so warm responses survive restarts.
+     */
+    public static void initialize(long ttlMillis, int maxCacheSize, ResponseCacheStore secondTier) {
         synchronized (ProtifyHttpClient.class) {
-            instance = new ProtifyHttpClient(ttlMillis, maxCacheSize);
+            instance = new ProtifyHttpClient(ttlMillis, maxCacheSize, secondTier);
+        }
+    }
+
+    private static ResponseCacheStore createDiskTier(BaseConfiguration config, long ttlMillis) {
+        String path = config.getProperty(AIConfigProperty.RESPONSE_CACHE_DISK_PATH);
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        Long maxBytesProp = config.getProperty(AIConfigProperty.RESPONSE_CACHE_DISK_MAX_BYTES);
+        long maxBytes = (maxBytesProp != null) ? maxBytesProp : 256L * 1024 * 1024;
+        try {
+            return new DiskResponseCacheStore(Paths.get(path.trim()), ttlMillis, maxBytes);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Disk response cache disabled; could not open {}: {}", path, e.getMessage());
+            return null;
         }
     }
 
@@ -131,84 +166,336 @@ public class ProtifyHttpClient {
         }
     }
 
+    /**
+     * Sends the request once {@link AIProviderRequest#prepareAsync()} has resolved what its body
+     * refers to, so building the body does not wait on uploads.
+     */
     public CompletableFuture<ProtifyHttpResponse> postAsync(AIProviderRequest request, String uri) {
+        return request.prepareAsync().thenCompose(prepared -> postPrepared(request, uri));
+    }
+
+    private CompletableFuture<ProtifyHttpResponse> postPrepared(AIProviderRequest request, String uri) {
 
         Configuration configuration = request.getConfiguration();
         AIProvider provider = request.getProvider();
         String credential = CredentialHelperFactory.getInstance().getCredential(provider, configuration);
-        String jsonBody = request.toJson();
+        JsonBody jsonBody = request.toJsonBody();
+        Map<String, String> headers = headers(request, credential);
 
-        String hash = FileUtil.computeSHA256(jsonBody);
+        RequestKey hash = RequestKey.of(jsonBody, keyAlgorithm(configuration));
 
-        // 1. Check local cache (get() updates access order for LRU)
-        CacheEntry entry = cache.get(hash);
-        if (entry != null) {
-            if (!entry.isExpired(ttlMillis)) {
+        // 1. Check local cache (get() marks the entry as recently used and drops it if expired)
+        ProtifyHttpResponse cached = cache.get(hash);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(new ProtifyHttpResponse(true,
+                    cached.getResponseBody(), cached.getStatusCode(), 0));
+        }
+        if (secondTier != null) {
+            ProtifyHttpResponse stored = secondTier.get(hash);
+            if (stored != null) {
+                cache.put(hash, stored);
                 return CompletableFuture.completedFuture(new ProtifyHttpResponse(true,
-                        entry.response.getResponseBody(), entry.response.getStatusCode(), 0));
-            } else {
-                cache.remove(hash); // Proactive removal
+                        stored.getResponseBody(), stored.getStatusCode(), 0));
             }
         }
 
-        // 2. Handle in-flight requests to prevent "Thundering Herd"
-        return inFlight.computeIfAbsent(hash, h -> {
-            long startTime = System.currentTimeMillis();
-            LOGGER.debug("No cached response, sending async request to {}", uri);
+        // 2. Handle in-flight requests to prevent "Thundering Herd". The entry is published before
+        // any work starts, so even a call that fails synchronously is removed after it was inserted
+        CompletableFuture<ProtifyHttpResponse> entry = new CompletableFuture<>();
+        CompletableFuture<ProtifyHttpResponse> existing = inFlight.putIfAbsent(hash, entry);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<ProtifyHttpResponse> call;
+        try {
+            call = sendUncached(request, uri, configuration, jsonBody, headers, hash);
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((res, ex) -> {
+            // Leave the map first, so a caller reacting to the outcome starts a fresh call
+            inFlight.remove(hash, entry);
+            if (ex != null) {
+                entry.completeExceptionally(ex);
+            } else {
+                entry.complete(res);
+            }
+        });
+        return entry;
+    }
 
-            int timeoutMillis = configuration.getProperty(AIConfigProperty.REQUEST_TIMEOUT_MS);
-            RetryPolicy retryPolicy = configuration.getProperty(AIConfigProperty.RETRY_POLICY);
-            return internalPostWithRetryAsync(provider, credential, uri, jsonBody, timeoutMillis, retryPolicy, 0)
-                    .thenApply(response -> {
-                        long elapsedTime = System.currentTimeMillis() - startTime;
-                        ProtifyHttpResponse res = new ProtifyHttpResponse(false, response.body(), response.statusCode(), elapsedTime);
+    private CompletableFuture<ProtifyHttpResponse> sendUncached(AIProviderRequest request, String uri,
+                                                               Configuration configuration, JsonBody jsonBody,
+                                                               Map<String, String> headers, RequestKey hash) {
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("No cached response, sending async request to {}", uri);
 
-                        if (response.statusCode() == 200) {
-                            cache.put(hash, new CacheEntry(res));
+        int timeoutMillis = configuration.getProperty(AIConfigProperty.REQUEST_TIMEOUT_MS);
+        RetryPolicy retryPolicy = configuration.getProperty(AIConfigProperty.RETRY_POLICY);
+        RateGovernor governor = governor(request);
+        long estimatedTokens = (governor != null) ? RateGovernor.estimateTokens(request, jsonBody) : 0;
+        Supplier<CompletableFuture<HttpResponse<byte[]>>> send =
+                () -> governedPostAsync(governor, estimatedTokens, headers, uri, jsonBody, timeoutMillis);
+        Hedger hedger = hedger(request, false);
+        if (hedger != null) {
+            // Duplicates join this in-flight entry, so callers sharing it share the hedge too
+            Supplier<CompletableFuture<HttpResponse<byte[]>>> single = send;
+            send = () -> hedger.execute(claim -> single.get(), response -> response.statusCode() == 200, scheduler);
+        }
+        CircuitBreaker breaker = circuitBreaker(request, uri);
+        if (breaker != null) {
+            // A hedged pair is one call to the circuit; each retry asks it again
+            Supplier<CompletableFuture<HttpResponse<byte[]>>> unguarded = send;
+            send = () -> guarded(breaker, unguarded, true, response -> (response.statusCode() == 200)
+                    ? null : translateStatusToException(response.statusCode(), bodyText(response)));
+        }
+        return internalPostWithRetryAsync(uri, send, retryPolicy)
+                .thenApply(response -> {
+                    long elapsedTime = System.currentTimeMillis() - startTime;
+                    ProtifyHttpResponse res = new ProtifyHttpResponse(false, response.body(), response.statusCode(), elapsedTime);
+
+                    if (response.statusCode() == 200) {
+                        cache.put(hash, res);
+                        if (secondTier != null) {
+                            // Keep disk I/O off the HTTP client's completion thread
+                            scheduler.execute(() -> secondTier.put(hash, res));
                         }
-                        return res;
-                    })
-                    .whenComplete((res, ex) -> inFlight.remove(hash));
-        });
+                    }
+                    return res;
+                });
     }
 
-    private void evictExpired() {
-        synchronized (cache) {
-            cache.values().removeIf(entry -> entry.isExpired(ttlMillis));
+    /**
+     * Sends a request that is not a model call, such as a file upload, over the shared
+     * {@link HttpTransport}. No caching or retries are applied.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return transport.sendAsync(request, handler);
+    }
+
+    /**
+     * The shared scheduler behind retries, hedging and cache maintenance. Tasks run on it must
+     * be short and must not block.
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    public ResponseCache<RequestKey> getResponseCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the circuit guarding {@code uri}, for reading its state and metrics, or null if no
+     * request with a circuit breaker policy has been sent to it.
+     */
+    public CircuitBreaker getCircuitBreaker(String uri) {
+        return breakers.get(endpoint(uri));
+    }
+
+    private static RequestKeyAlgorithm keyAlgorithm(Configuration configuration) {
+        String value = configuration.getProperty(AIConfigProperty.RESPONSE_CACHE_KEY_ALGORITHM);
+        RequestKeyAlgorithm algorithm = RequestKeyAlgorithm.getFromValue(value);
+        return (algorithm != null) ? algorithm : RequestKeyAlgorithm.MURMUR3_128;
+    }
+
+    private RateGovernor governor(AIProviderRequest request) {
+        Configuration configuration = request.getConfiguration();
+        if (!RateGovernor.isConfigured(configuration)) {
+            return null;
+        }
+        // The first configuration seen for a provider and model sets its limits
+        String key = request.getProvider().getName() + "/" + request.getModelName();
+        return governors.computeIfAbsent(key, k -> RateGovernor.fromConfiguration(configuration, scheduler));
+    }
+
+    private Hedger hedger(AIProviderRequest request, boolean stream) {
+        HedgingPolicy policy = request.getConfiguration().getProperty(AIConfigProperty.HEDGING_POLICY);
+        if (policy == null) {
+            return null;
+        }
+        // Time to first event and time to full response are tracked apart
+        String key = request.getProvider().getName() + "/" + request.getModelName() + (stream ? "#stream" : "");
+        return hedgers.computeIfAbsent(key, k -> new Hedger(policy));
+    }
+
+    private CircuitBreaker circuitBreaker(AIProviderRequest request, String uri) {
+        CircuitBreakerPolicy policy = request.getConfiguration().getProperty(AIConfigProperty.CIRCUIT_BREAKER_POLICY);
+        if (policy == null) {
+            return null;
+        }
+        // The first configuration seen for an endpoint sets its policy
+        return breakers.computeIfAbsent(endpoint(uri), k -> new CircuitBreaker(k, policy));
+    }
+
+    // Query strings can carry credentials and must not end up in circuit names
+    private static String endpoint(String uri) {
+        int query = uri.indexOf('?');
+        return (query < 0) ? uri : uri.substring(0, query);
+    }
+
+    /**
+     * Runs {@code call} if the circuit permits it and records its outcome; otherwise fails fast
+     * with a {@link CircuitOpenException}.
+     *
+     * @param timed   whether the call's duration counts toward the slow-call rate
+     * @param failure maps a completed value to the error it represents, or null
+     */
+    private static <T> CompletableFuture<T> guarded(CircuitBreaker breaker, Supplier<CompletableFuture<T>> call,
+                                                    boolean timed, Function<T, Throwable> failure) {
+        if (!breaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CircuitOpenException(
+                    "Circuit open for " + breaker.getName() + "; failing fast without calling the provider"));
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            breaker.releasePermission();
+            throw e;
         }
+        CompletableFuture<T> result = future.whenComplete((value, ex) -> {
+            Throwable error = (ex != null) ? unwrap(ex) : failure.apply(value);
+            if (error instanceof CancellationException) {
+                breaker.releasePermission();
+            } else {
+                breaker.onResult(timed ? System.nanoTime() - startNanos : 0, error);
+            }
+        });
+        return propagateCancel(result, future, null);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> internalPostWithRetryAsync(
+            String uri, Supplier<CompletableFuture<HttpResponse<byte[]>>> send, RetryPolicy retryPolicy) {
+        return internalPostWithRetryAsync(uri, send,
+                new RetryScheduler(retryPolicy), retryPolicy.getListener(), System.nanoTime(), 0);
     }
 
-    private CompletableFuture<HttpResponse<String>> internalPostWithRetryAsync(
-            AIProvider provider, String credential, String uri, String jsonBody, long timeoutMillis, RetryPolicy retryPolicy, int attempt) {
+    private CompletableFuture<HttpResponse<byte[]>> internalPostWithRetryAsync(
+            String uri, Supplier<CompletableFuture<HttpResponse<byte[]>>> send,
+            RetryScheduler retryScheduler, RetryListener listener, long firstStartNanos, int retries) {
 
-        return internalPostAsync(provider, credential, uri, jsonBody, timeoutMillis)
+        long attemptStartNanos = System.nanoTime();
+        return send.get()
                 .handle((response, ex) -> {
-                    if (ex == null && response.statusCode() == 200) return CompletableFuture.completedFuture(response);
+                    long now = System.nanoTime();
+                    long durationMillis = TimeUnit.NANOSECONDS.toMillis(now - attemptStartNanos);
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - firstStartNanos);
+
+                    if (ex == null && response.statusCode() == 200) {
+                        notifyListener(listener, new RetryAttempt(uri, retries + 1, response.statusCode(), null,
+                                durationMillis, elapsedMillis, -1, -1));
+                        return CompletableFuture.completedFuture(response);
+                    }
 
-                    Exception error = (ex != null) ? (Exception) ex : translateStatusToException(response.statusCode(), response.body());
+                    int statusCode = (ex == null) ? response.statusCode() : 0;
+                    Throwable error = (ex == null) ? translateStatusToException(statusCode, bodyText(response)) : unwrap(ex);
+                    long retryAfterMillis = (ex == null)
+                            ? RetryAfter.parseMillis(response.headers(), System.currentTimeMillis()) : -1;
+                    long delayMillis = retryScheduler.nextDelayMillis(retries, elapsedMillis, statusCode, error, retryAfterMillis);
 
-                    if (attempt < retryPolicy.getMaxRetries() && shouldRetry(error, retryPolicy)) {
-                        LOGGER.info( "Attempt {} failed, retrying in {}ms: {}",
-                                attempt + 1, retryPolicy.getDelayMillis(), error.getMessage());
+                    notifyListener(listener, new RetryAttempt(uri, retries + 1, statusCode, error,
+                            durationMillis, elapsedMillis, retryAfterMillis, delayMillis));
 
-                        return delay(retryPolicy.getDelayMillis())
-                                .thenCompose(v -> internalPostWithRetryAsync(provider, credential, uri, jsonBody, timeoutMillis, retryPolicy, attempt + 1));
+                    if (delayMillis >= 0) {
+                        LOGGER.info("Attempt {} failed, retrying in {}ms: {}", retries + 1, delayMillis, error.getMessage());
+                        return delay(delayMillis).thenCompose(v -> internalPostWithRetryAsync(uri, send,
+                                retryScheduler, listener, firstStartNanos, retries + 1));
                     }
 
-                    return CompletableFuture.<HttpResponse<String>>failedFuture(
-                            error instanceof RuntimeException ? (RuntimeException) error : new ProtifyApiException(error.getMessage(), error));
+                    return CompletableFuture.<HttpResponse<byte[]>>failedFuture(
+                            error instanceof RuntimeException ? error : new ProtifyApiException(error.getMessage(), error));
                 }).thenCompose(f -> f);
     }
 
-    private CompletableFuture<HttpResponse<String>> internalPostAsync(AIProvider provider, String credential, String uri, String jsonBody, long timeoutMillis) {
+    private static Throwable unwrap(Throwable ex) {
+        return (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+    }
+
+    private static void notifyListener(RetryListener listener, RetryAttempt attempt) {
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onAttempt(attempt);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Retry listener failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one attempt once the governor admits it; each retry is admitted separately, so
+     * backoff delays do not hold a concurrency slot.
+     */
+    private CompletableFuture<HttpResponse<byte[]>> governedPostAsync(RateGovernor governor, long estimatedTokens,
+            Map<String, String> headers, String uri, JsonBody jsonBody, long timeoutMillis) {
+        if (governor == null) {
+            return internalPostAsync(headers, uri, jsonBody, timeoutMillis);
+        }
+        AtomicReference<CompletableFuture<?>> sent = new AtomicReference<>();
+        CompletableFuture<RateGovernor.Permit> admitted = governor.acquire(estimatedTokens);
+        CompletableFuture<HttpResponse<byte[]>> result = admitted.thenCompose(permit -> {
+            CompletableFuture<HttpResponse<byte[]>> future;
+            try {
+                future = internalPostAsync(headers, uri, jsonBody, timeoutMillis);
+            } catch (RuntimeException e) {
+                permit.release(0, -1);
+                throw e;
+            }
+            sent.set(future);
+            return future.whenComplete((response, ex) -> {
+                if (response == null) {
+                    permit.release(0, -1);
+                } else {
+                    long retryAfterMillis = (response.statusCode() == 429)
+                            ? RetryAfter.parseMillis(response.headers(), System.currentTimeMillis()) : -1;
+                    permit.release(response.statusCode(), retryAfterMillis);
+                }
+            });
+        });
+        return propagateCancel(result, admitted, sent);
+    }
+
+    /**
+     * Cancelling a dependent stage does not reach the stages it was built from; forward it so
+     * a cancelled hedge leaves the governor's queue or aborts its exchange.
+     */
+    private static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> result, CompletableFuture<?> first,
+                                                            AtomicReference<CompletableFuture<?>> second) {
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                first.cancel(true);
+                CompletableFuture<?> inner = (second != null) ? second.get() : null;
+                if (inner != null) {
+                    inner.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> internalPostAsync(Map<String, String> headers, String uri, JsonBody jsonBody, long timeoutMillis) {
+        // Publisher streams the body from its sources, so attachments are never held as one String
         HttpRequest.Builder reqBuilder = HttpRequest.newBuilder()
                 .uri(URI.create(uri))
                 .timeout(Duration.ofMillis(timeoutMillis))
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
-        provider.getHeaders(credential).forEach(reqBuilder::header);
+                .POST(jsonBody.toBodyPublisher());
+        headers.forEach(reqBuilder::header);
         HttpRequest request = reqBuilder.build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        return transport.sendAsync(request, ofJsonBytes());
+    }
+
+    private static Map<String, String> headers(AIProviderRequest request, String credential) {
+        Map<String, String> additional = request.getAdditionalHeaders();
+        Map<String, String> providerHeaders = request.getProvider().getHeaders(credential);
+        if (additional.isEmpty()) {
+            return providerHeaders;
+        }
+        Map<String, String> merged = new LinkedHashMap<>(providerHeaders);
+        merged.putAll(additional);
+        return merged;
     }
 
     private CompletableFuture<Void> delay(long millis) {
@@ -217,46 +504,100 @@ public class ProtifyHttpClient {
         return future;
     }
 
-    private boolean shouldRetry(Exception e, RetryPolicy policy) {
-        /*
-        if (policy.getIgnoreExceptions() != null && policy.getIgnoreExceptions().stream().anyMatch(clz -> clz.isInstance(e))) return false;
-        if (policy.getRetryOnExceptions() == null || policy.getRetryOnExceptions().isEmpty()) return true;
-        return policy.getRetryOnExceptions().stream().anyMatch(clz -> clz.isInstance(e));
-
-         */
-        return true;
-    }
-
     public CompletableFuture<Void> postStream(AIProviderRequest request, String uri,
                                                Consumer<String> onEvent, Runnable onComplete) {
 
         Configuration configuration = request.getConfiguration();
         AIProvider provider = request.getProvider();
         String credential = CredentialHelperFactory.getInstance().getCredential(provider, configuration);
-        String jsonBody = request.toJson();
+        JsonBody jsonBody = request.toJsonBody();
 
         int timeoutMillis = configuration.getProperty(AIConfigProperty.REQUEST_TIMEOUT_MS);
-
-        HttpRequest.Builder reqBuilder = HttpRequest.newBuilder()
-                .uri(URI.create(uri))
-                .timeout(Duration.ofMillis(timeoutMillis))
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
-        provider.getHeaders(credential).forEach(reqBuilder::header);
-        HttpRequest httpRequest = reqBuilder.build();
-
-        SSELineParser parser = new SSELineParser((event, data) -> onEvent.accept(data));
-
-        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofLines())
-                .thenAccept(response -> {
-                    if (response.statusCode() != 200) {
-                        StringBuilder errorBody = new StringBuilder();
-                        response.body().forEach(line -> errorBody.append(line).append("\n"));
-                        throw translateStatusToException(response.statusCode(), errorBody.toString().trim());
-                    }
-                    response.body().forEach(parser::feedLine);
-                    parser.finish();
+        Map<String, String> headers = headers(request, credential);
+        RateGovernor governor = governor(request);
+        long estimatedTokens = (governor != null) ? RateGovernor.estimateTokens(request, jsonBody) : 0;
+
+        // Each attempt forwards events only while it holds the claim; a hedge that lost stops reading
+        Function<BooleanSupplier, CompletableFuture<Void>> attempt = claim -> {
+            HttpRequest.Builder reqBuilder = HttpRequest.newBuilder()
+                    .uri(URI.create(uri))
+                    .timeout(Duration.ofMillis(timeoutMillis))
+                    .POST(jsonBody.toBodyPublisher());
+            headers.forEach(reqBuilder::header);
+            SSELineParser parser = new SSELineParser((event, data) -> {
+                if (!claim.getAsBoolean()) {
+                    throw new CancellationException("Another hedged attempt answered first");
+                }
+                onEvent.accept(data);
+            });
+            Runnable complete = () -> {
+                if (claim.getAsBoolean()) {
                     onComplete.run();
-                });
+                }
+            };
+            return governedStreamAsync(governor, estimatedTokens, reqBuilder.build(), parser, complete);
+        };
+
+        Hedger hedger = hedger(request, true);
+        Supplier<CompletableFuture<Void>> send = (hedger != null)
+                ? () -> hedger.execute(attempt, v -> true, scheduler)
+                : () -> attempt.apply(() -> true);
+        CircuitBreaker breaker = circuitBreaker(request, uri);
+        // A stream's duration depends on the answer length, so it never counts as slow
+        return (breaker != null) ? guarded(breaker, send, false, v -> null) : send.get();
+    }
+
+    private CompletableFuture<Void> governedStreamAsync(RateGovernor governor, long estimatedTokens,
+                                                        HttpRequest httpRequest, SSELineParser parser, Runnable onComplete) {
+        if (governor == null) {
+            return streamAsync(httpRequest, parser, onComplete, new int[1]);
+        }
+        AtomicReference<CompletableFuture<?>> sent = new AtomicReference<>();
+        CompletableFuture<RateGovernor.Permit> admitted = governor.acquire(estimatedTokens);
+        CompletableFuture<Void> result = admitted.thenCompose(permit -> {
+            int[] statusCode = new int[1];
+            CompletableFuture<Void> future = streamAsync(httpRequest, parser, onComplete, statusCode);
+            sent.set(future);
+            return future.whenComplete((v, ex) -> permit.releaseStream(statusCode[0]));
+        });
+        return propagateCancel(result, admitted, sent);
+    }
+
+    private CompletableFuture<Void> streamAsync(HttpRequest httpRequest, SSELineParser parser,
+                                                Runnable onComplete, int[] statusCode) {
+        CompletableFuture<HttpResponse<Stream<String>>> sent =
+                transport.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofLines());
+        CompletableFuture<Void> result = sent.thenAccept(response -> {
+            statusCode[0] = response.statusCode();
+            // Closing the lines stream cancels the exchange if reading stops early
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    StringBuilder errorBody = new StringBuilder();
+                    lines.forEach(line -> errorBody.append(line).append("\n"));
+                    throw translateStatusToException(response.statusCode(), errorBody.toString().trim());
+                }
+                lines.forEach(parser::feedLine);
+            }
+            parser.finish();
+            onComplete.run();
+        });
+        return propagateCancel(result, sent, null);
+    }
+
+    /**
+     * Receives a body as the UTF-8 bytes off the wire, for parsing with a byte-level
+     * {@code JsonReader}. Unlike {@code BodyHandlers.ofString()} the body is not decoded into a
+     * String, and the array is allocated once from the Content-Length when the server sends one.
+     */
+    public static HttpResponse.BodyHandler<byte[]> ofJsonBytes() {
+        return responseInfo -> new ByteArrayBodySubscriber(
+                responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1));
+    }
+
+    // Error bodies are small and only decoded for the exception message
+    private static String bodyText(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        return (body != null) ? new String(body, StandardCharsets.UTF_8) : null;
     }
 
     public static RuntimeException createApiException(int statusCode, String responseBody) {
@@ -317,18 +658,4 @@ public class ProtifyHttpClient {
             default: return "HTTP failure";
         }
     }
-
-    private static class CacheEntry {
-        final ProtifyHttpResponse response;
-        final long createdAt;
-
-        CacheEntry(ProtifyHttpResponse response) {
-            this.response = response;
-            this.createdAt = System.currentTimeMillis();
-        }
-
-        boolean isExpired(long ttlMillis) {
-            return (System.currentTimeMillis() - createdAt) > ttlMillis;
-        }
-    }
 }
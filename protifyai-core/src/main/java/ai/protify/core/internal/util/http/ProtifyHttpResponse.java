@@ -16,16 +16,30 @@
 
 package ai.protify.core.internal.util.http;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A provider response as received. The body is kept as the UTF-8 bytes off the wire and decoded
+ * into a String only if {@link #getResponseBody()} is called, since the JSON is parsed from the
+ * bytes.
+ */
 public class ProtifyHttpResponse {
 
     private final boolean cachedResponse;
-    private final String responseBody;
+    private final byte[] responseBytes;
+    private volatile String responseBody;
     private final int statusCode;
     private final long elapsedTimeMillis;
 
     public ProtifyHttpResponse(boolean cachedResponse, String responseBody, int statusCode, long elapsedTimeMillis) {
-        this.cachedResponse = cachedResponse;
+        this(cachedResponse, responseBody != null ? responseBody.getBytes(StandardCharsets.UTF_8) : null,
+                statusCode, elapsedTimeMillis);
         this.responseBody = responseBody;
+    }
+
+    public ProtifyHttpResponse(boolean cachedResponse, byte[] responseBytes, int statusCode, long elapsedTimeMillis) {
+        this.cachedResponse = cachedResponse;
+        this.responseBytes = responseBytes;
         this.statusCode = statusCode;
         this.elapsedTimeMillis = elapsedTimeMillis;
     }
@@ -35,7 +49,20 @@ public class ProtifyHttpResponse {
     }
 
     public String getResponseBody() {
-        return responseBody;
+        String body = responseBody;
+        if (body == null && responseBytes != null) {
+            body = new String(responseBytes, StandardCharsets.UTF_8);
+            responseBody = body;
+        }
+        return body;
+    }
+
+    /**
+     * The body as UTF-8 bytes. The array is shared with the response cache and must not be
+     * modified.
+     */
+    public byte[] getResponseBytes() {
+        return responseBytes;
     }
 
     public int getStatusCode() {
@@ -0,0 +1,266 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.provider.AIProviderRequest;
+import ai.protify.core.request.AIFileInput;
+import ai.protify.core.request.AIInput;
+import ai.protify.core.request.FileDataReferenceType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side admission control for one provider and model. A call waits, in arrival order,
+ * until the requests-per-minute and tokens-per-minute buckets can cover it and the adaptive
+ * concurrency limit has room. Waiting never blocks a thread and never fails the call.
+ * <p>
+ * A 429 halves the concurrency limit and, if the response says how long to wait, pauses
+ * admission until then so queued calls do not walk into the same limit.
+ */
+final class RateGovernor {
+
+    // Rough characters per token for English text and JSON
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final TokenBucket requests;
+    private final TokenBucket tokens;
+    private final AdaptiveConcurrencyLimit limit;
+    private final ScheduledExecutorService scheduler;
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private int inFlight;
+    private long pausedUntilNanos;
+    private boolean wakeUpScheduled;
+
+    RateGovernor(int requestsPerMinute, int tokensPerMinute, AdaptiveConcurrencyLimit limit,
+                 ScheduledExecutorService scheduler) {
+        long now = System.nanoTime();
+        this.requests = (requestsPerMinute > 0) ? new TokenBucket(requestsPerMinute, now) : null;
+        this.tokens = (tokensPerMinute > 0) ? new TokenBucket(tokensPerMinute, now) : null;
+        this.limit = limit;
+        this.scheduler = scheduler;
+        this.pausedUntilNanos = now;
+    }
+
+    /**
+     * @return whether any {@code rateLimit.*} or {@code concurrencyLimit.*} limit is set
+     */
+    static boolean isConfigured(Configuration configuration) {
+        return intProperty(configuration, AIConfigProperty.RATE_LIMIT_REQUESTS_PER_MINUTE, 0) > 0
+                || intProperty(configuration, AIConfigProperty.RATE_LIMIT_TOKENS_PER_MINUTE, 0) > 0
+                || intProperty(configuration, AIConfigProperty.CONCURRENCY_LIMIT_INITIAL, 0) > 0;
+    }
+
+    static RateGovernor fromConfiguration(Configuration configuration, ScheduledExecutorService scheduler) {
+        int requestsPerMinute = intProperty(configuration, AIConfigProperty.RATE_LIMIT_REQUESTS_PER_MINUTE, 0);
+        int tokensPerMinute = intProperty(configuration, AIConfigProperty.RATE_LIMIT_TOKENS_PER_MINUTE, 0);
+        int initialLimit = intProperty(configuration, AIConfigProperty.CONCURRENCY_LIMIT_INITIAL, 0);
+        AdaptiveConcurrencyLimit limit = null;
+        if (initialLimit > 0) {
+            limit = new AdaptiveConcurrencyLimit(initialLimit,
+                    intProperty(configuration, AIConfigProperty.CONCURRENCY_LIMIT_MIN, 1),
+                    intProperty(configuration, AIConfigProperty.CONCURRENCY_LIMIT_MAX, 64));
+        }
+        return new RateGovernor(requestsPerMinute, tokensPerMinute, limit, scheduler);
+    }
+
+    private static int intProperty(Configuration configuration, AIConfigProperty property, int defaultValue) {
+        Integer value = configuration.getProperty(property);
+        return (value != null) ? value : defaultValue;
+    }
+
+    /**
+     * Estimates the tokens a call counts against a tokens-per-minute limit: its input, from the
+     * body size less inlined attachments, plus {@code maxOutputTokens}, which providers reserve
+     * up front.
+     */
+    static long estimateTokens(AIProviderRequest request, JsonBody body) {
+        long chars = body.getContentLength();
+        for (AIInput input : request.getInputs()) {
+            if (input instanceof AIFileInput) {
+                AIFileInput file = (AIFileInput) input;
+                long length = file.getContentLength();
+                if (file.getReferenceType() == FileDataReferenceType.DATA_URL && length > 0) {
+                    chars -= 4 * ((length + 2) / 3);
+                }
+            }
+        }
+        Integer maxOutputTokens = request.getConfiguration().getProperty(AIConfigProperty.MAX_OUTPUT_TOKENS);
+        long output = (maxOutputTokens != null) ? maxOutputTokens : 0;
+        return Math.max(1, chars / CHARS_PER_TOKEN) + output;
+    }
+
+    CompletableFuture<Permit> acquire(long estimatedTokens) {
+        Waiter waiter = new Waiter(estimatedTokens);
+        synchronized (this) {
+            waiting.addLast(waiter);
+        }
+        for (Waiter granted : admit()) {
+            granted.grant();
+        }
+        return waiter.future;
+    }
+
+    synchronized int getLimit() {
+        return (limit != null) ? limit.getLimit() : Integer.MAX_VALUE;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getWaiting() {
+        return waiting.size();
+    }
+
+    private synchronized List<Waiter> admit() {
+        List<Waiter> granted = new ArrayList<>();
+        long now = System.nanoTime();
+        long waitNanos = 0;
+        while (!waiting.isEmpty()) {
+            Waiter head = waiting.peekFirst();
+            if (head.future.isDone()) {
+                // Cancelled by the caller while queued
+                waiting.pollFirst();
+                continue;
+            }
+            if (limit != null && inFlight >= limit.getLimit()) {
+                // A release will admit the next caller
+                break;
+            }
+            waitNanos = Math.max(pausedUntilNanos - now, 0);
+            if (requests != null) {
+                waitNanos = Math.max(waitNanos, requests.nanosUntil(1, now));
+            }
+            if (tokens != null) {
+                waitNanos = Math.max(waitNanos, tokens.nanosUntil(head.tokens, now));
+            }
+            if (waitNanos > 0) {
+                break;
+            }
+            if (requests != null) {
+                requests.take(1, now);
+            }
+            if (tokens != null) {
+                tokens.take(head.tokens, now);
+            }
+            waiting.pollFirst();
+            inFlight++;
+            head.inFlightAtStart = inFlight;
+            granted.add(head);
+        }
+        if (waitNanos > 0 && !wakeUpScheduled) {
+            wakeUpScheduled = true;
+            scheduler.schedule(this::wakeUp, waitNanos, TimeUnit.NANOSECONDS);
+        }
+        return granted;
+    }
+
+    private void wakeUp() {
+        synchronized (this) {
+            wakeUpScheduled = false;
+        }
+        for (Waiter granted : admit()) {
+            granted.grant();
+        }
+    }
+
+    private void release(Permit permit, int statusCode, long retryAfterMillis, boolean sampleLatency) {
+        synchronized (this) {
+            inFlight--;
+            if (statusCode == 429) {
+                if (limit != null) {
+                    limit.onRateLimited();
+                }
+                if (retryAfterMillis > 0) {
+                    pausedUntilNanos = Math.max(pausedUntilNanos,
+                            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+                }
+            } else if (statusCode == 200 && sampleLatency && limit != null) {
+                limit.onSuccess(System.nanoTime() - permit.startNanos, permit.inFlightAtStart);
+            }
+        }
+        // Hand off rather than run inline, so a run of fast failures cannot recurse deeply
+        for (Waiter granted : admit()) {
+            scheduler.execute(granted::grant);
+        }
+    }
+
+    private final class Waiter {
+
+        private final long tokens;
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private int inFlightAtStart;
+
+        Waiter(long tokens) {
+            this.tokens = tokens;
+        }
+
+        void grant() {
+            Permit permit = new Permit(inFlightAtStart);
+            if (!future.complete(permit)) {
+                permit.release(0, -1);
+            }
+        }
+    }
+
+    /**
+     * A slot held by one admitted call. Release it exactly once when the call ends.
+     */
+    final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * @param statusCode       the response status, or 0 if no response arrived
+         * @param retryAfterMillis the server-requested wait, or -1
+         */
+        void release(int statusCode, long retryAfterMillis) {
+            release(statusCode, retryAfterMillis, true);
+        }
+
+        /** Releases a streamed call, whose duration says nothing about provider load. */
+        void releaseStream(int statusCode) {
+            release(statusCode, -1, false);
+        }
+
+        private void release(int statusCode, long retryAfterMillis, boolean sampleLatency) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            RateGovernor.this.release(this, statusCode, retryAfterMillis, sampleLatency);
+        }
+    }
+}
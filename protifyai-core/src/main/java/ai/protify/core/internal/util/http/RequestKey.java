@@ -0,0 +1,103 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.util.json.JsonBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * A compact binary cache key for a serialized request body: two 64-bit words for the
+ * default MurmurHash3 key, four for SHA-256. Equality and hashing work on the words
+ * directly, so no hex string is built on the request path.
+ */
+public final class RequestKey {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long[] words;
+    private final int hash;
+
+    RequestKey(long... words) {
+        this.words = words;
+        // The words are already well mixed; fold them rather than re-hashing
+        long folded = 0;
+        for (long word : words) {
+            folded ^= word;
+        }
+        this.hash = (int) (folded ^ (folded >>> 32));
+    }
+
+    public static RequestKey of(CharSequence serializedBody, RequestKeyAlgorithm algorithm) {
+        RequestKeyHasher hasher = algorithm.newHasher();
+        hasher.updateUtf8(serializedBody);
+        return hasher.finish();
+    }
+
+    public static RequestKey of(CharSequence serializedBody) {
+        return of(serializedBody, RequestKeyAlgorithm.MURMUR3_128);
+    }
+
+    /**
+     * Keys a streamed body from its {@link JsonBody#openKeyStream() key bytes}. For bodies
+     * whose streamed values are plain text this equals keying the {@link JsonBody#toString()} text.
+     */
+    public static RequestKey of(JsonBody body, RequestKeyAlgorithm algorithm) {
+        RequestKeyHasher hasher = algorithm.newHasher();
+        try (InputStream in = body.openKeyStream()) {
+            hasher.update(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * @return the key as lowercase hex, for persistent stores and logging
+     */
+    public String toHexString() {
+        char[] out = new char[words.length * 16];
+        int pos = 0;
+        for (long word : words) {
+            for (int shift = 60; shift >= 0; shift -= 4) {
+                out[pos++] = HEX[(int) (word >>> shift) & 0xF];
+            }
+        }
+        return new String(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RequestKey)) return false;
+        RequestKey other = (RequestKey) o;
+        return hash == other.hash && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
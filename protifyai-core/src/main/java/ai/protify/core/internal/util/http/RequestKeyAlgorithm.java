@@ -0,0 +1,33 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+public enum RequestKeyAlgorithm {
+    MURMUR3_128,
+    SHA_256;
+
+    public static RequestKeyAlgorithm getFromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public RequestKeyHasher newHasher() {
+        return this == SHA_256 ? new RequestKeyHasher.Sha256() : new RequestKeyHasher.Murmur3();
+    }
+}
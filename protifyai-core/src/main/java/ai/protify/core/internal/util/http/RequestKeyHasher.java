@@ -0,0 +1,214 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.exception.ProtifyApiException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Incrementally hashes the UTF-8 bytes of a request body into a {@link RequestKey}.
+ * Bytes can be fed in arbitrary chunks, so a body can be keyed while it is being
+ * serialized instead of after it has been materialized and re-encoded.
+ */
+public abstract class RequestKeyHasher {
+
+    private static final int ENCODE_SLICE_CHARS = 16 * 1024;
+    private static final int READ_BUFFER_BYTES = 16 * 1024;
+
+    public abstract void update(byte[] bytes, int offset, int length);
+
+    public abstract RequestKey finish();
+
+    public void update(InputStream in) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        int read;
+        while ((read = in.read(buffer, 0, buffer.length)) >= 0) {
+            update(buffer, 0, read);
+        }
+    }
+
+    /**
+     * Feeds the UTF-8 encoding of {@code chars} in bounded slices, so a multi-megabyte body
+     * is never re-encoded into one full-size byte array. Each slice goes through the JDK's
+     * intrinsic encoder; slices never split a surrogate pair, so the result is identical to
+     * hashing {@code chars.toString().getBytes(UTF_8)}.
+     */
+    public void updateUtf8(CharSequence chars) {
+        String text = chars.toString();
+        int length = text.length();
+        if (length <= ENCODE_SLICE_CHARS) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            update(bytes, 0, bytes.length);
+            return;
+        }
+        int start = 0;
+        while (start < length) {
+            int end = Math.min(length, start + ENCODE_SLICE_CHARS);
+            if (end < length && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+            byte[] bytes = text.substring(start, end).getBytes(StandardCharsets.UTF_8);
+            update(bytes, 0, bytes.length);
+            start = end;
+        }
+    }
+
+    /**
+     * MurmurHash3 x64 128-bit (seed 0), fed incrementally. Not collision resistant against
+     * an adversary, which is fine for a cache keyed by the caller's own requests.
+     */
+    static final class Murmur3 extends RequestKeyHasher {
+
+        private static final VarHandle LONG_LE =
+                MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private final byte[] tail = new byte[16];
+        private int tailLength;
+        private long totalLength;
+        private long h1;
+        private long h2;
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            totalLength += length;
+            if (tailLength > 0) {
+                int fill = Math.min(16 - tailLength, length);
+                System.arraycopy(bytes, offset, tail, tailLength, fill);
+                tailLength += fill;
+                offset += fill;
+                length -= fill;
+                if (tailLength < 16) {
+                    return;
+                }
+                mixBlock(tail, 0);
+                tailLength = 0;
+            }
+            while (length >= 16) {
+                mixBlock(bytes, offset);
+                offset += 16;
+                length -= 16;
+            }
+            if (length > 0) {
+                System.arraycopy(bytes, offset, tail, 0, length);
+                tailLength = length;
+            }
+        }
+
+        private void mixBlock(byte[] bytes, int offset) {
+            long k1 = (long) LONG_LE.get(bytes, offset);
+            long k2 = (long) LONG_LE.get(bytes, offset + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        @Override
+        public RequestKey finish() {
+            long k1 = 0;
+            long k2 = 0;
+            for (int i = tailLength - 1; i >= 8; i--) {
+                k2 ^= (tail[i] & 0xFFL) << ((i - 8) * 8);
+            }
+            for (int i = Math.min(tailLength, 8) - 1; i >= 0; i--) {
+                k1 ^= (tail[i] & 0xFFL) << (i * 8);
+            }
+            if (tailLength > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (tailLength > 0) {
+                h1 ^= mixK1(k1);
+            }
+
+            h1 ^= totalLength;
+            h2 ^= totalLength;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+            return new RequestKey(h1, h2);
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    static final class Sha256 extends RequestKeyHasher {
+
+        private static final VarHandle LONG_BE =
+                MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+        private final MessageDigest digest;
+
+        Sha256() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new ProtifyApiException("SHA-256 algorithm not found", e);
+            }
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            digest.update(bytes, offset, length);
+        }
+
+        @Override
+        public RequestKey finish() {
+            byte[] hash = digest.digest();
+            return new RequestKey(
+                    (long) LONG_BE.get(hash, 0), (long) LONG_BE.get(hash, 8),
+                    (long) LONG_BE.get(hash, 16), (long) LONG_BE.get(hash, 24));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrent, segmented response cache with approximate LRU eviction.
+ * <p>
+ * Keys are spread across independent segments, each backed by a {@link ConcurrentHashMap}.
+ * Reads never take a lock: a hit only sets the entry's reference bit. Writes take their
+ * segment's lock to keep its clock ring in step with its map. When a segment grows past its
+ * share of the capacity, a CLOCK (second-chance) sweep over that segment's insertion-ordered
+ * ring evicts the first entry that has not been referenced since the hand last passed it, so
+ * eviction cost is amortized and confined to a single segment.
+ * <p>
+ * Entries expire a fixed TTL after they were written. Expired entries are dropped lazily on
+ * read and in bulk by {@link #evictExpired()}, which walks one segment at a time.
+ */
+public final class ResponseCache<K> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K>[] segments;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCache(long ttlMillis, int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    ResponseCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS,
+                Math.min(maxEntries, Runtime.getRuntime().availableProcessors() * 2)));
+        @SuppressWarnings("unchecked")
+        Segment<K>[] table = (Segment<K>[]) new Segment<?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so the capacities add up to exactly maxEntries
+            int capacity = maxEntries / segmentCount + (i < maxEntries % segmentCount ? 1 : 0);
+            table[i] = new Segment<>(capacity);
+        }
+        this.segments = table;
+    }
+
+    public ProtifyHttpResponse get(K key) {
+        Segment<K> segment = segmentFor(key);
+        CacheEntry<K> entry = segment.map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong(), ttlMillis)) {
+            if (segment.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        entry.referenced = true;
+        hits.increment();
+        return entry.response;
+    }
+
+    public void put(K key, ProtifyHttpResponse response) {
+        Segment<K> segment = segmentFor(key);
+        CacheEntry<K> entry = new CacheEntry<>(key, response, clock.getAsLong());
+        segment.lock.lock();
+        try {
+            CacheEntry<K> previous = segment.map.put(key, entry);
+            if (previous != null) {
+                segment.unlink(previous);
+            }
+            segment.link(entry);
+            if (segment.map.size() > segment.capacity) {
+                segment.evictOverflow(this);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        segmentFor(key).remove(key, null);
+    }
+
+    public void clear() {
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+                segment.hand.next = segment.hand;
+                segment.hand.prev = segment.hand;
+                segment.ringSize = 0;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Drops every expired entry, one segment at a time.
+     */
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                CacheEntry<K> node = segment.hand.next;
+                while (node != segment.hand) {
+                    CacheEntry<K> next = node.next;
+                    if (node.isExpired(now, ttlMillis) && segment.map.remove(node.key, node)) {
+                        segment.unlink(node);
+                        evictions.increment();
+                    }
+                    node = next;
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K> segment : segments) {
+            size += segment.map.size();
+        }
+        return size;
+    }
+
+    // Visible for testing: the number of entries linked into the clock rings
+    int clockSize() {
+        int size = 0;
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.ringSize;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<K> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static final class Segment<K> {
+        final int capacity;
+        final Map<K, CacheEntry<K>> map = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        // Sentinel of the insertion-ordered ring for the CLOCK hand; guarded by lock, and links
+        // exactly the entries in map
+        final CacheEntry<K> hand = new CacheEntry<>(null, null, 0);
+        int ringSize;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            hand.next = hand;
+            hand.prev = hand;
+        }
+
+        // Removes the key's entry, or only the given one when entry is not null
+        boolean remove(K key, CacheEntry<K> entry) {
+            lock.lock();
+            try {
+                CacheEntry<K> removed = map.get(key);
+                if (removed == null || (entry != null && removed != entry) || !map.remove(key, removed)) {
+                    return false;
+                }
+                unlink(removed);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void link(CacheEntry<K> entry) {
+            entry.prev = hand.prev;
+            entry.next = hand;
+            hand.prev.next = entry;
+            hand.prev = entry;
+            ringSize++;
+        }
+
+        void unlink(CacheEntry<K> entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+            ringSize--;
+        }
+
+        // Called with lock held
+        void evictOverflow(ResponseCache<K> owner) {
+            while (map.size() > capacity) {
+                CacheEntry<K> node = hand.next;
+                unlink(node);
+                if (node.referenced) {
+                    node.referenced = false;
+                    link(node);
+                } else if (map.remove(node.key, node)) {
+                    owner.evictions.increment();
+                }
+            }
+        }
+    }
+
+    private static final class CacheEntry<K> {
+        final K key;
+        final ProtifyHttpResponse response;
+        final long createdAt;
+        volatile boolean referenced;
+
+        // Ring links, guarded by the segment lock
+        CacheEntry<K> prev;
+        CacheEntry<K> next;
+
+        CacheEntry(K key, ProtifyHttpResponse response, long createdAt) {
+            this.key = key;
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return (now - createdAt) > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+/**
+ * A second-tier response cache consulted by {@link ProtifyHttpClient} when the in-memory
+ * {@link ResponseCache} misses. Implementations must be thread-safe and should treat I/O
+ * failures as cache misses rather than propagating them to the caller.
+ */
+public interface ResponseCacheStore extends AutoCloseable {
+
+    /**
+     * @return the stored response for {@code key}, or {@code null} if absent or expired
+     */
+    ProtifyHttpResponse get(RequestKey key);
+
+    void put(RequestKey key, ProtifyHttpResponse response);
+
+    /**
+     * Periodic maintenance hook, invoked from the HTTP client's scheduler.
+     */
+    default void evictExpired() {
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import java.net.http.HttpHeaders;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads how long a server asked the client to wait from response headers:
+ * <ul>
+ *     <li>{@code retry-after-ms} (OpenAI, Azure)</li>
+ *     <li>{@code Retry-After} as seconds or an HTTP date</li>
+ *     <li>otherwise, for exhausted rate limits, the matching reset header:
+ *     OpenAI's {@code x-ratelimit-reset-*} durations such as {@code 6m0s} and Anthropic's
+ *     {@code anthropic-ratelimit-*-reset} timestamps</li>
+ * </ul>
+ */
+final class RetryAfter {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    // {remaining header, reset header}
+    private static final String[][] RATE_LIMIT_HEADERS = {
+            {"x-ratelimit-remaining-requests", "x-ratelimit-reset-requests"},
+            {"x-ratelimit-remaining-tokens", "x-ratelimit-reset-tokens"},
+            {"anthropic-ratelimit-requests-remaining", "anthropic-ratelimit-requests-reset"},
+            {"anthropic-ratelimit-tokens-remaining", "anthropic-ratelimit-tokens-reset"},
+            {"anthropic-ratelimit-input-tokens-remaining", "anthropic-ratelimit-input-tokens-reset"},
+            {"anthropic-ratelimit-output-tokens-remaining", "anthropic-ratelimit-output-tokens-reset"}
+    };
+
+    private RetryAfter() { }
+
+    /**
+     * @return the requested wait in milliseconds, or -1 if the headers do not ask for one
+     */
+    static long parseMillis(HttpHeaders headers, long nowMillis) {
+        if (headers == null) {
+            return -1;
+        }
+        Optional<String> millis = headers.firstValue("retry-after-ms");
+        if (millis.isPresent()) {
+            try {
+                return Math.max(0, (long) Double.parseDouble(millis.get().trim()));
+            } catch (NumberFormatException e) {
+                // fall through to Retry-After
+            }
+        }
+        Optional<String> retryAfter = headers.firstValue("retry-after");
+        if (retryAfter.isPresent()) {
+            long value = parseRetryAfter(retryAfter.get().trim(), nowMillis);
+            if (value >= 0) {
+                return value;
+            }
+        }
+
+        long reset = -1;
+        for (String[] pair : RATE_LIMIT_HEADERS) {
+            Optional<String> remaining = headers.firstValue(pair[0]);
+            Optional<String> resetValue = headers.firstValue(pair[1]);
+            if (remaining.isPresent() && "0".equals(remaining.get().trim()) && resetValue.isPresent()) {
+                reset = Math.max(reset, parseReset(resetValue.get().trim(), nowMillis));
+            }
+        }
+        return reset;
+    }
+
+    static long parseRetryAfter(String value, long nowMillis) {
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
+            // Not delta-seconds; try an HTTP date
+        }
+        try {
+            long at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return Math.max(0, at - nowMillis);
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    static long parseReset(String value, long nowMillis) {
+        if (!value.isEmpty() && Character.isDigit(value.charAt(0)) && value.indexOf('T') > 0) {
+            try {
+                Instant at = OffsetDateTime.parse(value).toInstant();
+                return Math.max(0, at.toEpochMilli() - nowMillis);
+            } catch (DateTimeParseException e) {
+                return -1;
+            }
+        }
+        return parseDurationMillis(value);
+    }
+
+    static long parseDurationMillis(String value) {
+        Matcher matcher = DURATION_PART.matcher(value);
+        double total = 0;
+        int end = 0;
+        while (matcher.find()) {
+            if (matcher.start() != end) {
+                return -1;
+            }
+            double amount = Double.parseDouble(matcher.group(1));
+            switch (matcher.group(2)) {
+                case "h": total += amount * 3_600_000; break;
+                case "m": total += amount * 60_000; break;
+                case "s": total += amount * 1_000; break;
+                default: total += amount; break;
+            }
+            end = matcher.end();
+        }
+        return (end > 0 && end == value.length()) ? (long) Math.ceil(total) : -1;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.exception.CircuitOpenException;
+import ai.protify.core.resiliency.RetryBackoffStrategy;
+import ai.protify.core.resiliency.RetryPolicy;
+
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Decides whether and when a failed attempt is retried under a {@link RetryPolicy}.
+ * <p>
+ * HTTP error responses are retried when their status is in {@code retryOnHttpStatusCodes};
+ * failures without a response (connect errors, timeouts) when they or a cause match
+ * {@code retryOnExceptions}. The wait grows per {@code backoffStrategy} from
+ * {@code delayMillis}, is capped at {@code maxDelayMillis}, and is spread by up to
+ * {@code jitterMillis} so clients throttled together do not retry together. A server-requested
+ * wait replaces a shorter one when {@code respectRetryAfter} is set. No retry is scheduled if it
+ * would start after {@code maxElapsedTimeMillis}.
+ */
+final class RetryScheduler {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final RetryPolicy policy;
+    // Returns a uniformly random value in [0, bound]
+    private final LongUnaryOperator random;
+
+    RetryScheduler(RetryPolicy policy) {
+        this(policy, bound -> ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    RetryScheduler(RetryPolicy policy, LongUnaryOperator random) {
+        this.policy = policy;
+        this.random = random;
+    }
+
+    /**
+     * @param retries          retries already made
+     * @param elapsedMillis    time since the first attempt started
+     * @param statusCode       status of the failed response, or 0 if none arrived
+     * @param retryAfterMillis the server-requested wait, or -1
+     * @return the wait before the next attempt, or -1 to give up
+     */
+    long nextDelayMillis(int retries, long elapsedMillis, int statusCode, Throwable error, long retryAfterMillis) {
+        if (retries >= policy.getMaxRetries() || !isRetriable(statusCode, error)) {
+            return -1;
+        }
+        long delay = backoffMillis(retries);
+        if (policy.isRespectRetryAfter() && retryAfterMillis > delay) {
+            delay = retryAfterMillis;
+        }
+        long budget = policy.getMaxElapsedTimeMillis();
+        if (budget > 0 && elapsedMillis + delay > budget) {
+            return -1;
+        }
+        return delay;
+    }
+
+    boolean isRetriable(int statusCode, Throwable error) {
+        if (error instanceof CircuitOpenException) {
+            // Retrying would only be rejected again until the circuit half-opens
+            return false;
+        }
+        if (statusCode > 0) {
+            Set<Integer> codes = policy.getRetryOnHttpStatusCodes();
+            return codes != null && codes.contains(statusCode);
+        }
+        Set<Class<? extends Exception>> types = policy.getRetryOnExceptions();
+        if (types == null || error == null) {
+            return false;
+        }
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof CompletionException) {
+                continue;
+            }
+            for (Class<? extends Exception> type : types) {
+                if (type.isInstance(t)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    long backoffMillis(int retries) {
+        long base = policy.getDelayMillis();
+        if (policy.getBackoffStrategy() == RetryBackoffStrategy.EXPONENTIAL) {
+            int shift = Math.min(retries, MAX_SHIFT);
+            base = (base > (Long.MAX_VALUE >> shift)) ? Long.MAX_VALUE : base << shift;
+        }
+        long cap = policy.getMaxDelayMillis();
+        long jitter = (policy.getJitterMillis() > 0) ? random.applyAsLong(policy.getJitterMillis()) : 0;
+        if (cap > 0 && base >= cap) {
+            // Spread below the cap; adding would collapse every capped client onto the same delay
+            return Math.max(0, cap - jitter);
+        }
+        long delay = base + jitter;
+        return (cap > 0) ? Math.min(delay, cap) : delay;
+    }
+}
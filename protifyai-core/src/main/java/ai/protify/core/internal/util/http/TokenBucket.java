@@ -0,0 +1,74 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket refilled continuously at {@code perMinute} tokens per minute, holding at most
+ * one minute's worth. Takes may overdraw the bucket, so a request larger than the capacity is
+ * admitted once the bucket is full and later takes wait for the debt to be repaid.
+ * <p>
+ * Not thread-safe; callers synchronize. Times are {@link System#nanoTime()} values passed in.
+ */
+final class TokenBucket {
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double available;
+    private long lastRefillNanos;
+
+    TokenBucket(long perMinute, long nowNanos) {
+        this.capacity = perMinute;
+        this.tokensPerNano = (double) perMinute / MINUTE_NANOS;
+        this.available = perMinute;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * @return nanoseconds until {@code tokens} can be taken, or 0 if they can be taken now
+     */
+    long nanosUntil(long tokens, long nowNanos) {
+        refill(nowNanos);
+        double needed = Math.min(tokens, capacity);
+        if (available >= needed) {
+            return 0;
+        }
+        return (long) Math.ceil((needed - available) / tokensPerNano);
+    }
+
+    void take(long tokens, long nowNanos) {
+        refill(nowNanos);
+        available -= tokens;
+    }
+
+    double available(long nowNanos) {
+        refill(nowNanos);
+        return available;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
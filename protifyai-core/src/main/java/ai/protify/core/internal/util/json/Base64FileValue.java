@@ -0,0 +1,157 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import ai.protify.core.internal.util.FileUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * A JSON string value holding the base64 encoding of a file, optionally preceded by a
+ * prefix such as {@code data:image/png;base64,}. The file is memory-mapped and encoded
+ * chunk by chunk while the body is read, so neither the raw bytes nor the encoded text
+ * is ever held on the heap in full.
+ * <p>
+ * The file must not change while a request referencing it is in flight. Each read checks it
+ * still has the size (and, when known, the modification time) it was attached with, and fails
+ * with an {@link IOException} otherwise.
+ */
+public final class Base64FileValue implements JsonStreamValue {
+
+    // Multiple of 3 so every full chunk encodes without padding
+    private static final int CHUNK_BYTES = 48 * 1024;
+
+    private final Path path;
+    private final long size;
+    private final long modifiedMillis;
+    private final byte[] prefix;
+    private final Supplier<String> contentHash;
+
+    private Base64FileValue(Path path, long size, long modifiedMillis, String prefix, Supplier<String> contentHash) {
+        this.path = path;
+        this.size = size;
+        this.modifiedMillis = modifiedMillis;
+        this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * @param prefix      JSON-safe text emitted before the encoded content, or empty
+     * @param contentHash supplies a digest of the file content; used only for cache keys and
+     *                    expected to be memoized by the caller
+     */
+    public static Base64FileValue of(Path path, long size, String prefix, Supplier<String> contentHash) {
+        return of(path, size, -1, prefix, contentHash);
+    }
+
+    /**
+     * @param modifiedMillis the file's modification time when it was attached, or -1 to check
+     *                       only its size
+     */
+    public static Base64FileValue of(Path path, long size, long modifiedMillis, String prefix,
+                                     Supplier<String> contentHash) {
+        return new Base64FileValue(path, size, modifiedMillis, prefix, contentHash);
+    }
+
+    @Override
+    public long length() {
+        return prefix.length + 4 * ((size + 2) / 3);
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        FileUtil.checkUnchanged(path, size, modifiedMillis);
+        ByteBuffer content = FileUtil.mapReadOnly(path);
+        if (content.remaining() != size) {
+            throw new IOException("File changed after it was attached to the request: " + path);
+        }
+        return new EncodingInputStream(content);
+    }
+
+    /**
+     * The prefix followed by the file's name and size, for logs.
+     */
+    String describe() {
+        return new String(prefix, StandardCharsets.UTF_8) + "<" + path.getFileName() + ", " + size + " bytes>";
+    }
+
+    @Override
+    public InputStream openKeyStream() {
+        String key = new String(prefix, StandardCharsets.UTF_8) + "sha256:" + contentHash.get();
+        return new ByteArrayInputStream(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private final class EncodingInputStream extends InputStream {
+
+        private final ByteBuffer source;
+        private final byte[] raw = new byte[CHUNK_BYTES];
+        private final byte[] chunk = new byte[CHUNK_BYTES / 3 * 4];
+        private byte[] encoded = prefix;
+        private int encodedLength = prefix.length;
+        private int position;
+
+        EncodingInputStream(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int n = read(single, 0, 1);
+            return n < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= encodedLength && !encodeNextChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, encodedLength - position);
+            System.arraycopy(encoded, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean encodeNextChunk() {
+            int count = Math.min(source.remaining(), CHUNK_BYTES);
+            if (count == 0) {
+                return false;
+            }
+            source.get(raw, 0, count);
+            if (count == CHUNK_BYTES) {
+                encoded = chunk;
+                encodedLength = Base64.getEncoder().encode(raw, chunk);
+            } else {
+                encoded = Base64.getEncoder().encode(Arrays.copyOf(raw, count));
+                encodedLength = encoded.length;
+            }
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.json;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The getters, setters and constructor {@link ProtifyJson} binds a model class through, built
+ * once per class. Each accessor is a lambda linked straight to the bean method with
+ * {@link LambdaMetafactory}, so serializing and binding call the getters and setters directly
+ * instead of through {@link Method#invoke}, and primitive getters are read without boxing.
+ * Members that cannot be linked that way (non-public classes, plain fields, classes from another
+ * class loader) fall back to reflection.
+ */
+final class BeanBinder {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    final Class<?> type;
+    final List<Getter> getters;
+    final Map<String, Setter> setters;
+    private final Supplier<Object> constructor;
+
+    private BeanBinder(Class<?> type, boolean compile) {
+        this.type = type;
+        this.getters = inspectGetters(type, compile);
+        this.setters = inspectSetters(type, compile);
+        this.constructor = constructor(type, compile);
+    }
+
+    static BeanBinder compile(Class<?> type) {
+        return new BeanBinder(type, true);
+    }
+
+    /**
+     * A binder that calls every accessor through reflection, as binding worked before accessors
+     * were compiled. Kept for comparison in benchmarks.
+     */
+    static BeanBinder reflect(Class<?> type) {
+        return new BeanBinder(type, false);
+    }
+
+    Object newInstance() {
+        if (constructor == null) {
+            throw new IllegalArgumentException(
+                    type.getName() + " has no no-arg constructor. "
+                    + "Classes used with fromJson must have a no-arg constructor.");
+        }
+        try {
+            return constructor.get();
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                    "Failed to instantiate " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A property written by {@link ProtifyJson#toJson(Object)}. Exactly one accessor is set,
+     * chosen by {@link #kind}; the primitive ones avoid boxing the value.
+     */
+    static final class Getter {
+        static final int OBJECT = 0;
+        static final int INT = 1;
+        static final int LONG = 2;
+        static final int DOUBLE = 3;
+        static final int BOOLEAN = 4;
+
+        final String jsonName;
+        // "name": and ,"name": so a property is written with one append
+        final String firstKey;
+        final String nextKey;
+        final int kind;
+        final Function<Object, Object> object;
+        final ToIntFunction<Object> intValue;
+        final ToLongFunction<Object> longValue;
+        final ToDoubleFunction<Object> doubleValue;
+        final Predicate<Object> booleanValue;
+
+        private Getter(String jsonName, int kind, Object accessor) {
+            this.jsonName = jsonName;
+            this.firstKey = '"' + jsonName + "\":";
+            this.nextKey = ",\"" + jsonName + "\":";
+            this.kind = kind;
+            this.object = (kind == OBJECT) ? cast(accessor) : null;
+            this.intValue = (kind == INT) ? cast(accessor) : null;
+            this.longValue = (kind == LONG) ? cast(accessor) : null;
+            this.doubleValue = (kind == DOUBLE) ? cast(accessor) : null;
+            this.booleanValue = (kind == BOOLEAN) ? cast(accessor) : null;
+        }
+    }
+
+    /**
+     * A property bound by {@link ProtifyJson#fromJson(String, Class)}, through its public setter
+     * or else the field itself.
+     */
+    static final class Setter {
+        final String jsonName;
+        final Field field;
+        final Class<?> type;
+        final Type genericType;
+        final BiConsumer<Object, Object> writer;
+        final boolean accessible;
+
+        private Setter(String jsonName, Field field, BiConsumer<Object, Object> writer, boolean accessible) {
+            this.jsonName = jsonName;
+            this.field = field;
+            this.type = field.getType();
+            this.genericType = field.getGenericType();
+            this.writer = writer;
+            this.accessible = accessible;
+        }
+    }
+
+    private static List<Getter> inspectGetters(Class<?> type, boolean compile) {
+        List<Getter> getters = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (isGetter(method)) {
+                getters.add(compile ? compileGetter(type, method) : reflectGetter(method));
+            }
+        }
+        return Collections.unmodifiableList(getters);
+    }
+
+    private static boolean isGetter(Method method) {
+        String name = method.getName();
+        return (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2)
+                && method.getParameterCount() == 0
+                && method.getReturnType() != void.class
+                && !name.equals("getClass");
+    }
+
+    private static String getterName(Method method) {
+        if (method.isAnnotationPresent(ProtifyJsonProperty.class)) {
+            return method.getAnnotation(ProtifyJsonProperty.class).value();
+        }
+        String methodName = method.getName();
+        int prefixLength = methodName.startsWith("is") ? 2 : 3;
+        String nameWithoutPrefix = methodName.substring(prefixLength);
+        return Character.toLowerCase(nameWithoutPrefix.charAt(0)) + nameWithoutPrefix.substring(1);
+    }
+
+    private static Getter compileGetter(Class<?> type, Method method) {
+        String jsonName = getterName(method);
+        if (linkable(type) && linkable(method.getDeclaringClass())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflect(method);
+                Class<?> returnType = method.getReturnType();
+                MethodType instantiated = MethodType.methodType(returnType, type);
+                if (returnType == int.class || returnType == short.class || returnType == byte.class) {
+                    return new Getter(jsonName, Getter.INT, lambda(ToIntFunction.class, "applyAsInt",
+                            MethodType.methodType(int.class, Object.class), handle, instantiated));
+                }
+                if (returnType == long.class) {
+                    return new Getter(jsonName, Getter.LONG, lambda(ToLongFunction.class, "applyAsLong",
+                            MethodType.methodType(long.class, Object.class), handle, instantiated));
+                }
+                if (returnType == double.class) {
+                    return new Getter(jsonName, Getter.DOUBLE, lambda(ToDoubleFunction.class, "applyAsDouble",
+                            MethodType.methodType(double.class, Object.class), handle, instantiated));
+                }
+                if (returnType == boolean.class) {
+                    return new Getter(jsonName, Getter.BOOLEAN, lambda(Predicate.class, "test",
+                            MethodType.methodType(boolean.class, Object.class), handle, instantiated));
+                }
+                return new Getter(jsonName, Getter.OBJECT, lambda(Function.class, "apply",
+                        MethodType.methodType(Object.class, Object.class), handle, instantiated.wrap()));
+            } catch (Throwable e) {
+                // Not linkable from here; reflection may still reach it
+            }
+        }
+        return reflectGetter(method);
+    }
+
+    private static Getter reflectGetter(Method method) {
+        Function<Object, Object> getter = bean -> {
+            try {
+                return method.invoke(bean);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        return new Getter(getterName(method), Getter.OBJECT, getter);
+    }
+
+    private static Map<String, Setter> inspectSetters(Class<?> type, boolean compile) {
+        Map<String, Setter> setters = new LinkedHashMap<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                String jsonName;
+                if (field.isAnnotationPresent(ProtifyJsonProperty.class)) {
+                    jsonName = field.getAnnotation(ProtifyJsonProperty.class).value();
+                } else {
+                    jsonName = field.getName();
+                }
+                if (!setters.containsKey(jsonName)) {
+                    setters.put(jsonName, setter(type, field, jsonName, compile));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return Collections.unmodifiableMap(setters);
+    }
+
+    private static Setter setter(Class<?> type, Field field, String jsonName, boolean compile) {
+        Method method = findSetter(type, field);
+        if (method != null) {
+            if (compile && linkable(type) && linkable(method.getDeclaringClass())) {
+                try {
+                    MethodHandle handle = LOOKUP.unreflect(method);
+                    BiConsumer<Object, Object> writer = lambda(BiConsumer.class, "accept",
+                            MethodType.methodType(void.class, Object.class, Object.class), handle,
+                            MethodType.methodType(void.class, type, field.getType()).wrap().changeReturnType(void.class));
+                    return new Setter(jsonName, field, writer, true);
+                } catch (Throwable e) {
+                    // Not linkable from here; fall back to reflection
+                }
+            }
+            BiConsumer<Object, Object> writer = (bean, value) -> {
+                try {
+                    method.invoke(bean, value);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e.getCause() != null ? e.getCause() : e);
+                }
+            };
+            return new Setter(jsonName, field, writer, true);
+        }
+
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // InaccessibleObjectException on Java 16+ when module system blocks access.
+            // Field will be flagged as inaccessible; a clear error is thrown at deserialization time.
+            return new Setter(jsonName, field, null, false);
+        }
+        BiConsumer<Object, Object> writer = (bean, value) -> {
+            try {
+                field.set(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        return new Setter(jsonName, field, writer, true);
+    }
+
+    private static Method findSetter(Class<?> type, Field field) {
+        String fieldName = field.getName();
+        String setterName = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        try {
+            return type.getMethod(setterName, field.getType());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Supplier<Object> constructor(Class<?> type, boolean compile) {
+        Constructor<?> ctor;
+        try {
+            ctor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+        boolean concrete = !Modifier.isAbstract(type.getModifiers()) && !type.isInterface();
+        if (compile && concrete && linkable(type) && Modifier.isPublic(ctor.getModifiers())) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectConstructor(ctor);
+                return lambda(Supplier.class, "get", MethodType.methodType(Object.class), handle,
+                        MethodType.methodType(type));
+            } catch (Throwable e) {
+                // Not linkable from here; fall back to reflection
+            }
+        }
+        return () -> {
+            try {
+                ctor.setAccessible(true);
+                return ctor.newInstance();
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Failed to instantiate " + type.getName() + ": " + e.getMessage(), e);
+            }
+        };
+    }
+
+    // Lambdas are spun next to this class and link the bean class by name, so it must be visible here
+    private static boolean linkable(Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        ClassLoader target = type.getClassLoader();
+        for (ClassLoader loader = BeanBinder.class.getClassLoader(); ; loader = loader.getParent()) {
+            if (loader == target) {
+                return true;
+            }
+            if (loader == null) {
+                return false;
+            }
+        }
+    }
+
+    private static <F> F lambda(Class<? super F> functionalInterface, String methodName, MethodType erased,
+                                MethodHandle implementation, MethodType instantiated) throws Throwable {
+        return cast(LambdaMetafactory.metafactory(LOOKUP, methodName, MethodType.methodType(functionalInterface),
+                erased, implementation, instantiated).getTarget().invoke());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
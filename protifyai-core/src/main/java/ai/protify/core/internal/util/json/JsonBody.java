@@ -0,0 +1,221 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A serialized JSON request body made of small UTF-8 text segments interleaved with
+ * {@link JsonStreamValue}s. Large values are only read while the body is being sent,
+ * so the full payload never has to exist as one {@link String} or byte array.
+ */
+public final class JsonBody {
+
+    // Each segment is either a byte[] of encoded text or a JsonStreamValue
+    private final List<Object> segments;
+    private final long contentLength;
+
+    private JsonBody(List<Object> segments, long contentLength) {
+        this.segments = segments;
+        this.contentLength = contentLength;
+    }
+
+    public static JsonBody of(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new JsonBody(Collections.singletonList(bytes), bytes.length);
+    }
+
+    /**
+     * @return the body size in bytes, or {@code -1} if a streamed value has unknown length
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * @return {@code true} if any part of the body is read from a {@link JsonStreamValue}
+     */
+    public boolean isStreamed() {
+        for (Object segment : segments) {
+            if (segment instanceof JsonStreamValue) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens a fresh stream over the whole body. Streamed values are opened lazily as the
+     * reader reaches them and closed once they are exhausted.
+     */
+    public InputStream openStream() {
+        return new BodyInputStream(false);
+    }
+
+    /**
+     * Opens a stream of the bytes that identify this body for caching: the text segments plus
+     * each streamed value's {@link JsonStreamValue#openKeyStream() key bytes}.
+     */
+    public InputStream openKeyStream() {
+        return new BodyInputStream(true);
+    }
+
+    /**
+     * Creates a publisher that pulls the body through {@link #openStream()} on demand. Each
+     * subscription (including retries) re-reads the body from its sources.
+     */
+    public HttpRequest.BodyPublisher toBodyPublisher() {
+        if (segments.size() == 1 && segments.get(0) instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) segments.get(0));
+        }
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(this::openStream);
+        if (contentLength > 0) {
+            return HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength);
+        }
+        return publisher;
+    }
+
+    /**
+     * Materializes the body; intended for logging and tests, not for the send path.
+     */
+    @Override
+    public String toString() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = openStream()) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON body", e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private final class BodyInputStream extends InputStream {
+
+        private final boolean keyed;
+        private int index;
+        private byte[] bytes;
+        private int bytePosition;
+        private InputStream current;
+
+        BodyInputStream(boolean keyed) {
+            this.keyed = keyed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int n = read(single, 0, 1);
+            return n < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (true) {
+                if (bytes != null) {
+                    if (bytePosition < bytes.length) {
+                        int count = Math.min(length, bytes.length - bytePosition);
+                        System.arraycopy(bytes, bytePosition, buffer, offset, count);
+                        bytePosition += count;
+                        return count;
+                    }
+                    bytes = null;
+                } else if (current != null) {
+                    int count = current.read(buffer, offset, length);
+                    if (count >= 0) {
+                        return count;
+                    }
+                    current.close();
+                    current = null;
+                }
+                if (index >= segments.size()) {
+                    return -1;
+                }
+                Object segment = segments.get(index++);
+                if (segment instanceof byte[]) {
+                    bytes = (byte[]) segment;
+                    bytePosition = 0;
+                } else {
+                    JsonStreamValue value = (JsonStreamValue) segment;
+                    current = keyed ? value.openKeyStream() : value.openStream();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            index = segments.size();
+            bytes = null;
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+    }
+
+    static final class Builder extends JsonOutput {
+
+        private final List<Object> segments = new ArrayList<>();
+        private long contentLength;
+
+        @Override
+        void appendStream(JsonStreamValue value) {
+            flushText();
+            segments.add(value);
+            long length = value.length();
+            contentLength = (length < 0 || contentLength < 0) ? -1 : contentLength + length;
+        }
+
+        // The fragment's bytes become a segment of their own rather than being re-encoded
+        @Override
+        void appendFragment(JsonFragment fragment) {
+            flushText();
+            byte[] bytes = fragment.bytes();
+            segments.add(bytes);
+            if (contentLength >= 0) {
+                contentLength += bytes.length;
+            }
+        }
+
+        private void flushText() {
+            if (text.length() == 0) {
+                return;
+            }
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            text.setLength(0);
+            segments.add(bytes);
+            if (contentLength >= 0) {
+                contentLength += bytes.length;
+            }
+        }
+
+        JsonBody build() {
+            flushText();
+            return new JsonBody(segments, contentLength);
+        }
+    }
+}
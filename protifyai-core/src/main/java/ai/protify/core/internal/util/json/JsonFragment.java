@@ -0,0 +1,54 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON value serialized once and written verbatim wherever it appears. Conversations keep
+ * the fragments of earlier messages so each turn only serializes what is new; a
+ * {@link JsonBody} carries the bytes as they are.
+ */
+public final class JsonFragment {
+
+    private final byte[] bytes;
+
+    private JsonFragment(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Serializes {@code value} as {@link ProtifyJson#toJsonValue(Object)} does. Streamed values
+     * are materialized, so large attachments should not be held in fragments.
+     */
+    public static JsonFragment of(Object value) {
+        return new JsonFragment(ProtifyJson.toJsonValue(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.util.Arrays;
+
+/**
+ * Where each top-level member of a JSON object lies in its UTF-8 bytes. Building the index
+ * scans the document once, skipping every value without decoding it; a member is decoded only
+ * when it is read. The offsets of an array member's elements are found the first time an
+ * element is read, so a single element can be bound without the rest of the array.
+ * <p>
+ * A root that is not an object has no members.
+ */
+public final class JsonIndex {
+
+    private final byte[] utf8;
+    private String[] names = new String[8];
+    // Start and end offset of each member's value
+    private int[] bounds = new int[16];
+    private int size;
+    // Start and end offset of each element, per array member; found on first use
+    private int[][] elements;
+
+    private JsonIndex(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    public static JsonIndex of(byte[] utf8) {
+        JsonIndex index = new JsonIndex(utf8);
+        JsonReader reader = new JsonReader(utf8);
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return index;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            reader.peek();
+            int start = reader.position();
+            reader.skipValue();
+            index.put(name, start, reader.position());
+        }
+        reader.endObject();
+        return index;
+    }
+
+    // A repeated name takes the later value, as binding the document would
+    private void put(String name, int start, int end) {
+        int slot = slot(name);
+        if (slot < 0) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                bounds = Arrays.copyOf(bounds, size * 4);
+            }
+            slot = size++;
+            names[slot] = name;
+        }
+        bounds[slot * 2] = start;
+        bounds[slot * 2 + 1] = end;
+    }
+
+    // Provider bodies have a handful of top-level members, so a linear scan beats hashing
+    private int slot(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean has(String name) {
+        return slot(name) >= 0;
+    }
+
+    /**
+     * Binds member {@code name} to {@code type}, or returns {@code null} when there is no such
+     * member.
+     */
+    public <T> T get(String name, Class<T> type) {
+        JsonReader reader = reader(name);
+        return (reader != null) ? ProtifyJson.fromReader(reader, type) : null;
+    }
+
+    /**
+     * The number of elements of array member {@code name}, or 0 when it is missing or not an
+     * array.
+     */
+    public int size(String name) {
+        int[] offsets = elements(name);
+        return (offsets != null) ? offsets.length / 2 : 0;
+    }
+
+    /**
+     * Binds element {@code i} of array member {@code name} to {@code type}, without binding the
+     * other elements. Returns {@code null} when there is no such element.
+     */
+    public <T> T get(String name, int i, Class<T> type) {
+        int[] offsets = elements(name);
+        if (offsets == null || i < 0 || i >= offsets.length / 2) {
+            return null;
+        }
+        int start = offsets[i * 2];
+        return ProtifyJson.fromReader(new JsonReader(utf8, start, offsets[i * 2 + 1] - start), type);
+    }
+
+    /**
+     * A reader positioned at member {@code name}, or {@code null} when there is no such member.
+     */
+    JsonReader reader(String name) {
+        int slot = slot(name);
+        if (slot < 0) {
+            return null;
+        }
+        int start = bounds[slot * 2];
+        return new JsonReader(utf8, start, bounds[slot * 2 + 1] - start);
+    }
+
+    private synchronized int[] elements(String name) {
+        int slot = slot(name);
+        if (slot < 0) {
+            return null;
+        }
+        if (elements == null) {
+            elements = new int[size][];
+        }
+        int[] offsets = elements[slot];
+        if (offsets == null) {
+            offsets = scanElements(slot);
+            elements[slot] = offsets;
+        }
+        return (offsets.length > 0 || isArray(slot)) ? offsets : null;
+    }
+
+    private int[] scanElements(int slot) {
+        int start = bounds[slot * 2];
+        JsonReader reader = new JsonReader(utf8, start, bounds[slot * 2 + 1] - start);
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            return new int[0];
+        }
+        int[] offsets = new int[16];
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.peek();
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = reader.position();
+            reader.skipValue();
+            offsets[count++] = reader.position();
+        }
+        reader.endArray();
+        return Arrays.copyOf(offsets, count);
+    }
+
+    private boolean isArray(int slot) {
+        return utf8[bounds[slot * 2]] == '[';
+    }
+}
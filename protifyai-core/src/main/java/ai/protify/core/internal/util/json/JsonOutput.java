@@ -0,0 +1,59 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.json;
+
+/**
+ * Destination for {@link ProtifyJson} serialization: plain text is appended to
+ * {@link #text}, streamed values are handed to {@link #appendStream(JsonStreamValue)} and
+ * pre-serialized values to {@link #appendFragment(JsonFragment)}.
+ */
+abstract class JsonOutput {
+
+    final StringBuilder text = new StringBuilder();
+
+    abstract void appendStream(JsonStreamValue value);
+
+    void appendFragment(JsonFragment fragment) {
+        text.append(fragment);
+    }
+
+    BeanBinder binder(Class<?> type) {
+        return ProtifyJson.binder(type);
+    }
+
+    static final class Materialized extends JsonOutput {
+
+        @Override
+        void appendStream(JsonStreamValue value) {
+            value.appendTo(text);
+        }
+    }
+
+    // Like Materialized, but describes file-backed values instead of reading and encoding them
+    static final class Loggable extends JsonOutput {
+
+        @Override
+        void appendStream(JsonStreamValue value) {
+            if (value instanceof Base64FileValue) {
+                text.append(((Base64FileValue) value).describe());
+            } else {
+                value.appendTo(text);
+            }
+        }
+    }
+}
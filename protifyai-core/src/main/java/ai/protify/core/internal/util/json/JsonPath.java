@@ -0,0 +1,202 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dot-separated path into a parsed JSON tree, such as {@code "result.content.0.text"},
+ * split into its segments once. A segment is looked up by name in an object and, when it is
+ * all digits, by index in an array.
+ * <p>
+ * {@link #compile(String)} keeps the paths it has compiled in a bounded cache, so the string
+ * paths passed to {@link ProtifyJsonObject#get(String)} are split only the first time they are
+ * seen. Once the cache is full, further paths are compiled without being cached.
+ */
+public final class JsonPath {
+
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private static final Map<String, JsonPath> CACHE = new ConcurrentHashMap<>();
+
+    private static final JsonPath ROOT = new JsonPath("", new String[0], new int[0]);
+
+    private final String path;
+    private final String[] names;
+    // Array index of each segment, or -1 when the segment is not all digits
+    private final int[] indices;
+
+    private JsonPath(String path, String[] names, int[] indices) {
+        this.path = path;
+        this.names = names;
+        this.indices = indices;
+    }
+
+    public static JsonPath compile(String path) {
+        if (path == null || path.isEmpty()) {
+            return ROOT;
+        }
+        JsonPath compiled = CACHE.get(path);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = parse(path);
+        if (CACHE.size() < MAX_CACHED_PATHS) {
+            CACHE.putIfAbsent(path, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles several paths into a {@link Selection} that reads them all in one walk of the
+     * tree, following each shared prefix only once.
+     */
+    public static Selection select(String... paths) {
+        return new Selection(paths);
+    }
+
+    static int cachedPaths() {
+        return CACHE.size();
+    }
+
+    private static JsonPath parse(String path) {
+        String[] names = path.split("\\.");
+        int[] indices = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indices[i] = index(names[i]);
+        }
+        return new JsonPath(path, names, indices);
+    }
+
+    private static int index(String segment) {
+        if (segment.isEmpty() || segment.length() > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    Object read(Object root) {
+        Object current = root;
+        for (int i = 0; i < names.length; i++) {
+            current = step(current, names[i], indices[i]);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static Object step(Object current, String name, int index) {
+        if (current instanceof Map) {
+            return ((Map<?, ?>) current).get(name);
+        }
+        if (current instanceof List) {
+            if (index < 0) {
+                return null;
+            }
+            List<?> list = (List<?>) current;
+            return (index < list.size()) ? list.get(index) : null;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * Paths compiled together by {@link JsonPath#select(String...)}. The paths are merged into a
+     * tree of segments, so reading {@code "usage.input_tokens"} and {@code "usage.output_tokens"}
+     * looks up {@code usage} once.
+     */
+    public static final class Selection {
+
+        private final Node root = new Node(null, -1);
+        private final int size;
+
+        private Selection(String[] paths) {
+            this.size = paths.length;
+            for (int slot = 0; slot < paths.length; slot++) {
+                JsonPath path = compile(paths[slot]);
+                Node node = root;
+                for (int i = 0; i < path.names.length; i++) {
+                    node = node.child(path.names[i], path.indices[i]);
+                }
+                node.slots = Arrays.copyOf(node.slots, node.slots.length + 1);
+                node.slots[node.slots.length - 1] = slot;
+            }
+        }
+
+        /**
+         * The value at each path, in the order the paths were given, or {@code null} where a
+         * path does not resolve.
+         */
+        Object[] read(Object rootValue) {
+            Object[] values = new Object[size];
+            visit(root, rootValue, values);
+            return values;
+        }
+
+        private static void visit(Node node, Object value, Object[] values) {
+            for (int slot : node.slots) {
+                values[slot] = value;
+            }
+            for (Node child : node.children) {
+                Object next = step(value, child.name, child.index);
+                if (next != null) {
+                    visit(child, next, values);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        final String name;
+        final int index;
+        final List<Node> children = new ArrayList<>(2);
+        int[] slots = new int[0];
+
+        Node(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        Node child(String name, int index) {
+            for (Node child : children) {
+                if (child.name.equals(name)) {
+                    return child;
+                }
+            }
+            Node child = new Node(name, index);
+            children.add(child);
+            return child;
+        }
+    }
+}
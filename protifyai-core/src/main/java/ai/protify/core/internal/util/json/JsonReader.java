@@ -0,0 +1,586 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pull parser over JSON text. Callers step through the document token by token and take only
+ * the values they need, so binding a response to a model class does not build a tree of maps
+ * and lists first, and skipped values are scanned without being decoded.
+ * <p>
+ * A reader over UTF-8 bytes scans them directly, since every structural character is ASCII, and
+ * decodes only the strings and names it returns. Response bodies are read this way without
+ * first being decoded into a String.
+ * <p>
+ * Numbers are read as leniently as {@link ProtifyJsonObject} always has, since the same parser
+ * reads model output: {@code _} and {@code ,} used as digit grouping (e.g. {@code 2,161,000})
+ * are skipped. Text after the root value is ignored.
+ */
+public final class JsonReader {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final String json;
+    private final byte[] bytes;
+    private final int offset;
+    private final int limit;
+    private int pos;
+    private int[] scopes = new int[16];
+    private int depth = 1;
+    private JsonToken peeked;
+
+    public JsonReader(String json) {
+        this.json = json != null ? json : "";
+        this.bytes = null;
+        this.offset = 0;
+        this.limit = this.json.length();
+        this.scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    public JsonReader(byte[] utf8) {
+        this(utf8, 0, utf8 != null ? utf8.length : 0);
+    }
+
+    public JsonReader(byte[] utf8, int offset, int length) {
+        this.json = null;
+        this.bytes = utf8 != null ? utf8 : new byte[0];
+        this.offset = offset;
+        this.limit = offset + length;
+        this.pos = offset;
+        this.scopes[0] = EMPTY_DOCUMENT;
+        // A byte order mark is not part of the document
+        if (length >= 3 && bytes[pos] == (byte) 0xEF && bytes[pos + 1] == (byte) 0xBB && bytes[pos + 2] == (byte) 0xBF) {
+            pos += 3;
+        }
+    }
+
+    /**
+     * Reads the buffer's remaining bytes. Heap buffers are read in place; direct buffers are
+     * copied once. The buffer's position is not changed.
+     */
+    public JsonReader(ByteBuffer utf8) {
+        this(array(utf8), utf8.hasArray() ? utf8.arrayOffset() + utf8.position() : 0, utf8.remaining());
+    }
+
+    private static byte[] array(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return buffer.array();
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return copy;
+    }
+
+    public JsonToken peek() {
+        if (peeked == null) {
+            peeked = doPeek();
+        }
+        return peeked;
+    }
+
+    private JsonToken doPeek() {
+        int scope = scopes[depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                skipWhitespace();
+                if (current() == ']') {
+                    return JsonToken.END_ARRAY;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                skipWhitespace();
+                if (current() == ']') {
+                    return JsonToken.END_ARRAY;
+                }
+                if (current() != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                pos++;
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                skipWhitespace();
+                if (current() == '}') {
+                    return JsonToken.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (current() != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    pos++;
+                    skipWhitespace();
+                }
+                if (current() != '"') {
+                    throw syntaxError("Expected '\"' but found '" + current() + "'");
+                }
+                return JsonToken.NAME;
+            case DANGLING_NAME:
+                skipWhitespace();
+                if (current() != ':') {
+                    throw syntaxError("Expected ':' but found '" + current() + "'");
+                }
+                pos++;
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                return JsonToken.END_DOCUMENT;
+        }
+
+        skipWhitespace();
+        switch (current()) {
+            case '{':
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case '"':
+                return JsonToken.STRING;
+            case 't':
+            case 'f':
+                return JsonToken.BOOLEAN;
+            case 'n':
+                return JsonToken.NULL;
+            case 0:
+                if (pos >= limit) {
+                    if (depth == 1) {
+                        return JsonToken.END_DOCUMENT;
+                    }
+                    throw syntaxError("Unexpected end of input");
+                }
+                return JsonToken.NUMBER;
+            default:
+                return JsonToken.NUMBER;
+        }
+    }
+
+    // Offset of the next token once peeked, or of the end of the value just consumed
+    int position() {
+        return pos;
+    }
+
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginObject() {
+        expect(JsonToken.BEGIN_OBJECT);
+        pos++;
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() {
+        expect(JsonToken.END_OBJECT);
+        pos++;
+        depth--;
+    }
+
+    public void beginArray() {
+        expect(JsonToken.BEGIN_ARRAY);
+        pos++;
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() {
+        expect(JsonToken.END_ARRAY);
+        pos++;
+        depth--;
+    }
+
+    public String nextName() {
+        expect(JsonToken.NAME);
+        String name = readString();
+        scopes[depth - 1] = DANGLING_NAME;
+        return name;
+    }
+
+    public String nextString() {
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() {
+        expect(JsonToken.BOOLEAN);
+        boolean value = current() == 't';
+        consumeLiteral(value ? "true" : "false");
+        return value;
+    }
+
+    public void nextNull() {
+        expect(JsonToken.NULL);
+        consumeLiteral("null");
+    }
+
+    /**
+     * Reads a number as a {@link Long} when it is integral and fits, a {@link Double} when it has
+     * a fraction or exponent, and a {@link BigDecimal} otherwise.
+     */
+    public Number nextNumber() {
+        expect(JsonToken.NUMBER);
+        int start = pos;
+        boolean decimal = false;
+        StringBuilder grouped = null;
+        while (true) {
+            char c = current();
+            if (Character.isDigit(c) || "-+.eE".indexOf(c) != -1) {
+                decimal |= c == '.' || c == 'e' || c == 'E';
+                if (grouped != null) {
+                    grouped.append(c);
+                }
+                pos++;
+            } else if (c == '_' || (c == ',' && isThousandsSeparator())) {
+                // Digit grouping (e.g. 2_161_000 or 2,161,000) is dropped from the value
+                if (grouped == null) {
+                    grouped = new StringBuilder().append(text(start, pos));
+                }
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (pos == start) {
+            throw new NumberFormatException(
+                    "Expected a number at position " + pos + " but found '" + current() + "'");
+        }
+        String text = (grouped != null) ? grouped.toString() : null;
+        try {
+            if (decimal) {
+                return Double.parseDouble(text != null ? text : text(start, pos));
+            }
+            return (text != null) ? Long.parseLong(text) : parseLong(start, pos);
+        } catch (NumberFormatException e) {
+            return new BigDecimal(text != null ? text : text(start, pos));
+        }
+    }
+
+    // Parses in place; up to 18 digits cannot overflow, longer numbers go through Long.parseLong
+    private long parseLong(int start, int end) {
+        if (json != null) {
+            return Long.parseLong(json, start, end, 10);
+        }
+        int i = start;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            return Long.parseLong(text(start, end));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    public long nextLong() {
+        return nextNumber().longValue();
+    }
+
+    public int nextInt() {
+        return nextNumber().intValue();
+    }
+
+    public double nextDouble() {
+        return nextNumber().doubleValue();
+    }
+
+    /**
+     * Skips the next value, including everything nested in it, without decoding it.
+     */
+    public void skipValue() {
+        int level = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    level++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    level++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    level--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    level--;
+                    break;
+                case NAME:
+                    skipString();
+                    scopes[depth - 1] = DANGLING_NAME;
+                    peeked = null;
+                    break;
+                case STRING:
+                    skipString();
+                    peeked = null;
+                    break;
+                case NUMBER:
+                    nextNumber();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    return;
+            }
+        } while (level > 0);
+    }
+
+    /**
+     * Reads the next value as a tree: objects become {@link LinkedHashMap}s, arrays
+     * {@link ArrayList}s, and scalars {@link String}, {@link Number}, {@link Boolean} or
+     * {@code null}.
+     */
+    public Object readValue() {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                beginObject();
+                while (hasNext()) {
+                    String key = nextName();
+                    map.put(key, readValue());
+                }
+                endObject();
+                return map;
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                beginArray();
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+                endArray();
+                return list;
+            case STRING:
+                return nextString();
+            case NUMBER:
+                return nextNumber();
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+                return null;
+            case END_DOCUMENT:
+                return null;
+            default:
+                throw syntaxError("Unexpected " + peek());
+        }
+    }
+
+    private void expect(JsonToken token) {
+        JsonToken actual = peek();
+        if (actual != token) {
+            throw syntaxError("Expected " + token + " but was " + actual);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    // Reads the string starting at the opening quote; escape-free strings are a single substring
+    private String readString() {
+        if (bytes != null) {
+            return readUtf8String();
+        }
+        int start = ++pos;
+        while (pos < limit) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                return json.substring(start, pos++);
+            }
+            if (c == '\\') {
+                break;
+            }
+            pos++;
+        }
+        StringBuilder sb = new StringBuilder(pos - start + 16).append(json, start, pos);
+        while (pos < limit) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            appendEscape(sb);
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    // As readString, decoding the UTF-8 between escapes; escape-free strings decode in one step
+    private String readUtf8String() {
+        int start = ++pos;
+        while (pos < limit) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                return new String(bytes, start, pos++ - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                break;
+            }
+            pos++;
+        }
+        StringBuilder sb = new StringBuilder(pos - start + 16);
+        int run = start;
+        while (pos < limit) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                sb.append(new String(bytes, run, pos++ - run, StandardCharsets.UTF_8));
+                return sb.toString();
+            }
+            if (b != '\\') {
+                pos++;
+                continue;
+            }
+            sb.append(new String(bytes, run, pos++ - run, StandardCharsets.UTF_8));
+            appendEscape(sb);
+            run = pos;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    // Appends the escape whose backslash was just consumed
+    private void appendEscape(StringBuilder sb) {
+        char escaped = pos < limit ? charAt(pos++) : 0;
+        switch (escaped) {
+            case 'b':
+                sb.append('\b');
+                break;
+            case 'f':
+                sb.append('\f');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case 'r':
+                sb.append('\r');
+                break;
+            case 't':
+                sb.append('\t');
+                break;
+            case 'u':
+                if (pos + 4 > limit) {
+                    throw syntaxError("Unterminated unicode escape");
+                }
+                int code = 0;
+                for (int end = pos + 4; pos < end; pos++) {
+                    int digit = Character.digit(charAt(pos), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    code = (code << 4) | digit;
+                }
+                sb.append((char) code);
+                break;
+            default:
+                // \" \\ \/ and unknown escapes stand for the character itself
+                sb.append(escaped);
+        }
+    }
+
+    private void skipString() {
+        pos++;
+        while (pos < limit) {
+            char c = charAt(pos++);
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                pos++;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private void consumeLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (charAt(pos + i) != literal.charAt(i)) {
+                throw syntaxError("Expected '" + literal + "'");
+            }
+        }
+        pos += literal.length();
+    }
+
+    // A comma is a thousands separator if the next 3 characters are digits and the 4th is not
+    private boolean isThousandsSeparator() {
+        return Character.isDigit(charAt(pos + 1))
+                && Character.isDigit(charAt(pos + 2))
+                && Character.isDigit(charAt(pos + 3))
+                && !Character.isDigit(charAt(pos + 4));
+    }
+
+    private char current() {
+        return charAt(pos);
+    }
+
+    // Bytes of multi-byte UTF-8 sequences read as chars of 0x80 and above, which are never structural
+    private char charAt(int index) {
+        if (index >= limit) {
+            return 0;
+        }
+        return (bytes != null) ? (char) (bytes[index] & 0xFF) : json.charAt(index);
+    }
+
+    private String text(int start, int end) {
+        return (bytes != null) ? new String(bytes, start, end - start, StandardCharsets.UTF_8) : json.substring(start, end);
+    }
+
+    private void skipWhitespace() {
+        while (pos < limit && Character.isWhitespace(charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private JsonSyntaxException syntaxError(String message) {
+        int start = Math.max(offset, pos - 10);
+        int end = Math.min(limit, pos + 10);
+        return new JsonSyntaxException(String.format("JSON Syntax Error: %s at position %d around: ...%s...",
+                message, pos - offset, text(start, end)));
+    }
+}
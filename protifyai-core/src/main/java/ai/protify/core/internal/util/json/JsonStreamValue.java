@@ -0,0 +1,73 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON string value that is streamed into a {@link JsonBody} rather than copied into
+ * the serialized text. Used for large payloads such as base64 attachments.
+ * <p>
+ * {@link #openStream()} yields the UTF-8 bytes that go between the quotes, already
+ * JSON-escaped. It may be called more than once (e.g. once for the cache key and once
+ * per send attempt) and must produce the same bytes each time.
+ */
+public interface JsonStreamValue {
+
+    /**
+     * @return the number of bytes {@link #openStream()} produces, or {@code -1} if unknown
+     */
+    long length();
+
+    InputStream openStream() throws IOException;
+
+    /**
+     * Bytes that identify this value when a cache key is computed for the body. Defaults to the
+     * content itself; values backed by large files return a digest of the content instead, so
+     * keying a request does not re-encode the whole attachment.
+     */
+    default InputStream openKeyStream() throws IOException {
+        return openStream();
+    }
+
+    /**
+     * Appends the value's content to {@code target}; used when a body has to be materialized,
+     * e.g. for {@link ProtifyJson#toJson(Object)}.
+     */
+    default void appendTo(StringBuilder target) {
+        try (InputStream in = openStream()) {
+            target.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read streamed JSON value", e);
+        }
+    }
+
+    /**
+     * Streams {@code source[start, end)} without copying it. Characters that would need
+     * escaping are escaped up front, in which case the escaped text is held instead.
+     */
+    static JsonStreamValue of(String source, int start, int end) {
+        return StringRegionValue.of(source, start, end);
+    }
+
+    static JsonStreamValue of(String source) {
+        return of(source, 0, source.length());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A model class bound from a {@link JsonIndex} one top-level property at a time. Each
+ * {@link #get(String)} binds the named property into the shared instance the first time it is
+ * asked for and returns the instance, so a caller that reads only the usage counts never
+ * decodes the content next to them.
+ * <p>
+ * {@link #of(Object)} wraps an instance that is already fully bound, so callers read both kinds
+ * the same way.
+ */
+public final class LazyJsonBean<T> {
+
+    private final T bean;
+    private final JsonIndex index;
+    private final BeanBinder binder;
+    private final Set<String> bound;
+
+    private LazyJsonBean(T bean, JsonIndex index, BeanBinder binder) {
+        this.bean = bean;
+        this.index = index;
+        this.binder = binder;
+        this.bound = (index != null) ? new HashSet<>() : null;
+    }
+
+    public static <T> LazyJsonBean<T> of(T bean) {
+        return new LazyJsonBean<>(bean, null, null);
+    }
+
+    /**
+     * Indexes {@code utf8} without binding any property yet.
+     */
+    public static <T> LazyJsonBean<T> lazy(byte[] utf8, Class<T> type) {
+        BeanBinder binder = ProtifyJson.binder(type);
+        return new LazyJsonBean<>(type.cast(binder.newInstance()), JsonIndex.of(utf8), binder);
+    }
+
+    /**
+     * The instance, with the property whose JSON name is {@code property} bound.
+     */
+    public T get(String property) {
+        if (index == null) {
+            return bean;
+        }
+        synchronized (bound) {
+            if (!bound.contains(property)) {
+                BeanBinder.Setter setter = binder.setters.get(property);
+                if (setter == null) {
+                    throw new IllegalArgumentException(
+                            binder.type.getName() + " has no property '" + property + "'");
+                }
+                JsonReader reader = index.reader(property);
+                if (reader != null) {
+                    ProtifyJson.readProperty(reader, bean, binder.type, setter);
+                }
+                bound.add(property);
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * The index the properties are bound from, or {@code null} when the instance was bound
+     * eagerly.
+     */
+    public JsonIndex getIndex() {
+        return index;
+    }
+}
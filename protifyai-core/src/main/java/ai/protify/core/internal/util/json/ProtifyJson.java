@@ -17,8 +17,6 @@
 package ai.protify.core.internal.util.json;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -32,113 +30,209 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ProtifyJson {
 
-    private static final Map<Class<?>, List<JsonBeanProperty>> CLASS_CACHE = new ConcurrentHashMap<>();
-    private static final Map<Class<?>, Map<String, JsonBeanField>> DESERIALIZATION_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, BeanBinder> BINDERS = new ConcurrentHashMap<>();
 
     public static ProtifyJsonObject parse(String json) {
         return new ProtifyJsonObject(json);
     }
 
-    public static String toJson(Object object) {
-        if (object == null) {
-            return "null";
-        }
-
-        List<String> pairs = new ArrayList<>();
-        List<JsonBeanProperty> properties = CLASS_CACHE.computeIfAbsent(object.getClass(), ProtifyJson::inspectClass);
+    public static ProtifyJsonObject parse(byte[] utf8) {
+        return new ProtifyJsonObject(new JsonReader(utf8));
+    }
 
-        for (JsonBeanProperty prop : properties) {
-            try {
-                Object value = prop.method.invoke(object);
-                if (value != null) {
-                    pairs.add("\"" + prop.jsonName + "\":" + formatValue(value));
-                }
-            } catch (Exception e) {
-                // Ignore invocation errors
-            }
-        }
+    /**
+     * Parses JSON that may be wrapped in a markdown code fence or surrounded by prose, as model
+     * output often is.
+     */
+    public static ProtifyJsonObject parseLenient(String text) {
+        return new ProtifyJsonObject(extractJson(text));
+    }
 
-        return "{" + String.join(",", pairs) + "}";
+    public static String toJson(Object object) {
+        JsonOutput out = new JsonOutput.Materialized();
+        writeObject(object, out);
+        return out.text.toString();
     }
 
-    private static List<JsonBeanProperty> inspectClass(Class<?> clazz) {
-        List<JsonBeanProperty> properties = new ArrayList<>();
-        for (Method method : clazz.getMethods()) {
-            if (isGetter(method)) {
-                properties.add(new JsonBeanProperty(getFieldName(method), method));
-            }
-        }
-        return properties;
+    /**
+     * Serializes {@code object} like {@link #toJson(Object)} for logging: attachments streamed
+     * from files are replaced by their name and size rather than read.
+     */
+    public static String toLoggableJson(Object object) {
+        JsonOutput out = new JsonOutput.Loggable();
+        writeObject(object, out);
+        return out.text.toString();
     }
 
-    // Helper class to hold the cached reflection data
-    private static class JsonBeanProperty {
-        final String jsonName;
-        final Method method;
+    /**
+     * Serializes {@code object} like {@link #toJson(Object)}, but leaves {@link JsonStreamValue}
+     * properties as stream segments so large attachments are read while the body is sent
+     * instead of being copied into the JSON text.
+     */
+    public static JsonBody toJsonBody(Object object) {
+        JsonBody.Builder out = new JsonBody.Builder();
+        writeObject(object, out);
+        return out.build();
+    }
 
-        JsonBeanProperty(String jsonName, Method method) {
-            this.jsonName = jsonName;
-            this.method = method;
+    static void writeObject(Object object, JsonOutput out) {
+        if (object == null) {
+            out.text.append("null");
+            return;
+        }
+
+        StringBuilder text = out.text;
+        text.append('{');
+        boolean first = true;
+        for (BeanBinder.Getter getter : out.binder(object.getClass()).getters) {
+            String key = first ? getter.firstKey : getter.nextKey;
+            if (getter.kind == BeanBinder.Getter.OBJECT) {
+                Object value;
+                try {
+                    value = getter.object.apply(object);
+                } catch (RuntimeException e) {
+                    // Ignore invocation errors
+                    continue;
+                }
+                if (value == null) {
+                    continue;
+                }
+                text.append(key);
+                writeValue(value, out);
+            } else if (!writePrimitive(getter, object, key, text)) {
+                continue;
+            }
+            first = false;
         }
+        text.append('}');
     }
 
-    private static boolean isGetter(Method method) {
-        String name = method.getName();
-        return (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2)
-                && method.getParameterCount() == 0
-                && !name.equals("getClass");
+    // Primitive getters are read unboxed and appended as their literal
+    private static boolean writePrimitive(BeanBinder.Getter getter, Object object, String key, StringBuilder text) {
+        try {
+            switch (getter.kind) {
+                case BeanBinder.Getter.INT: {
+                    int value = getter.intValue.applyAsInt(object);
+                    text.append(key).append(value);
+                    return true;
+                }
+                case BeanBinder.Getter.LONG: {
+                    long value = getter.longValue.applyAsLong(object);
+                    text.append(key).append(value);
+                    return true;
+                }
+                case BeanBinder.Getter.DOUBLE: {
+                    double value = getter.doubleValue.applyAsDouble(object);
+                    text.append(key).append(value);
+                    return true;
+                }
+                default: {
+                    boolean value = getter.booleanValue.test(object);
+                    text.append(key).append(value);
+                    return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Ignore invocation errors
+            return false;
+        }
     }
 
-    private static String getFieldName(Method method) {
-        if (method.isAnnotationPresent(ProtifyJsonProperty.class)) {
-            return method.getAnnotation(ProtifyJsonProperty.class).value();
-        }
-        String methodName = method.getName();
-        int prefixLength = methodName.startsWith("is") ? 2 : 3;
-        String nameWithoutPrefix = methodName.substring(prefixLength);
-        return Character.toLowerCase(nameWithoutPrefix.charAt(0)) + nameWithoutPrefix.substring(1);
+    static BeanBinder binder(Class<?> type) {
+        return BINDERS.computeIfAbsent(type, BeanBinder::compile);
     }
 
-    private static String formatValue(Object value) {
+    private static void writeValue(Object value, JsonOutput out) {
+        StringBuilder text = out.text;
         if (value instanceof String) {
-            return "\"" + escapeJson((String) value) + "\"";
-        }
-        if (value instanceof Number || value instanceof Boolean) {
-            return value.toString();
-        }
-        if (value instanceof Enum<?>) {
-            return "\"" + value + "\"";
-        }
-        if (value instanceof List) {
-            List<String> items = new ArrayList<>();
+            text.append('"');
+            escapeJson((String) value, text);
+            text.append('"');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            text.append(value);
+        } else if (value instanceof Enum<?>) {
+            text.append('"').append(value).append('"');
+        } else if (value instanceof JsonStreamValue) {
+            text.append('"');
+            out.appendStream((JsonStreamValue) value);
+            text.append('"');
+        } else if (value instanceof JsonFragment) {
+            out.appendFragment((JsonFragment) value);
+        } else if (value instanceof List) {
+            text.append('[');
+            boolean first = true;
             for (Object item : (List<?>) value) {
-                items.add(item == null ? "null" : formatValue(item));
+                if (!first) {
+                    text.append(',');
+                }
+                first = false;
+                if (item == null) {
+                    text.append("null");
+                } else {
+                    writeValue(item, out);
+                }
             }
-            return "[" + String.join(",", items) + "]";
-        }
-        if (value instanceof Map) {
-            List<String> entries = new ArrayList<>();
+            text.append(']');
+        } else if (value instanceof Map) {
+            text.append('{');
+            boolean first = true;
             for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
                 if (entry.getValue() != null) {
-                    entries.add("\"" + escapeJson(entry.getKey().toString()) + "\":" + formatValue(entry.getValue()));
+                    if (!first) {
+                        text.append(',');
+                    }
+                    first = false;
+                    text.append('"');
+                    escapeJson(entry.getKey().toString(), text);
+                    text.append("\":");
+                    writeValue(entry.getValue(), out);
                 }
             }
-            return "{" + String.join(",", entries) + "}";
+            text.append('}');
+        } else {
+            writeObject(value, out);
         }
-        return toJson(value);
     }
 
     public static String toJsonMap(Map<String, Object> map) {
         if (map == null) {
             return "null";
         }
-        return formatValue(map);
+        JsonOutput out = new JsonOutput.Materialized();
+        writeValue(map, out);
+        return out.text.toString();
+    }
+
+    /**
+     * Serializes a value as returned by {@link ProtifyJsonObject#get(String)}: a map, list,
+     * string, number, boolean or {@code null}.
+     */
+    public static String toJsonValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        JsonOutput out = new JsonOutput.Materialized();
+        writeValue(value, out);
+        return out.text.toString();
     }
 
     public static String escapeJson(String input) {
         if (input == null) return "";
-        StringBuilder sb = new StringBuilder();
-        for (char c : input.toCharArray()) {
+        StringBuilder sb = new StringBuilder(input.length() + 16);
+        escapeJson(input, sb);
+        return sb.toString();
+    }
+
+    // Runs of characters that need no escaping are appended in one call
+    private static void escapeJson(String input, StringBuilder sb) {
+        int run = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c > 0x1F && c != '"' && c != '\\') {
+                continue;
+            }
+            sb.append(input, run, i);
+            run = i + 1;
             switch (c) {
                 case '"':
                     sb.append("\\\"");
@@ -162,35 +256,71 @@ public class ProtifyJson {
                     sb.append("\\t");
                     break;
                 default:
-                    if (c <= 0x1F) {
-                        sb.append(String.format("\\u%04x", (int) c));
-                    } else {
-                        sb.append(c);
-                    }
+                    sb.append(String.format("\\u%04x", (int) c));
             }
         }
-        return sb.toString();
+        sb.append(input, run, input.length());
     }
 
     // --- Deserialization ---
 
+    /**
+     * Binds JSON to {@code type}, streaming through the text with a {@link JsonReader}: model
+     * classes, lists, maps and arrays are filled as their tokens are read, and properties the
+     * class does not declare are skipped without being decoded.
+     */
     public static <T> T fromJson(String json, Class<T> type) {
-        Object root = parse(extractJson(json)).getRoot();
-        return mapToObject(root, type, type);
+        return fromReader(new JsonReader(readerText(json)), type);
+    }
+
+    /**
+     * Binds the reader's next value to {@code type}, as {@link #fromJson(String, Class)} does.
+     */
+    public static <T> T fromReader(JsonReader reader, Class<T> type) {
+        return read(reader, type, type);
     }
 
     public static <T> List<T> fromJsonList(String json, Class<T> elementType) {
-        Object root = parse(extractJson(json)).getRoot();
-        if (!(root instanceof List)) {
+        JsonReader reader = new JsonReader(readerText(json));
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
             throw new IllegalArgumentException("JSON root is not an array");
         }
         List<T> result = new ArrayList<>();
-        for (Object item : (List<?>) root) {
-            result.add(mapToObject(item, elementType, elementType));
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(read(reader, elementType, elementType));
         }
+        reader.endArray();
         return result;
     }
 
+    /**
+     * The tree-based binding that {@link #fromJson(String, Class)} used before it streamed:
+     * parses the whole document into maps and lists, then maps the tree onto {@code type}.
+     * Kept for comparison in benchmarks.
+     */
+    static <T> T fromJsonTree(String json, Class<T> type) {
+        Object root = parse(extractJson(json)).getRoot();
+        return mapToObject(root, type, type);
+    }
+
+    // The reader skips surrounding whitespace, so clean JSON is read in place rather than trimmed
+    private static String readerText(String text) {
+        if (text == null) {
+            return null;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{' || c == '[') {
+                return text;
+            }
+            if (!Character.isWhitespace(c)) {
+                break;
+            }
+        }
+        return extractJson(text);
+    }
+
     static String extractJson(String text) {
         if (text == null || text.isEmpty()) {
             return text;
@@ -270,6 +400,124 @@ public class ProtifyJson {
         return trimmed;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T read(JsonReader reader, Class<T> targetType, Type genericType) {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT) {
+            if (Map.class.isAssignableFrom(targetType)) {
+                return (T) readMap(reader, genericType);
+            }
+            if (isBean(targetType)) {
+                return readObject(reader, targetType);
+            }
+        } else if (token == JsonToken.BEGIN_ARRAY) {
+            if (List.class.isAssignableFrom(targetType)) {
+                return (T) readList(reader, genericType);
+            }
+            if (targetType.isArray()) {
+                Class<?> componentType = targetType.getComponentType();
+                List<?> items = readList(reader, componentType);
+                Object array = Array.newInstance(componentType, items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    Array.set(array, i, items.get(i));
+                }
+                return (T) array;
+            }
+        }
+        // Scalars, untyped values and shape mismatches convert exactly as a parsed tree value does
+        return mapToObject(reader.readValue(), targetType, genericType);
+    }
+
+    private static List<Object> readList(JsonReader reader, Type genericType) {
+        Class<?> elementType = Object.class;
+        Type elementGenericType = Object.class;
+        if (genericType instanceof ParameterizedType) {
+            elementGenericType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            elementType = extractRawClass(elementGenericType);
+        } else if (genericType instanceof Class) {
+            // Component type of an array
+            elementType = (Class<?>) genericType;
+            elementGenericType = genericType;
+        }
+        List<Object> result = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            result.add(read(reader, elementType, elementGenericType));
+        }
+        reader.endArray();
+        return result;
+    }
+
+    private static Map<String, Object> readMap(JsonReader reader, Type genericType) {
+        Class<?> valueType = Object.class;
+        Type valueGenericType = Object.class;
+        if (genericType instanceof ParameterizedType) {
+            Type[] typeArgs = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (typeArgs.length >= 2) {
+                valueGenericType = typeArgs[1];
+                valueType = extractRawClass(typeArgs[1]);
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            result.put(key, read(reader, valueType, valueGenericType));
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private static <T> T readObject(JsonReader reader, Class<T> type) {
+        BeanBinder binder = binder(type);
+        T instance = type.cast(binder.newInstance());
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            BeanBinder.Setter beanField = binder.setters.get(name);
+            if (beanField == null) {
+                reader.skipValue();
+                continue;
+            }
+            readProperty(reader, instance, type, beanField);
+        }
+        reader.endObject();
+
+        return instance;
+    }
+
+    // Binds the reader's next value to one property of instance
+    static void readProperty(JsonReader reader, Object instance, Class<?> type, BeanBinder.Setter beanField) {
+        Object converted;
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+            try {
+                converted = read(reader, beanField.type, beanField.genericType);
+            } catch (JsonSyntaxException e) {
+                throw e;
+            } catch (Exception e) {
+                throw conversionError(type, beanField,
+                        token == JsonToken.BEGIN_OBJECT ? "an object" : "an array", e);
+            }
+        } else {
+            Object rawValue = reader.readValue();
+            try {
+                converted = mapToObject(rawValue, beanField.type, beanField.genericType);
+            } catch (Exception e) {
+                throw conversionError(type, beanField, truncateValue(rawValue), e);
+            }
+        }
+        assign(instance, type, beanField, converted);
+    }
+
+    // Classes bound property by property; anything else converts through mapToObject
+    private static boolean isBean(Class<?> type) {
+        return type != Object.class && type != String.class && type != JsonStreamValue.class
+                && !type.isPrimitive() && !type.isEnum() && !type.isArray() && !type.isInterface()
+                && !Number.class.isAssignableFrom(type) && type != Boolean.class && type != Character.class;
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T mapToObject(Object value, Class<T> targetType, Type genericType) {
         if (value == null) {
@@ -280,6 +528,9 @@ public class ProtifyJson {
         if (targetType == String.class) {
             return targetType.cast(value.toString());
         }
+        if (targetType == JsonStreamValue.class) {
+            return targetType.cast(JsonStreamValue.of(value.toString()));
+        }
 
         // Primitives and wrappers
         if (targetType == int.class || targetType == Integer.class) {
@@ -393,144 +644,77 @@ public class ProtifyJson {
     }
 
     private static <T> T constructObject(Map<String, Object> map, Class<T> type) {
-        T instance;
-        try {
-            java.lang.reflect.Constructor<T> ctor = type.getDeclaredConstructor();
-            ctor.setAccessible(true);
-            instance = ctor.newInstance();
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException(
-                    type.getName() + " has no no-arg constructor. "
-                    + "Classes used with fromJson must have a no-arg constructor.", e);
-        } catch (Exception e) {
-            throw new IllegalArgumentException(
-                    "Failed to instantiate " + type.getName() + ": " + e.getMessage(), e);
-        }
-
-        Map<String, JsonBeanField> fields = DESERIALIZATION_CACHE.computeIfAbsent(
-                type, ProtifyJson::inspectForDeserialization);
+        BeanBinder binder = binder(type);
+        T instance = type.cast(binder.newInstance());
 
-        for (Map.Entry<String, JsonBeanField> entry : fields.entrySet()) {
+        for (Map.Entry<String, BeanBinder.Setter> entry : binder.setters.entrySet()) {
             if (!map.containsKey(entry.getKey())) {
                 continue;
             }
 
-            JsonBeanField beanField = entry.getValue();
+            BeanBinder.Setter beanField = entry.getValue();
             Object rawValue = map.get(entry.getKey());
 
             Object converted;
             try {
-                converted = mapToObject(rawValue, beanField.field.getType(), beanField.field.getGenericType());
+                converted = mapToObject(rawValue, beanField.type, beanField.genericType);
             } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        "Failed to deserialize field '" + entry.getKey() + "' on " + type.getName()
-                        + ": expected " + beanField.field.getType().getSimpleName()
-                        + " but JSON value was " + truncateValue(rawValue)
-                        + ". Cause: " + e.getMessage(), e);
-            }
-
-            if (converted == null && beanField.field.getType().isPrimitive()) {
-                continue;
-            }
-
-            if (!beanField.accessible) {
-                String setterName = "set" + Character.toUpperCase(beanField.field.getName().charAt(0))
-                        + beanField.field.getName().substring(1);
-                String moduleName = beanField.field.getDeclaringClass().getModule().getName();
-                String addOpensHint = moduleName != null
-                        ? " If running on Java 16+, add '--add-opens " + moduleName
-                          + "/" + beanField.field.getDeclaringClass().getPackageName()
-                          + "=ALL-UNNAMED' to your JVM arguments."
-                        : "";
-                throw new IllegalArgumentException(
-                        "Cannot set field '" + entry.getKey() + "' on " + type.getName()
-                        + ": the field is not accessible and no public setter '"
-                        + setterName + "(" + beanField.field.getType().getSimpleName()
-                        + ")' was found. Add a public setter method." + addOpensHint);
-            }
-
-            try {
-                if (beanField.setter != null) {
-                    beanField.setter.invoke(instance, converted);
-                } else {
-                    beanField.field.set(instance, converted);
-                }
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        "Failed to set field '" + entry.getKey() + "' on " + type.getName()
-                        + ": cannot assign " + (converted == null ? "null" : converted.getClass().getSimpleName())
-                        + " to " + beanField.field.getType().getSimpleName()
-                        + ". Cause: " + e.getMessage(), e);
+                throw conversionError(type, beanField, truncateValue(rawValue), e);
             }
+            assign(instance, type, beanField, converted);
         }
 
         return instance;
     }
 
-    private static String truncateValue(Object value) {
-        if (value == null) return "null";
-        String str = value.toString();
-        if (str.length() > 100) {
-            return "\"" + str.substring(0, 100) + "...\" (truncated, length=" + str.length() + ")";
-        }
-        return "\"" + str + "\"";
+    private static IllegalArgumentException conversionError(Class<?> type, BeanBinder.Setter beanField,
+                                                            String jsonValue, Exception cause) {
+        return new IllegalArgumentException(
+                "Failed to deserialize field '" + beanField.jsonName + "' on " + type.getName()
+                + ": expected " + beanField.type.getSimpleName()
+                + " but JSON value was " + jsonValue
+                + ". Cause: " + cause.getMessage(), cause);
     }
 
-    private static Map<String, JsonBeanField> inspectForDeserialization(Class<?> type) {
-        Map<String, JsonBeanField> fields = new LinkedHashMap<>();
-        Class<?> current = type;
-        while (current != null && current != Object.class) {
-            for (Field field : current.getDeclaredFields()) {
-                String jsonName;
-                if (field.isAnnotationPresent(ProtifyJsonProperty.class)) {
-                    jsonName = field.getAnnotation(ProtifyJsonProperty.class).value();
-                } else {
-                    jsonName = field.getName();
-                }
-                if (fields.containsKey(jsonName)) {
-                    continue;
-                }
+    private static void assign(Object instance, Class<?> type, BeanBinder.Setter beanField, Object converted) {
+        if (converted == null && beanField.type.isPrimitive()) {
+            return;
+        }
 
-                Method setter = findSetter(type, field);
-                boolean accessible = setter != null;
-                if (setter == null) {
-                    try {
-                        field.setAccessible(true);
-                        accessible = true;
-                    } catch (RuntimeException e) {
-                        // InaccessibleObjectException on Java 16+ when module system blocks access.
-                        // Field will be flagged as inaccessible; a clear error is thrown at deserialization time.
-                    }
-                }
-                fields.put(jsonName, new JsonBeanField(jsonName, field, setter, accessible));
-            }
-            current = current.getSuperclass();
+        if (!beanField.accessible) {
+            String setterName = "set" + Character.toUpperCase(beanField.field.getName().charAt(0))
+                    + beanField.field.getName().substring(1);
+            String moduleName = beanField.field.getDeclaringClass().getModule().getName();
+            String addOpensHint = moduleName != null
+                    ? " If running on Java 16+, add '--add-opens " + moduleName
+                      + "/" + beanField.field.getDeclaringClass().getPackageName()
+                      + "=ALL-UNNAMED' to your JVM arguments."
+                    : "";
+            throw new IllegalArgumentException(
+                    "Cannot set field '" + beanField.jsonName + "' on " + type.getName()
+                    + ": the field is not accessible and no public setter '"
+                    + setterName + "(" + beanField.field.getType().getSimpleName()
+                    + ")' was found. Add a public setter method." + addOpensHint);
         }
-        return fields;
-    }
 
-    private static Method findSetter(Class<?> type, Field field) {
-        String fieldName = field.getName();
-        String setterName = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
         try {
-            return type.getMethod(setterName, field.getType());
-        } catch (NoSuchMethodException e) {
-            return null;
+            beanField.writer.accept(instance, converted);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(
+                    "Failed to set field '" + beanField.jsonName + "' on " + type.getName()
+                    + ": cannot assign " + (converted == null ? "null" : converted.getClass().getSimpleName())
+                    + " to " + beanField.type.getSimpleName()
+                    + ". Cause: " + e.getMessage(), e);
         }
     }
 
-    private static class JsonBeanField {
-        final String jsonName;
-        final Field field;
-        final Method setter;
-        final boolean accessible;
-
-        JsonBeanField(String jsonName, Field field, Method setter, boolean accessible) {
-            this.jsonName = jsonName;
-            this.field = field;
-            this.setter = setter;
-            this.accessible = accessible;
+    private static String truncateValue(Object value) {
+        if (value == null) return "null";
+        String str = value.toString();
+        if (str.length() > 100) {
+            return "\"" + str.substring(0, 100) + "...\" (truncated, length=" + str.length() + ")";
         }
+        return "\"" + str + "\"";
     }
 
     private static Class<?> extractRawClass(Type type) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+final class StringRegionValue implements JsonStreamValue {
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    private StringRegionValue(String source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    static JsonStreamValue of(String source, int start, int end) {
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("Region [" + start + ", " + end + ") of length " + source.length());
+        }
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                byte[] escaped = ProtifyJson.escapeJson(source.substring(start, end)).getBytes(StandardCharsets.UTF_8);
+                return new EscapedValue(escaped);
+            }
+        }
+        return new StringRegionValue(source, start, end);
+    }
+
+    @Override
+    public long length() {
+        return (long) end - start;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new RegionInputStream();
+    }
+
+    @Override
+    public void appendTo(StringBuilder target) {
+        target.append(source, start, end);
+    }
+
+    // Every char in the region is printable ASCII, so each maps to exactly one byte
+    private final class RegionInputStream extends InputStream {
+
+        private int position = start;
+
+        @Override
+        public int read() {
+            return position < end ? source.charAt(position++) : -1;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int count = Math.min(length, end - position);
+            source.getBytes(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, end - position));
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return end - position;
+        }
+    }
+
+    private static final class EscapedValue implements JsonStreamValue {
+
+        private final byte[] bytes;
+
+        private EscapedValue(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long length() {
+            return bytes.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+}
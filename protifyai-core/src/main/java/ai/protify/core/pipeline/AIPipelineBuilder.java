@@ -18,8 +18,11 @@ package ai.protify.core.pipeline;
 
 import ai.protify.core.ReasoningEffort;
 import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
 import ai.protify.core.internal.pipeline.ProtifyAIPipeline;
 import ai.protify.core.request.AIRequest;
+import ai.protify.core.resiliency.HedgingPolicy;
 import ai.protify.core.resiliency.RetryPolicy;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
@@ -29,7 +32,7 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -100,6 +103,21 @@ public class AIPipelineBuilder {
         return this;
     }
 
+    public AIPipelineBuilder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.pipelineProperties.put(AIConfigProperty.HEDGING_POLICY, hedgingPolicy);
+        return this;
+    }
+
+    /**
+     * Runs {@link AIPipeline#executeAsync()} and parallel steps on {@code executor} instead of
+     * the library default (virtual threads on JDK 21+, a bounded daemon pool otherwise).
+     */
+    public AIPipelineBuilder executor(Executor executor) {
+        java.util.Objects.requireNonNull(executor, "Executor cannot be null");
+        this.pipelineProperties.put(AIConfigProperty.EXECUTOR, executor);
+        return this;
+    }
+
     public AIPipelineBuilder inheritParentConfig() {
         this.inheritParentConfig = true;
         return this;
@@ -136,15 +154,14 @@ public class AIPipelineBuilder {
     }
 
     public AIPipelineBuilder addParallelStep(List<PipelineStep> parallelSteps) {
-        this.steps.add(previousResponse -> {
-            List<CompletableFuture<AIResponse>> futures = parallelSteps.stream()
-                    .map(step -> CompletableFuture.supplyAsync(() -> step.execute(previousResponse)))
+        this.steps.add(context -> {
+            List<Supplier<AIResponse>> tasks = parallelSteps.stream()
+                    .map(step -> (Supplier<AIResponse>) () -> step.execute(context))
                     .collect(Collectors.toList());
 
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-
-            String joinedText = futures.stream()
-                    .map(f -> f.join().text())
+            Executor executor = ProtifyExecutors.resolve(new Configuration(context.getPipelineProperties()));
+            String joinedText = ProtifyExecutors.invokeAll(tasks, executor).stream()
+                    .map(AIResponse::text)
                     .collect(Collectors.joining("\n---\n"));
 
             return PipelineAIResponse.of(joinedText);
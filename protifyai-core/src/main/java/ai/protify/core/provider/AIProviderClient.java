@@ -17,10 +17,13 @@
 package ai.protify.core.provider;
 
 import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.concurrent.ProtifyExecutors;
 import ai.protify.core.request.AIRequest;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.response.AIStreamResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AIProviderClient<T extends AIProviderRequest> {
 
     void initialize(Configuration configuration, AIProvider provider, String modelName);
@@ -29,6 +32,16 @@ public interface AIProviderClient<T extends AIProviderRequest> {
 
     AIResponse execute(T request);
 
+    /**
+     * Executes without blocking the calling thread. Built-in providers chain the HTTP call and
+     * response parsing as completion stages; this default runs {@link #execute} on the executor
+     * configured for the request.
+     */
+    default CompletableFuture<AIResponse> executeAsync(T request) {
+        return CompletableFuture.supplyAsync(() -> execute(request),
+                ProtifyExecutors.resolve(request.getConfiguration()));
+    }
+
     default AIStreamResponse executeStream(T request) {
         throw new UnsupportedOperationException("Streaming not supported by this provider");
     }
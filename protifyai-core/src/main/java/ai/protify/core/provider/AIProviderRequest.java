@@ -17,6 +17,7 @@
 package ai.protify.core.provider;
 
 import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.util.json.JsonBody;
 import ai.protify.core.message.AIMessage;
 import ai.protify.core.request.AIInput;
 import ai.protify.core.request.AIRequest;
@@ -26,6 +27,8 @@ import ai.protify.core.tool.AIToolResult;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface AIProviderRequest {
 
@@ -43,6 +46,32 @@ public interface AIProviderRequest {
 
     String toLoggableJson();
 
+    /**
+     * The request body as sent over the wire. Providers that embed attachments override this
+     * to stream them from their source instead of materializing {@link #toJson()}.
+     */
+    default JsonBody toJsonBody() {
+        return JsonBody.of(toJson());
+    }
+
+    /**
+     * Resolves what the body refers to but needs a call of its own, such as uploaded files,
+     * without blocking. Once the returned stage completes, building the body uses the resolved
+     * values; without it they are resolved, blocking, while the body is built. The stage does
+     * not fail: anything that cannot be resolved is sent inline.
+     */
+    default CompletableFuture<Void> prepareAsync() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Headers sent with this request on top of the provider's {@link AIProvider#getHeaders(String)},
+     * e.g. a beta flag required by a feature the request uses. Read after {@link #toJsonBody()}.
+     */
+    default Map<String, String> getAdditionalHeaders() {
+        return Collections.emptyMap();
+    }
+
     default List<AITool> getTools() {
         return Collections.emptyList();
     }
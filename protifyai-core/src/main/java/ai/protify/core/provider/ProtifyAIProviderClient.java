@@ -16,6 +16,7 @@
 
 package ai.protify.core.provider;
 
+import ai.protify.core.internal.config.AIConfigProperty;
 import ai.protify.core.internal.config.Configuration;
 import ai.protify.core.internal.exception.ProtifyApiException;
 import ai.protify.core.request.AIRequest;
@@ -59,4 +60,13 @@ public abstract class ProtifyAIProviderClient<T extends AIProviderRequest> imple
     public Configuration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Whether the response to {@code request} is indexed and bound field by field as it is read,
+     * instead of bound in full when it arrives.
+     */
+    protected boolean isLazyResponseParsing(AIProviderRequest request) {
+        Configuration derived = request.getConfiguration();
+        return derived != null && Boolean.TRUE.equals(derived.getProperty(AIConfigProperty.RESPONSE_LAZY_PARSING));
+    }
 }
@@ -18,20 +18,34 @@ package ai.protify.core.provider;
 
 import ai.protify.core.internal.config.AIConfigProperty;
 import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.config.CredentialHelperFactory;
+import ai.protify.core.internal.message.ProtifyAIMessage;
+import ai.protify.core.internal.provider.file.ProviderFile;
+import ai.protify.core.internal.provider.file.ProviderFileStore;
 import ai.protify.core.internal.request.ProtifyAIRequest;
 import ai.protify.core.internal.util.Logger;
 import ai.protify.core.internal.util.LoggerFactory;
+import ai.protify.core.internal.util.json.Base64FileValue;
+import ai.protify.core.internal.util.json.JsonStreamValue;
 import ai.protify.core.message.AIMessage;
+import ai.protify.core.request.AIFileInput;
 import ai.protify.core.request.AIInput;
 import ai.protify.core.request.AIRequest;
+import ai.protify.core.request.FileDataReferenceType;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.tool.AITool;
 import ai.protify.core.tool.AIToolResult;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public abstract class ProtifyAIProviderRequest implements AIProviderRequest {
 
@@ -45,6 +59,10 @@ public abstract class ProtifyAIProviderRequest implements AIProviderRequest {
     private List<AIToolResult> toolResults = Collections.emptyList();
     private AIResponse previousAssistantResponse;
     private List<AIMessage> messages = Collections.emptyList();
+    private String previousResponseId;
+
+    // AIFileInput does not override equals, so each input object is uploaded at most once
+    private final Map<AIFileInput, CompletableFuture<AIFileInput>> uploads = new ConcurrentHashMap<>();
 
     @Override
     public void initialize(AIRequest request,
@@ -61,6 +79,7 @@ public abstract class ProtifyAIProviderRequest implements AIProviderRequest {
             ProtifyAIRequest protifyRequest = (ProtifyAIRequest) request;
             this.toolResults = protifyRequest.getToolResults();
             this.previousAssistantResponse = protifyRequest.getPreviousAssistantResponse();
+            this.previousResponseId = protifyRequest.getPreviousResponseId();
         }
 
         filterUnsupportedParameters();
@@ -106,6 +125,14 @@ public abstract class ProtifyAIProviderRequest implements AIProviderRequest {
         return this.messages;
     }
 
+    /**
+     * Provider-side id of the response that ended {@link #getMessages()} up to their last
+     * assistant message, or {@code null} when the whole history has to be sent.
+     */
+    public String getPreviousResponseId() {
+        return this.previousResponseId;
+    }
+
     protected Set<AIConfigProperty> getUnsupportedParameters() {
         return Collections.emptySet();
     }
@@ -114,6 +141,124 @@ public abstract class ProtifyAIProviderRequest implements AIProviderRequest {
         return Collections.emptySet();
     }
 
+    /**
+     * The base64 payload of a file input, streamed into the request body: file-backed inputs
+     * are encoded from the file while sending, data URLs are read from after the comma.
+     */
+    protected static JsonStreamValue base64Payload(AIFileInput fileInput) {
+        return streamedContent(fileInput, "");
+    }
+
+    /**
+     * The input as a URL value: a streamed {@code data:} URL for inline content, otherwise the
+     * input's HTTP URL.
+     */
+    protected static JsonStreamValue dataUrl(AIFileInput fileInput) {
+        if (fileInput.getPath() != null) {
+            return streamedContent(fileInput, "data:" + fileInput.getMediaType() + ";base64,");
+        }
+        String data = fileInput.getData();
+        return (data != null) ? JsonStreamValue.of(data) : null;
+    }
+
+    /**
+     * Starts the uploads {@link #resolveFileReference(AIFileInput)} would wait for, for the
+     * inputs and the attachments of every message.
+     */
+    @Override
+    public CompletableFuture<Void> prepareAsync() {
+        List<AIInput> candidates = new ArrayList<>();
+        if (inputs != null) {
+            candidates.addAll(inputs);
+        }
+        if (messages != null) {
+            for (AIMessage message : messages) {
+                candidates.addAll(message.getInputs());
+            }
+        }
+        List<CompletableFuture<AIFileInput>> pending = new ArrayList<>();
+        for (AIInput input : candidates) {
+            if (input instanceof AIFileInput && isUploadCandidate((AIFileInput) input)) {
+                pending.add(uploadedReference((AIFileInput) input));
+            }
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Swaps an attachment for a reference to the provider's copy of it when file upload is
+     * enabled, the provider has a file API and the content is at least
+     * {@code files.upload.minBytes}. The content is uploaded on first use and reused after that.
+     * If the upload fails the input is returned unchanged and sent inline. Only waits for the
+     * upload when {@link #prepareAsync()} has not already resolved it.
+     */
+    protected AIFileInput resolveFileReference(AIFileInput fileInput) {
+        if (!isUploadCandidate(fileInput)) {
+            return fileInput;
+        }
+        return uploadedReference(fileInput).join();
+    }
+
+    private boolean isUploadCandidate(AIFileInput fileInput) {
+        Boolean enabled = configuration.getProperty(AIConfigProperty.FILE_UPLOAD_ENABLED);
+        if (!Boolean.TRUE.equals(enabled) || fileInput.getReferenceType() != FileDataReferenceType.DATA_URL
+                || !ProviderFileStore.getInstance().supports(provider)) {
+            return false;
+        }
+        Long minBytes = configuration.getProperty(AIConfigProperty.FILE_UPLOAD_MIN_BYTES);
+        long size = fileInput.getContentLength();
+        return size > 0 && (minBytes == null || size >= minBytes);
+    }
+
+    // Resolved once per input, so rebuilding the body reuses the outcome; never fails
+    private CompletableFuture<AIFileInput> uploadedReference(AIFileInput fileInput) {
+        return uploads.computeIfAbsent(fileInput, input -> {
+            Integer ttlSecs = configuration.getProperty(AIConfigProperty.FILE_UPLOAD_TTL_SECS);
+            CompletableFuture<ProviderFile> upload;
+            try {
+                String credential = CredentialHelperFactory.getInstance().getCredential(provider, configuration);
+                upload = ProviderFileStore.getInstance()
+                        .getOrUpload(provider, credential, input, (ttlSecs != null) ? ttlSecs : 86400);
+            } catch (RuntimeException e) {
+                upload = CompletableFuture.failedFuture(e);
+            }
+            return upload.handle((file, ex) -> {
+                if (ex != null) {
+                    Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                    log.warn("Upload of '{}' to {} failed, sending it inline: {}",
+                            input.getFilename(), provider.getName(), cause.getMessage());
+                    return input;
+                }
+                return AIFileInput.fromProviderId(input.getType(), file.getId(), file.getMimeType());
+            });
+        });
+    }
+
+    /**
+     * The provider items a conversation message becomes. Messages created by the library are
+     * serialized once per {@code format} and the bytes are reused on every later turn; messages
+     * with attachments are rebuilt each time, since their files are streamed and may resolve to
+     * uploaded references.
+     */
+    protected static List<?> messageItems(AIMessage message, String format, Supplier<List<?>> builder) {
+        if (message instanceof ProtifyAIMessage && message.getInputs().isEmpty()) {
+            return ((ProtifyAIMessage) message).fragments(format, builder);
+        }
+        return builder.get();
+    }
+
+    private static JsonStreamValue streamedContent(AIFileInput fileInput, String prefix) {
+        if (fileInput.getPath() != null) {
+            return Base64FileValue.of(fileInput.getPath(), fileInput.getFileSize(), fileInput.getFileModifiedMillis(),
+                    prefix, fileInput::getContentHash);
+        }
+        String dataUrl = fileInput.getData();
+        if (dataUrl == null) {
+            return null;
+        }
+        return JsonStreamValue.of(dataUrl, dataUrl.indexOf(',') + 1, dataUrl.length());
+    }
+
     private void filterUnsupportedParameters() {
         Set<AIConfigProperty> unsupported = EnumSet.noneOf(AIConfigProperty.class);
         unsupported.addAll(getUnsupportedParameters());
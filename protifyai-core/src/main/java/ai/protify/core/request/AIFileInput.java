@@ -17,13 +17,18 @@
 package ai.protify.core.request;
 
 import ai.protify.core.internal.util.FileUtil;
+import ai.protify.core.internal.util.json.JsonStreamValue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -34,11 +39,41 @@ public final class AIFileInput implements AIInput {
     private final String filename;
     private final String data;
 
+    // Set only for file-backed inputs, whose content is read when the request is sent
+    private final Path path;
+    private final String fileMediaType;
+    private final long fileSize;
+    private final long fileModifiedMillis;
+
+    @SuppressWarnings({"java:S3077"})
+    private volatile String contentHash;
+
     private AIFileInput(InputType type, FileDataReferenceType referenceType, String filename, String data) {
+        this(type, referenceType, filename, data, null);
+    }
+
+    private AIFileInput(InputType type, FileDataReferenceType referenceType, String filename, String data,
+                        String mediaType) {
         this.type = type;
         this.referenceType = referenceType;
         this.filename = filename;
         this.data = data;
+        this.path = null;
+        this.fileMediaType = mediaType;
+        this.fileSize = -1;
+        this.fileModifiedMillis = -1;
+    }
+
+    private AIFileInput(InputType type, String filename, Path path, String mediaType, long size,
+                        long modifiedMillis) {
+        this.type = type;
+        this.referenceType = FileDataReferenceType.DATA_URL;
+        this.filename = filename;
+        this.data = null;
+        this.path = path;
+        this.fileMediaType = mediaType;
+        this.fileSize = size;
+        this.fileModifiedMillis = modifiedMillis;
     }
 
     public static AIFileInput fromDataUrl(String theFilename, String base64EncodedUrl) {
@@ -60,25 +95,48 @@ public final class AIFileInput implements AIInput {
         return fromDataUrl(null, base64EncodedUrl);
     }
 
+    /**
+     * Creates a file-backed input. The file is not read here: it is memory-mapped and base64
+     * encoded while the request body is sent, so it must stay in place until then. Its size and
+     * modification time are recorded here; reading a file that has changed since fails with an
+     * {@link IOException} rather than sending a body of the wrong length or a stale cache key.
+     */
     public static AIFileInput fromFile(File file) {
-        try {
-            String fileName = file.getName();
-            InputType fileType = determineFileType(fileName);
-            String mimeType = Files.probeContentType(file.toPath());
-            byte[] fileContent = Files.readAllBytes(file.toPath());
-            String dataUrl = "data:" + mimeType + ";base64," + Base64.getEncoder().encodeToString(fileContent);
-            return new AIFileInput(fileType, FileDataReferenceType.DATA_URL, fileName, dataUrl);
-        } catch (IOException e) {
-            throw new UncheckedIOException("Failed to read file: " + file.getPath(), e);
-        }
+        return fromPath(file.toPath());
     }
 
     public static AIFileInput fromFilePath(String filePath) {
         return fromFile(new File(filePath));
     }
 
+    public static AIFileInput fromPath(Path path) {
+        String fileName = path.getFileName().toString();
+        InputType fileType = determineFileType(fileName);
+        try {
+            if (!Files.isRegularFile(path)) {
+                throw new NoSuchFileException(path.toString());
+            }
+            String mimeType = Files.probeContentType(path);
+            if (mimeType == null) {
+                mimeType = mediaTypeForExtension(FileUtil.getFileExtension(fileName));
+            }
+            return new AIFileInput(fileType, fileName, path, mimeType, Files.size(path),
+                    Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + path, e);
+        }
+    }
+
     public static AIFileInput fromProviderId(InputType fileType, String providerId) {
-        return new AIFileInput(fileType, FileDataReferenceType.DATA_URL, null, providerId);
+        return fromProviderId(fileType, providerId, null);
+    }
+
+    /**
+     * References a file already uploaded to the provider. Gemini addresses files by URI and
+     * needs the media type alongside it; other providers only use the id.
+     */
+    public static AIFileInput fromProviderId(InputType fileType, String providerId, String mediaType) {
+        return new AIFileInput(fileType, FileDataReferenceType.PROVIDER_ID, null, providerId, mediaType);
     }
 
     public static AIFileInput fromUrl(String url) {
@@ -115,8 +173,154 @@ public final class AIFileInput implements AIInput {
         return filename;
     }
 
+    /**
+     * For file-backed inputs this reads and encodes the whole file into a data URL on every
+     * call; the request path uses {@link #openStream()} and {@link #getPath()} instead, and
+     * logging uses {@link #getLoggableData()}.
+     */
     public String getData() {
-        return data;
+        if (path == null) {
+            return data;
+        }
+        try {
+            checkUnchanged();
+            return "data:" + fileMediaType + ";base64," + Base64.getEncoder().encodeToString(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + path, e);
+        }
+    }
+
+    /**
+     * Like {@link #getData()}, but a file-backed input is described by name and size instead of
+     * being read, so logging a request does not encode its attachments.
+     */
+    public String getLoggableData() {
+        if (path == null) {
+            return data;
+        }
+        return "data:" + fileMediaType + ";base64,<" + filename + ", " + fileSize + " bytes>";
+    }
+
+    /**
+     * @return the backing file of an input created with {@link #fromFile(File)} or
+     * {@link #fromPath(Path)}, otherwise {@code null}
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the media type of a file-backed or data URL input, e.g. {@code image/png}
+     */
+    public String getMediaType() {
+        if (fileMediaType != null) {
+            return fileMediaType;
+        }
+        if (data != null && data.startsWith("data:")) {
+            int semicolon = data.indexOf(';');
+            if (semicolon > 5) {
+                return data.substring(5, semicolon);
+            }
+        }
+        return "application/octet-stream";
+    }
+
+    /**
+     * @return the size in bytes of a file-backed input when it was created, or {@code -1} for
+     * other inputs
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return the modification time of a file-backed input's file when the input was created, or
+     * {@code -1} for other inputs
+     */
+    public long getFileModifiedMillis() {
+        return fileModifiedMillis;
+    }
+
+    /**
+     * @return the decoded size in bytes of a file-backed or data URL input, or {@code -1} for
+     * URL and provider id inputs. Data URLs are measured from their base64 length.
+     */
+    public long getContentLength() {
+        if (path != null) {
+            return fileSize;
+        }
+        if (!hasInlineData()) {
+            return -1;
+        }
+        int comma = data.indexOf(',');
+        long encoded = data.length() - (comma + 1L);
+        long padding = 0;
+        for (int i = data.length() - 1; i > comma && padding < 2 && data.charAt(i) == '='; i--) {
+            padding++;
+        }
+        return encoded / 4 * 3 - padding;
+    }
+
+    /**
+     * Opens the decoded content of a file-backed or data URL input.
+     */
+    public InputStream openStream() throws IOException {
+        if (path != null) {
+            checkUnchanged();
+            return Files.newInputStream(path);
+        }
+        if (!hasInlineData()) {
+            throw new IllegalStateException("Input has no inline content: " + filename);
+        }
+        int comma = data.indexOf(',');
+        InputStream encoded = (comma >= 0)
+                ? JsonStreamValue.of(data, comma + 1, data.length()).openStream()
+                : new ByteArrayInputStream(new byte[0]);
+        return Base64.getDecoder().wrap(encoded);
+    }
+
+    /**
+     * Lowercase hex SHA-256 of the decoded content, computed on first use and memoized.
+     * File-backed inputs are hashed through a memory mapping, and checked to be unchanged on
+     * every call so a memoized hash never describes content that is no longer there.
+     *
+     * @return the content hash, or {@code null} for URL and provider id inputs
+     */
+    public String getContentHash() {
+        String hash = contentHash;
+        if (path != null) {
+            try {
+                checkUnchanged();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (hash == null) {
+            if (path == null && !hasInlineData()) {
+                return null;
+            }
+            try {
+                if (path != null) {
+                    hash = FileUtil.computeSHA256(path);
+                } else {
+                    try (InputStream in = openStream()) {
+                        hash = FileUtil.computeSHA256(in);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to hash content of " + filename, e);
+            }
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    private void checkUnchanged() throws IOException {
+        FileUtil.checkUnchanged(path, fileSize, fileModifiedMillis);
+    }
+
+    private boolean hasInlineData() {
+        return referenceType == FileDataReferenceType.DATA_URL && data != null && data.startsWith("data:");
     }
 
     private static InputType determineFileType(String fileName) {
@@ -132,4 +336,12 @@ public final class AIFileInput implements AIInput {
         }
         throw new IllegalArgumentException("Unsupported file type for file: " + fileName);
     }
+
+    private static String mediaTypeForExtension(String extension) {
+        switch (extension) {
+            case "pdf": return "application/pdf";
+            case "jpg": return "image/jpeg";
+            default: return "image/" + extension;
+        }
+    }
 }
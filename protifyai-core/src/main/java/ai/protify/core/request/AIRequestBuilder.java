@@ -20,6 +20,7 @@ import ai.protify.core.AIClient;
 import ai.protify.core.ReasoningEffort;
 import ai.protify.core.internal.config.AIConfigProperty;
 import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.resiliency.HedgingPolicy;
 import ai.protify.core.resiliency.RetryPolicy;
 import ai.protify.core.response.AIResponse;
 import ai.protify.core.tool.AITool;
@@ -155,6 +156,11 @@ public class AIRequestBuilder {
         return this;
     }
 
+    public AIRequestBuilder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.properties.put(AIConfigProperty.HEDGING_POLICY, hedgingPolicy);
+        return this;
+    }
+
     public AIRequest build() {
         return new ProtifyAIRequest(
                 client,
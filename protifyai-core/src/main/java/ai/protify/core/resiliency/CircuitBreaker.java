@@ -0,0 +1,249 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+import ai.protify.core.internal.util.Logger;
+import ai.protify.core.internal.util.LoggerFactory;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The state of one circuit, driven by a {@link CircuitBreakerPolicy}. Callers ask
+ * {@link #tryAcquirePermission()} before each call and report it with {@link #onResult} or, if
+ * it ended without an outcome such as being cancelled, {@link #releasePermission()}.
+ * <p>
+ * Outcomes are kept in a ring of the last {@code windowSize} calls. Calls that complete after
+ * the circuit opened are not recorded; calls permitted before it half-opened may be counted as
+ * probes.
+ */
+public class CircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final CircuitBreakerPolicy policy;
+    private final LongSupplier nanoClock;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int buffered;
+    private int failedCalls;
+    private int slowCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAtNanos;
+    private int probesPermitted;
+    private long notPermittedCalls;
+
+    public CircuitBreaker(String name, CircuitBreakerPolicy policy) {
+        this(name, policy, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, CircuitBreakerPolicy policy, LongSupplier nanoClock) {
+        this.name = name;
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(policy.getSlowCallDurationMillis());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(policy.getOpenDurationMillis());
+        this.failed = new boolean[policy.getWindowSize()];
+        this.slow = new boolean[policy.getWindowSize()];
+    }
+
+    /**
+     * @return true if the call may proceed; false while the circuit is open, or half-open with
+     * all probes already in flight
+     */
+    public boolean tryAcquirePermission() {
+        CircuitBreakerEvent event = null;
+        boolean permitted;
+        synchronized (this) {
+            if (state == CircuitState.OPEN && nanoClock.getAsLong() - openedAtNanos >= openNanos) {
+                event = transitionTo(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.CLOSED) {
+                permitted = true;
+            } else if (state == CircuitState.HALF_OPEN && probesPermitted < policy.getHalfOpenProbes()) {
+                probesPermitted++;
+                permitted = true;
+            } else {
+                notPermittedCalls++;
+                permitted = false;
+            }
+        }
+        notifyListener(event);
+        return permitted;
+    }
+
+    /**
+     * Returns a permission whose call ended without an outcome, so a half-open circuit can
+     * let another probe through.
+     */
+    public synchronized void releasePermission() {
+        if (state == CircuitState.HALF_OPEN && probesPermitted > buffered) {
+            probesPermitted--;
+        }
+    }
+
+    /**
+     * Records a finished call.
+     *
+     * @param durationNanos how long the call took, or 0 if it should never count as slow
+     * @param error         the failure, or null; only errors matching {@code recordExceptions}
+     *                      count as failed, others count as successful calls
+     */
+    public void onResult(long durationNanos, Throwable error) {
+        boolean isFailure = isRecorded(error);
+        boolean isSlow = durationNanos > slowCallNanos;
+        CircuitBreakerEvent event = null;
+        synchronized (this) {
+            if (state == CircuitState.OPEN) {
+                return;
+            }
+            record(isFailure, isSlow);
+            if (state == CircuitState.CLOSED) {
+                if (buffered >= policy.getMinimumCalls() && exceedsThresholds()) {
+                    event = transitionTo(CircuitState.OPEN);
+                }
+            } else if (buffered >= policy.getHalfOpenProbes()) {
+                event = transitionTo(exceedsThresholds() ? CircuitState.OPEN : CircuitState.CLOSED);
+            }
+        }
+        notifyListener(event);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreakerPolicy getPolicy() {
+        return policy;
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    /** Percentage of failed calls in the window, or -1 until {@code minimumCalls} are recorded. */
+    public synchronized float getFailureRate() {
+        return rate(failedCalls);
+    }
+
+    /** Percentage of slow calls in the window, or -1 until {@code minimumCalls} are recorded. */
+    public synchronized float getSlowCallRate() {
+        return rate(slowCalls);
+    }
+
+    public synchronized int getBufferedCalls() {
+        return buffered;
+    }
+
+    public synchronized int getFailedCalls() {
+        return failedCalls;
+    }
+
+    public synchronized int getSlowCalls() {
+        return slowCalls;
+    }
+
+    /** Calls rejected since the circuit was created. */
+    public synchronized long getNotPermittedCalls() {
+        return notPermittedCalls;
+    }
+
+    private boolean isRecorded(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof CompletionException) {
+                continue;
+            }
+            for (Class<? extends Exception> type : policy.getRecordExceptions()) {
+                if (type.isInstance(t)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void record(boolean isFailure, boolean isSlow) {
+        if (buffered == failed.length) {
+            failedCalls -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            buffered++;
+        }
+        failed[next] = isFailure;
+        slow[next] = isSlow;
+        failedCalls += isFailure ? 1 : 0;
+        slowCalls += isSlow ? 1 : 0;
+        next = (next + 1) % failed.length;
+    }
+
+    private boolean exceedsThresholds() {
+        return failedCalls * 100f / buffered >= policy.getFailureRateThreshold()
+                || slowCalls * 100f / buffered >= policy.getSlowCallRateThreshold();
+    }
+
+    private float rate(int count) {
+        int needed = (state == CircuitState.HALF_OPEN) ? policy.getHalfOpenProbes() : policy.getMinimumCalls();
+        return (buffered < needed) ? -1f : count * 100f / buffered;
+    }
+
+    private CircuitBreakerEvent transitionTo(CircuitState target) {
+        CircuitBreakerEvent event = new CircuitBreakerEvent(name, state, target,
+                buffered == 0 ? -1f : failedCalls * 100f / buffered,
+                buffered == 0 ? -1f : slowCalls * 100f / buffered,
+                buffered, notPermittedCalls, System.currentTimeMillis());
+        state = target;
+        // Each state judges its own calls; probes are not diluted by the calls that opened it
+        next = 0;
+        buffered = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        probesPermitted = 0;
+        if (target == CircuitState.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        return event;
+    }
+
+    private void notifyListener(CircuitBreakerEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (event.getToState() == CircuitState.OPEN) {
+            LOGGER.warn("Circuit {} opened: failure rate {}%, slow call rate {}%",
+                    name, event.getFailureRate(), event.getSlowCallRate());
+        } else {
+            LOGGER.info("Circuit {} changed from {} to {}", name, event.getFromState(), event.getToState());
+        }
+        CircuitBreakerListener listener = policy.getListener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onStateTransition(event);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Circuit breaker listener failed: {}", e.getMessage());
+        }
+    }
+}
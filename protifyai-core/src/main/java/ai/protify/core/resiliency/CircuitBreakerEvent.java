@@ -0,0 +1,95 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+/**
+ * A circuit state change and the window metrics that caused it, reported to a
+ * {@link CircuitBreakerListener}.
+ */
+public final class CircuitBreakerEvent {
+
+    private final String name;
+    private final CircuitState fromState;
+    private final CircuitState toState;
+    private final float failureRate;
+    private final float slowCallRate;
+    private final int bufferedCalls;
+    private final long notPermittedCalls;
+    private final long timestampMillis;
+
+    @SuppressWarnings({"java:S107"})
+    public CircuitBreakerEvent(String name, CircuitState fromState, CircuitState toState, float failureRate,
+                               float slowCallRate, int bufferedCalls, long notPermittedCalls, long timestampMillis) {
+        this.name = name;
+        this.fromState = fromState;
+        this.toState = toState;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.bufferedCalls = bufferedCalls;
+        this.notPermittedCalls = notPermittedCalls;
+        this.timestampMillis = timestampMillis;
+    }
+
+    /** The endpoint the circuit guards. */
+    public String getName() {
+        return name;
+    }
+
+    public CircuitState getFromState() {
+        return fromState;
+    }
+
+    public CircuitState getToState() {
+        return toState;
+    }
+
+    /** Percentage of failed calls in the window, or -1 if too few calls were recorded. */
+    public float getFailureRate() {
+        return failureRate;
+    }
+
+    /** Percentage of slow calls in the window, or -1 if too few calls were recorded. */
+    public float getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    public int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    /** Calls rejected while the circuit was open, since it was created. */
+    public long getNotPermittedCalls() {
+        return notPermittedCalls;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerEvent{" +
+                "name='" + name + '\'' +
+                ", " + fromState + " -> " + toState +
+                ", failureRate=" + failureRate +
+                ", slowCallRate=" + slowCallRate +
+                ", bufferedCalls=" + bufferedCalls +
+                ", notPermittedCalls=" + notPermittedCalls +
+                '}';
+    }
+}
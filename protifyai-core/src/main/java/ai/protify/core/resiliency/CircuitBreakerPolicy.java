@@ -0,0 +1,136 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+import ai.protify.core.internal.exception.ServiceOverloadedException;
+import ai.protify.core.internal.exception.ServiceUnavailableException;
+import ai.protify.core.internal.exception.TimeoutException;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Settings for the circuit breaker that guards each provider endpoint. Outcomes of the last
+ * {@code windowSize} calls are kept; once at least {@code minimumCalls} are recorded and the
+ * failure rate or slow-call rate reaches its threshold, the circuit opens and calls fail fast
+ * with a {@code CircuitOpenException} for {@code openDurationMillis}. It then lets
+ * {@code halfOpenProbes} calls through and closes again if their failure rate is under the
+ * threshold.
+ * <p>
+ * A failure is an error, or a response translated to an exception, that is an instance of one
+ * of {@code recordExceptions}. Rate limiting (429) and client errors are not failures.
+ */
+public class CircuitBreakerPolicy {
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationMillis;
+    private final long openDurationMillis;
+    private final int halfOpenProbes;
+    private final Set<Class<? extends Exception>> recordExceptions;
+    private final CircuitBreakerListener listener;
+
+    public static final CircuitBreakerPolicy DEFAULT = builder()
+            .windowSize(50)
+            .minimumCalls(20)
+            .failureRateThreshold(50f)
+            .slowCallRateThreshold(100f)
+            .slowCallDurationMillis(60_000L)
+            .openDurationMillis(30_000L)
+            .halfOpenProbes(3)
+            .recordExceptions(Set.of(ServiceUnavailableException.class, ServiceOverloadedException.class,
+                    TimeoutException.class, IOException.class))
+            .build();
+
+    @SuppressWarnings({"java:S107"})
+    protected CircuitBreakerPolicy(int windowSize,
+                                   int minimumCalls,
+                                   float failureRateThreshold,
+                                   float slowCallRateThreshold,
+                                   long slowCallDurationMillis,
+                                   long openDurationMillis,
+                                   int halfOpenProbes,
+                                   Set<Class<? extends Exception>> recordExceptions,
+                                   CircuitBreakerListener listener) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenProbes = halfOpenProbes;
+        this.recordExceptions = recordExceptions;
+        this.listener = listener;
+    }
+
+    public static CircuitBreakerPolicyBuilder builder() {
+        return new CircuitBreakerPolicyBuilder();
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+        return slowCallDurationMillis;
+    }
+
+    public long getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public Set<Class<? extends Exception>> getRecordExceptions() {
+        return recordExceptions;
+    }
+
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerPolicy{" +
+                "windowSize=" + windowSize +
+                ", minimumCalls=" + minimumCalls +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", slowCallDurationMillis=" + slowCallDurationMillis +
+                ", openDurationMillis=" + openDurationMillis +
+                ", halfOpenProbes=" + halfOpenProbes +
+                ", recordExceptions=" + recordExceptions +
+                '}';
+    }
+}
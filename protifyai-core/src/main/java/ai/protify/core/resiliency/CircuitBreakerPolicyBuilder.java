@@ -0,0 +1,142 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+import java.util.Set;
+
+public class CircuitBreakerPolicyBuilder {
+
+    private static final int MAX_WINDOW_SIZE = 10_000;
+    private static final long MAX_OPEN_DURATION_MILLIS = 60 * 60_000L;
+
+    private Integer windowSize;
+    private Integer minimumCalls;
+    private Float failureRateThreshold;
+    private Float slowCallRateThreshold;
+    private Long slowCallDurationMillis;
+    private Long openDurationMillis;
+    private Integer halfOpenProbes;
+    private Set<Class<? extends Exception>> recordExceptions;
+    private CircuitBreakerListener listener;
+
+    /** Number of most recent calls whose outcomes are kept. */
+    public CircuitBreakerPolicyBuilder windowSize(Integer windowSize) {
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /** Calls that must be recorded before the rates are evaluated. */
+    public CircuitBreakerPolicyBuilder minimumCalls(Integer minimumCalls) {
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /** Percentage of failed calls at which the circuit opens. */
+    public CircuitBreakerPolicyBuilder failureRateThreshold(Float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /** Percentage of slow calls at which the circuit opens; 100 only opens if every call is slow. */
+    public CircuitBreakerPolicyBuilder slowCallRateThreshold(Float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    /** Calls taking longer than this count as slow. Streamed calls are never slow. */
+    public CircuitBreakerPolicyBuilder slowCallDurationMillis(Long slowCallDurationMillis) {
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        return this;
+    }
+
+    public CircuitBreakerPolicyBuilder openDurationMillis(Long openDurationMillis) {
+        this.openDurationMillis = openDurationMillis;
+        return this;
+    }
+
+    public CircuitBreakerPolicyBuilder halfOpenProbes(Integer halfOpenProbes) {
+        this.halfOpenProbes = halfOpenProbes;
+        return this;
+    }
+
+    public CircuitBreakerPolicyBuilder recordExceptions(Set<Class<? extends Exception>> recordExceptions) {
+        this.recordExceptions = recordExceptions;
+        return this;
+    }
+
+    public CircuitBreakerPolicyBuilder listener(CircuitBreakerListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    public CircuitBreakerPolicy build() {
+
+        CircuitBreakerPolicy defaultPolicy = CircuitBreakerPolicy.DEFAULT;
+
+        CircuitBreakerPolicy policy = new CircuitBreakerPolicy(
+                windowSize == null ? defaultPolicy.getWindowSize() : windowSize,
+                minimumCalls == null ? defaultPolicy.getMinimumCalls() : minimumCalls,
+                failureRateThreshold == null ? defaultPolicy.getFailureRateThreshold() : failureRateThreshold,
+                slowCallRateThreshold == null ? defaultPolicy.getSlowCallRateThreshold() : slowCallRateThreshold,
+                slowCallDurationMillis == null ? defaultPolicy.getSlowCallDurationMillis() : slowCallDurationMillis,
+                openDurationMillis == null ? defaultPolicy.getOpenDurationMillis() : openDurationMillis,
+                halfOpenProbes == null ? defaultPolicy.getHalfOpenProbes() : halfOpenProbes,
+                recordExceptions == null ? defaultPolicy.getRecordExceptions() : recordExceptions,
+                listener);
+
+        validate(policy);
+        return policy;
+    }
+
+    @SuppressWarnings({"java:S3776"})
+    private void validate(CircuitBreakerPolicy policy) {
+
+        if (policy.getWindowSize() < 1 || policy.getWindowSize() > MAX_WINDOW_SIZE) {
+            throw new IllegalArgumentException("windowSize must be between 1 and " + MAX_WINDOW_SIZE);
+        }
+
+        if (policy.getMinimumCalls() < 1 || policy.getMinimumCalls() > policy.getWindowSize()) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+
+        if (policy.getFailureRateThreshold() <= 0 || policy.getFailureRateThreshold() > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 100");
+        }
+
+        if (policy.getSlowCallRateThreshold() <= 0 || policy.getSlowCallRateThreshold() > 100) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be greater than 0 and at most 100");
+        }
+
+        if (policy.getSlowCallDurationMillis() < 1) {
+            throw new IllegalArgumentException("slowCallDurationMillis must be >= 1");
+        }
+
+        if (policy.getOpenDurationMillis() < 1 || policy.getOpenDurationMillis() > MAX_OPEN_DURATION_MILLIS) {
+            throw new IllegalArgumentException("openDurationMillis must be between 1 and " + MAX_OPEN_DURATION_MILLIS);
+        }
+
+        // Probe outcomes are recorded in the window, so more probes than it holds never resolve
+        if (policy.getHalfOpenProbes() < 1 || policy.getHalfOpenProbes() > policy.getWindowSize()) {
+            throw new IllegalArgumentException("halfOpenProbes must be between 1 and windowSize");
+        }
+
+        if (policy.getRecordExceptions() == null || policy.getRecordExceptions().isEmpty()) {
+            throw new IllegalArgumentException("recordExceptions must not be empty");
+        }
+    }
+}
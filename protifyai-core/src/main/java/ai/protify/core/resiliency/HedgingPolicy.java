@@ -0,0 +1,91 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+/**
+ * Sends a duplicate of a model call that has not answered (or, when streaming, produced its
+ * first event) within a latency percentile of recent calls to the same provider and model,
+ * keeps whichever answers first and cancels the other.
+ * <p>
+ * Hedging is off unless a policy is set. Duplicates are limited by a budget: each call earns
+ * {@code budgetPercent / 100} of a hedge, so at most that share of calls is ever sent twice.
+ * Only hedge calls that are safe to repeat; the provider bills both attempts.
+ */
+public class HedgingPolicy {
+
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+    private final int minSamples;
+    private final double budgetPercent;
+
+    public static final HedgingPolicy DEFAULT = builder()
+            .percentile(95.0)
+            .minDelayMillis(50L)
+            .maxDelayMillis(10_000L)
+            .minSamples(20)
+            .budgetPercent(10.0)
+            .build();
+
+    protected HedgingPolicy(double percentile,
+                            long minDelayMillis,
+                            long maxDelayMillis,
+                            int minSamples,
+                            double budgetPercent) {
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.minSamples = minSamples;
+        this.budgetPercent = budgetPercent;
+    }
+
+    public static HedgingPolicyBuilder builder() {
+        return new HedgingPolicyBuilder();
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public double getBudgetPercent() {
+        return budgetPercent;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy{" +
+                "percentile=" + percentile +
+                ", minDelayMillis=" + minDelayMillis +
+                ", maxDelayMillis=" + maxDelayMillis +
+                ", minSamples=" + minSamples +
+                ", budgetPercent=" + budgetPercent +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+public class HedgingPolicyBuilder {
+
+    private static final long MAX_DELAY_MILLIS = 15 * 60_000L;
+    private static final double MAX_BUDGET_PERCENT = 100.0;
+
+    private Double percentile;
+    private Long minDelayMillis;
+    private Long maxDelayMillis;
+    private Integer minSamples;
+    private Double budgetPercent;
+
+    /**
+     * Latency percentile, between 0 and 100 exclusive, of recent successful calls after which
+     * a duplicate is sent.
+     */
+    public HedgingPolicyBuilder percentile(Double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    public HedgingPolicyBuilder minDelayMillis(Long minDelayMillis) {
+        this.minDelayMillis = minDelayMillis;
+        return this;
+    }
+
+    public HedgingPolicyBuilder maxDelayMillis(Long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+        return this;
+    }
+
+    /**
+     * Calls that must complete before the percentile is trusted; no call is hedged until then.
+     */
+    public HedgingPolicyBuilder minSamples(Integer minSamples) {
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    /**
+     * Extra load allowed, as a percentage of calls.
+     */
+    public HedgingPolicyBuilder budgetPercent(Double budgetPercent) {
+        this.budgetPercent = budgetPercent;
+        return this;
+    }
+
+    public HedgingPolicy build() {
+
+        HedgingPolicy defaultPolicy = HedgingPolicy.DEFAULT;
+
+        HedgingPolicy hedgingPolicy = new HedgingPolicy(
+                percentile == null ? defaultPolicy.getPercentile() : percentile,
+                minDelayMillis == null ? defaultPolicy.getMinDelayMillis() : minDelayMillis,
+                maxDelayMillis == null ? defaultPolicy.getMaxDelayMillis() : maxDelayMillis,
+                minSamples == null ? defaultPolicy.getMinSamples() : minSamples,
+                budgetPercent == null ? defaultPolicy.getBudgetPercent() : budgetPercent);
+
+        validate(hedgingPolicy);
+        return hedgingPolicy;
+    }
+
+    private void validate(HedgingPolicy hedgingPolicy) {
+
+        if (hedgingPolicy.getPercentile() <= 0 || hedgingPolicy.getPercentile() >= 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100 exclusive");
+        }
+
+        if (hedgingPolicy.getMinDelayMillis() < 0 || hedgingPolicy.getMinDelayMillis() > MAX_DELAY_MILLIS) {
+            throw new IllegalArgumentException("minDelayMillis must be between 0 and " + MAX_DELAY_MILLIS);
+        }
+
+        if (hedgingPolicy.getMaxDelayMillis() < hedgingPolicy.getMinDelayMillis()
+                || hedgingPolicy.getMaxDelayMillis() > MAX_DELAY_MILLIS) {
+            throw new IllegalArgumentException("maxDelayMillis must be between minDelayMillis and " + MAX_DELAY_MILLIS);
+        }
+
+        if (hedgingPolicy.getMinSamples() < 1) {
+            throw new IllegalArgumentException("minSamples must be at least 1");
+        }
+
+        if (hedgingPolicy.getBudgetPercent() <= 0 || hedgingPolicy.getBudgetPercent() > MAX_BUDGET_PERCENT) {
+            throw new IllegalArgumentException("budgetPercent must be greater than 0 and at most " + MAX_BUDGET_PERCENT);
+        }
+    }
+}
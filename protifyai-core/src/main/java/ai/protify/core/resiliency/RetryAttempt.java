@@ -0,0 +1,106 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+/**
+ * The outcome of a single HTTP attempt, reported to a {@link RetryListener}.
+ */
+public final class RetryAttempt {
+
+    private final String uri;
+    private final int attempt;
+    private final int statusCode;
+    private final Throwable error;
+    private final long durationMillis;
+    private final long elapsedMillis;
+    private final long retryAfterMillis;
+    private final long nextDelayMillis;
+
+    @SuppressWarnings({"java:S107"})
+    public RetryAttempt(String uri, int attempt, int statusCode, Throwable error, long durationMillis,
+                        long elapsedMillis, long retryAfterMillis, long nextDelayMillis) {
+        this.uri = uri;
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.error = error;
+        this.durationMillis = durationMillis;
+        this.elapsedMillis = elapsedMillis;
+        this.retryAfterMillis = retryAfterMillis;
+        this.nextDelayMillis = nextDelayMillis;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    /** 1 for the first call, 2 for the first retry, and so on. */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /** The HTTP status, or 0 if the attempt failed before a response arrived. */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /** The failure, or {@code null} if the attempt succeeded. */
+    public Throwable getError() {
+        return error;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /** Time since the first attempt started, including earlier attempts and waits. */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /** The wait the server asked for via {@code Retry-After} or rate-limit headers, or -1. */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /** The wait before the next attempt, or -1 if no further attempt will be made. */
+    public long getNextDelayMillis() {
+        return nextDelayMillis;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public boolean willRetry() {
+        return nextDelayMillis >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryAttempt{" +
+                "uri='" + uri + '\'' +
+                ", attempt=" + attempt +
+                ", statusCode=" + statusCode +
+                ", error=" + error +
+                ", durationMillis=" + durationMillis +
+                ", elapsedMillis=" + elapsedMillis +
+                ", retryAfterMillis=" + retryAfterMillis +
+                ", nextDelayMillis=" + nextDelayMillis +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+/**
+ * Receives one {@link RetryAttempt} per HTTP attempt made under a {@link RetryPolicy}, e.g. to
+ * record attempt counts, latencies and throttling in a metrics system. Called on the HTTP
+ * client's threads, so implementations must be fast and thread-safe; exceptions are logged
+ * and ignored.
+ */
+@FunctionalInterface
+public interface RetryListener {
+
+    void onAttempt(RetryAttempt attempt);
+}
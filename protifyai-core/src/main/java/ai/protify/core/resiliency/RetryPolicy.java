@@ -16,6 +16,7 @@
 
 package ai.protify.core.resiliency;
 
+import java.io.IOException;
 import java.util.Set;
 
 public class RetryPolicy {
@@ -29,6 +30,7 @@ public class RetryPolicy {
     private final Set<Integer> retryOnHttpStatusCodes;
     private final Set<Class<? extends Exception>> retryOnExceptions;
     private final boolean respectRetryAfter;
+    private final RetryListener listener;
 
     public static final RetryPolicy DEFAULT = builder()
             .maxRetries(0)
@@ -37,8 +39,8 @@ public class RetryPolicy {
             .maxDelayMillis(10000L)
             .jitterMillis(200L)
             .maxElapsedTimeMillis(20000L)
-            .retryOnHttpStatusCodes(Set.of(429, 500, 502, 503, 504, 408))
-            .retryOnExceptions(Set.of(RuntimeException.class))
+            .retryOnHttpStatusCodes(Set.of(429, 500, 502, 503, 504, 408, 529))
+            .retryOnExceptions(Set.of(RuntimeException.class, IOException.class))
             .respectRetryAfter(true)
             .build();
 
@@ -52,6 +54,21 @@ public class RetryPolicy {
                        Set<Integer> retryOnHttpStatusCodes,
                        Set<Class<? extends Exception>> retryOnExceptions,
                        boolean respectRetryAfter) {
+        this(maxRetries, backoffStrategy, delayMillis, jitterMillis, maxDelayMillis, maxElapsedTimeMillis,
+                retryOnHttpStatusCodes, retryOnExceptions, respectRetryAfter, null);
+    }
+
+    @SuppressWarnings({"java:S107"})
+    protected RetryPolicy(int maxRetries,
+                       RetryBackoffStrategy backoffStrategy,
+                       long delayMillis,
+                       long jitterMillis,
+                       long maxDelayMillis,
+                       long maxElapsedTimeMillis,
+                       Set<Integer> retryOnHttpStatusCodes,
+                       Set<Class<? extends Exception>> retryOnExceptions,
+                       boolean respectRetryAfter,
+                       RetryListener listener) {
         this.maxRetries = maxRetries;
         this.backoffStrategy = backoffStrategy;
         this.delayMillis = delayMillis;
@@ -61,6 +78,7 @@ public class RetryPolicy {
         this.retryOnHttpStatusCodes = retryOnHttpStatusCodes;
         this.retryOnExceptions = retryOnExceptions;
         this.respectRetryAfter = respectRetryAfter;
+        this.listener = listener;
     }
 
     public static RetryPolicyBuilder builder() {
@@ -103,6 +121,10 @@ public class RetryPolicy {
         return respectRetryAfter;
     }
 
+    public RetryListener getListener() {
+        return listener;
+    }
+
     @Override
     public String toString() {
         return "RetryPolicy{" +
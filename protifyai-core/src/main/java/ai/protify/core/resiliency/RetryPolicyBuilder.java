@@ -35,6 +35,7 @@ public class RetryPolicyBuilder {
     private Set<Integer> retryOnHttpStatusCodes;
     private Set<Class<? extends Exception>> retryOnExceptions;
     private Boolean respectRetryAfter;
+    private RetryListener listener;
 
     public RetryPolicyBuilder maxRetries(Integer maxRetries) {
         this.maxRetries = maxRetries;
@@ -81,6 +82,14 @@ public class RetryPolicyBuilder {
         return this;
     }
 
+    /**
+     * Reports every attempt, successful or not, to {@code listener}.
+     */
+    public RetryPolicyBuilder listener(RetryListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
     public RetryPolicy build() {
 
         RetryPolicy defaultPolicy = RetryPolicy.DEFAULT;
@@ -94,7 +103,8 @@ public class RetryPolicyBuilder {
                 maxElapsedTimeMillis == null ? defaultPolicy.getMaxElapsedTimeMillis() : maxElapsedTimeMillis,
                 retryOnHttpStatusCodes == null ? defaultPolicy.getRetryOnHttpStatusCodes() : retryOnHttpStatusCodes,
                 retryOnExceptions == null ? defaultPolicy.getRetryOnExceptions() : retryOnExceptions,
-                respectRetryAfter == null ? defaultPolicy.isRespectRetryAfter() : respectRetryAfter);
+                respectRetryAfter == null ? defaultPolicy.isRespectRetryAfter() : respectRetryAfter,
+                listener);
 
         validate(retryPolicy);
         return retryPolicy;
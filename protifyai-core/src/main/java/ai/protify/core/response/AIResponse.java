@@ -38,6 +38,16 @@ public interface AIResponse {
 
     long getTotalTokens();
 
+    /** Part of {@link #getInputTokens()} read from the provider's prompt cache; 0 when not reported. */
+    default long getCacheReadInputTokens() {
+        return 0;
+    }
+
+    /** Part of {@link #getInputTokens()} written to the provider's prompt cache; 0 when not reported. */
+    default long getCacheWriteInputTokens() {
+        return 0;
+    }
+
     long getProcessingTimeMillis();
 
     boolean isCachedResponse();
@@ -69,4 +79,9 @@ public interface AIResponse {
     default String getStopReason() {
         return null;
     }
+
+    /** Id a later request to the same provider can refer back to, e.g. {@code previous_response_id}; null when unsupported. */
+    default String getProviderResponseId() {
+        return null;
+    }
 }
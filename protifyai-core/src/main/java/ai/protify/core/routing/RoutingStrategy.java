@@ -0,0 +1,42 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.routing;
+
+/**
+ * How a routing client built with {@code AIClientBuilder.route(...)} orders its clients for
+ * each request. The first client in the order is called; the rest are tried in turn when it
+ * fails with a retriable error or an open circuit.
+ */
+public enum RoutingStrategy {
+
+    /**
+     * Prefers the client with the lowest recent latency, weighted by its calls in flight.
+     * Latency is a peak-sensitive moving average that decays while a client is idle, so a slow
+     * client is avoided at once and probed again later.
+     */
+    EWMA_LATENCY,
+
+    /** Prefers the client with the fewest calls in flight relative to its weight. */
+    LEAST_IN_FLIGHT,
+
+    /** Spreads calls in proportion to client weights. */
+    WEIGHTED_ROUND_ROBIN,
+
+    /** Prefers the client with the lowest configured cost, then the lowest latency. */
+    LOWEST_COST
+}
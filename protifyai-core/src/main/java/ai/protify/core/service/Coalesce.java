@@ -0,0 +1,40 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Packs concurrent calls to a service method into one request. Calls are collected until
+ * {@link #maxBatchSize()} are waiting or {@link #maxWaitMillis()} has passed since the first,
+ * then sent as numbered items of a single prompt; the structured answer is split back to the
+ * callers. Items whose answer is missing or cannot be mapped are retried as individual calls.
+ * <p>
+ * On an interface, applies to every method whose return type can be answered per item: a
+ * string, enum, primitive, POJO or list, directly or inside a {@code CompletableFuture}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    int maxBatchSize() default 16;
+
+    long maxWaitMillis() default 20;
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.batch;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIModel;
+import ai.protify.core.batch.AIBatch;
+import ai.protify.core.batch.AIBatchBuilder;
+import ai.protify.core.batch.AIBatchResult;
+import ai.protify.core.batch.AIBatchStatus;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.AnthropicBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchClient;
+import ai.protify.core.internal.provider.batch.ProviderBatchRegistry;
+import ai.protify.core.internal.provider.batch.ProviderBatchResult;
+import ai.protify.core.internal.provider.openai.OpenAIBatchClient;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtifyAIBatchTest {
+
+    private static final Pattern PROMPT = Pattern.compile("prompt-\\d+");
+    private static final Duration POLL = Duration.ofMillis(10);
+
+    private HttpServer server;
+    private String baseUrl;
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private final List<String> inputs = new CopyOnWriteArrayList<>();
+    private final List<String> cancelled = new CopyOnWriteArrayList<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private volatile String finalStatus = "completed";
+    private volatile boolean dropLastResult;
+
+    private ProviderBatchClient previousOpenAI;
+    private ProviderBatchClient previousAnthropic;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/files", this::handleFiles);
+        server.createContext("/v1/batches", this::handleOpenAIBatches);
+        server.createContext("/v1/messages/batches", this::handleAnthropicBatches);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        previousOpenAI = ProviderBatchRegistry.getInstance().register(ProtifyAIProvider.OPEN_AI, new OpenAIBatchClient(baseUrl));
+        previousAnthropic = ProviderBatchRegistry.getInstance().register(ProtifyAIProvider.ANTHROPIC, new AnthropicBatchClient(baseUrl));
+    }
+
+    @AfterEach
+    void stopServer() {
+        ProviderBatchRegistry.getInstance().register(ProtifyAIProvider.OPEN_AI, previousOpenAI);
+        ProviderBatchRegistry.getInstance().register(ProtifyAIProvider.ANTHROPIC, previousAnthropic);
+        server.stop(0);
+    }
+
+    // --- Stand-in OpenAI files and batches ---
+
+    private void handleFiles(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            // The JSONL file is the last multipart part
+            int start = body.indexOf("\r\n\r\n", body.indexOf("filename=")) + 4;
+            String content = body.substring(start, body.lastIndexOf("\r\n--"));
+            inputs.add(content);
+            String id = "file-" + ids.incrementAndGet();
+            files.put(id, content);
+            respond(exchange, 200, "{\"id\":\"" + id + "\",\"object\":\"file\",\"purpose\":\"batch\"}");
+        } else {
+            String id = path.substring("/v1/files/".length(), path.length() - "/content".length());
+            respond(exchange, 200, files.get(id));
+        }
+    }
+
+    private void handleOpenAIBatches(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/cancel")) {
+            cancelled.add(path);
+            respond(exchange, 200, "{\"status\":\"cancelling\"}");
+            return;
+        }
+        if ("POST".equals(exchange.getRequestMethod())) {
+            ProtifyJsonObject json = ProtifyJson.parse(body);
+            assertEquals("/v1/responses", json.getString("endpoint"));
+            String id = "batch_" + json.getString("input_file_id");
+            polls.put(id, new AtomicInteger());
+            respond(exchange, 200, "{\"id\":\"" + id + "\",\"status\":\"validating\"}");
+            return;
+        }
+        String id = path.substring("/v1/batches/".length());
+        if (polls.get(id).incrementAndGet() < 3) {
+            respond(exchange, 200, "{\"id\":\"" + id + "\",\"status\":\"in_progress\"}");
+            return;
+        }
+        // Results come back in reverse order, split between the output and error files
+        List<String> lines = lines(files.get(id.substring("batch_".length())));
+        Collections.reverse(lines);
+        StringBuilder output = new StringBuilder();
+        StringBuilder errors = new StringBuilder();
+        for (String line : lines) {
+            String customId = ProtifyJson.parse(line).getString("custom_id");
+            if (line.contains("fail")) {
+                errors.append("{\"id\":\"r\",\"custom_id\":\"").append(customId).append("\",\"response\":{\"status_code\":400,")
+                        .append("\"body\":{\"error\":{\"message\":\"bad prompt\"}}},\"error\":null}\n");
+            } else {
+                output.append("{\"id\":\"r\",\"custom_id\":\"").append(customId).append("\",\"response\":{\"status_code\":200,")
+                        .append("\"body\":").append(openAIBody(line)).append("},\"error\":null}\n");
+            }
+        }
+        if (dropLastResult) {
+            output.setLength(output.indexOf("\n") + 1);
+        }
+        files.put("out-" + id, output.toString());
+        files.put("err-" + id, errors.toString());
+        respond(exchange, 200, "{\"id\":\"" + id + "\",\"status\":\"" + finalStatus + "\",\"output_file_id\":\"out-" + id
+                + "\",\"error_file_id\":" + (errors.length() > 0 ? "\"err-" + id + "\"" : "null") + "}");
+    }
+
+    private static String openAIBody(String line) {
+        return "{\"id\":\"resp_1\",\"object\":\"response\",\"model\":\"gpt-5.4-mini\",\"output\":[{\"type\":\"message\","
+                + "\"role\":\"assistant\",\"content\":[{\"type\":\"output_text\",\"text\":\"echo " + prompt(line) + "\"}]}],"
+                + "\"usage\":{\"input_tokens\":3,\"output_tokens\":2,\"total_tokens\":5}}";
+    }
+
+    // --- Stand-in Anthropic message batches ---
+
+    private void handleAnthropicBatches(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String path = exchange.getRequestURI().getPath();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            inputs.add(body);
+            String id = "msgbatch_" + ids.incrementAndGet();
+            files.put(id, body);
+            polls.put(id, new AtomicInteger());
+            respond(exchange, 200, "{\"id\":\"" + id + "\",\"processing_status\":\"in_progress\"}");
+            return;
+        }
+        if (path.endsWith("/results")) {
+            String id = path.substring("/v1/messages/batches/".length(), path.length() - "/results".length());
+            StringBuilder results = new StringBuilder();
+            for (Object request : (List<?>) ProtifyJson.parse(files.get(id)).get("requests")) {
+                String customId = String.valueOf(((Map<?, ?>) request).get("custom_id"));
+                String prompt = prompt(String.valueOf(request));
+                results.append("{\"custom_id\":\"").append(customId).append("\",\"result\":{\"type\":\"succeeded\",\"message\":")
+                        .append("{\"id\":\"msg_1\",\"type\":\"message\",\"role\":\"assistant\",\"model\":\"claude-haiku-4-5\",")
+                        .append("\"content\":[{\"type\":\"text\",\"text\":\"echo ").append(prompt).append("\"}],")
+                        .append("\"usage\":{\"input_tokens\":3,\"output_tokens\":2}}}}\n");
+            }
+            respond(exchange, 200, results.toString());
+            return;
+        }
+        String id = path.substring("/v1/messages/batches/".length());
+        boolean ended = polls.get(id).incrementAndGet() >= 2;
+        respond(exchange, 200, "{\"id\":\"" + id + "\",\"processing_status\":\"" + (ended ? "ended" : "in_progress") + "\","
+                + "\"results_url\":" + (ended ? "\"" + baseUrl + "/v1/messages/batches/" + id + "/results\"" : "null") + "}");
+    }
+
+    private static String prompt(String text) {
+        Matcher matcher = PROMPT.matcher(text);
+        return matcher.find() ? matcher.group() : "?";
+    }
+
+    private static List<String> lines(String content) {
+        return content.lines().filter(line -> !line.isBlank()).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+
+    private static AIClient openAI() {
+        return AIClient.builder().model(AIModel.GPT_5_4_MINI).apiKey("local-key").build();
+    }
+
+    private static List<AIBatchResult> collect(AIBatch batch) {
+        try (Stream<AIBatchResult> results = batch.results()) {
+            return results.collect(Collectors.toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("OpenAI batches")
+    class OpenAI {
+
+        @Test
+        @DisplayName("writes one JSONL line per request and returns results in submission order")
+        void resultsInOrder(@TempDir Path dir) throws IOException {
+            AIClient client = openAI();
+            AIBatchBuilder builder = client.newBatch().workDirectory(dir).pollInterval(POLL, POLL);
+            for (int i = 0; i < 5; i++) {
+                builder.add("item-" + i, client.newRequest().addInput("prompt-" + i).build());
+            }
+            AIBatch batch = builder.submit().await();
+
+            assertEquals(AIBatchStatus.COMPLETED, batch.getStatus());
+            assertEquals(1, batch.getProviderBatchIds().size());
+            List<String> lines = lines(inputs.get(0));
+            assertEquals(5, lines.size());
+            ProtifyJsonObject first = ProtifyJson.parse(lines.get(0));
+            assertEquals("req-0", first.getString("custom_id"));
+            assertEquals("POST", first.getString("method"));
+            assertEquals("/v1/responses", first.getString("url"));
+            assertNotNull(first.get("body.model"));
+            assertEquals(inputs.get(0), Files.readString(dir.resolve("input-0.jsonl")));
+
+            List<AIBatchResult> results = collect(batch);
+            assertEquals(5, results.size());
+            for (int i = 0; i < 5; i++) {
+                AIBatchResult result = results.get(i);
+                assertEquals(i, result.getIndex());
+                assertEquals("item-" + i, result.getCorrelationId());
+                assertTrue(result.isSuccess());
+                assertEquals("echo prompt-" + i, result.getResponse().text());
+                assertEquals("item-" + i, result.getResponse().getCorrelationId());
+                assertEquals(5, result.getResponse().getTotalTokens());
+            }
+        }
+
+        @Test
+        @DisplayName("reports failed requests from the error file in place")
+        void failedRequests() {
+            AIClient client = openAI();
+            AIBatch batch = client.newBatch().pollInterval(POLL, POLL)
+                    .add(client.newRequest().addInput("prompt-0").build())
+                    .add(client.newRequest().addInput("prompt-1 fail").build())
+                    .add(client.newRequest().addInput("prompt-2").build())
+                    .submit()
+                    .await();
+
+            List<AIBatchResult> results = collect(batch);
+            assertTrue(results.get(0).isSuccess());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("bad prompt", results.get(1).getError());
+            assertNull(results.get(1).getResponse());
+            assertEquals("echo prompt-2", results.get(2).getResponse().text());
+            assertEquals(results.get(2).getCorrelationId(), results.get(2).getResponse().getCorrelationId());
+        }
+
+        @Test
+        @DisplayName("splits batches above the provider limit and keeps the overall order")
+        void splitsLargeBatches() {
+            ProviderBatchRegistry.getInstance().register(ProtifyAIProvider.OPEN_AI, new OpenAIBatchClient(baseUrl) {
+                @Override
+                public int getMaxRequests() {
+                    return 2;
+                }
+            });
+            AIClient client = openAI();
+            AIBatchBuilder builder = client.newBatch().pollInterval(POLL, POLL);
+            for (int i = 0; i < 5; i++) {
+                builder.add("item-" + i, client.newRequest().addInput("prompt-" + i).build());
+            }
+            AIBatch batch = builder.submit().await();
+
+            assertEquals(3, batch.getProviderBatchIds().size());
+            assertEquals(5, batch.size());
+            assertEquals(List.of(2, 2, 1), inputs.stream().map(in -> lines(in).size()).sorted(Collections.reverseOrder())
+                    .collect(Collectors.toList()));
+            List<String> texts = collect(batch).stream().map(r -> r.getResponse().text()).collect(Collectors.toList());
+            assertEquals(List.of("echo prompt-0", "echo prompt-1", "echo prompt-2", "echo prompt-3", "echo prompt-4"), texts);
+        }
+
+        @Test
+        @DisplayName("reports requests missing from the results and the batch's final status")
+        void missingResults() {
+            finalStatus = "expired";
+            dropLastResult = true;
+            AIClient client = openAI();
+            AIBatch batch = client.newBatch().pollInterval(POLL, POLL)
+                    .add(client.newRequest().addInput("prompt-0").build())
+                    .add(client.newRequest().addInput("prompt-1").build())
+                    .submit()
+                    .await();
+
+            assertEquals(AIBatchStatus.EXPIRED, batch.getStatus());
+            List<AIBatchResult> results = collect(batch);
+            // Results are returned in reverse, so only the last request has one
+            assertFalse(results.get(0).isSuccess());
+            assertNotNull(results.get(0).getError());
+            assertEquals("echo prompt-1", results.get(1).getResponse().text());
+        }
+
+        @Test
+        @DisplayName("cancels the provider batches")
+        void cancels() {
+            AIClient client = openAI();
+            AIBatch batch = client.newBatch().pollInterval(POLL, POLL)
+                    .add(client.newRequest().addInput("prompt-0").build())
+                    .submit();
+            batch.cancel();
+            batch.await();
+
+            assertEquals(List.of("/v1/batches/" + batch.getProviderBatchIds().get(0) + "/cancel"), cancelled);
+        }
+    }
+
+    @Nested
+    @DisplayName("Anthropic batches")
+    class Anthropic {
+
+        @Test
+        @DisplayName("sends one message batch document and reads results from the results URL")
+        void messageBatches() {
+            AIClient client = AIClient.builder().model(AIModel.CLAUDE_HAIKU_4_5).apiKey("local-key").build();
+            AIBatch batch = client.newBatch().pollInterval(POLL, POLL)
+                    .add("a", client.newRequest().addInput("prompt-0").build())
+                    .add("b", client.newRequest().addInput("prompt-1").build())
+                    .submit()
+                    .await();
+
+            ProtifyJsonObject input = ProtifyJson.parse(inputs.get(0));
+            assertEquals("req-1", input.getString("requests.1.custom_id"));
+            assertNotNull(input.get("requests.0.params.messages"));
+
+            List<AIBatchResult> results = collect(batch);
+            assertEquals(List.of("a", "b"), results.stream().map(AIBatchResult::getCorrelationId).collect(Collectors.toList()));
+            assertEquals("echo prompt-1", results.get(1).getResponse().text());
+            assertEquals("b", results.get(1).getResponse().getCorrelationId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder")
+    class Builder {
+
+        @Test
+        @DisplayName("rejects providers without a batch API")
+        void unsupportedProvider() {
+            AIClient client = AIClient.builder().model(AIModel.LLAMA_3_3_70B).apiKey("local-key").build();
+
+            assertThrows(UnsupportedOperationException.class, client::newBatch);
+        }
+
+        @Test
+        @DisplayName("requires at least one request")
+        void empty() {
+            assertThrows(IllegalStateException.class, () -> openAI().newBatch().submit());
+        }
+
+        @Test
+        @DisplayName("rejects requests for another provider")
+        void otherProvider() {
+            AIClient anthropic = AIClient.builder().model(AIModel.CLAUDE_HAIKU_4_5).apiKey("local-key").build();
+            AIBatchBuilder builder = openAI().newBatch();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> builder.add(anthropic.newRequest().addInput("prompt-0").build()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Result lines")
+    class ResultLines {
+
+        @Test
+        @DisplayName("hands on the response body verbatim")
+        void verbatimBody() {
+            String body = "{\"id\":\"resp_1\",\"output\":[{\"text\":\"a \\\"quoted\\\" }{ brace\"}],\"body\":1}";
+            ProviderBatchResult result = new OpenAIBatchClient(baseUrl).parseResult(
+                    "{\"id\":\"x\",\"custom_id\":\"req-7\",\"response\":{\"status_code\":200,\"request_id\":\"q\",\"body\":"
+                            + body + "},\"error\":null}");
+
+            assertEquals("req-7", result.getCustomId());
+            assertEquals(body, result.getBody());
+        }
+
+        @Test
+        @DisplayName("reads Anthropic errors and non-success outcomes")
+        void anthropicErrors() {
+            AnthropicBatchClient batchClient = new AnthropicBatchClient(baseUrl);
+
+            assertEquals("too long", batchClient.parseResult("{\"custom_id\":\"req-0\",\"result\":{\"type\":\"errored\","
+                    + "\"error\":{\"type\":\"error\",\"error\":{\"type\":\"invalid_request_error\",\"message\":\"too long\"}}}}").getError());
+            assertEquals("Request expired", batchClient.parseResult("{\"custom_id\":\"req-1\",\"result\":{\"type\":\"expired\"}}").getError());
+        }
+    }
+}
@@ -270,6 +270,23 @@ class BaseConfigurationTest {
         )));
     }
 
+    @SuppressWarnings({"java:S5778"})
+    @Test
+    @DisplayName("Should throw if configured response cache key algorithm is invalid")
+    void testInvalidResponseCacheKeyAlgorithmThrows(@TempDir Path tempDir) throws IOException {
+        String filenamePrefix = "protifyai-invalid-key-algorithm";
+        Path targetFile = tempDir.resolve(filenamePrefix + ".properties");
+
+        Files.writeString(targetFile, String.join(System.lineSeparator(),
+                "response.cache.keyAlgorithm=md5"
+        ));
+
+        BaseConfiguration config = BaseConfiguration.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> config.resetForTesting(filenamePrefix, Map.of(
+                "PROTIFY_CFG_FILE_PATH", tempDir.toAbsolutePath().toString()
+        )));
+    }
+
     @SuppressWarnings({"java:S5778"})
     @Test
     @DisplayName("Should throw if configured retry numeric value is negative")
@@ -0,0 +1,127 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.provider.openai.OpenAIRequest;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.internal.util.json.JsonBody;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.request.AIRequestBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the cost of serializing one conversation turn against the length of the history:
+ * once with messages rebuilt for every turn, as before message fragments were kept, and once
+ * with the fragments of earlier turns reused. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class ConversationSerializationBenchmarkTest {
+
+    private static final int[] TURNS = {10, 50, 100, 200};
+    private static final int ITERATIONS = 200;
+    private static final String ANSWER = "The quarterly figures show steady growth across all regions, "
+            .repeat(6);
+
+    @Test
+    void reusedFragmentsKeepTurnCostFlat() throws IOException {
+        // Warm up both paths so the JIT has compiled the serializer
+        measure(100, false);
+        measure(100, true);
+
+        System.out.printf("%-6s %10s %12s %12s%n", "turns", "body KB", "fresh us", "reused us");
+        double fresh = 0;
+        double reused = 0;
+        for (int turns : TURNS) {
+            fresh = measure(turns, false);
+            reused = measure(turns, true);
+            long bodyBytes = drain(newRequest(history(turns)).toJsonBody());
+            System.out.printf("%-6d %10d %12.1f %12.1f%n", turns, bodyBytes / 1024, fresh, reused);
+        }
+
+        assertTrue(reused < fresh, "reusing fragments was not faster: " + reused + " vs " + fresh);
+    }
+
+    // Microseconds to serialize and read one request over the last turn of a conversation
+    private static double measure(int turns, boolean reuse) throws IOException {
+        List<AIMessage> history = history(turns);
+        drain(newRequest(history).toJsonBody());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<AIMessage> messages = reuse ? history : history(turns);
+            drain(newRequest(messages).toJsonBody());
+        }
+        return (System.nanoTime() - start) / 1000.0 / ITERATIONS;
+    }
+
+    private static long drain(JsonBody body) throws IOException {
+        try (InputStream in = body.openStream()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static List<AIMessage> history(int turns) {
+        List<AIMessage> messages = new ArrayList<>(turns * 2);
+        for (int i = 0; i < turns; i++) {
+            messages.add(AIMessage.user("Question " + i + ": how did the \"Q" + (i % 4 + 1) + "\" numbers move?"));
+            messages.add(AIMessage.assistant(ANSWER + i));
+        }
+        messages.add(AIMessage.user("Summarize."));
+        return messages;
+    }
+
+    private static OpenAIRequest newRequest(List<AIMessage> messages) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        props.put(AIConfigProperty.CONVERSATION_RESPONSE_CHAINING, false);
+        ProtifyAIRequest source = new ProtifyAIRequest(CLIENT, new ArrayList<>(), props,
+                Collections.emptyList(), Collections.emptyMap(), Collections.emptyList(), null, 10,
+                new ArrayList<>(messages));
+        OpenAIRequest request = new OpenAIRequest();
+        request.initialize(source, new Configuration(props));
+        return request;
+    }
+
+    private static final AIClient CLIENT = new AIClient() {
+        @Override public String getModelName() { return "gpt-4o"; }
+        @Override public AIProvider getProvider() { return ProtifyAIProvider.OPEN_AI; }
+        @Override public AIProviderClient<?> getProviderClient() { return null; }
+        @Override public Configuration getConfiguration() { return null; }
+        @Override public AIRequestBuilder newRequest() { return null; }
+        @Override public AIConversationBuilder newConversation() { return null; }
+        @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+    };
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.message.ProtifyAIMessage;
+import ai.protify.core.internal.provider.anthropic.AnthropicRequest;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.internal.provider.openai.OpenAIRequest;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.provider.ProtifyAIProviderRequest;
+import ai.protify.core.request.AIRequestBuilder;
+import ai.protify.core.tool.AIToolResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversationSerializationTest {
+
+    @Nested
+    @DisplayName("Reused message fragments")
+    class Fragments {
+
+        @Test
+        @DisplayName("OpenAI requests match a fresh serialization of the same history")
+        void openAI() {
+            assertReuseMatchesFresh(OpenAIRequest::new, "openai.responses");
+        }
+
+        @Test
+        @DisplayName("Chat Completions requests match a fresh serialization of the same history")
+        void chatCompletions() {
+            assertReuseMatchesFresh(ChatCompletionsRequest::new, "chat.completions");
+        }
+
+        @Test
+        @DisplayName("Anthropic requests match a fresh serialization of the same history")
+        void anthropic() {
+            assertReuseMatchesFresh(AnthropicRequest::new, "anthropic.messages");
+        }
+    }
+
+    @Test
+    @DisplayName("A message serializes once per format")
+    void memoizedPerFormat() {
+        ProtifyAIMessage message = ProtifyAIMessage.userText("Hello");
+        int[] builds = {0};
+        Supplier<List<?>> builder = () -> {
+            builds[0]++;
+            return List.of(Map.of("text", "Hello"));
+        };
+
+        assertSame(message.fragments("a", builder), message.fragments("a", builder));
+        message.fragments("b", builder);
+
+        assertEquals(2, builds[0]);
+        assertEquals("{\"text\":\"Hello\"}", message.fragments("a", builder).get(0).toString());
+    }
+
+    private static void assertReuseMatchesFresh(Supplier<? extends ProtifyAIProviderRequest> factory, String format) {
+        List<AIMessage> history = history();
+
+        // Earlier turns serialize the shorter histories first, as a conversation would
+        for (int size = 1; size < history.size(); size++) {
+            newRequest(factory, history.subList(0, size)).toJson();
+        }
+        String reused = newRequest(factory, history).toJson();
+        String fresh = newRequest(factory, history()).toJson();
+
+        assertEquals(fresh, reused);
+        Supplier<List<?>> rebuild = () -> {
+            throw new AssertionError("the first message was serialized again");
+        };
+        assertNotNull(((ProtifyAIMessage) history.get(0)).fragments(format, rebuild));
+    }
+
+    private static List<AIMessage> history() {
+        Map<String, Object> call = new LinkedHashMap<>();
+        call.put("id", "call_1");
+        call.put("name", "lookup");
+        call.put("arguments", "{\"city\":\"Zürich\"}");
+        Map<String, Object> toolTurn = new LinkedHashMap<>();
+        toolTurn.put("role", "assistant");
+        toolTurn.put("toolCalls", List.of(call));
+
+        List<AIMessage> messages = new ArrayList<>();
+        messages.add(AIMessage.user("What is the weather in \"Zürich\"?\n"));
+        messages.add(ProtifyAIMessage.fromSerializableMap(toolTurn));
+        messages.add(ProtifyAIMessage.userWithToolResults(List.of(new AIToolResult("call_1", "Sunny, 21°C"))));
+        messages.add(AIMessage.assistant("It is sunny and 21°C."));
+        messages.add(AIMessage.user("And tomorrow?"));
+        return messages;
+    }
+
+    private static ProtifyAIProviderRequest newRequest(Supplier<? extends ProtifyAIProviderRequest> factory,
+                                                       List<AIMessage> messages) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        props.put(AIConfigProperty.MAX_OUTPUT_TOKENS, 1024);
+        props.put(AIConfigProperty.INSTRUCTIONS, "Be brief");
+        ProtifyAIRequest source = new ProtifyAIRequest(stubClient(), new ArrayList<>(), props,
+                Collections.emptyList(), Collections.emptyMap(), Collections.emptyList(), null, 10,
+                new ArrayList<>(messages));
+
+        ProtifyAIProviderRequest request = factory.get();
+        request.initialize(source, new Configuration(props));
+        return request;
+    }
+
+    private static AIClient stubClient() {
+        return new AIClient() {
+            @Override public String getModelName() { return "test-model"; }
+            @Override public AIProvider getProvider() { return ProtifyAIProvider.OPEN_AI; }
+            @Override public AIProviderClient<?> getProviderClient() { return null; }
+            @Override public Configuration getConfiguration() { return null; }
+            @Override public AIRequestBuilder newRequest() { return null; }
+            @Override public AIConversationBuilder newConversation() { return null; }
+            @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+        };
+    }
+}
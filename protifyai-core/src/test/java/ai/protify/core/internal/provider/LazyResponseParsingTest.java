@@ -0,0 +1,158 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider;
+
+import ai.protify.core.internal.provider.anthropic.AnthropicResponse;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
+import ai.protify.core.internal.provider.bedrock.BedrockResponse;
+import ai.protify.core.internal.provider.bedrock.model.BedrockResponseBody;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsResponse;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseBody;
+import ai.protify.core.internal.provider.gemini.GeminiResponse;
+import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
+import ai.protify.core.internal.provider.openai.OpenAIResponse;
+import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
+import ai.protify.core.internal.util.json.JsonReader;
+import ai.protify.core.internal.util.json.LazyJsonBean;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.tool.AIToolCall;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyResponseParsingTest {
+
+    private static final String BEDROCK = "{\"output\":{\"message\":{\"role\":\"assistant\",\"content\":["
+            + "{\"text\":\"Checking the weather.\"},{\"toolUse\":{\"toolUseId\":\"tooluse_1\",\"name\":\"get_weather\","
+            + "\"input\":{\"city\":\"Paris\"}}}]}},\"stopReason\":\"tool_use\","
+            + "\"usage\":{\"inputTokens\":30,\"outputTokens\":12,\"totalTokens\":42},\"metrics\":{\"latencyMs\":420}}";
+
+    @Test
+    @DisplayName("Anthropic responses read the same lazily as eagerly")
+    void anthropic() {
+        byte[] json = payload("anthropic-messages.json");
+        assertSameAccessors(
+                new AnthropicResponse(false, null, null, "model", json, bind(json, AnthropicResponseBody.class)),
+                new AnthropicResponse(false, null, null, "model", json, LazyJsonBean.lazy(json, AnthropicResponseBody.class)),
+                true);
+    }
+
+    @Test
+    @DisplayName("OpenAI responses read the same lazily as eagerly")
+    void openAI() {
+        byte[] json = payload("openai-responses.json");
+        assertSameAccessors(
+                new OpenAIResponse(false, null, null, "model", json, bind(json, OpenAIResponseBody.class)),
+                new OpenAIResponse(false, null, null, "model", json, LazyJsonBean.lazy(json, OpenAIResponseBody.class)),
+                true);
+    }
+
+    @Test
+    @DisplayName("Chat Completions responses read the same lazily as eagerly")
+    void chatCompletions() {
+        byte[] json = payload("chat-completions.json");
+        assertSameAccessors(
+                new ChatCompletionsResponse(false, null, null, "model", json, bind(json, ChatResponseBody.class)),
+                new ChatCompletionsResponse(false, null, null, "model", json, LazyJsonBean.lazy(json, ChatResponseBody.class)),
+                true);
+    }
+
+    @Test
+    @DisplayName("Gemini responses read the same lazily as eagerly")
+    void gemini() {
+        byte[] json = payload("gemini-generate-content.json");
+        // Gemini response and tool call ids are generated on every read
+        assertSameAccessors(
+                new GeminiResponse(false, null, null, "model", json, bind(json, GeminiResponseBody.class)),
+                new GeminiResponse(false, null, null, "model", json, LazyJsonBean.lazy(json, GeminiResponseBody.class)),
+                false);
+    }
+
+    @Test
+    @DisplayName("Bedrock responses read the same lazily as eagerly")
+    void bedrock() {
+        byte[] json = BEDROCK.getBytes(StandardCharsets.UTF_8);
+        AIResponse lazy = new BedrockResponse(false, null, null, "model", json,
+                LazyJsonBean.lazy(json, BedrockResponseBody.class));
+
+        // Bedrock has no response id, so one is generated on every read
+        assertSameAccessors(
+                new BedrockResponse(false, null, null, "model", json, bind(json, BedrockResponseBody.class)), lazy, false);
+        assertEquals("get_weather", lazy.getToolCalls().get(0).getName());
+        assertEquals(42, lazy.getTotalTokens());
+    }
+
+    @Test
+    @DisplayName("The provider response is still available in lazy mode")
+    void providerResponse() {
+        byte[] json = payload("anthropic-messages.json");
+        AIResponse lazy = new AnthropicResponse(false, null, null, "model", json,
+                LazyJsonBean.lazy(json, AnthropicResponseBody.class));
+
+        assertEquals(new String(json, StandardCharsets.UTF_8), lazy.getProviderResponse());
+    }
+
+    private static void assertSameAccessors(AIResponse eager, AIResponse lazy, boolean stableIds) {
+        // Read usage first, as a classifier would, before anything else is bound
+        assertEquals(eager.getInputTokens(), lazy.getInputTokens());
+        assertEquals(eager.getOutputTokens(), lazy.getOutputTokens());
+        assertEquals(eager.getTotalTokens(), lazy.getTotalTokens());
+        assertEquals(eager.getCacheReadInputTokens(), lazy.getCacheReadInputTokens());
+        assertEquals(eager.getCacheWriteInputTokens(), lazy.getCacheWriteInputTokens());
+        assertEquals(eager.getStopReason(), lazy.getStopReason());
+        assertEquals(eager.text(), lazy.text());
+        assertEquals(eager.getReasoningContent(), lazy.getReasoningContent());
+        assertEquals(eager.getModelName(), lazy.getModelName());
+        assertEquals(eager.hasToolCalls(), lazy.hasToolCalls());
+        if (stableIds) {
+            assertEquals(eager.getResponseId(), lazy.getResponseId());
+        }
+
+        List<AIToolCall> eagerCalls = eager.getToolCalls();
+        List<AIToolCall> lazyCalls = lazy.getToolCalls();
+        assertEquals(eagerCalls.size(), lazyCalls.size());
+        for (int i = 0; i < eagerCalls.size(); i++) {
+            assertEquals(eagerCalls.get(i).getName(), lazyCalls.get(i).getName());
+            assertEquals(eagerCalls.get(i).getArgumentsJson(), lazyCalls.get(i).getArgumentsJson());
+            if (stableIds) {
+                assertEquals(eagerCalls.get(i).getId(), lazyCalls.get(i).getId());
+            }
+        }
+    }
+
+    private static <T> T bind(byte[] json, Class<T> type) {
+        return ProtifyJson.fromReader(new JsonReader(json), type);
+    }
+
+    private static byte[] payload(String name) {
+        try (InputStream in = LazyResponseParsingTest.class.getClassLoader().getResourceAsStream("payloads/" + name)) {
+            assertNotNull(in, "Missing payload " + name);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
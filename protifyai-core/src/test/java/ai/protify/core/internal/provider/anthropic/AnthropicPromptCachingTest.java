@@ -0,0 +1,223 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.anthropic;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicContentBlock;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicMessage;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.pipeline.AIPipelineContext;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.request.AIInput;
+import ai.protify.core.request.AIRequest;
+import ai.protify.core.request.AIRequestBuilder;
+import ai.protify.core.request.AITextInput;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.response.AIStreamResponse;
+import ai.protify.core.tool.AITool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnthropicPromptCachingTest {
+
+    private static final List<AITool> TOOLS = List.of(
+            AITool.builder("search").description("Search").build(),
+            AITool.builder("lookup").description("Look up").build());
+
+    @Nested
+    @DisplayName("Cache breakpoints")
+    class Breakpoints {
+
+        @Test
+        @DisplayName("In a conversation, instructions become a cached system block and the last tool is marked")
+        void systemAndTools() {
+            ProtifyJsonObject json = build(true, Collections.emptyList(), TOOLS, List.of(AIMessage.user("Hi")));
+
+            assertEquals("Be brief", json.get("system.0.text"));
+            assertEquals("ephemeral", json.get("system.0.cache_control.type"));
+            assertNull(json.get("tools.0.cache_control"));
+            assertEquals("ephemeral", json.get("tools.1.cache_control.type"));
+        }
+
+        @Test
+        @DisplayName("A single-turn prompt marks nothing, not even the system prompt and tools")
+        void singleTurnUnmarked() {
+            AnthropicRequest request = newRequest(true, List.of(AITextInput.of("Hi")), TOOLS, Collections.emptyList());
+            String raw = request.toJson();
+
+            assertEquals("Be brief", ProtifyJson.parse(raw).get("system"));
+            assertFalse(raw.contains("cache_control"));
+        }
+
+        @Test
+        @DisplayName("A conversation marks the earlier turns and the newest message")
+        void conversationMarked() {
+            List<AIMessage> messages = List.of(
+                    AIMessage.user("First question"),
+                    AIMessage.assistant("First answer"),
+                    AIMessage.user("Second question"));
+            ProtifyJsonObject json = build(true, Collections.emptyList(), Collections.emptyList(), messages);
+
+            assertNull(json.get("messages.0.content.0.cache_control"));
+            assertEquals("ephemeral", json.get("messages.1.content.0.cache_control.type"));
+            assertEquals("ephemeral", json.get("messages.2.content.0.cache_control.type"));
+        }
+
+        @Test
+        @DisplayName("A turn with no content does not push the history marker onto a serialized fragment")
+        void emptyTurnSkipped() {
+            List<AIMessage> messages = List.of(
+                    AIMessage.user("First question"),
+                    AIMessage.assistant("First answer"),
+                    AIMessage.user("Second question"),
+                    AIMessage.assistant((String) null),
+                    AIMessage.user("Third question"));
+            ProtifyJsonObject json = build(true, Collections.emptyList(), Collections.emptyList(), messages);
+
+            assertEquals("Second question", json.get("messages.2.content.0.text"));
+            assertNull(json.get("messages.1.content.0.cache_control"));
+            assertEquals("ephemeral", json.get("messages.2.content.0.cache_control.type"));
+            assertEquals("ephemeral", json.get("messages.3.content.0.cache_control.type"));
+        }
+
+        @Test
+        @DisplayName("The history marker walks back past entries that cannot carry it")
+        void walksBackToMessage() {
+            AnthropicMessage earlier = new AnthropicMessage("user",
+                    new ArrayList<>(List.of(AnthropicContentBlock.text("Earlier"))));
+            AnthropicMessage newest = new AnthropicMessage("user",
+                    new ArrayList<>(List.of(AnthropicContentBlock.text("Newest"))));
+            AnthropicMessage empty = new AnthropicMessage("assistant", new ArrayList<>());
+            List<Object> messages = List.of(earlier, "{\"role\":\"assistant\"}", empty, newest);
+
+            AnthropicRequest.markCacheBreakpoints(messages, false);
+
+            assertNotNull(earlier.getContent().get(0).getCacheControl());
+            assertNull(newest.getContent().get(0).getCacheControl());
+        }
+
+        @Test
+        @DisplayName("Disabled caching keeps a plain system string and no markers")
+        void disabled() {
+            List<AIMessage> messages = List.of(AIMessage.user("Q"), AIMessage.assistant("A"), AIMessage.user("Q2"));
+            AnthropicRequest request = newRequest(false, Collections.emptyList(), TOOLS, messages);
+            String raw = request.toJson();
+
+            assertEquals("Be brief", ProtifyJson.parse(raw).get("system"));
+            assertFalse(raw.contains("cache_control"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache usage")
+    class Usage {
+
+        @Test
+        @DisplayName("Cache reads and writes are reported and counted as input")
+        void cacheTokens() {
+            String raw = "{\"id\":\"msg_1\",\"model\":\"claude-sonnet-4-6\",\"content\":[{\"type\":\"text\",\"text\":\"ok\"}],"
+                    + "\"usage\":{\"input_tokens\":12,\"output_tokens\":5,"
+                    + "\"cache_creation_input_tokens\":100,\"cache_read_input_tokens\":2000}}";
+            AIResponse response = new AnthropicResponse(false, null, null, "claude-sonnet-4-6", raw,
+                    ProtifyJson.fromJson(raw, AnthropicResponseBody.class));
+
+            assertEquals(2000, response.getCacheReadInputTokens());
+            assertEquals(100, response.getCacheWriteInputTokens());
+            assertEquals(2112, response.getInputTokens());
+            assertEquals(2117, response.getTotalTokens());
+        }
+
+        @Test
+        @DisplayName("Responses without cache usage report zero")
+        void noCacheTokens() {
+            String raw = "{\"content\":[],\"usage\":{\"input_tokens\":12,\"output_tokens\":5}}";
+            AIResponse response = new AnthropicResponse(false, null, null, "claude-sonnet-4-6", raw,
+                    ProtifyJson.fromJson(raw, AnthropicResponseBody.class));
+
+            assertEquals(0, response.getCacheReadInputTokens());
+            assertEquals(0, response.getCacheWriteInputTokens());
+            assertEquals(12, response.getInputTokens());
+        }
+    }
+
+    private static ProtifyJsonObject build(boolean caching, List<AIInput> inputs, List<AITool> tools,
+                                           List<AIMessage> messages) {
+        return ProtifyJson.parse(newRequest(caching, inputs, tools, messages).toJson());
+    }
+
+    private static AnthropicRequest newRequest(boolean caching, List<AIInput> inputs, List<AITool> tools,
+                                               List<AIMessage> messages) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        props.put(AIConfigProperty.MAX_OUTPUT_TOKENS, 1024);
+        props.put(AIConfigProperty.INSTRUCTIONS, "Be brief");
+        props.put(AIConfigProperty.PROMPT_CACHING_ENABLED, caching);
+
+        AnthropicRequest request = new AnthropicRequest();
+        request.initialize(stubRequest(inputs, tools, messages), new Configuration(props));
+        return request;
+    }
+
+    private static AIRequest stubRequest(List<AIInput> inputs, List<AITool> tools, List<AIMessage> messages) {
+        return new AIRequest() {
+            private final AIClient client = new AIClient() {
+                @Override public String getModelName() { return "claude-sonnet-4-6"; }
+                @Override public AIProvider getProvider() { return ProtifyAIProvider.ANTHROPIC; }
+                @Override public AIProviderClient<?> getProviderClient() { return null; }
+                @Override public Configuration getConfiguration() { return null; }
+                @Override public AIRequestBuilder newRequest() { return null; }
+                @Override public AIConversationBuilder newConversation() { return null; }
+                @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+            };
+
+            @Override public AIResponse execute() { return null; }
+            @Override public AIResponse execute(AIPipelineContext ctx) { return null; }
+            @Override public CompletableFuture<AIResponse> executeAsync() { return null; }
+            @Override public CompletableFuture<AIResponse> executeAsync(AIPipelineContext ctx) { return null; }
+            @Override public AIStreamResponse executeStream() { return null; }
+            @Override public AIStreamResponse executeStream(AIPipelineContext ctx) { return null; }
+            @Override public String toJson() { return null; }
+            @Override public String toLoggableJson() { return null; }
+            @Override public List<AIInput> getInputs() { return inputs; }
+            @Override public AIClient getClient() { return client; }
+            @Override public AIProviderClient<?> getProviderClient() { return null; }
+            @Override public Configuration getConfiguration() { return null; }
+            @Override public List<AITool> getTools() { return tools; }
+            @Override public List<AIMessage> getMessages() { return messages; }
+        };
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.provider.chatcompletions;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIModel;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.mock.MockProvider;
+import ai.protify.core.provider.mock.MockResponse;
+import ai.protify.core.provider.mock.MockToolCall;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.tool.AITool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatCompletionsAsyncTest {
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("Local")
+            .apiKeyVarName("LOCAL_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private HttpServer server;
+    private volatile CountDownLatch arrived;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            arrived.countDown();
+            try {
+                // Hold every response until all requests are on the wire at once
+                arrived.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\","
+                    + "\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"pong\"},"
+                    + "\"finish_reason\":\"stop\"}],"
+                    + "\"usage\":{\"prompt_tokens\":1,\"completion_tokens\":1,\"total_tokens\":2}}");
+        });
+        server.start();
+        endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Nested
+    @DisplayName("executeAsync")
+    class ExecuteAsync {
+
+        @Test
+        @DisplayName("keeps many requests in flight without a thread per request")
+        void manyInFlightOnOneThread() throws Exception {
+            int requests = 32;
+            arrived = new CountDownLatch(requests);
+            ExecutorService single = Executors.newSingleThreadExecutor();
+            try {
+                AIClient client = AIClient.builder()
+                        .provider(LOCAL)
+                        .explicitModelVersion("local")
+                        .apiKey("local-key")
+                        .executor(single)
+                        .build();
+
+                List<CompletableFuture<AIResponse>> futures = new ArrayList<>();
+                for (int i = 0; i < requests; i++) {
+                    futures.add(client.newRequest().addInput("ping " + i).build().executeAsync());
+                }
+
+                // A blocking implementation would serialize on the single-thread executor and never fill the latch
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(20, TimeUnit.SECONDS);
+                for (CompletableFuture<AIResponse> future : futures) {
+                    assertEquals("pong", future.join().text());
+                }
+            } finally {
+                single.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("fails the future instead of throwing for invalid requests")
+        void failsFuture() {
+            arrived = new CountDownLatch(0);
+            AIClient client = AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("local")
+                    .apiKey("local-key")
+                    .build();
+
+            CompletableFuture<AIResponse> future = client.newRequest().build().executeAsync();
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tool loop")
+    class ToolLoop {
+
+        @Test
+        @DisplayName("runs tool handlers between asynchronous provider calls")
+        void chainsToolRounds() throws Exception {
+            MockProvider mock = MockProvider.builder()
+                    .response(MockResponse.builder()
+                            .toolCalls(List.of(new MockToolCall("call-1", "lookup", Map.of("q", "x"))))
+                            .build())
+                    .response("done")
+                    .build();
+            AIClient client = AIClient.builder()
+                    .model(AIModel.custom("mock-model", mock))
+                    .apiKey("mock-key")
+                    .build();
+            List<String> handled = new ArrayList<>();
+
+            AIResponse response = client.newRequest()
+                    .addInput("start")
+                    .addTool(AITool.builder("lookup").description("Looks things up").build(), args -> {
+                        handled.add(Thread.currentThread().getName());
+                        return "found";
+                    })
+                    .build()
+                    .executeAsync()
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals("done", response.text());
+            assertEquals(1, handled.size());
+            assertEquals(2, mock.getRequestCount());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.file;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.anthropic.AnthropicFileUploader;
+import ai.protify.core.internal.provider.gemini.GeminiFileUploader;
+import ai.protify.core.internal.provider.openai.OpenAIFileUploader;
+import ai.protify.core.internal.provider.openai.OpenAIRequest;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.request.AIFileInput;
+import ai.protify.core.request.AIRequestBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderFileStoreTest {
+
+    private static final String PDF = "data:application/pdf;base64,"
+            + Base64.getEncoder().encodeToString("%PDF-1.7 reference manual".getBytes(StandardCharsets.US_ASCII));
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger uploads = new AtomicInteger();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> betaHeaders = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/files", exchange -> {
+            betaHeaders.add(String.valueOf(exchange.getRequestHeaders().getFirst("anthropic-beta")));
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            awaitGate();
+            bodies.add(body);
+            int n = uploads.incrementAndGet();
+            respond(exchange, status, status == 200
+                    ? "{\"id\":\"file-" + n + "\",\"object\":\"file\",\"expires_at\":null}"
+                    : "{\"error\":{\"message\":\"unavailable\",\"type\":\"server_error\"}}");
+        });
+        server.createContext("/upload/v1beta/files", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("X-Goog-Upload-URL", baseUrl + "/resumable/session-1");
+            respond(exchange, 200, "");
+        });
+        server.createContext("/resumable/", exchange -> {
+            String command = exchange.getRequestHeaders().getFirst("X-Goog-Upload-Command");
+            bodies.add(command + ":" + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            int n = uploads.incrementAndGet();
+            respond(exchange, 200, "{\"file\":{\"name\":\"files/f" + n + "\",\"uri\":\"" + baseUrl
+                    + "/v1beta/files/f" + n + "\",\"mimeType\":\"application/pdf\","
+                    + "\"expirationTime\":\"2099-01-01T00:00:00.000000Z\",\"state\":\"ACTIVE\"}}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void awaitGate() {
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+
+    private ProviderFileStore openAIStore() {
+        ProviderFileStore store = new ProviderFileStore();
+        store.registerUploader(ProtifyAIProvider.OPEN_AI, new OpenAIFileUploader(baseUrl));
+        return store;
+    }
+
+    @Nested
+    @DisplayName("getOrUpload")
+    class GetOrUpload {
+
+        @Test
+        @DisplayName("uploads each content once and reuses the file id")
+        void uploadsOnce() {
+            ProviderFileStore store = openAIStore();
+
+            ProviderFile first = store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", AIFileInput.fromDataUrl("a.pdf", PDF), 3600).join();
+            ProviderFile second = store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", AIFileInput.fromDataUrl("b.pdf", PDF), 3600).join();
+
+            assertEquals("file-1", first.getId());
+            assertEquals(first.getId(), second.getId());
+            assertEquals(1, uploads.get());
+            assertTrue(bodies.get(0).contains("%PDF-1.7 reference manual"));
+            assertTrue(bodies.get(0).contains("user_data"));
+        }
+
+        @Test
+        @DisplayName("uploads the same content separately for different credentials")
+        void scopedByCredential() {
+            ProviderFileStore store = openAIStore();
+            AIFileInput input = AIFileInput.fromDataUrl("a.pdf", PDF);
+
+            store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key-1", input, 3600).join();
+            store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key-2", input, 3600).join();
+
+            assertEquals(2, uploads.get());
+        }
+
+        @Test
+        @DisplayName("concurrent requests for the same content share one upload")
+        void sharesInFlightUpload() throws Exception {
+            ProviderFileStore store = openAIStore();
+            gate = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<CompletableFuture<ProviderFile>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(CompletableFuture.supplyAsync(() -> store.getOrUpload(ProtifyAIProvider.OPEN_AI,
+                            "key", AIFileInput.fromDataUrl("a.pdf", PDF), 3600), executor).thenCompose(f -> f));
+                }
+                Thread.sleep(200);
+                gate.countDown();
+                for (CompletableFuture<ProviderFile> future : futures) {
+                    assertEquals("file-1", future.join().getId());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(1, uploads.get());
+        }
+
+        @Test
+        @DisplayName("uploads again once the previous upload has expired")
+        void reuploadsAfterExpiry() {
+            ProviderFileStore store = openAIStore();
+            AIFileInput input = AIFileInput.fromDataUrl("a.pdf", PDF);
+
+            ProviderFile first = store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", input, 0).join();
+            ProviderFile second = store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", input, 0).join();
+
+            assertNotEquals(first.getId(), second.getId());
+            assertEquals(2, uploads.get());
+        }
+
+        @Test
+        @DisplayName("drops failed uploads so the next request retries")
+        void retriesAfterFailure() {
+            ProviderFileStore store = openAIStore();
+            AIFileInput input = AIFileInput.fromDataUrl("a.pdf", PDF);
+
+            status = 503;
+            CompletableFuture<ProviderFile> failed = store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", input, 3600);
+            assertThrows(CompletionException.class, failed::join);
+
+            status = 200;
+            assertEquals("file-2", store.getOrUpload(ProtifyAIProvider.OPEN_AI, "key", input, 3600).join().getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Provider requests")
+    class Requests {
+
+        @AfterEach
+        void restoreUploader() {
+            ProviderFileStore.getInstance().registerUploader(ProtifyAIProvider.OPEN_AI, new OpenAIFileUploader());
+            ProviderFileStore.getInstance().clear();
+        }
+
+        @Test
+        @DisplayName("prepareAsync uploads without blocking and the body then references the file")
+        void preparesWithoutBlocking() {
+            ProviderFileStore.getInstance().registerUploader(ProtifyAIProvider.OPEN_AI, new OpenAIFileUploader(baseUrl));
+            gate = new CountDownLatch(1);
+            OpenAIRequest request = uploadingRequest(AIFileInput.fromDataUrl("manual.pdf", PDF));
+
+            CompletableFuture<Void> prepared = request.prepareAsync();
+
+            assertFalse(prepared.isDone(), "the upload is still held at the server");
+            gate.countDown();
+            prepared.join();
+            assertTrue(request.toJson().contains("\"file-1\""));
+            request.toJsonBody();
+            assertEquals(1, uploads.get());
+        }
+
+        @Test
+        @DisplayName("a failed upload prepares the request to send the file inline")
+        void failedUploadSendsInline() {
+            ProviderFileStore.getInstance().registerUploader(ProtifyAIProvider.OPEN_AI, new OpenAIFileUploader(baseUrl));
+            status = 503;
+            OpenAIRequest request = uploadingRequest(AIFileInput.fromDataUrl("manual.pdf", PDF));
+
+            request.prepareAsync().join();
+
+            assertTrue(request.toJson().contains("data:application/pdf;base64,"));
+            assertEquals(1, uploads.get());
+        }
+
+        private OpenAIRequest uploadingRequest(AIFileInput input) {
+            Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+            props.put(AIConfigProperty.PROVIDER_API_KEY, "key");
+            props.put(AIConfigProperty.FILE_UPLOAD_ENABLED, true);
+            props.put(AIConfigProperty.FILE_UPLOAD_MIN_BYTES, 1L);
+            ProtifyAIRequest source = new ProtifyAIRequest(stubClient(), new ArrayList<>(List.of(input)), props);
+
+            OpenAIRequest request = new OpenAIRequest();
+            request.initialize(source, new Configuration(props));
+            return request;
+        }
+
+        private AIClient stubClient() {
+            return new AIClient() {
+                @Override public String getModelName() { return "gpt-4o"; }
+                @Override public AIProvider getProvider() { return ProtifyAIProvider.OPEN_AI; }
+                @Override public AIProviderClient<?> getProviderClient() { return null; }
+                @Override public Configuration getConfiguration() { return null; }
+                @Override public AIRequestBuilder newRequest() { return null; }
+                @Override public AIConversationBuilder newConversation() { return null; }
+                @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("Uploaders")
+    class Uploaders {
+
+        @Test
+        @DisplayName("streams file-backed inputs in the multipart body")
+        void streamsFileBackedInput(@TempDir Path dir) throws IOException {
+            Path file = dir.resolve("manual.pdf");
+            Files.write(file, "%PDF-1.7 from disk".getBytes(StandardCharsets.US_ASCII));
+
+            ProviderFile uploaded = new OpenAIFileUploader(baseUrl).upload(AIFileInput.fromPath(file), "key", 3600).join();
+
+            assertEquals("file-1", uploaded.getId());
+            assertTrue(bodies.get(0).contains("filename=\"manual.pdf\""));
+            assertTrue(bodies.get(0).contains("%PDF-1.7 from disk"));
+        }
+
+        @Test
+        @DisplayName("Anthropic uploads send the Files API beta header")
+        void anthropicBetaHeader() {
+            new AnthropicFileUploader(baseUrl).upload(AIFileInput.fromDataUrl("a.pdf", PDF), "key", 3600).join();
+
+            assertEquals(AnthropicFileUploader.FILES_API_BETA, betaHeaders.get(0));
+        }
+
+        @Test
+        @DisplayName("Gemini uploads use the resumable protocol and reference the file by URI")
+        void geminiResumable() {
+            ProviderFile uploaded = new GeminiFileUploader(baseUrl).upload(AIFileInput.fromDataUrl("a.pdf", PDF), "key", 3600).join();
+
+            assertEquals(baseUrl + "/v1beta/files/f1", uploaded.getId());
+            assertEquals("upload, finalize:%PDF-1.7 reference manual", bodies.get(0));
+            assertTrue(uploaded.getExpiresAtMillis() < Long.MAX_VALUE);
+        }
+    }
+}
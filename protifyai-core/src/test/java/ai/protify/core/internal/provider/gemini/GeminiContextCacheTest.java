@@ -0,0 +1,346 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.gemini;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.provider.gemini.model.GeminiCachedContent;
+import ai.protify.core.internal.provider.gemini.model.GeminiContent;
+import ai.protify.core.internal.provider.gemini.model.GeminiPart;
+import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.pipeline.AIPipelineContext;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.request.AIFileInput;
+import ai.protify.core.request.AIInput;
+import ai.protify.core.request.AIRequest;
+import ai.protify.core.request.AIRequestBuilder;
+import ai.protify.core.request.AITextInput;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.response.AIStreamResponse;
+import ai.protify.core.tool.AITool;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiContextCacheTest {
+
+    private static final String DEFAULT_BASE_URL = "https://generativelanguage.googleapis.com/v1beta";
+    private static final String PDF = "data:application/pdf;base64,"
+            + Base64.getEncoder().encodeToString("%PDF-1.7 shared corpus".getBytes(StandardCharsets.US_ASCII));
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger creates = new AtomicInteger();
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+    private volatile long expiresInMillis = TimeUnit.HOURS.toMillis(1);
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            String method = exchange.getRequestMethod();
+            calls.add(method + " " + exchange.getRequestURI());
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (status != 200) {
+                respond(exchange, status, "{\"error\":{\"code\":400,\"message\":\"Cached content is too small\"}}");
+                return;
+            }
+            String expireTime = Instant.ofEpochMilli(System.currentTimeMillis() + expiresInMillis).toString();
+            if ("POST".equals(method)) {
+                respond(exchange, 200, "{\"name\":\"cachedContents/c-" + creates.incrementAndGet()
+                        + "\",\"expireTime\":\"" + expireTime + "\"}");
+            } else if ("PATCH".equals(method)) {
+                respond(exchange, 200, "{\"expireTime\":\"" + expireTime + "\"}");
+            } else {
+                respond(exchange, 200, "{}");
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        GeminiContextCache.getInstance().clear();
+        GeminiContextCache.getInstance().registerBaseUrl(ProtifyAIProvider.GOOGLE, baseUrl + "/v1beta");
+    }
+
+    @AfterEach
+    void stopServer() {
+        GeminiContextCache.getInstance().registerBaseUrl(ProtifyAIProvider.GOOGLE, DEFAULT_BASE_URL);
+        GeminiContextCache.getInstance().clear();
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("Gemini requests")
+    class Requests {
+
+        @Test
+        @DisplayName("Instructions and attachments move into a cache the request references")
+        void referencesCache() {
+            ProtifyJsonObject json = ProtifyJson.parse(newRequest(0L, AIFileInput.fromDataUrl(PDF),
+                    AITextInput.of("What changed in 1.7?")).toJson());
+
+            assertEquals("cachedContents/c-1", json.get("cachedContent"));
+            assertNull(json.get("systemInstruction"));
+            assertEquals("What changed in 1.7?", json.get("contents.0.parts.0.text"));
+            assertNull(json.get("contents.0.parts.1"));
+
+            assertEquals(List.of("POST /v1beta/cachedContents"), calls);
+            ProtifyJsonObject created = ProtifyJson.parse(bodies.get(0));
+            assertEquals("models/gemini-2.5-flash", created.get("model"));
+            assertEquals("600s", created.get("ttl"));
+            assertEquals("Answer from the corpus", created.get("systemInstruction.parts.0.text"));
+            assertEquals("application/pdf", created.get("contents.0.parts.0.inlineData.mimeType"));
+        }
+
+        @Test
+        @DisplayName("prepareAsync resolves the cache without blocking and the body then references it")
+        void preparesWithoutBlocking() {
+            gate = new CountDownLatch(1);
+            GeminiRequest request = newRequest(0L, AIFileInput.fromDataUrl(PDF), AITextInput.of("Question"));
+
+            CompletableFuture<Void> prepared = request.prepareAsync();
+
+            assertFalse(prepared.isDone(), "the create is still held at the server");
+            gate.countDown();
+            prepared.join();
+            assertEquals("cachedContents/c-1", ProtifyJson.parse(request.toJson()).get("cachedContent"));
+            request.toJsonBody();
+            assertEquals(1, calls.size());
+        }
+
+        @Test
+        @DisplayName("Requests with the same prefix reuse one cache")
+        void reusesCache() {
+            newRequest(0L, AIFileInput.fromDataUrl(PDF), AITextInput.of("First question")).toJson();
+            String json = newRequest(0L, AIFileInput.fromDataUrl(PDF), AITextInput.of("Second question")).toJson();
+
+            assertEquals("cachedContents/c-1", ProtifyJson.parse(json).get("cachedContent"));
+            assertEquals(1, creates.get());
+        }
+
+        @Test
+        @DisplayName("A prefix below the minimum size is sent inline")
+        void belowMinimum() {
+            ProtifyJsonObject json = ProtifyJson.parse(newRequest(1_000_000L, AIFileInput.fromDataUrl(PDF),
+                    AITextInput.of("Question")).toJson());
+
+            assertNull(json.get("cachedContent"));
+            assertEquals("Answer from the corpus", json.get("systemInstruction.parts.0.text"));
+            assertTrue(calls.isEmpty());
+        }
+
+        @Test
+        @DisplayName("A failed create sends the prefix inline and is not retried at once")
+        void failedCreate() {
+            status = 400;
+            ProtifyJsonObject json = ProtifyJson.parse(newRequest(0L, AIFileInput.fromDataUrl(PDF),
+                    AITextInput.of("Question")).toJson());
+            newRequest(0L, AIFileInput.fromDataUrl(PDF), AITextInput.of("Question")).toJson();
+
+            assertNull(json.get("cachedContent"));
+            assertEquals("application/pdf", json.get("contents.0.parts.0.inlineData.mimeType"));
+            assertEquals(1, calls.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("The least recently used cache beyond capacity is deleted")
+        void evictsLeastRecentlyUsed() throws Exception {
+            GeminiContextCache cache = new GeminiContextCache(1);
+            cache.registerBaseUrl(ProtifyAIProvider.GOOGLE, baseUrl + "/v1beta");
+
+            assertEquals("cachedContents/c-1", cache.getOrCreate(ProtifyAIProvider.GOOGLE, "gemini-2.5-flash",
+                    configuration(Map.of()), "key", prefix("Corpus A"), 600).join());
+            assertEquals("cachedContents/c-2", cache.getOrCreate(ProtifyAIProvider.GOOGLE, "gemini-2.5-flash",
+                    configuration(Map.of()), "key", prefix("Corpus B"), 600).join());
+
+            awaitCalls(3);
+            assertTrue(calls.contains("DELETE /v1beta/cachedContents/c-1"));
+            assertEquals(1, cache.size());
+        }
+
+        @Test
+        @DisplayName("Caches in use are renewed before they expire")
+        void renewsDueCaches() throws Exception {
+            expiresInMillis = TimeUnit.SECONDS.toMillis(40);
+            GeminiContextCache cache = new GeminiContextCache(4);
+            cache.registerBaseUrl(ProtifyAIProvider.GOOGLE, baseUrl + "/v1beta");
+            cache.getOrCreate(ProtifyAIProvider.GOOGLE, "gemini-2.5-flash",
+                    configuration(Map.of()), "key", prefix("Corpus"), 600).join();
+
+            cache.renewDue();
+
+            awaitCalls(2);
+            assertEquals("PATCH /v1beta/cachedContents/c-1?updateMask=ttl", calls.get(1));
+            assertEquals("600s", ProtifyJson.parse(bodies.get(1)).get("ttl"));
+        }
+
+        @Test
+        @DisplayName("Expired caches are forgotten and recreated on next use")
+        void forgetsExpired() {
+            expiresInMillis = -1000;
+            GeminiContextCache cache = new GeminiContextCache(4);
+            cache.registerBaseUrl(ProtifyAIProvider.GOOGLE, baseUrl + "/v1beta");
+            cache.getOrCreate(ProtifyAIProvider.GOOGLE, "gemini-2.5-flash",
+                    configuration(Map.of()), "key", prefix("Corpus"), 600).join();
+
+            cache.renewDue();
+            assertEquals(0, cache.size());
+
+            expiresInMillis = TimeUnit.HOURS.toMillis(1);
+            assertEquals("cachedContents/c-2", cache.getOrCreate(ProtifyAIProvider.GOOGLE, "gemini-2.5-flash",
+                    configuration(Map.of()), "key", prefix("Corpus"), 600).join());
+        }
+
+        @Test
+        @DisplayName("Vertex AI caches are created under the configured project and region")
+        void vertexResourceNames() {
+            GeminiContextCache cache = new GeminiContextCache(4);
+            cache.registerBaseUrl(ProtifyAIProvider.VERTEX_AI, baseUrl + "/{region}/v1");
+            cache.getOrCreate(ProtifyAIProvider.VERTEX_AI, "gemini-2.5-flash",
+                    configuration(Map.of(AIConfigProperty.REGION, "us-central1", AIConfigProperty.PROJECT_ID, "acme")),
+                    "token", prefix("Corpus"), 600).join();
+
+            assertEquals("POST /us-central1/v1/projects/acme/locations/us-central1/cachedContents", calls.get(0));
+            assertEquals("projects/acme/locations/us-central1/publishers/google/models/gemini-2.5-flash",
+                    ProtifyJson.parse(bodies.get(0)).get("model"));
+        }
+    }
+
+    @Test
+    @DisplayName("Cached token counts are reported on the response")
+    void cachedTokenUsage() {
+        String raw = "{\"candidates\":[],\"usageMetadata\":{\"promptTokenCount\":5000,"
+                + "\"candidatesTokenCount\":20,\"totalTokenCount\":5020,\"cachedContentTokenCount\":4800}}";
+        AIResponse response = new GeminiResponse(false, null, null, "gemini-2.5-flash", raw,
+                ProtifyJson.fromJson(raw, GeminiResponseBody.class));
+
+        assertEquals(4800, response.getCacheReadInputTokens());
+        assertEquals(5000, response.getInputTokens());
+    }
+
+    private void awaitCalls(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static GeminiCachedContent prefix(String instructions) {
+        return new GeminiCachedContent(new GeminiContent("user",
+                Collections.singletonList(GeminiPart.text(instructions))), null, null);
+    }
+
+    private static Configuration configuration(Map<AIConfigProperty, Object> values) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        props.putAll(values);
+        return new Configuration(props);
+    }
+
+    private static GeminiRequest newRequest(long minBytes, AIInput... inputs) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        props.put(AIConfigProperty.PROVIDER_API_KEY, "test-key");
+        props.put(AIConfigProperty.INSTRUCTIONS, "Answer from the corpus");
+        props.put(AIConfigProperty.CONTEXT_CACHE_ENABLED, true);
+        props.put(AIConfigProperty.CONTEXT_CACHE_TTL_SECS, 600);
+        props.put(AIConfigProperty.CONTEXT_CACHE_MIN_BYTES, minBytes);
+
+        GeminiRequest request = new GeminiRequest();
+        request.initialize(stubRequest(List.of(inputs)), new Configuration(props));
+        return request;
+    }
+
+    private static AIRequest stubRequest(List<AIInput> inputs) {
+        return new AIRequest() {
+            private final AIClient client = new AIClient() {
+                @Override public String getModelName() { return "gemini-2.5-flash"; }
+                @Override public AIProvider getProvider() { return ProtifyAIProvider.GOOGLE; }
+                @Override public AIProviderClient<?> getProviderClient() { return null; }
+                @Override public Configuration getConfiguration() { return null; }
+                @Override public AIRequestBuilder newRequest() { return null; }
+                @Override public AIConversationBuilder newConversation() { return null; }
+                @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+            };
+
+            @Override public AIResponse execute() { return null; }
+            @Override public AIResponse execute(AIPipelineContext ctx) { return null; }
+            @Override public CompletableFuture<AIResponse> executeAsync() { return null; }
+            @Override public CompletableFuture<AIResponse> executeAsync(AIPipelineContext ctx) { return null; }
+            @Override public AIStreamResponse executeStream() { return null; }
+            @Override public AIStreamResponse executeStream(AIPipelineContext ctx) { return null; }
+            @Override public String toJson() { return null; }
+            @Override public String toLoggableJson() { return null; }
+            @Override public List<AIInput> getInputs() { return inputs; }
+            @Override public AIClient getClient() { return client; }
+            @Override public AIProviderClient<?> getProviderClient() { return null; }
+            @Override public Configuration getConfiguration() { return null; }
+            @Override public List<AITool> getTools() { return Collections.emptyList(); }
+            @Override public List<AIMessage> getMessages() { return Collections.emptyList(); }
+        };
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
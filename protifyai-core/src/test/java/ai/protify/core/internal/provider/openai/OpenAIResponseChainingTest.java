@@ -0,0 +1,210 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.provider.openai;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIModel;
+import ai.protify.core.conversation.AIConversation;
+import ai.protify.core.conversation.AIConversationBuilder;
+import ai.protify.core.conversation.AIConversationState;
+import ai.protify.core.conversation.AIConversationStore;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.internal.config.Configuration;
+import ai.protify.core.internal.exception.BadRequestException;
+import ai.protify.core.internal.exception.NotFoundException;
+import ai.protify.core.internal.exception.RateLimitExceededException;
+import ai.protify.core.internal.provider.ProtifyAIProvider;
+import ai.protify.core.internal.request.ProtifyAIRequest;
+import ai.protify.core.internal.util.json.ProtifyJson;
+import ai.protify.core.internal.util.json.ProtifyJsonObject;
+import ai.protify.core.message.AIMessage;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.provider.AIProviderClient;
+import ai.protify.core.provider.mock.MockProvider;
+import ai.protify.core.request.AIRequestBuilder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAIResponseChainingTest {
+
+    private static final String EXPIRED = "{\"error\":{\"message\":\"Previous response with id 'resp_1' not found.\","
+            + "\"type\":\"invalid_request_error\",\"param\":\"previous_response_id\",\"code\":\"previous_response_not_found\"}}";
+
+    private static final List<AIMessage> HISTORY = List.of(
+            AIMessage.user("First question"),
+            AIMessage.assistant("First answer"),
+            AIMessage.user("Second question"));
+
+    @Nested
+    @DisplayName("Request body")
+    class RequestBody {
+
+        @Test
+        @DisplayName("A chained turn sends only the new message and the previous response id")
+        void chained() {
+            OpenAIRequest request = newRequest(HISTORY, "resp_1", null);
+            ProtifyJsonObject json = ProtifyJson.parse(request.toJson());
+
+            assertTrue(request.isChained());
+            assertEquals("resp_1", json.get("previous_response_id"));
+            assertEquals("Second question", json.get("input.0.content.0.text"));
+            assertNull(json.get("input.1"));
+        }
+
+        @Test
+        @DisplayName("Unchaining resends the full history without the id")
+        void unchained() {
+            OpenAIRequest request = newRequest(HISTORY, "resp_1", null);
+            request.toJson();
+            request.unchain();
+            ProtifyJsonObject json = ProtifyJson.parse(request.toJson());
+
+            assertFalse(request.isChained());
+            assertNull(json.get("previous_response_id"));
+            assertEquals("First question", json.get("input.0.content.0.text"));
+            assertNotNull(json.get("input.2"));
+        }
+
+        @Test
+        @DisplayName("Disabled chaining always sends the full history")
+        void disabled() {
+            OpenAIRequest request = newRequest(HISTORY, "resp_1", false);
+
+            assertFalse(request.isChained());
+            assertFalse(request.toJson().contains("previous_response_id"));
+        }
+
+        @Test
+        @DisplayName("A first turn has nothing to chain to")
+        void firstTurn() {
+            OpenAIRequest request = newRequest(List.of(AIMessage.user("Hello")), null, null);
+
+            assertFalse(request.isChained());
+            assertFalse(request.toJson().contains("previous_response_id"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Expired chain detection")
+    class ExpiredChain {
+
+        @Test
+        @DisplayName("A missing previous response triggers the fallback")
+        void notFound() {
+            OpenAIRequest request = newRequest(HISTORY, "resp_1", null);
+
+            assertTrue(OpenAIClient.isExpiredChain(request, new NotFoundException("Not found", 404,
+                    "Previous response with id 'resp_1' not found.", "invalid_request_error", EXPIRED)));
+            assertTrue(OpenAIClient.isExpiredChain(request, new BadRequestException("Bad request", 400,
+                    "Previous response with id 'resp_1' not found.", "invalid_request_error", EXPIRED)));
+        }
+
+        @Test
+        @DisplayName("Unrelated errors and unchained requests do not trigger the fallback")
+        void unrelated() {
+            OpenAIRequest chained = newRequest(HISTORY, "resp_1", null);
+            OpenAIRequest plain = newRequest(HISTORY, null, null);
+
+            assertFalse(OpenAIClient.isExpiredChain(chained, new BadRequestException("Bad request", 400,
+                    "Invalid value for 'temperature'.", "invalid_request_error", "{}")));
+            assertFalse(OpenAIClient.isExpiredChain(chained, new RateLimitExceededException("Slow down", 429,
+                    "Rate limit reached", "rate_limit", EXPIRED)));
+            assertFalse(OpenAIClient.isExpiredChain(plain, new NotFoundException("Not found", 404,
+                    "Previous response with id 'resp_1' not found.", "invalid_request_error", EXPIRED)));
+        }
+
+        @Test
+        @DisplayName("Client errors that do not name the previous response are not masked")
+        void otherClientErrors() {
+            OpenAIRequest chained = newRequest(HISTORY, "resp_1", null);
+
+            assertFalse(OpenAIClient.isExpiredChain(chained, new NotFoundException("Not found", 404,
+                    "The model 'gpt-nope' does not exist", "invalid_request_error",
+                    "{\"error\":{\"message\":\"The model 'gpt-nope' does not exist\",\"type\":\"invalid_request_error\","
+                            + "\"param\":null,\"code\":\"model_not_found\"}}")));
+            assertFalse(OpenAIClient.isExpiredChain(chained, new BadRequestException("Bad request", 400,
+                    "Invalid 'input': the previous message is empty.", "invalid_request_error",
+                    "{\"error\":{\"message\":\"Invalid 'input': the previous message is empty.\","
+                            + "\"type\":\"invalid_request_error\",\"param\":\"input\",\"code\":null}}")));
+            assertFalse(OpenAIClient.isExpiredChain(chained, new NotFoundException("Not found", 404,
+                    "Not found", "invalid_request_error", "<html>Not Found</html>")));
+        }
+    }
+
+    @Test
+    @DisplayName("Responses from other providers are not chained to")
+    void otherProviders() {
+        AIClient client = AIClient.builder()
+                .model(AIModel.custom("mock-model", MockProvider.withResponse("Hi")))
+                .apiKey("mock-key")
+                .build();
+        AIConversation conversation = client.newConversation().instructions("Be brief.").build();
+
+        assertNotNull(conversation.send("Hello").getResponseId());
+        assertNull(conversation.getState().getResponseId());
+    }
+
+    @Test
+    @DisplayName("Conversation state round-trips the response id")
+    void stateRoundTrip() {
+        AIConversationState state = new AIConversationState("conv-1", new ArrayList<>(HISTORY));
+        state.setResponseId("resp_42");
+
+        AIConversationState restored = AIConversationState.fromJson(state.toJson());
+
+        assertEquals("resp_42", restored.getResponseId());
+        assertEquals(3, restored.getMessages().size());
+        assertNull(AIConversationState.fromJson(new AIConversationState("conv-2", new ArrayList<>()).toJson())
+                .getResponseId());
+    }
+
+    private static OpenAIRequest newRequest(List<AIMessage> messages, String previousResponseId, Boolean chaining) {
+        Map<AIConfigProperty, Object> props = new EnumMap<>(AIConfigProperty.class);
+        if (chaining != null) {
+            props.put(AIConfigProperty.CONVERSATION_RESPONSE_CHAINING, chaining);
+        }
+        ProtifyAIRequest source = new ProtifyAIRequest(stubClient(), new ArrayList<>(), props,
+                Collections.emptyList(), Collections.emptyMap(), Collections.emptyList(), null, 10,
+                messages, previousResponseId);
+
+        OpenAIRequest request = new OpenAIRequest();
+        request.initialize(source, new Configuration(props));
+        return request;
+    }
+
+    private static AIClient stubClient() {
+        return new AIClient() {
+            @Override public String getModelName() { return "gpt-4o"; }
+            @Override public AIProvider getProvider() { return ProtifyAIProvider.OPEN_AI; }
+            @Override public AIProviderClient<?> getProviderClient() { return null; }
+            @Override public Configuration getConfiguration() { return null; }
+            @Override public AIRequestBuilder newRequest() { return null; }
+            @Override public AIConversationBuilder newConversation() { return null; }
+            @Override public AIConversation loadConversation(String id, AIConversationStore store) { return null; }
+        };
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.routing;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.exception.BadRequestException;
+import ai.protify.core.internal.exception.CircuitOpenException;
+import ai.protify.core.internal.exception.ProtifyApiException;
+import ai.protify.core.internal.exception.ServiceUnavailableException;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.routing.RoutingStrategy;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingAIClientTest {
+
+    private static volatile String endpointA;
+    private static volatile String endpointB;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class ClientA extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpointA;
+        }
+    }
+
+    public static final class ClientB extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpointB;
+        }
+    }
+
+    private static final AIProvider PROVIDER_A = AIProvider.custom("RouteA")
+            .apiKeyVarName("ROUTE_A_API_KEY")
+            .clientType(ClientA.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private static final AIProvider PROVIDER_B = AIProvider.custom("RouteB")
+            .apiKeyVarName("ROUTE_B_API_KEY")
+            .clientType(ClientB.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private static AIClient client(AIProvider provider, String model) {
+        return AIClient.builder().provider(provider).explicitModelVersion(model).apiKey("local-key").build();
+    }
+
+    @Nested
+    @DisplayName("Router")
+    class Strategies {
+
+        private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        private final Route a = new Route(client(PROVIDER_A, "a"), 1, 3.0);
+        private final Route b = new Route(client(PROVIDER_B, "b"), 1, 1.0);
+
+        private Router router(RoutingStrategy strategy, Route... routes) {
+            return new Router(List.of(routes), strategy, clock::get);
+        }
+
+        private void call(Router router, Route route, long millis, Router.Outcome outcome) {
+            router.start(route);
+            router.finish(route, TimeUnit.MILLISECONDS.toNanos(millis), outcome);
+        }
+
+        @Test
+        @DisplayName("EWMA prefers the faster route and leaves a slow one at once")
+        void ewma() {
+            Router router = router(RoutingStrategy.EWMA_LATENCY, a, b);
+            call(router, a, 100, Router.Outcome.SUCCESS);
+            call(router, b, 300, Router.Outcome.SUCCESS);
+            assertSame(a, router.plan().get(0));
+
+            call(router, a, 2_000, Router.Outcome.SUCCESS);
+            assertSame(b, router.plan().get(0));
+        }
+
+        @Test
+        @DisplayName("EWMA tries a failed route again once its penalty has decayed")
+        void ewmaDecay() {
+            Router router = router(RoutingStrategy.EWMA_LATENCY, a, b);
+            call(router, a, 50, Router.Outcome.FAILED);
+            call(router, b, 500, Router.Outcome.SUCCESS);
+            assertSame(b, router.plan().get(0));
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+            call(router, b, 500, Router.Outcome.SUCCESS);
+            assertSame(a, router.plan().get(0));
+        }
+
+        @Test
+        @DisplayName("Unsampled routes are tried first")
+        void explores() {
+            Router router = router(RoutingStrategy.EWMA_LATENCY, a, b);
+            call(router, a, 10, Router.Outcome.SUCCESS);
+
+            assertSame(b, router.plan().get(0));
+        }
+
+        @Test
+        @DisplayName("Least in-flight prefers the idle route")
+        void leastInFlight() {
+            Router router = router(RoutingStrategy.LEAST_IN_FLIGHT, a, b);
+            router.start(a);
+            router.start(a);
+            router.start(b);
+
+            assertSame(b, router.plan().get(0));
+            assertEquals(2, router.inFlight(a));
+        }
+
+        @Test
+        @DisplayName("Weighted round robin spreads calls by weight")
+        void weightedRoundRobin() {
+            Route heavy = new Route(a.getClient(), 3, 0);
+            Route light = new Route(b.getClient(), 1, 0);
+            Router router = router(RoutingStrategy.WEIGHTED_ROUND_ROBIN, heavy, light);
+
+            List<Route> firsts = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                List<Route> plan = router.plan();
+                assertEquals(2, plan.size(), "the others stay available for failover");
+                firsts.add(plan.get(0));
+            }
+            assertEquals(6, firsts.stream().filter(r -> r == heavy).count());
+            // Smooth: the light route is interleaved rather than sent a burst
+            assertEquals(List.of(heavy, heavy, light, heavy), firsts.subList(0, 4));
+        }
+
+        @Test
+        @DisplayName("Lowest cost prefers the cheaper route")
+        void lowestCost() {
+            Router router = router(RoutingStrategy.LOWEST_COST, a, b);
+            call(router, b, 5_000, Router.Outcome.SUCCESS);
+
+            assertSame(b, router.plan().get(0));
+        }
+
+        @Test
+        @DisplayName("Zero-weight routes are fallbacks only")
+        void zeroWeight() {
+            Route fallback = new Route(b.getClient(), 0, 0);
+            Router router = router(RoutingStrategy.EWMA_LATENCY, a, fallback);
+            call(router, a, 1_000, Router.Outcome.SUCCESS);
+
+            assertSame(a, router.plan().get(0));
+            assertThrows(IllegalArgumentException.class, () -> router(RoutingStrategy.EWMA_LATENCY, fallback));
+        }
+
+        @Test
+        @DisplayName("Fails over only on errors another provider might not repeat")
+        void failoverErrors() {
+            assertTrue(RoutingProviderClient.isFailover(new CircuitOpenException("open")));
+            assertTrue(RoutingProviderClient.isFailover(new ServiceUnavailableException("down", 503, null, null, null)));
+            assertTrue(RoutingProviderClient.isFailover(new ProtifyApiException("io", new ConnectException("refused"))));
+            assertFalse(RoutingProviderClient.isFailover(new BadRequestException("bad", 400, null, null, null)));
+            assertFalse(RoutingProviderClient.isFailover(new IllegalArgumentException("no inputs")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Against stub servers")
+    class StubServers {
+
+        private HttpServer serverA;
+        private HttpServer serverB;
+        private final AtomicInteger callsA = new AtomicInteger();
+        private final AtomicInteger callsB = new AtomicInteger();
+        private volatile int statusA = 200;
+        private volatile int statusB = 200;
+
+        @BeforeEach
+        void startServers() throws IOException {
+            serverA = start(exchange -> respond(exchange, callsA, statusA, "from a"));
+            serverB = start(exchange -> respond(exchange, callsB, statusB, "from b"));
+            endpointA = "http://127.0.0.1:" + serverA.getAddress().getPort() + "/v1/chat/completions";
+            endpointB = "http://127.0.0.1:" + serverB.getAddress().getPort() + "/v1/chat/completions";
+        }
+
+        @AfterEach
+        void stopServers() {
+            serverA.stop(0);
+            serverB.stop(0);
+        }
+
+        private HttpServer start(com.sun.net.httpserver.HttpHandler handler) throws IOException {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/chat/completions", handler);
+            server.start();
+            return server;
+        }
+
+        private void respond(HttpExchange exchange, AtomicInteger calls, int status, String text) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            String body = (status == 200)
+                    ? "{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\",\"choices\":[{\"index\":0,"
+                    + "\"message\":{\"role\":\"assistant\",\"content\":\"" + text + "\"},\"finish_reason\":\"stop\"}]}"
+                    : "{\"error\":{\"message\":\"status " + status + "\",\"type\":\"error\"}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        private AIClient router(RoutingStrategy strategy) {
+            return AIClient.builder()
+                    .route(client(PROVIDER_A, "model-a"), 1)
+                    .route(client(PROVIDER_B, "model-b"), 1)
+                    .routingStrategy(strategy)
+                    .instructions("Be brief")
+                    .build();
+        }
+
+        @Test
+        @DisplayName("fails over to the next route on a server error")
+        void failsOver() {
+            statusA = 503;
+            AIClient client = router(RoutingStrategy.WEIGHTED_ROUND_ROBIN);
+
+            assertEquals("from b", client.newRequest().addInput("failover 1").build().execute().text());
+            assertEquals(1, callsA.get());
+            assertEquals(1, callsB.get());
+        }
+
+        @Test
+        @DisplayName("fails over asynchronously too")
+        void failsOverAsync() {
+            statusA = 503;
+            AIClient client = router(RoutingStrategy.WEIGHTED_ROUND_ROBIN);
+
+            assertEquals("from b", client.newRequest().addInput("failover async").build().executeAsync().join().text());
+            assertEquals(1, callsA.get());
+        }
+
+        @Test
+        @DisplayName("does not fail over on a client error")
+        void noFailoverOnBadRequest() {
+            statusA = 400;
+            AIClient client = router(RoutingStrategy.WEIGHTED_ROUND_ROBIN);
+
+            assertThrows(BadRequestException.class, () -> client.newRequest().addInput("bad").build().execute());
+            assertEquals(0, callsB.get());
+        }
+
+        @Test
+        @DisplayName("throws the last error when every route fails")
+        void allFail() {
+            statusA = 503;
+            statusB = 503;
+            AIClient client = router(RoutingStrategy.EWMA_LATENCY);
+
+            assertThrows(ServiceUnavailableException.class, () -> client.newRequest().addInput("all down").build().execute());
+            assertEquals(1, callsA.get());
+            assertEquals(1, callsB.get());
+        }
+
+        @Test
+        @DisplayName("shifts traffic away from a failing route")
+        void shiftsLoad() {
+            statusB = 503;
+            AIClient client = router(RoutingStrategy.EWMA_LATENCY);
+
+            for (int i = 0; i < 6; i++) {
+                assertEquals("from a", client.newRequest().addInput("shift " + i).build().execute().text());
+            }
+            assertEquals(1, callsB.get(), "the failed route was penalized after one call");
+        }
+
+        @Test
+        @DisplayName("sends each route its own model and the routing client's settings")
+        void transformsPerRoute() {
+            RoutingAIClient client = (RoutingAIClient) router(RoutingStrategy.EWMA_LATENCY);
+
+            String json = client.newRequest().addInput("hello").build().toJson();
+
+            assertTrue(json.contains("model-a"), json);
+            assertTrue(json.contains("Be brief"), json);
+            assertEquals("model-a", client.getModelName());
+            assertEquals(2, client.getRoutes().size());
+        }
+
+        @Test
+        @DisplayName("rejects a model on a routing client")
+        void rejectsModel() {
+            assertThrows(IllegalArgumentException.class, () -> AIClient.builder()
+                    .route(client(PROVIDER_A, "a"))
+                    .provider(PROVIDER_B)
+                    .build());
+        }
+    }
+}
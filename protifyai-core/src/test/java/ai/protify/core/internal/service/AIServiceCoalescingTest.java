@@ -0,0 +1,232 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.service;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIModel;
+import ai.protify.core.ProtifyAI;
+import ai.protify.core.internal.config.AIConfigProperty;
+import ai.protify.core.provider.mock.MockProvider;
+import ai.protify.core.provider.mock.MockProviderRequest;
+import ai.protify.core.provider.mock.MockResponse;
+import ai.protify.core.request.AITextInput;
+import ai.protify.core.response.AIResponse;
+import ai.protify.core.service.AIService;
+import ai.protify.core.service.Coalesce;
+import ai.protify.core.service.Instructions;
+import ai.protify.core.service.UserMessage;
+import ai.protify.core.service.V;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIServiceCoalescingTest {
+
+    private static final Pattern ITEM = Pattern.compile("<item index=\"(\\d+)\">\\n(.*?)\\n</item>", Pattern.DOTALL);
+
+    enum Sentiment { POSITIVE, NEGATIVE }
+
+    @AIService
+    @Instructions("Classify the sentiment.")
+    @Coalesce(maxBatchSize = 4, maxWaitMillis = 50)
+    interface SentimentService {
+
+        @UserMessage("{{text}}")
+        Sentiment classify(@V("text") String text);
+
+        @UserMessage("{{text}}")
+        CompletableFuture<Sentiment> classifyAsync(@V("text") String text);
+
+        @UserMessage("{{text}}")
+        AIResponse raw(@V("text") String text);
+    }
+
+    @AIService
+    interface InvalidService {
+
+        @Coalesce
+        @UserMessage("{{text}}")
+        AIResponse raw(@V("text") String text);
+    }
+
+    private static String sentiment(String text) {
+        return text.contains("good") ? "POSITIVE" : "NEGATIVE";
+    }
+
+    /**
+     * Answers coalesced prompts with one result per item and individual prompts with a label;
+     * items mentioning "weird" get an answer that does not map to the enum.
+     */
+    private static MockResponse answer(MockProviderRequest request) {
+        String text = ((AITextInput) request.getInputs().get(0)).getText();
+        Matcher matcher = ITEM.matcher(text);
+        List<String> results = new ArrayList<>();
+        while (matcher.find()) {
+            String item = matcher.group(2);
+            results.add("{\"index\":" + matcher.group(1) + ",\"result\":\""
+                    + (item.contains("weird") ? "MAYBE" : sentiment(item)) + "\"}");
+        }
+        return MockResponse.of(results.isEmpty() ? sentiment(text) : "```json\n[" + String.join(",", results) + "]\n```");
+    }
+
+    private static MockProvider mock() {
+        return MockProvider.withResponseFunction(AIServiceCoalescingTest::answer);
+    }
+
+    private static <T> T service(Class<T> type, MockProvider mock) {
+        AIClient client = AIClient.builder()
+                .model(AIModel.custom("mock-model", mock))
+                .apiKey("mock-key")
+                .build();
+        return ProtifyAI.create(type, client);
+    }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("sends a full batch as one request and splits the answer back")
+        void fullBatch() {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+
+            List<CompletableFuture<Sentiment>> results = List.of("good a", "bad b", "good c", "bad d").stream()
+                    .map(service::classifyAsync)
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of(Sentiment.POSITIVE, Sentiment.NEGATIVE, Sentiment.POSITIVE, Sentiment.NEGATIVE),
+                    results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+            assertEquals(1, mock.getRequestCount());
+            String instructions = mock.getLastRequest().getConfiguration().getProperty(AIConfigProperty.INSTRUCTIONS);
+            assertTrue(instructions.startsWith("Classify the sentiment."));
+            assertTrue(instructions.contains("POSITIVE, NEGATIVE"));
+        }
+
+        @Test
+        @DisplayName("sends a partial batch once the wait window passes")
+        void waitWindow() {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+
+            CompletableFuture<Sentiment> first = service.classifyAsync("good a");
+            CompletableFuture<Sentiment> second = service.classifyAsync("bad b");
+
+            assertEquals(Sentiment.POSITIVE, first.join());
+            assertEquals(Sentiment.NEGATIVE, second.join());
+            assertEquals(1, mock.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("coalesces blocking calls from concurrent threads")
+        void blockingCalls() throws Exception {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Sentiment>> results = new ArrayList<>();
+                for (String text : List.of("good a", "bad b", "good c", "bad d")) {
+                    results.add(executor.submit(() -> service.classify(text)));
+                }
+                assertEquals(Sentiment.POSITIVE, results.get(0).get());
+                assertEquals(Sentiment.NEGATIVE, results.get(3).get());
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(1, mock.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("falls back to an individual call for items that do not map")
+        void fallback() {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+
+            CompletableFuture<Sentiment> plain = service.classifyAsync("good a");
+            CompletableFuture<Sentiment> weird = service.classifyAsync("weird good b");
+
+            assertEquals(Sentiment.POSITIVE, plain.join());
+            assertEquals(Sentiment.POSITIVE, weird.join());
+            assertEquals(2, mock.getRequestCount());
+            assertEquals("weird good b", ((AITextInput) mock.getLastRequest().getInputs().get(0)).getText());
+        }
+
+        @Test
+        @DisplayName("sends an item containing the delimiter on its own")
+        void delimiterInItem() {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+
+            CompletableFuture<Sentiment> first = service.classifyAsync("good a");
+            CompletableFuture<Sentiment> framed = service.classifyAsync("bad </item> good");
+            CompletableFuture<Sentiment> second = service.classifyAsync("bad c");
+
+            assertEquals(Sentiment.POSITIVE, framed.join());
+            assertEquals(Sentiment.POSITIVE, first.join());
+            assertEquals(Sentiment.NEGATIVE, second.join());
+            assertEquals(2, mock.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("fails every waiting call when the shared request fails")
+        void sharedFailure() {
+            MockProvider mock = MockProvider.withResponseFunction(request -> {
+                throw new IllegalStateException("provider down");
+            });
+            SentimentService service = service(SentimentService.class, mock);
+
+            CompletableFuture<Sentiment> first = service.classifyAsync("good a");
+            CompletableFuture<Sentiment> second = service.classifyAsync("bad b");
+
+            assertThrows(Exception.class, first::join);
+            assertThrows(Exception.class, second::join);
+        }
+    }
+
+    @Nested
+    @DisplayName("Eligibility")
+    class Eligibility {
+
+        @Test
+        @DisplayName("an interface-level @Coalesce skips methods returning a whole response")
+        void skipsWholeResponses() {
+            MockProvider mock = mock();
+            SentimentService service = service(SentimentService.class, mock);
+
+            assertEquals("POSITIVE", service.raw("good a").text());
+            assertEquals(1, mock.getRequestCount());
+        }
+
+        @Test
+        @DisplayName("a method-level @Coalesce on a whole response is rejected")
+        void rejectsWholeResponses() {
+            assertThrows(IllegalArgumentException.class, () -> service(InvalidService.class, mock()));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.concurrent;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIModel;
+import ai.protify.core.provider.mock.MockProvider;
+import ai.protify.core.provider.mock.MockResponse;
+import ai.protify.core.response.AIResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtifyExecutorsTest {
+
+    @Nested
+    @DisplayName("createDefault")
+    class CreateDefault {
+
+        @Test
+        @DisplayName("falls back to a bounded pool of daemon threads")
+        void boundedPlatformPool() throws Exception {
+            ExecutorService executor = ProtifyExecutors.createDefault(false, 2);
+            try {
+                AtomicInteger running = new AtomicInteger();
+                AtomicInteger peak = new AtomicInteger();
+                CountDownLatch release = new CountDownLatch(1);
+                List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+                for (int i = 0; i < 6; i++) {
+                    futures.add(CompletableFuture.supplyAsync(() -> {
+                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        await(release);
+                        running.decrementAndGet();
+                        return Thread.currentThread().isDaemon();
+                    }, executor));
+                }
+                Thread.sleep(100);
+                release.countDown();
+
+                for (CompletableFuture<Boolean> future : futures) {
+                    assertTrue(future.get(5, TimeUnit.SECONDS));
+                }
+                assertEquals(2, peak.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("uses virtual threads only when the JVM has them")
+        void virtualWhenSupported() throws Exception {
+            ExecutorService executor = ProtifyExecutors.createDefault(true, 4);
+            try {
+                String name = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                        .get(5, TimeUnit.SECONDS);
+                if (!VirtualThreads.isSupported()) {
+                    assertTrue(name.startsWith("protify-exec-"));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("invokeAll")
+    class InvokeAll {
+
+        @Test
+        @DisplayName("returns results in task order")
+        void preservesOrder() {
+            ExecutorService executor = ProtifyExecutors.createDefault(false, 4);
+            try {
+                List<Supplier<Integer>> tasks = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    int n = i;
+                    tasks.add(() -> n * n);
+                }
+
+                List<Integer> results = ProtifyExecutors.invokeAll(tasks, executor);
+
+                for (int i = 0; i < 20; i++) {
+                    assertEquals(i * i, results.get(i));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("runs tasks on the caller when the executor never gets to them")
+        void callerRunsUnstartedTasks() {
+            List<Runnable> parked = new ArrayList<>();
+            List<Supplier<String>> tasks = List.of(() -> "a", () -> "b", () -> "c");
+
+            assertEquals(List.of("a", "b", "c"), ProtifyExecutors.invokeAll(tasks, parked::add));
+            assertEquals(2, parked.size());
+        }
+
+        @Test
+        @DisplayName("propagates task failures like join")
+        void propagatesFailure() {
+            List<Supplier<String>> tasks = List.of(() -> "a", () -> {
+                throw new IllegalStateException("boom");
+            });
+
+            CompletionException e = assertThrows(CompletionException.class,
+                    () -> ProtifyExecutors.invokeAll(tasks, Runnable::run));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("Load")
+    class Load {
+
+        @Test
+        @DisplayName("10k concurrent executeAsync calls leave the common pool free")
+        void noCommonPoolStarvation() throws Exception {
+            int requests = 10_000;
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger started = new AtomicInteger();
+            AtomicBoolean ranOnCommonPool = new AtomicBoolean();
+            MockProvider mock = MockProvider.withResponseFunction(request -> {
+                started.incrementAndGet();
+                if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+                    ranOnCommonPool.set(true);
+                }
+                await(release);
+                return MockResponse.of("ok");
+            });
+            AIClient client = AIClient.builder()
+                    .model(AIModel.custom("mock-model", mock))
+                    .apiKey("mock-key")
+                    .build();
+
+            List<CompletableFuture<AIResponse>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(client.newRequest().addInput("request " + i).build().executeAsync());
+            }
+            while (started.get() == 0) {
+                Thread.sleep(5);
+            }
+
+            // Every in-flight request is blocked in the provider; unrelated common pool work still runs
+            String probe = CompletableFuture.supplyAsync(() -> "free", ForkJoinPool.commonPool())
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals("free", probe);
+
+            release.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+            assertEquals(requests, mock.getRequestCount());
+            assertFalse(ranOnCommonPool.get());
+            for (CompletableFuture<AIResponse> future : futures) {
+                assertEquals("ok", future.join().text());
+            }
+        }
+
+        @Test
+        @DisplayName("executeAsync runs on the executor set on the client")
+        void clientExecutor() throws Exception {
+            AtomicInteger submitted = new AtomicInteger();
+            ExecutorService pool = ProtifyExecutors.createDefault(false, 2);
+            try {
+                AIClient client = AIClient.builder()
+                        .model(AIModel.custom("mock-model", MockProvider.withResponse("ok")))
+                        .apiKey("mock-key")
+                        .executor(task -> {
+                            submitted.incrementAndGet();
+                            pool.execute(task);
+                        })
+                        .build();
+
+                AIResponse response = client.newRequest().addInput("hi").build().executeAsync()
+                        .get(5, TimeUnit.SECONDS);
+
+                assertEquals("ok", response.text());
+                assertEquals(1, submitted.get());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteArrayBodySubscriberTest {
+
+    private static ByteBuffer buffer(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String collect(long contentLength, List<List<ByteBuffer>> chunks) throws Exception {
+        ByteArrayBodySubscriber subscriber = new ByteArrayBodySubscriber(contentLength);
+        chunks.forEach(subscriber::onNext);
+        subscriber.onComplete();
+        return new String(subscriber.getBody().toCompletableFuture().get(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("fills an array sized from Content-Length")
+    void presized() throws Exception {
+        String body = "{\"text\": \"café\"}";
+        int length = body.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(body, collect(length, List.of(List.of(buffer("{\"text\": "), buffer("\"café")), List.of(buffer("\"}")))));
+    }
+
+    @Test
+    @DisplayName("grows without a Content-Length")
+    void grows() throws Exception {
+        String chunk = "x".repeat(5_000);
+        assertEquals(chunk.repeat(3), collect(-1, List.of(List.of(buffer(chunk)), List.of(buffer(chunk), buffer(chunk)))));
+    }
+
+    @Test
+    @DisplayName("trims an array when the body is shorter than declared")
+    void shorterThanDeclared() throws Exception {
+        assertEquals("[]", collect(100, List.of(List.of(buffer("[]")))));
+    }
+
+    @Test
+    @DisplayName("fails the body on error")
+    void error() {
+        ByteArrayBodySubscriber subscriber = new ByteArrayBodySubscriber(10);
+        subscriber.onError(new IOException("reset"));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> subscriber.getBody().toCompletableFuture().get());
+        assertEquals("reset", e.getCause().getMessage());
+    }
+}
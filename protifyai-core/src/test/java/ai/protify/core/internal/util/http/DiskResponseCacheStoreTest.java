@@ -0,0 +1,131 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskResponseCacheStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static ProtifyHttpResponse response(String body) {
+        return new ProtifyHttpResponse(false, body, 200, 5);
+    }
+
+    @Test
+    @DisplayName("entries survive closing and reopening the store")
+    void survivesRestart() throws IOException {
+        DiskResponseCacheStore store = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        store.put(RequestKey.of("key-1"), response("{\"text\":\"héllo\"}"));
+        store.close();
+
+        DiskResponseCacheStore reopened = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        ProtifyHttpResponse cached = reopened.get(RequestKey.of("key-1"));
+
+        assertNotNull(cached);
+        assertEquals("{\"text\":\"héllo\"}", cached.getResponseBody());
+        assertEquals(200, cached.getStatusCode());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("expired entries are not returned")
+    void expiredEntriesMiss() throws IOException {
+        AtomicLong now = new AtomicLong(1_000);
+        DiskResponseCacheStore store = new DiskResponseCacheStore(dir, 100, 1024 * 1024, now::get);
+        store.put(RequestKey.of("key-1"), response("A"));
+
+        now.addAndGet(101);
+
+        assertNull(store.get(RequestKey.of("key-1")));
+        store.close();
+    }
+
+    @Test
+    @DisplayName("later writes to the same key win")
+    void lastWriteWins() throws IOException {
+        DiskResponseCacheStore store = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        store.put(RequestKey.of("key-1"), response("first"));
+        store.put(RequestKey.of("key-1"), response("second"));
+        store.close();
+
+        DiskResponseCacheStore reopened = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        assertEquals("second", reopened.get(RequestKey.of("key-1")).getResponseBody());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("compaction keeps the log under the byte cap and retains newest entries")
+    void compactsToCap() throws IOException {
+        AtomicLong now = new AtomicLong(1_000);
+        DiskResponseCacheStore store = new DiskResponseCacheStore(dir, 60_000, 4_096, now::get);
+        String body = "x".repeat(200);
+        for (int i = 0; i < 100; i++) {
+            now.incrementAndGet();
+            store.put(RequestKey.of("key-" + i), response(body));
+        }
+
+        assertTrue(store.getFileSizeBytes() <= 4_096);
+        assertNotNull(store.get(RequestKey.of("key-99")));
+        assertNull(store.get(RequestKey.of("key-0")));
+        store.close();
+    }
+
+    @Test
+    @DisplayName("a second store on the same directory sees appended records")
+    void sharedBetweenInstances() throws IOException {
+        DiskResponseCacheStore writer = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        DiskResponseCacheStore reader = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+
+        writer.put(RequestKey.of("key-1"), response("shared"));
+
+        assertEquals("shared", reader.get(RequestKey.of("key-1")).getResponseBody());
+        writer.close();
+        reader.close();
+    }
+
+    @Test
+    @DisplayName("a torn trailing record is ignored and overwritten")
+    void ignoresTornTail() throws IOException {
+        DiskResponseCacheStore store = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        store.put(RequestKey.of("key-1"), response("intact"));
+        store.close();
+
+        Files.write(dir.resolve(DiskResponseCacheStore.DATA_FILE_NAME), new byte[]{0x50, 0x52, 0x43},
+                StandardOpenOption.APPEND);
+
+        DiskResponseCacheStore reopened = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        assertEquals("intact", reopened.get(RequestKey.of("key-1")).getResponseBody());
+        reopened.put(RequestKey.of("key-2"), response("after"));
+        reopened.close();
+
+        DiskResponseCacheStore again = new DiskResponseCacheStore(dir, 60_000, 1024 * 1024);
+        assertEquals("after", again.get(RequestKey.of("key-2")).getResponseBody());
+        again.close();
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.resiliency.HedgingPolicy;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgerTest {
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("Hedged")
+            .apiKeyVarName("HEDGED_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void startScheduler() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    private static HedgingPolicy policy(double budgetPercent) {
+        return HedgingPolicy.builder()
+                .percentile(50.0)
+                .minDelayMillis(20L)
+                .minSamples(1)
+                .budgetPercent(budgetPercent)
+                .build();
+    }
+
+    // Attempts complete only when the test says so
+    private static final class Attempts implements Function<BooleanSupplier, CompletableFuture<String>> {
+
+        final List<CompletableFuture<String>> started = new ArrayList<>();
+        final List<BooleanSupplier> claims = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<String> apply(BooleanSupplier claim) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            started.add(future);
+            claims.add(claim);
+            return future;
+        }
+
+        synchronized CompletableFuture<String> get(int index) {
+            return started.get(index);
+        }
+
+        synchronized int count() {
+            return started.size();
+        }
+    }
+
+    private static void awaitAttempts(Attempts attempts, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (attempts.count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, attempts.count());
+    }
+
+    // Records one fast call so the hedge delay becomes the policy minimum
+    private void warmUp(Hedger hedger) {
+        hedger.execute(claim -> CompletableFuture.completedFuture("ok"), "ok"::equals, scheduler).join();
+    }
+
+    @Nested
+    @DisplayName("Hedging")
+    class Hedging {
+
+        @Test
+        @DisplayName("does not hedge before enough calls have been observed")
+        void needsSamples() {
+            Hedger hedger = new Hedger(HedgingPolicy.builder().minSamples(5).build());
+
+            assertEquals(-1, hedger.getDelayMillis());
+            for (int i = 0; i < 5; i++) {
+                hedger.execute(claim -> CompletableFuture.completedFuture("ok"), "ok"::equals, scheduler).join();
+            }
+            assertEquals(50, hedger.getDelayMillis());
+        }
+
+        @Test
+        @DisplayName("takes the duplicate's answer and cancels the slow original")
+        void duplicateWins() throws Exception {
+            Hedger hedger = new Hedger(policy(100.0));
+            warmUp(hedger);
+            Attempts attempts = new Attempts();
+
+            CompletableFuture<String> result = hedger.execute(attempts, "ok"::equals, scheduler);
+            awaitAttempts(attempts, 2);
+            attempts.get(1).complete("ok");
+
+            assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+            assertTrue(attempts.get(0).isCancelled());
+            assertEquals(1, hedger.getHedges());
+            assertEquals(1, hedger.getHedgeWins());
+        }
+
+        @Test
+        @DisplayName("waits for the other attempt when one fails")
+        void failureDefersToOtherAttempt() throws Exception {
+            Hedger hedger = new Hedger(policy(100.0));
+            warmUp(hedger);
+            Attempts attempts = new Attempts();
+
+            CompletableFuture<String> result = hedger.execute(attempts, "ok"::equals, scheduler);
+            awaitAttempts(attempts, 2);
+            attempts.get(0).complete("status 500");
+            assertFalse(result.isDone());
+            attempts.get(1).complete("ok");
+
+            assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("returns the last failure when every attempt fails")
+        void allFail() throws Exception {
+            Hedger hedger = new Hedger(policy(100.0));
+            warmUp(hedger);
+            Attempts attempts = new Attempts();
+
+            CompletableFuture<String> result = hedger.execute(attempts, "ok"::equals, scheduler);
+            awaitAttempts(attempts, 2);
+            attempts.get(0).complete("status 500");
+            attempts.get(1).completeExceptionally(new IllegalStateException("boom"));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+
+        @Test
+        @DisplayName("lets a streaming attempt win with its first event")
+        void claimOnFirstEvent() throws Exception {
+            Hedger hedger = new Hedger(policy(100.0));
+            warmUp(hedger);
+            Attempts attempts = new Attempts();
+
+            CompletableFuture<String> result = hedger.execute(attempts, "ok"::equals, scheduler);
+            awaitAttempts(attempts, 2);
+
+            assertTrue(attempts.claims.get(0).getAsBoolean());
+            assertFalse(attempts.claims.get(1).getAsBoolean());
+            assertTrue(attempts.get(1).isCancelled());
+            assertFalse(result.isDone());
+            attempts.get(0).complete("ok");
+            assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+            assertEquals(0, hedger.getHedgeWins());
+        }
+    }
+
+    @Nested
+    @DisplayName("Budget")
+    class Budget {
+
+        @Test
+        @DisplayName("sends no duplicate once the budget is spent")
+        void capsExtraLoad() throws Exception {
+            // Each call earns half a hedge
+            Hedger hedger = new Hedger(policy(50.0));
+            warmUp(hedger);
+
+            Attempts first = new Attempts();
+            CompletableFuture<String> hedged = hedger.execute(first, "ok"::equals, scheduler);
+            awaitAttempts(first, 2);
+            first.get(1).complete("ok");
+            hedged.get(5, TimeUnit.SECONDS);
+
+            Attempts second = new Attempts();
+            CompletableFuture<String> unhedged = hedger.execute(second, "ok"::equals, scheduler);
+            Thread.sleep(150);
+            assertEquals(1, second.count());
+            second.get(0).complete("ok");
+            assertEquals("ok", unhedged.get(5, TimeUnit.SECONDS));
+            assertEquals(1, hedger.getHedges());
+        }
+    }
+
+    @Nested
+    @DisplayName("Against a stub server")
+    class StubServer {
+
+        private HttpServer server;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/chat/completions", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                if (calls.incrementAndGet() == 2) {
+                    // The second call stalls before its first token
+                    try {
+                        Thread.sleep(3000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                byte[] bytes = ("data: {\"choices\":[{\"delta\":{\"content\":\"hel\"}}]}\n\n"
+                        + "data: {\"choices\":[{\"delta\":{\"content\":\"lo\"}}]}\n\n"
+                        + "data: [DONE]\n\n").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+                try {
+                    exchange.sendResponseHeaders(200, bytes.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(bytes);
+                    }
+                } catch (IOException e) {
+                    // The losing attempt's connection may already be gone
+                }
+            });
+            server.start();
+            endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("hedges a stream whose first token is late")
+        void hedgesStream() {
+            AIClient client = AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("hedged-stream")
+                    .apiKey("local-key")
+                    .hedgingPolicy(policy(100.0))
+                    .build();
+
+            assertEquals("hello", client.newRequest().addInput("warm up").build().executeStream().toResponse().text());
+
+            long start = System.nanoTime();
+            String text = client.newRequest().addInput("stalls").build().executeStream().toResponse().text();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals("hello", text);
+            assertEquals(3, calls.get());
+            assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + "ms");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.AIClientBuilder;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.resiliency.HedgingPolicy;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares tail latency with and without hedging against a stub server whose latency is heavy
+ * tailed: most calls take 10-40ms, one in ten takes 500ms or more (Pareto tail).
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class HedgingBenchmarkTest {
+
+    private static final int CALLS = 200;
+    private static final int CONCURRENCY = 8;
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("Benchmark")
+            .apiKeyVarName("BENCHMARK_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private final Random random = new Random(7);
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(nextLatencyMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = ("{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\",\"choices\":[{\"index\":0,"
+                    + "\"message\":{\"role\":\"assistant\",\"content\":\"ok\"},\"finish_reason\":\"stop\"}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException e) {
+                // A cancelled hedge may have closed the connection
+            }
+        });
+        server.start();
+        endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private synchronized long nextLatencyMillis() {
+        if (random.nextDouble() < 0.9) {
+            return 10 + random.nextInt(30);
+        }
+        // Pareto with shape 1.5 from 500ms, capped at 3s
+        double pareto = 500 / Math.pow(1 - random.nextDouble(), 1 / 1.5);
+        return (long) Math.min(3000, pareto);
+    }
+
+    private long[] run(AIClient client, String label) throws InterruptedException {
+        Semaphore slots = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[CALLS];
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            int index = i;
+            slots.acquire();
+            long start = System.nanoTime();
+            futures.add(client.newRequest().addInput(label + " " + i).build().executeAsync()
+                    .whenComplete((response, ex) -> {
+                        latencies[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        slots.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).orTimeout(60, TimeUnit.SECONDS).join();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1];
+    }
+
+    private static AIClientBuilder client(String model) {
+        return AIClient.builder().provider(LOCAL).explicitModelVersion(model).apiKey("local-key");
+    }
+
+    @Test
+    void hedgingCutsTailLatency() throws Exception {
+        long[] plain = run(client("plain").build(), "plain");
+        int plainRequests = requests.getAndSet(0);
+
+        long[] hedged = run(client("hedged").hedgingPolicy(HedgingPolicy.builder()
+                .percentile(85.0)
+                .minDelayMillis(20L)
+                .minSamples(20)
+                .budgetPercent(25.0)
+                .build()).build(), "hedged");
+        int hedgedRequests = requests.get();
+
+        System.out.printf("%-8s %6s %6s %6s %6s %9s%n", "", "p50", "p90", "p95", "p99", "requests");
+        System.out.printf("%-8s %6d %6d %6d %6d %9d%n", "plain",
+                percentile(plain, 50), percentile(plain, 90), percentile(plain, 95), percentile(plain, 99), plainRequests);
+        System.out.printf("%-8s %6d %6d %6d %6d %9d%n", "hedged",
+                percentile(hedged, 50), percentile(hedged, 90), percentile(hedged, 95), percentile(hedged, 99), hedgedRequests);
+
+        assertTrue(percentile(hedged, 95) * 2 < percentile(plain, 95));
+        assertTrue(hedgedRequests <= CALLS * 1.3, "hedging exceeded its budget: " + hedgedRequests);
+    }
+}
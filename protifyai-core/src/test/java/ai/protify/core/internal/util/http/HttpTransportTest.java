@@ -0,0 +1,160 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpTransportTest {
+
+    @Nested
+    @DisplayName("http.version")
+    class Version {
+
+        @Test
+        @DisplayName("defaults to HTTP/2")
+        void defaultsToHttp2() {
+            assertEquals(HttpClient.Version.HTTP_2, HttpTransport.parseVersion(null));
+            assertEquals(HttpClient.Version.HTTP_2, HttpTransport.parseVersion("bogus"));
+        }
+
+        @Test
+        @DisplayName("accepts common spellings of HTTP/1.1")
+        void parsesHttp11() {
+            assertEquals(HttpClient.Version.HTTP_1_1, HttpTransport.parseVersion("HTTP_1_1"));
+            assertEquals(HttpClient.Version.HTTP_1_1, HttpTransport.parseVersion("http/1.1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Executor")
+    class ExecutorSettings {
+
+        @Test
+        @DisplayName("platform threads are named daemon threads")
+        void daemonThreads() throws Exception {
+            ExecutorService executor = HttpTransport.createExecutor(2, false);
+            try {
+                Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(5, TimeUnit.SECONDS);
+                assertTrue(thread.isDaemon());
+                assertTrue(thread.getName().startsWith("protify-http-"));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("virtual threads fall back to a working executor when unsupported")
+        void virtualThreadsFallBack() throws Exception {
+            ExecutorService executor = HttpTransport.createExecutor(0, true);
+            try {
+                assertEquals("ok", CompletableFuture.supplyAsync(() -> "ok", executor).get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("http.maxRequestsPerHost")
+    class PerHostLimit {
+
+        private HttpServer server;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                active.decrementAndGet();
+                byte[] body = "ok".getBytes();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("queues requests beyond the cap without failing them")
+        void capsConcurrency() {
+            HttpTransport transport = new HttpTransport(HttpClient.Version.HTTP_1_1, Duration.ofSeconds(5), 2,
+                    HttpTransport.createExecutor(0, false));
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                responses.add(transport.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()));
+            }
+            assertTrue(transport.waitingFor(uri) > 0);
+
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertEquals("ok", response.join().body());
+            }
+            assertEquals(2, peak.get());
+            assertEquals(0, transport.waitingFor(uri));
+        }
+
+        @Test
+        @DisplayName("releases the permit when a request fails")
+        void releasesOnFailure() throws Exception {
+            HttpTransport transport = new HttpTransport(HttpClient.Version.HTTP_1_1, Duration.ofSeconds(5), 1,
+                    HttpTransport.createExecutor(0, false));
+            URI closed = URI.create("http://127.0.0.1:1/");
+
+            for (int i = 0; i < 3; i++) {
+                assertThrows(IOException.class, () -> transport.send(HttpRequest.newBuilder(closed).build(),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            assertEquals(0, transport.waitingFor(closed));
+        }
+    }
+}
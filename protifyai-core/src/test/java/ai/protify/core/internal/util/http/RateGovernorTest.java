@@ -0,0 +1,255 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.response.AIResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateGovernorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("Governed")
+            .apiKeyVarName("GOVERNED_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void startScheduler() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("TokenBucket")
+    class Bucket {
+
+        @Test
+        @DisplayName("starts full and refills at the per-minute rate")
+        void refills() {
+            TokenBucket bucket = new TokenBucket(60, 0);
+
+            assertEquals(0, bucket.nanosUntil(60, 0));
+            bucket.take(60, 0);
+            assertEquals(SECOND, bucket.nanosUntil(1, 0));
+            assertEquals(0, bucket.nanosUntil(1, SECOND));
+            assertEquals(60, bucket.available(TimeUnit.MINUTES.toNanos(5)), 0.001);
+        }
+
+        @Test
+        @DisplayName("admits a take larger than capacity once full, then repays the debt")
+        void overdraws() {
+            TokenBucket bucket = new TokenBucket(60, 0);
+
+            assertEquals(0, bucket.nanosUntil(120, 0));
+            bucket.take(120, 0);
+            assertEquals(61 * SECOND, bucket.nanosUntil(1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("AdaptiveConcurrencyLimit")
+    class Limit {
+
+        @Test
+        @DisplayName("grows on successes at full load, not when mostly idle")
+        void additiveIncrease() {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 6);
+
+            limit.onSuccess(100, 1);
+            assertEquals(4, limit.getLimit());
+            limit.onSuccess(100, 4);
+            limit.onSuccess(100, 4);
+            limit.onSuccess(100, 4);
+            assertEquals(6, limit.getLimit());
+        }
+
+        @Test
+        @DisplayName("halves on 429 and backs off on rising latency, within bounds")
+        void multiplicativeDecrease() {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 2, 64);
+
+            limit.onRateLimited();
+            assertEquals(10, limit.getLimit());
+            limit.onSuccess(100, 1);
+            limit.onSuccess(1000, 1);
+            assertEquals(9, limit.getLimit());
+            for (int i = 0; i < 10; i++) {
+                limit.onRateLimited();
+            }
+            assertEquals(2, limit.getLimit());
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission")
+    class Admission {
+
+        @Test
+        @DisplayName("queues callers over the concurrency limit and admits them in order")
+        void fairQueue() throws Exception {
+            RateGovernor governor = new RateGovernor(0, 0, new AdaptiveConcurrencyLimit(2, 2, 2), scheduler);
+
+            List<CompletableFuture<RateGovernor.Permit>> permits = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                permits.add(governor.acquire(1));
+            }
+
+            assertTrue(permits.get(0).isDone());
+            assertTrue(permits.get(1).isDone());
+            assertFalse(permits.get(2).isDone());
+            assertEquals(3, governor.getWaiting());
+
+            permits.get(0).join().release(200, -1);
+            permits.get(2).get(5, TimeUnit.SECONDS);
+            assertFalse(permits.get(3).isDone());
+            assertEquals(2, governor.getInFlight());
+        }
+
+        @Test
+        @DisplayName("waits for the request bucket to refill")
+        void requestsPerMinute() throws Exception {
+            RateGovernor governor = new RateGovernor(600, 0, null, scheduler);
+
+            for (int i = 0; i < 600; i++) {
+                governor.acquire(1).join().release(200, -1);
+            }
+            long start = System.nanoTime();
+            governor.acquire(1).get(5, TimeUnit.SECONDS);
+
+            // 600 per minute refills one request every 100ms
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        @Test
+        @DisplayName("pauses admission for the Retry-After of a 429")
+        void pausesOnRateLimit() throws Exception {
+            RateGovernor governor = new RateGovernor(0, 0, new AdaptiveConcurrencyLimit(4, 1, 4), scheduler);
+
+            governor.acquire(1).join().release(429, 150);
+            long start = System.nanoTime();
+            governor.acquire(1).get(5, TimeUnit.SECONDS);
+
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertEquals(2, governor.getLimit());
+        }
+    }
+
+    @Nested
+    @DisplayName("Against a stub server")
+    class StubServer {
+
+        private HttpServer server;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/chat/completions", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(30);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                active.decrementAndGet();
+                byte[] bytes = ("{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\",\"choices\":[{\"index\":0,"
+                        + "\"message\":{\"role\":\"assistant\",\"content\":\"ok\"},\"finish_reason\":\"stop\"}]}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            server.start();
+            endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("keeps a burst within the concurrency limit and completes every call")
+        void boundsBurst() {
+            AIClient client = AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("governed")
+                    .apiKey("local-key")
+                    .concurrencyLimit(3, 3, 3)
+                    .build();
+
+            List<CompletableFuture<AIResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(client.newRequest().addInput("burst " + i).build().executeAsync());
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).orTimeout(20, TimeUnit.SECONDS).join();
+
+            for (CompletableFuture<AIResponse> future : futures) {
+                assertEquals("ok", future.join().text());
+            }
+            assertTrue(maxActive.get() <= 3, "max concurrent " + maxActive.get());
+        }
+    }
+}
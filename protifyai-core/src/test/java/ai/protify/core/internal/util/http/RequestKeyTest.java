@@ -0,0 +1,93 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.internal.util.FileUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestKeyTest {
+
+    private static final String UNICODE_BODY =
+            "{\"messages\":[{\"role\":\"user\",\"content\":\"héllo 😀 中\"}]}";
+
+    @Nested
+    @DisplayName("MurmurHash3 x64 128")
+    class Murmur3 {
+
+        @Test
+        @DisplayName("matches reference vectors")
+        void referenceVectors() {
+            assertEquals("00000000000000000000000000000000", RequestKey.of("").toHexString());
+            assertEquals("cbd8a7b341bd9b025b1e906a48ae1d19", RequestKey.of("hello").toHexString());
+            assertEquals("e34bbc7bbc071b6c7a433ca9c49a9347",
+                    RequestKey.of("The quick brown fox jumps over the lazy dog").toHexString());
+        }
+
+        @Test
+        @DisplayName("chunked byte input hashes the same as a single update")
+        void chunkingIsInvariant() {
+            String body = UNICODE_BODY.repeat(50);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+            RequestKeyHasher hasher = RequestKeyAlgorithm.MURMUR3_128.newHasher();
+            for (int i = 0; i < bytes.length; i += 7) {
+                hasher.update(bytes, i, Math.min(7, bytes.length - i));
+            }
+
+            assertEquals(RequestKey.of(body), hasher.finish());
+        }
+
+        @Test
+        @DisplayName("char input is hashed as its UTF-8 encoding")
+        void encodesUtf8() {
+            byte[] bytes = UNICODE_BODY.getBytes(StandardCharsets.UTF_8);
+            RequestKeyHasher hasher = RequestKeyAlgorithm.MURMUR3_128.newHasher();
+            hasher.update(bytes, 0, bytes.length);
+
+            assertEquals(hasher.finish(), RequestKey.of(UNICODE_BODY));
+        }
+
+        @Test
+        @DisplayName("different bodies produce different keys")
+        void distinctBodies() {
+            assertNotEquals(RequestKey.of("{\"a\":1}"), RequestKey.of("{\"a\":2}"));
+        }
+    }
+
+    @Test
+    @DisplayName("SHA-256 keys match the hex digest of the body")
+    void sha256MatchesDigest() {
+        RequestKey key = RequestKey.of(UNICODE_BODY, RequestKeyAlgorithm.SHA_256);
+
+        assertEquals(FileUtil.computeSHA256(UNICODE_BODY), key.toHexString());
+        assertNotEquals(RequestKey.of(UNICODE_BODY), key);
+    }
+
+    @Test
+    @DisplayName("algorithm names are parsed leniently")
+    void parsesAlgorithmNames() {
+        assertEquals(RequestKeyAlgorithm.SHA_256, RequestKeyAlgorithm.getFromValue("sha-256"));
+        assertEquals(RequestKeyAlgorithm.MURMUR3_128, RequestKeyAlgorithm.getFromValue(" murmur3_128 "));
+        assertNull(RequestKeyAlgorithm.getFromValue(null));
+    }
+}
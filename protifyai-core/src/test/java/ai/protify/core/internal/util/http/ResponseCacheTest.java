@@ -0,0 +1,199 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static ProtifyHttpResponse response(String body) {
+        return new ProtifyHttpResponse(false, body, 200, 5);
+    }
+
+    @Nested
+    @DisplayName("Hits, misses and expiry")
+    class HitsAndExpiry {
+
+        @Test
+        @DisplayName("returns stored response and counts hits and misses")
+        void hitAndMiss() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 10);
+            cache.put("a", response("A"));
+
+            assertEquals("A", cache.get("a").getResponseBody());
+            assertNull(cache.get("b"));
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("expired entries are dropped on read")
+        void expiresOnRead() {
+            AtomicLong now = new AtomicLong(1_000);
+            ResponseCache<String> cache = new ResponseCache<>(100, 10, now::get);
+            cache.put("a", response("A"));
+
+            now.addAndGet(101);
+
+            assertNull(cache.get("a"));
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("evictExpired sweeps every segment")
+        void sweepRemovesExpired() {
+            AtomicLong now = new AtomicLong(1_000);
+            ResponseCache<String> cache = new ResponseCache<>(100, 100, now::get);
+            for (int i = 0; i < 50; i++) {
+                cache.put("k" + i, response("v" + i));
+            }
+            now.addAndGet(50);
+            cache.put("fresh", response("fresh"));
+            now.addAndGet(60);
+
+            cache.evictExpired();
+
+            assertEquals(1, cache.size());
+            assertNotNull(cache.get("fresh"));
+            assertEquals(50, cache.getEvictionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacity and eviction")
+    class Capacity {
+
+        @Test
+        @DisplayName("never holds more than maxEntries")
+        void respectsMaxEntries() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 64);
+            for (int i = 0; i < 1_000; i++) {
+                cache.put("k" + i, response("v" + i));
+            }
+
+            assertTrue(cache.size() <= 64);
+            assertEquals(1_000 - cache.size(), cache.getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("recently read entries survive the CLOCK sweep")
+        void referencedEntriesSurvive() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 1);
+            cache.put("hot", response("hot"));
+            cache.get("hot");
+
+            cache.put("cold", response("cold"));
+
+            assertNotNull(cache.get("hot"));
+            assertNull(cache.get("cold"));
+        }
+
+        @Test
+        @DisplayName("replacing a key does not count against capacity twice")
+        void replaceKeepsSize() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 4);
+            for (int i = 0; i < 20; i++) {
+                cache.put("same", response("v" + i));
+            }
+
+            assertEquals(1, cache.size());
+            assertEquals("v19", cache.get("same").getResponseBody());
+            assertEquals(0, cache.getEvictionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Clock ring")
+    class ClockRing {
+
+        @Test
+        @DisplayName("removed keys leave the ring")
+        void removeUnlinks() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 100);
+            for (int i = 0; i < 1_000; i++) {
+                cache.put("k" + i, response("v" + i));
+                cache.remove("k" + i);
+            }
+
+            assertEquals(0, cache.size());
+            assertEquals(0, cache.clockSize());
+        }
+
+        @Test
+        @DisplayName("entries expired on read leave the ring")
+        void expiryUnlinks() {
+            AtomicLong now = new AtomicLong(1_000);
+            ResponseCache<String> cache = new ResponseCache<>(100, 100, now::get);
+            for (int i = 0; i < 50; i++) {
+                cache.put("k" + i, response("v" + i));
+            }
+            now.addAndGet(101);
+            for (int i = 0; i < 50; i++) {
+                assertNull(cache.get("k" + i));
+            }
+
+            assertEquals(0, cache.clockSize());
+        }
+
+        @Test
+        @DisplayName("replaced and evicted entries leave the ring")
+        void ringTracksMap() {
+            ResponseCache<String> cache = new ResponseCache<>(60_000, 16);
+            for (int i = 0; i < 500; i++) {
+                cache.put("k" + (i % 40), response("v" + i));
+                cache.get("k" + (i % 7));
+            }
+
+            assertEquals(cache.size(), cache.clockSize());
+            cache.clear();
+            assertEquals(0, cache.clockSize());
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent readers and writers stay within capacity")
+    void concurrentAccess() {
+        ResponseCache<String> cache = new ResponseCache<>(60_000, 128);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    String key = "k" + ((i * 31 + thread) % 512);
+                    if (cache.get(key) == null) {
+                        cache.put(key, response(key));
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertTrue(cache.size() <= 128);
+        assertEquals(cache.size(), cache.clockSize());
+        assertEquals(40_000, cache.getHitCount() + cache.getMissCount());
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.http;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.exception.BadRequestException;
+import ai.protify.core.internal.exception.RateLimitExceededException;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.provider.AIProvider;
+import ai.protify.core.resiliency.RetryAttempt;
+import ai.protify.core.resiliency.RetryBackoffStrategy;
+import ai.protify.core.resiliency.RetryPolicy;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetrySchedulerTest {
+
+    // 2023-11-14T22:13:20Z
+    private static final long NOW = 1_700_000_000_000L;
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("Local")
+            .apiKeyVarName("LOCAL_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private static RetryScheduler scheduler(RetryPolicy policy) {
+        // Deterministic "random": always the upper bound
+        return new RetryScheduler(policy, bound -> bound);
+    }
+
+    private static HttpHeaders headers(Map<String, List<String>> values) {
+        return HttpHeaders.of(values, (name, value) -> true);
+    }
+
+    @Nested
+    @DisplayName("Backoff")
+    class Backoff {
+
+        @Test
+        @DisplayName("grows exponentially from the base delay up to the cap")
+        void exponential() {
+            RetryScheduler scheduler = scheduler(RetryPolicy.builder()
+                    .maxRetries(5).delayMillis(100L).jitterMillis(0L).maxDelayMillis(1000L).build());
+
+            assertEquals(100, scheduler.backoffMillis(0));
+            assertEquals(200, scheduler.backoffMillis(1));
+            assertEquals(800, scheduler.backoffMillis(3));
+            assertEquals(1000, scheduler.backoffMillis(4));
+            assertEquals(1000, scheduler.backoffMillis(60));
+        }
+
+        @Test
+        @DisplayName("keeps a fixed delay for FIXED")
+        void fixed() {
+            RetryScheduler scheduler = scheduler(RetryPolicy.builder().maxRetries(3)
+                    .backoffStrategy(RetryBackoffStrategy.FIXED).delayMillis(250L).jitterMillis(0L).build());
+
+            assertEquals(250, scheduler.backoffMillis(0));
+            assertEquals(250, scheduler.backoffMillis(2));
+        }
+
+        @Test
+        @DisplayName("adds jitter below the cap and subtracts it at the cap")
+        void jitter() {
+            RetryScheduler scheduler = scheduler(RetryPolicy.builder()
+                    .maxRetries(5).delayMillis(100L).jitterMillis(50L).maxDelayMillis(400L).build());
+
+            assertEquals(150, scheduler.backoffMillis(0));
+            assertEquals(250, scheduler.backoffMillis(1));
+            assertEquals(350, scheduler.backoffMillis(2));
+            assertEquals(350, scheduler.backoffMillis(5));
+        }
+
+        @Test
+        @DisplayName("spreads concurrent clients over the jitter window")
+        void spreads() {
+            RetryScheduler scheduler = new RetryScheduler(RetryPolicy.builder()
+                    .maxRetries(3).delayMillis(100L).jitterMillis(100L).maxDelayMillis(10_000L).build());
+
+            Set<Long> delays = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                long delay = scheduler.backoffMillis(0);
+                assertTrue(delay >= 100 && delay <= 200, "delay " + delay);
+                delays.add(delay);
+            }
+            assertTrue(delays.size() > 5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry decision")
+    class Decision {
+
+        private final RetryPolicy policy = RetryPolicy.builder()
+                .maxRetries(2).delayMillis(100L).jitterMillis(0L).maxElapsedTimeMillis(5000L).build();
+
+        @Test
+        @DisplayName("retries configured status codes only")
+        void statusCodes() {
+            RetryScheduler scheduler = scheduler(policy);
+
+            assertEquals(100, scheduler.nextDelayMillis(0, 0, 429, null, -1));
+            assertEquals(100, scheduler.nextDelayMillis(0, 0, 529, null, -1));
+            assertEquals(-1, scheduler.nextDelayMillis(0, 0, 400, null, -1));
+            assertEquals(-1, scheduler.nextDelayMillis(0, 0, 401, null, -1));
+        }
+
+        @Test
+        @DisplayName("matches transport failures and their causes against retryOnExceptions")
+        void exceptions() {
+            RetryScheduler scheduler = scheduler(RetryPolicy.builder()
+                    .maxRetries(1).retryOnExceptions(Set.of(IOException.class)).build());
+
+            assertTrue(scheduler.isRetriable(0, new CompletionException(new ConnectException("refused"))));
+            assertFalse(scheduler.isRetriable(0, new IllegalStateException("bug")));
+        }
+
+        @Test
+        @DisplayName("retries connect errors and timeouts under the default exception set")
+        void defaultExceptions() {
+            RetryScheduler scheduler = scheduler(RetryPolicy.builder().maxRetries(3).build());
+
+            assertTrue(scheduler.nextDelayMillis(0, 0, 0, new ConnectException("refused"), -1) >= 0);
+            assertTrue(scheduler.nextDelayMillis(0, 0, 0, new HttpTimeoutException("timed out"), -1) >= 0);
+            assertTrue(scheduler.nextDelayMillis(0, 0, 0,
+                    new CompletionException(new IOException("reset")), -1) >= 0);
+        }
+
+        @Test
+        @DisplayName("stops after maxRetries")
+        void maxRetries() {
+            assertEquals(-1, scheduler(policy).nextDelayMillis(2, 0, 503, null, -1));
+        }
+
+        @Test
+        @DisplayName("waits at least as long as the server asked")
+        void retryAfter() {
+            assertEquals(1500, scheduler(policy).nextDelayMillis(0, 0, 429, null, 1500));
+            assertEquals(100, scheduler(policy).nextDelayMillis(0, 0, 429, null, 20));
+        }
+
+        @Test
+        @DisplayName("ignores the server's wait when respectRetryAfter is off")
+        void retryAfterDisabled() {
+            RetryPolicy ignoring = RetryPolicy.builder()
+                    .maxRetries(2).delayMillis(100L).jitterMillis(0L).respectRetryAfter(false).build();
+
+            assertEquals(100, scheduler(ignoring).nextDelayMillis(0, 0, 429, null, 1500));
+        }
+
+        @Test
+        @DisplayName("gives up when the next attempt would exceed the elapsed-time budget")
+        void elapsedBudget() {
+            assertEquals(-1, scheduler(policy).nextDelayMillis(0, 4950, 503, null, -1));
+            assertEquals(-1, scheduler(policy).nextDelayMillis(0, 0, 429, null, 60_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry-After headers")
+    class Headers {
+
+        @Test
+        @DisplayName("reads retry-after-ms, then Retry-After seconds or dates")
+        void retryAfter() {
+            assertEquals(1250, RetryAfter.parseMillis(headers(Map.of("retry-after-ms", List.of("1250"), "retry-after", List.of("9"))), NOW));
+            assertEquals(7000, RetryAfter.parseMillis(headers(Map.of("Retry-After", List.of("7"))), NOW));
+            assertEquals(30_000, RetryAfter.parseMillis(headers(Map.of("Retry-After", List.of("Tue, 14 Nov 2023 22:13:50 GMT"))), NOW));
+            assertEquals(-1, RetryAfter.parseRetryAfter("later", NOW));
+        }
+
+        @Test
+        @DisplayName("uses the reset of an exhausted OpenAI or Anthropic rate limit")
+        void rateLimitHeaders() {
+            assertEquals(360_000, RetryAfter.parseMillis(headers(Map.of(
+                    "x-ratelimit-remaining-requests", List.of("12"),
+                    "x-ratelimit-reset-requests", List.of("1s"),
+                    "x-ratelimit-remaining-tokens", List.of("0"),
+                    "x-ratelimit-reset-tokens", List.of("6m0s"))), NOW));
+            assertEquals(2_000, RetryAfter.parseMillis(headers(Map.of(
+                    "anthropic-ratelimit-requests-remaining", List.of("0"),
+                    "anthropic-ratelimit-requests-reset", List.of("2023-11-14T22:13:22Z"))), NOW));
+            assertEquals(-1, RetryAfter.parseMillis(headers(Map.of(
+                    "x-ratelimit-remaining-requests", List.of("3"),
+                    "x-ratelimit-reset-requests", List.of("1s"))), NOW));
+        }
+
+        @Test
+        @DisplayName("parses Go-style durations")
+        void durations() {
+            assertEquals(20, RetryAfter.parseDurationMillis("20ms"));
+            assertEquals(1500, RetryAfter.parseDurationMillis("1.5s"));
+            assertEquals(3_723_000, RetryAfter.parseDurationMillis("1h2m3s"));
+            assertEquals(-1, RetryAfter.parseDurationMillis("soon"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Against a stub server")
+    class StubServer {
+
+        private HttpServer server;
+        private final Queue<int[]> script = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<RetryAttempt> attempts = new CopyOnWriteArrayList<>();
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/chat/completions", this::handle);
+            server.start();
+            endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        // Each script entry is {status, retry-after-ms or -1}; an empty script answers 200
+        private void handle(HttpExchange exchange) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            int[] next = script.poll();
+            int status = (next != null) ? next[0] : 200;
+            if (next != null && next[1] >= 0) {
+                exchange.getResponseHeaders().add("retry-after-ms", String.valueOf(next[1]));
+            }
+            String body = (status == 200)
+                    ? "{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\",\"choices\":[{\"index\":0,"
+                    + "\"message\":{\"role\":\"assistant\",\"content\":\"ok\"},\"finish_reason\":\"stop\"}]}"
+                    : "{\"error\":{\"message\":\"status " + status + "\",\"type\":\"error\"}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        private AIClient client(RetryPolicy policy) {
+            return AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("local")
+                    .apiKey("local-key")
+                    .retryPolicy(policy)
+                    .build();
+        }
+
+        private RetryPolicy policy(long maxElapsedMillis) {
+            return RetryPolicy.builder()
+                    .maxRetries(3)
+                    .delayMillis(5L)
+                    .jitterMillis(5L)
+                    .maxElapsedTimeMillis(maxElapsedMillis)
+                    .listener(attempts::add)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("waits out 429 responses and reports every attempt")
+        void rateLimited() {
+            script.add(new int[]{429, 40});
+            script.add(new int[]{429, 40});
+
+            long start = System.nanoTime();
+            String text = client(policy(10_000)).newRequest().addInput("rate limited").build().execute().text();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals("ok", text);
+            assertEquals(3, calls.get());
+            assertTrue(elapsedMillis >= 80, "honoured retry-after-ms, took " + elapsedMillis + "ms");
+            assertEquals(3, attempts.size());
+            RetryAttempt first = attempts.get(0);
+            assertEquals(1, first.getAttempt());
+            assertEquals(429, first.getStatusCode());
+            assertEquals(40, first.getRetryAfterMillis());
+            assertEquals(40, first.getNextDelayMillis());
+            assertTrue(first.willRetry());
+            assertTrue(attempts.get(2).isSuccess());
+            assertFalse(attempts.get(2).willRetry());
+        }
+
+        @Test
+        @DisplayName("retries 529 overloaded responses")
+        void overloaded() {
+            script.add(new int[]{529, -1});
+
+            assertEquals("ok", client(policy(10_000)).newRequest().addInput("overloaded").build().execute().text());
+            assertEquals(2, calls.get());
+        }
+
+        @Test
+        @DisplayName("does not retry client errors")
+        void badRequest() {
+            script.add(new int[]{400, -1});
+
+            AIClient client = client(policy(10_000));
+            assertThrows(BadRequestException.class,
+                    () -> client.newRequest().addInput("bad request").build().execute());
+            assertEquals(1, calls.get());
+            assertEquals(1, attempts.size());
+            assertFalse(attempts.get(0).willRetry());
+        }
+
+        @Test
+        @DisplayName("fails fast when the server's wait exceeds the elapsed-time budget")
+        void budgetExceeded() {
+            script.add(new int[]{429, 60_000});
+
+            AIClient client = client(policy(1_000));
+            assertThrows(RateLimitExceededException.class,
+                    () -> client.newRequest().addInput("over budget").build().execute());
+            assertEquals(1, calls.get());
+        }
+    }
+}
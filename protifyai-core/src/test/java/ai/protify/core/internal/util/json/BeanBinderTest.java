@@ -0,0 +1,324 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.json;
+
+import ai.protify.core.internal.provider.anthropic.model.AnthropicContentBlock;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicMessage;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicRequestBody;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicThinking;
+import ai.protify.core.internal.provider.anthropic.model.AnthropicTool;
+import ai.protify.core.internal.provider.bedrock.model.BedrockContentBlock;
+import ai.protify.core.internal.provider.bedrock.model.BedrockInferenceConfig;
+import ai.protify.core.internal.provider.bedrock.model.BedrockMessage;
+import ai.protify.core.internal.provider.bedrock.model.BedrockRequestBody;
+import ai.protify.core.internal.provider.bedrock.model.BedrockToolConfig;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatMessage;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatRequestBody;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatTool;
+import ai.protify.core.internal.provider.gemini.model.GeminiContent;
+import ai.protify.core.internal.provider.gemini.model.GeminiGenerationConfig;
+import ai.protify.core.internal.provider.gemini.model.GeminiPart;
+import ai.protify.core.internal.provider.gemini.model.GeminiRequestBody;
+import ai.protify.core.internal.provider.gemini.model.GeminiTool;
+import ai.protify.core.internal.provider.openai.model.OpenAIContentBlock;
+import ai.protify.core.internal.provider.openai.model.OpenAIInputMessage;
+import ai.protify.core.internal.provider.openai.model.OpenAIReasoning;
+import ai.protify.core.internal.provider.openai.model.OpenAIRequestBody;
+import ai.protify.core.internal.provider.openai.model.OpenAITool;
+import ai.protify.core.tool.AITool;
+import ai.protify.core.tool.AIToolParameter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanBinderTest {
+
+    public static class Counters {
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean active;
+        private String label;
+
+        public Counters() {}
+
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+        public long getTotal() { return total; }
+        public void setTotal(long total) { this.total = total; }
+        public double getRatio() { return ratio; }
+        public void setRatio(double ratio) { this.ratio = ratio; }
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+    }
+
+    public static class FluentBean {
+        private String name;
+
+        public FluentBean() {}
+
+        public String getName() { return name; }
+        public FluentBean setName(String name) { this.name = name; return this; }
+    }
+
+    static class PackagePrivateBean {
+        private int count;
+        private String label;
+
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+    }
+
+    public static class FailingConstructor {
+        public FailingConstructor() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    /** Serializes through reflective binders, as {@link ProtifyJson} did before compiling them. */
+    static final class Reflective extends JsonOutput {
+
+        private static final Map<Class<?>, BeanBinder> BINDERS = new ConcurrentHashMap<>();
+
+        @Override
+        BeanBinder binder(Class<?> type) {
+            return BINDERS.computeIfAbsent(type, BeanBinder::reflect);
+        }
+
+        @Override
+        void appendStream(JsonStreamValue value) {
+            value.appendTo(text);
+        }
+    }
+
+    static String toJsonReflective(Object body) {
+        Reflective out = new Reflective();
+        ProtifyJson.writeObject(body, out);
+        return out.text.toString();
+    }
+
+    /** Request bodies for each provider, with a short conversation and a couple of tools. */
+    static List<Object> requestBodies() {
+        List<AITool> tools = List.of(
+                AITool.builder("get_weather")
+                        .description("Get the current weather for a city")
+                        .addRequiredParameter("city", AIToolParameter.string("City name"))
+                        .addParameter("unit", AIToolParameter.stringEnum("Unit", List.of("celsius", "fahrenheit")))
+                        .build(),
+                AITool.builder("search")
+                        .description("Search the knowledge base")
+                        .addRequiredParameter("query", AIToolParameter.string("The search query"))
+                        .addParameter("limit", AIToolParameter.integer("Max results"))
+                        .build());
+        String[] turns = {
+                "What's the weather in Paris?",
+                "It is 18 degrees and sunny in Paris.",
+                "And in \"Lyon\"?\nKeep it short.",
+                "Lyon is 21 degrees with light rain."
+        };
+
+        AnthropicRequestBody anthropic = new AnthropicRequestBody();
+        anthropic.setModel("claude-sonnet-4-5");
+        anthropic.setMaxTokens(1024);
+        anthropic.setTemperature(0.7);
+        anthropic.setSystem("You are a concise assistant.");
+        anthropic.setThinking(AnthropicThinking.enabled(2048));
+        List<Object> anthropicMessages = new ArrayList<>();
+        for (int i = 0; i < turns.length; i++) {
+            anthropicMessages.add(new AnthropicMessage(i % 2 == 0 ? "user" : "assistant",
+                    List.of(AnthropicContentBlock.text(turns[i]))));
+        }
+        anthropicMessages.add(new AnthropicMessage("assistant", List.of(
+                AnthropicContentBlock.toolUse("toolu_01", "get_weather", Map.of("city", "Nice")))));
+        anthropicMessages.add(new AnthropicMessage("user", List.of(
+                AnthropicContentBlock.toolResult("toolu_01", "24 degrees, clear"))));
+        anthropic.setMessages(anthropicMessages);
+        List<AnthropicTool> anthropicTools = new ArrayList<>();
+        tools.forEach(tool -> anthropicTools.add(AnthropicTool.from(tool)));
+        anthropic.setTools(anthropicTools);
+
+        OpenAIRequestBody openai = new OpenAIRequestBody();
+        openai.setModel("gpt-5");
+        openai.setInstructions("You are a concise assistant.");
+        openai.setMaxOutputTokens(1024);
+        openai.setReasoning(OpenAIReasoning.of("low"));
+        List<Object> openaiInput = new ArrayList<>();
+        for (int i = 0; i < turns.length; i++) {
+            openaiInput.add(new OpenAIInputMessage(i % 2 == 0 ? "user" : "assistant", List.of(
+                    i % 2 == 0 ? OpenAIContentBlock.text(turns[i]) : OpenAIContentBlock.outputText(turns[i]))));
+        }
+        openai.setInput(openaiInput);
+        List<OpenAITool> openaiTools = new ArrayList<>();
+        tools.forEach(tool -> openaiTools.add(OpenAITool.from(tool)));
+        openai.setTools(openaiTools);
+
+        ChatRequestBody chat = new ChatRequestBody();
+        chat.setModel("gpt-4o-mini");
+        chat.setTemperature(0.2);
+        chat.setMaxTokens(512);
+        List<Object> chatMessages = new ArrayList<>();
+        chatMessages.add(ChatMessage.system("You are a concise assistant."));
+        for (int i = 0; i < turns.length; i++) {
+            chatMessages.add(i % 2 == 0 ? ChatMessage.user(turns[i]) : ChatMessage.assistant(turns[i]));
+        }
+        chat.setMessages(chatMessages);
+        List<ChatTool> chatTools = new ArrayList<>();
+        tools.forEach(tool -> chatTools.add(ChatTool.from(tool)));
+        chat.setTools(chatTools);
+
+        GeminiRequestBody gemini = new GeminiRequestBody();
+        gemini.setSystemInstruction(new GeminiContent(null, List.of(GeminiPart.text("You are a concise assistant."))));
+        List<GeminiContent> contents = new ArrayList<>();
+        for (int i = 0; i < turns.length; i++) {
+            contents.add(new GeminiContent(i % 2 == 0 ? "user" : "model", List.of(GeminiPart.text(turns[i]))));
+        }
+        contents.add(new GeminiContent("model", List.of(GeminiPart.functionCall("get_weather", Map.of("city", "Nice")))));
+        contents.add(new GeminiContent("user", List.of(
+                GeminiPart.functionResponse("get_weather", Map.of("forecast", "24 degrees, clear")))));
+        gemini.setContents(contents);
+        GeminiGenerationConfig config = new GeminiGenerationConfig();
+        config.setTemperature(0.7);
+        config.setMaxOutputTokens(1024);
+        gemini.setGenerationConfig(config);
+        gemini.setTools(List.of(GeminiTool.from(tools)));
+
+        BedrockRequestBody bedrock = new BedrockRequestBody();
+        bedrock.setSystem(List.of(BedrockContentBlock.text("You are a concise assistant.")));
+        List<BedrockMessage> bedrockMessages = new ArrayList<>();
+        for (int i = 0; i < turns.length; i++) {
+            bedrockMessages.add(new BedrockMessage(i % 2 == 0 ? "user" : "assistant",
+                    List.of(BedrockContentBlock.text(turns[i]))));
+        }
+        bedrock.setMessages(bedrockMessages);
+        BedrockInferenceConfig inference = new BedrockInferenceConfig();
+        inference.setMaxTokens(1024);
+        inference.setTemperature(0.7);
+        bedrock.setInferenceConfig(inference);
+        bedrock.setToolConfig(BedrockToolConfig.from(tools));
+
+        return List.of(anthropic, openai, chat, gemini, bedrock);
+    }
+
+    @Nested
+    @DisplayName("Compiled accessors")
+    class Compiled {
+
+        @Test
+        @DisplayName("Should read primitive getters without boxing")
+        void primitiveGettersAreUnboxed() {
+            Map<String, Integer> kinds = new HashMap<>();
+            for (BeanBinder.Getter getter : BeanBinder.compile(Counters.class).getters) {
+                kinds.put(getter.jsonName, getter.kind);
+            }
+
+            assertEquals(BeanBinder.Getter.INT, kinds.get("count"));
+            assertEquals(BeanBinder.Getter.LONG, kinds.get("total"));
+            assertEquals(BeanBinder.Getter.DOUBLE, kinds.get("ratio"));
+            assertEquals(BeanBinder.Getter.BOOLEAN, kinds.get("active"));
+            assertEquals(BeanBinder.Getter.OBJECT, kinds.get("label"));
+        }
+
+        @Test
+        @DisplayName("Should write the same JSON as the reflective binder")
+        void matchesReflectiveOutput() {
+            Counters counters = new Counters();
+            counters.setCount(3);
+            counters.setTotal(9_000_000_000L);
+            counters.setRatio(0.25);
+            counters.setActive(true);
+            counters.setLabel("a \"quoted\" label");
+
+            assertEquals(toJsonReflective(counters), ProtifyJson.toJson(counters));
+        }
+
+        @Test
+        @DisplayName("Should write every provider request body exactly as the reflective binder")
+        void providerBodiesMatchReflectiveOutput() {
+            for (Object body : requestBodies()) {
+                assertEquals(toJsonReflective(body), ProtifyJson.toJson(body), body.getClass().getSimpleName());
+            }
+        }
+
+        @Test
+        @DisplayName("Should bind through a setter that returns this")
+        void fluentSetter() {
+            FluentBean bean = ProtifyJson.fromJson("{\"name\":\"fluent\"}", FluentBean.class);
+
+            assertEquals("fluent", bean.getName());
+        }
+
+        @Test
+        @DisplayName("Should round-trip primitive properties")
+        void roundTripsPrimitives() {
+            Counters counters = ProtifyJson.fromJson(
+                    "{\"count\":7,\"total\":12,\"ratio\":1.5,\"active\":true,\"label\":\"x\"}", Counters.class);
+
+            assertEquals(7, counters.getCount());
+            assertEquals(12L, counters.getTotal());
+            assertEquals(1.5, counters.getRatio());
+            assertTrue(counters.isActive());
+
+            String json = ProtifyJson.toJson(counters);
+            assertTrue(json.contains("\"count\":7"), json);
+            assertTrue(json.contains("\"total\":12"), json);
+            assertTrue(json.contains("\"ratio\":1.5"), json);
+            assertTrue(json.contains("\"active\":true"), json);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fallback to reflection")
+    class Fallback {
+
+        @Test
+        @DisplayName("Should bind a class that cannot be linked directly through reflection")
+        void packagePrivateClass() {
+            BeanBinder binder = BeanBinder.compile(PackagePrivateBean.class);
+            for (BeanBinder.Getter getter : binder.getters) {
+                assertEquals(BeanBinder.Getter.OBJECT, getter.kind, getter.jsonName);
+            }
+
+            PackagePrivateBean bean = ProtifyJson.fromJson("{\"count\":4,\"label\":\"hidden\"}", PackagePrivateBean.class);
+            assertEquals(4, bean.getCount());
+            assertEquals("hidden", bean.getLabel());
+            assertTrue(ProtifyJson.toJson(bean).contains("\"count\":4"));
+        }
+
+        @Test
+        @DisplayName("Should report the constructor's failure")
+        void constructorFailure() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> ProtifyJson.fromJson("{}", FailingConstructor.class));
+
+            assertTrue(e.getMessage().startsWith("Failed to instantiate " + FailingConstructor.class.getName()),
+                    e.getMessage());
+        }
+    }
+}
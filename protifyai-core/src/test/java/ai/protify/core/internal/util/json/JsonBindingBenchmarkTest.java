@@ -0,0 +1,152 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.json;
+
+import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseBody;
+import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
+import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares binding provider responses through an intermediate map tree, as before the streaming
+ * reader, with binding straight from the reader, and binding from a decoded String with binding
+ * from the UTF-8 bytes as received, and serializes the provider request bodies through reflective
+ * and compiled accessors. Reports throughput and bytes allocated per operation. Run with
+ * {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class JsonBindingBenchmarkTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void streamingBindsWithLessAllocation() {
+        System.out.printf("%-26s %8s %12s %12s %12s %12s%n",
+                "payload", "KB", "tree ops/s", "stream ops/s", "tree B/op", "stream B/op");
+        double[] anthropic = report("anthropic-messages.json", AnthropicResponseBody.class);
+        double[] openai = report("openai-responses.json", OpenAIResponseBody.class);
+        double[] gemini = report("gemini-generate-content.json", GeminiResponseBody.class);
+        double[] chat = report("chat-completions.json", ChatResponseBody.class);
+
+        double tree = anthropic[0] + openai[0] + gemini[0] + chat[0];
+        double streamed = anthropic[1] + openai[1] + gemini[1] + chat[1];
+        assertTrue(streamed < tree, "streaming allocated more than the tree: " + streamed + " vs " + tree);
+    }
+
+    @Test
+    void bytesBindWithoutDecodingTheBody() {
+        System.out.printf("%-26s %8s %12s %12s %12s %12s%n",
+                "payload", "KB", "String ops/s", "bytes ops/s", "String B/op", "bytes B/op");
+        double[] anthropic = reportBytes("anthropic-messages.json", AnthropicResponseBody.class);
+        double[] openai = reportBytes("openai-responses.json", OpenAIResponseBody.class);
+        double[] gemini = reportBytes("gemini-generate-content.json", GeminiResponseBody.class);
+        double[] chat = reportBytes("chat-completions.json", ChatResponseBody.class);
+
+        double decoded = anthropic[0] + openai[0] + gemini[0] + chat[0];
+        double raw = anthropic[1] + openai[1] + gemini[1] + chat[1];
+        assertTrue(raw < decoded, "binding bytes allocated more than decoding first: " + raw + " vs " + decoded);
+    }
+
+    @Test
+    void compiledAccessorsSerializeFaster() {
+        System.out.printf("%-26s %8s %12s %12s %12s %12s%n",
+                "request body", "KB", "reflect ops/s", "compiled ops/s", "reflect B/op", "compiled B/op");
+        double reflective = 0;
+        double compiled = 0;
+        for (Object body : BeanBinderTest.requestBodies()) {
+            double[] result = reportSerialization(body);
+            reflective += result[0];
+            compiled += result[1];
+        }
+        assertTrue(compiled > reflective,
+                "compiled accessors serialized slower than reflection: " + compiled + " vs " + reflective);
+    }
+
+    // Ops per second serializing through reflective and compiled binders
+    private static double[] reportSerialization(Object body) {
+        Function<Object, String> reflective = BeanBinderTest::toJsonReflective;
+        Function<Object, String> compiled = ProtifyJson::toJson;
+
+        run(body, reflective);
+        run(body, compiled);
+
+        double[] reflectRun = run(body, reflective);
+        double[] compiledRun = run(body, compiled);
+        System.out.printf("%-26s %8d %12.0f %12.0f %12.0f %12.0f%n", body.getClass().getSimpleName(),
+                ProtifyJson.toJson(body).length() / 1024,
+                reflectRun[0], compiledRun[0], reflectRun[1], compiledRun[1]);
+        return new double[] {reflectRun[0], compiledRun[0]};
+    }
+
+    // Bytes allocated per op by the tree and the streaming binder
+    private static <T> double[] report(String payload, Class<T> type) {
+        String json = JsonReaderTest.payload(payload);
+        Function<String, T> tree = s -> ProtifyJson.fromJsonTree(s, type);
+        Function<String, T> stream = s -> ProtifyJson.fromJson(s, type);
+
+        // Warm up both paths so the JIT has compiled the binders
+        run(json, tree);
+        run(json, stream);
+
+        double[] treeRun = run(json, tree);
+        double[] streamRun = run(json, stream);
+        System.out.printf("%-26s %8d %12.0f %12.0f %12.0f %12.0f%n", payload, json.length() / 1024,
+                treeRun[0], streamRun[0], treeRun[1], streamRun[1]);
+        return new double[] {treeRun[1], streamRun[1]};
+    }
+
+    // Bytes allocated per op decoding the body to a String before binding, and binding the bytes
+    private static <T> double[] reportBytes(String payload, Class<T> type) {
+        byte[] json = JsonReaderTest.utf8(JsonReaderTest.payload(payload));
+        Function<byte[], T> decoded = b -> ProtifyJson.fromJson(new String(b, StandardCharsets.UTF_8), type);
+        Function<byte[], T> raw = b -> ProtifyJson.fromReader(new JsonReader(b), type);
+
+        run(json, decoded);
+        run(json, raw);
+
+        double[] decodedRun = run(json, decoded);
+        double[] rawRun = run(json, raw);
+        System.out.printf("%-26s %8d %12.0f %12.0f %12.0f %12.0f%n", payload, json.length / 1024,
+                decodedRun[0], rawRun[0], decodedRun[1], rawRun[1]);
+        return new double[] {decodedRun[1], rawRun[1]};
+    }
+
+    // Ops per second and bytes allocated per op
+    private static <I, T> double[] run(I json, Function<I, T> binder) {
+        long threadId = Thread.currentThread().getId();
+        long allocated = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotNull(binder.apply(json));
+        }
+        long elapsed = System.nanoTime() - start;
+        allocated = THREADS.getThreadAllocatedBytes(threadId) - allocated;
+        return new double[] {ITERATIONS * 1e9 / elapsed, (double) allocated / ITERATIONS};
+    }
+}
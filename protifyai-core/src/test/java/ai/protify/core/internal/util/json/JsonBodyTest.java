@@ -0,0 +1,234 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import ai.protify.core.internal.util.http.RequestKey;
+import ai.protify.core.internal.util.http.RequestKeyAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonBodyTest {
+
+    private static final String DATA_URL = "data:image/png;base64," + "iVBORw0KGgo=".repeat(10_000);
+
+    public static class Attachment {
+        private final String caption;
+        private final JsonStreamValue data;
+
+        Attachment(String caption, JsonStreamValue data) {
+            this.caption = caption;
+            this.data = data;
+        }
+
+        public String getCaption() { return caption; }
+        public JsonStreamValue getData() { return data; }
+    }
+
+    public static class Envelope {
+        private final List<Attachment> attachments;
+
+        Envelope(Attachment... attachments) {
+            this.attachments = Arrays.asList(attachments);
+        }
+
+        public List<Attachment> getAttachments() { return attachments; }
+    }
+
+    public static class Items {
+        private final List<Object> attachments;
+
+        Items(List<Object> attachments) {
+            this.attachments = attachments;
+        }
+
+        public List<Object> getAttachments() { return attachments; }
+    }
+
+    private static JsonStreamValue payload() {
+        return JsonStreamValue.of(DATA_URL, DATA_URL.indexOf(',') + 1, DATA_URL.length());
+    }
+
+    @Nested
+    @DisplayName("toJsonBody")
+    class ToJsonBody {
+
+        @Test
+        @DisplayName("streams the same bytes that toJson produces")
+        void matchesToJson() {
+            Envelope envelope = new Envelope(new Attachment("héllo \"cat\"", payload()), new Attachment("dog", payload()));
+
+            JsonBody body = ProtifyJson.toJsonBody(envelope);
+            String json = ProtifyJson.toJson(envelope);
+
+            assertTrue(body.isStreamed());
+            assertEquals(json, body.toString());
+            assertEquals(json.getBytes(StandardCharsets.UTF_8).length, body.getContentLength());
+        }
+
+        @Test
+        @DisplayName("keys a streamed body the same as its materialized text")
+        void keyMatchesText() {
+            JsonBody body = ProtifyJson.toJsonBody(new Envelope(new Attachment("a", payload())));
+
+            assertEquals(RequestKey.of(body.toString()), RequestKey.of(body, RequestKeyAlgorithm.MURMUR3_128));
+        }
+
+        @Test
+        @DisplayName("can be read more than once, e.g. for retries")
+        void reReadable() throws IOException {
+            JsonBody body = ProtifyJson.toJsonBody(new Envelope(new Attachment("a", payload())));
+
+            byte[] first;
+            try (InputStream in = body.openStream()) {
+                first = in.readAllBytes();
+            }
+            byte[] second;
+            try (InputStream in = body.openStream()) {
+                second = in.readAllBytes();
+            }
+            assertArrayEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("bodies without streamed values publish a single byte array")
+        void plainText() {
+            JsonBody body = JsonBody.of("{\"a\":1}");
+
+            assertFalse(body.isStreamed());
+            assertEquals(7, body.toBodyPublisher().contentLength());
+        }
+    }
+
+    @Nested
+    @DisplayName("JsonFragment")
+    class Fragments {
+
+        @Test
+        @DisplayName("writes the text of the value it was built from")
+        void matchesValue() {
+            Attachment attachment = new Attachment("héllo \"cat\"", JsonStreamValue.of("abc"));
+            String expected = ProtifyJson.toJson(new Envelope(attachment, attachment));
+
+            Items items = new Items(List.of(JsonFragment.of(attachment), attachment));
+
+            assertEquals(expected, ProtifyJson.toJson(items));
+            JsonBody body = ProtifyJson.toJsonBody(items);
+            assertEquals(expected, body.toString());
+            assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, body.getContentLength());
+        }
+    }
+
+    @Nested
+    @DisplayName("JsonStreamValue.of")
+    class StringRegion {
+
+        @Test
+        @DisplayName("streams a region of the source string")
+        void streamsRegion() throws IOException {
+            JsonStreamValue value = JsonStreamValue.of("data:text/plain;base64,QUJD", 23, 27);
+
+            assertEquals(4, value.length());
+            try (InputStream in = value.openStream()) {
+                assertEquals("QUJD", new String(in.readAllBytes(), StandardCharsets.US_ASCII));
+            }
+        }
+
+        @Test
+        @DisplayName("escapes characters that are not safe inside a JSON string")
+        void escapesUnsafeContent() throws IOException {
+            JsonStreamValue value = JsonStreamValue.of("a\"b\né");
+
+            try (InputStream in = value.openStream()) {
+                assertEquals("a\\\"b\\né", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Base64FileValue")
+    class FileBacked {
+
+        @Test
+        @DisplayName("encodes the file across chunk boundaries with the declared length")
+        void encodesFile(@TempDir Path dir) throws IOException {
+            byte[] content = new byte[3 * 48 * 1024 + 7];
+            new Random(42).nextBytes(content);
+            Path file = dir.resolve("scan.pdf");
+            Files.write(file, content);
+
+            JsonStreamValue value = Base64FileValue.of(file, content.length, "data:application/pdf;base64,", () -> "hash");
+
+            String expected = "data:application/pdf;base64," + Base64.getEncoder().encodeToString(content);
+            try (InputStream in = value.openStream()) {
+                assertEquals(expected, new String(in.readAllBytes(), StandardCharsets.US_ASCII));
+            }
+            assertEquals(expected.length(), value.length());
+        }
+
+        @Test
+        @DisplayName("keys the body by content hash instead of re-encoding the file")
+        void keysByContentHash(@TempDir Path dir) throws IOException {
+            Path file = dir.resolve("a.png");
+            Files.write(file, new byte[]{1, 2, 3});
+
+            JsonBody first = ProtifyJson.toJsonBody(new Envelope(new Attachment("a", Base64FileValue.of(file, 3, "", () -> "h1"))));
+            JsonBody second = ProtifyJson.toJsonBody(new Envelope(new Attachment("a", Base64FileValue.of(file, 3, "", () -> "h2"))));
+
+            assertEquals(first.toString(), second.toString());
+            assertNotEquals(RequestKey.of(first, RequestKeyAlgorithm.MURMUR3_128),
+                    RequestKey.of(second, RequestKeyAlgorithm.MURMUR3_128));
+        }
+
+        @Test
+        @DisplayName("refuses to send a file whose size changed since it was attached")
+        void detectsChangedFile(@TempDir Path dir) throws IOException {
+            Path file = dir.resolve("a.png");
+            Files.write(file, new byte[]{1, 2, 3});
+            JsonStreamValue value = Base64FileValue.of(file, 3, "", () -> "hash");
+
+            Files.write(file, new byte[]{1, 2});
+
+            assertThrows(IOException.class, value::openStream);
+        }
+
+        @Test
+        @DisplayName("is described rather than read in loggable JSON")
+        void loggable(@TempDir Path dir) throws IOException {
+            Path file = dir.resolve("a.png");
+            Files.write(file, new byte[]{1, 2, 3});
+
+            String json = ProtifyJson.toLoggableJson(
+                    new Envelope(new Attachment("a", Base64FileValue.of(file, 3, "data:image/png;base64,", () -> "h"))));
+
+            assertTrue(json.contains("\"data:image/png;base64,<a.png, 3 bytes>\""), json);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonIndexTest {
+
+    private static final String BODY = "{ \"id\" : \"msg_1\", \"usage\": {\"input\": 12, \"output\": 34},"
+            + " \"items\": [ {\"name\":\"a\",\"size\":1}, {\"name\":\"b\\u00e9\",\"size\":2} ,{\"name\":\"c\"} ],"
+            + " \"empty\": [], \"note\": null, \"text\": \"café [not] {structure}\", \"id\": \"msg_2\" }";
+
+    public static class Usage {
+        private int input;
+        private int output;
+
+        public Usage() {}
+
+        public int getInput() { return input; }
+        public void setInput(int input) { this.input = input; }
+        public int getOutput() { return output; }
+        public void setOutput(int output) { this.output = output; }
+    }
+
+    public static class Item {
+        private String name;
+        private int size;
+
+        public Item() {}
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+    }
+
+    public static class Body {
+        private String id;
+        private Usage usage;
+        private List<Item> items;
+        private String text;
+
+        public Body() {}
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public Usage getUsage() { return usage; }
+        public void setUsage(Usage usage) { this.usage = usage; }
+        public List<Item> getItems() { return items; }
+        public void setItems(List<Item> items) { this.items = items; }
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+    }
+
+    private static JsonIndex index() {
+        return JsonIndex.of(JsonReaderTest.utf8(BODY));
+    }
+
+    @Nested
+    @DisplayName("Index")
+    class Index {
+
+        @Test
+        @DisplayName("Should bind a single member")
+        void bindsMember() {
+            Usage usage = index().get("usage", Usage.class);
+
+            assertEquals(12, usage.getInput());
+            assertEquals(34, usage.getOutput());
+            assertEquals("café [not] {structure}", index().get("text", String.class));
+        }
+
+        @Test
+        @DisplayName("Should take the later value of a repeated member")
+        void repeatedMember() {
+            assertEquals("msg_2", index().get("id", String.class));
+        }
+
+        @Test
+        @DisplayName("Should return null for missing and null members")
+        void missingMembers() {
+            JsonIndex index = index();
+
+            assertFalse(index.has("missing"));
+            assertNull(index.get("missing", String.class));
+            assertTrue(index.has("note"));
+            assertNull(index.get("note", String.class));
+        }
+
+        @Test
+        @DisplayName("Should bind one array element without the others")
+        void bindsElement() {
+            JsonIndex index = index();
+
+            assertEquals(3, index.size("items"));
+            assertEquals("bé", index.get("items", 1, Item.class).getName());
+            assertEquals(2, index.get("items", 1, Item.class).getSize());
+            assertEquals("c", index.get("items", 2, Item.class).getName());
+            assertNull(index.get("items", 3, Item.class));
+        }
+
+        @Test
+        @DisplayName("Should report no elements for empty and non-array members")
+        void nonArrays() {
+            JsonIndex index = index();
+
+            assertEquals(0, index.size("empty"));
+            assertEquals(0, index.size("usage"));
+            assertEquals(0, index.size("missing"));
+            assertNull(index.get("usage", 0, Item.class));
+        }
+
+        @Test
+        @DisplayName("Should have no members when the root is not an object")
+        void nonObjectRoot() {
+            JsonIndex index = JsonIndex.of(JsonReaderTest.utf8("[1, 2]"));
+
+            assertFalse(index.has("0"));
+        }
+
+        @Test
+        @DisplayName("Should read members like a full document parse")
+        void matchesFullBind() {
+            byte[] json = JsonReaderTest.utf8(JsonReaderTest.payload("openai-responses.json"));
+            JsonIndex index = JsonIndex.of(json);
+            Map<?, ?> tree = (Map<?, ?>) ProtifyJson.parse(json).get("");
+
+            for (Map.Entry<?, ?> member : tree.entrySet()) {
+                String name = (String) member.getKey();
+                assertEquals(member.getValue(), index.reader(name).readValue(), name);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy beans")
+    class LazyBeans {
+
+        @Test
+        @DisplayName("Should bind only the properties asked for")
+        void bindsOnDemand() {
+            LazyJsonBean<Body> lazy = LazyJsonBean.lazy(JsonReaderTest.utf8(BODY), Body.class);
+
+            Body body = lazy.get("usage");
+            assertEquals(34, body.getUsage().getOutput());
+            assertNull(body.getItems());
+            assertNull(body.getText());
+
+            assertSame(body, lazy.get("items"));
+            assertEquals(3, body.getItems().size());
+            assertEquals("msg_2", lazy.get("id").getId());
+        }
+
+        @Test
+        @DisplayName("Should bind a property once")
+        void bindsOnce() {
+            LazyJsonBean<Body> lazy = LazyJsonBean.lazy(JsonReaderTest.utf8(BODY), Body.class);
+            List<Item> items = lazy.get("items").getItems();
+
+            assertSame(items, lazy.get("items").getItems());
+        }
+
+        @Test
+        @DisplayName("Should reject a property the class does not declare")
+        void unknownProperty() {
+            LazyJsonBean<Body> lazy = LazyJsonBean.lazy(JsonReaderTest.utf8(BODY), Body.class);
+
+            assertThrows(IllegalArgumentException.class, () -> lazy.get("note"));
+        }
+
+        @Test
+        @DisplayName("Should return an eagerly bound instance as is")
+        void eager() {
+            Body body = new Body();
+            LazyJsonBean<Body> wrapped = LazyJsonBean.of(body);
+
+            assertSame(body, wrapped.get("anything"));
+            assertNull(wrapped.getIndex());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package ai.protify.core.internal.util.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPathTest {
+
+    private static final String MCP_RESULT = "{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":{\"content\":["
+            + "{\"type\":\"text\",\"text\":\"first\"},{\"type\":\"text\",\"text\":\"second\"}],"
+            + "\"usage\":{\"input_tokens\":12,\"output_tokens\":34},\"0\":\"zero\"}}";
+
+    @Nested
+    @DisplayName("Compiled paths")
+    class Compiled {
+
+        @Test
+        @DisplayName("Should resolve object members and array indices")
+        void resolvesMembersAndIndices() {
+            ProtifyJsonObject json = ProtifyJson.parse(MCP_RESULT);
+
+            assertEquals("first", json.getString(JsonPath.compile("result.content.0.text")));
+            assertEquals("second", json.getString(JsonPath.compile("result.content.1.text")));
+            assertEquals("zero", json.getString(JsonPath.compile("result.0")));
+        }
+
+        @Test
+        @DisplayName("Should return null for paths that do not resolve")
+        void unresolvedPaths() {
+            ProtifyJsonObject json = ProtifyJson.parse(MCP_RESULT);
+
+            assertNull(json.get(JsonPath.compile("result.content.2.text")));
+            assertNull(json.get(JsonPath.compile("result.content.first")));
+            assertNull(json.get(JsonPath.compile("result.content.0.text.length")));
+            assertNull(json.get(JsonPath.compile("result.content.99999999999")));
+            assertNull(json.get(JsonPath.compile("missing.value")));
+        }
+
+        @Test
+        @DisplayName("Should return the root for an empty or null path")
+        void rootPath() {
+            ProtifyJsonObject json = ProtifyJson.parse(MCP_RESULT);
+
+            assertTrue(json.get("") instanceof Map);
+            assertSame(json.get(""), json.get((String) null));
+        }
+
+        @Test
+        @DisplayName("Should reuse the compiled path for a string seen before")
+        void cachesPaths() {
+            assertSame(JsonPath.compile("result.content.0.text"), JsonPath.compile("result.content.0.text"));
+        }
+
+        @Test
+        @DisplayName("Should stop caching once the cache is full")
+        void boundedCache() {
+            for (int i = 0; i < JsonPath.MAX_CACHED_PATHS + 10; i++) {
+                assertEquals("path" + i, JsonPath.compile("path" + i).toString());
+            }
+
+            assertTrue(JsonPath.cachedPaths() <= JsonPath.MAX_CACHED_PATHS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Selections")
+    class Selections {
+
+        @Test
+        @DisplayName("Should read every path in the order given")
+        void readsAllPaths() {
+            JsonPath.Selection selection = JsonPath.select(
+                    "result.usage.output_tokens", "result.content.0.text", "result.usage.input_tokens",
+                    "result.missing", "id");
+
+            Object[] values = ProtifyJson.parse(MCP_RESULT).getAll(selection);
+
+            assertEquals(5, values.length);
+            assertEquals(34L, ((Number) values[0]).longValue());
+            assertEquals("first", values[1]);
+            assertEquals(12L, ((Number) values[2]).longValue());
+            assertNull(values[3]);
+            assertEquals(3L, ((Number) values[4]).longValue());
+        }
+
+        @Test
+        @DisplayName("Should match single-path lookups")
+        void matchesGet() {
+            String[] paths = {"result.content", "result.content.1.type", "result", "", "result.content.1"};
+            ProtifyJsonObject json = ProtifyJson.parse(MCP_RESULT);
+
+            Object[] values = json.getAll(JsonPath.select(paths));
+
+            for (int i = 0; i < paths.length; i++) {
+                assertEquals(json.get(paths[i]), values[i], paths[i]);
+            }
+            assertTrue(values[0] instanceof List);
+        }
+
+        @Test
+        @DisplayName("Should fill every slot for a repeated path")
+        void repeatedPath() {
+            Object[] values = ProtifyJson.parse(MCP_RESULT).getAll(JsonPath.select("id", "id"));
+
+            assertEquals(values[0], values[1]);
+            assertNotNull(values[0]);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.internal.util.json;
+
+import ai.protify.core.internal.provider.anthropic.model.AnthropicResponseBody;
+import ai.protify.core.internal.provider.chatcompletions.model.ChatResponseBody;
+import ai.protify.core.internal.provider.gemini.model.GeminiResponseBody;
+import ai.protify.core.internal.provider.openai.model.OpenAIResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+    public static class Item {
+        private String name;
+        private int count;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+    }
+
+    static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String payload(String name) {
+        try (InputStream in = JsonReaderTest.class.getClassLoader().getResourceAsStream("payloads/" + name)) {
+            assertNotNull(in, "Missing payload " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tokens")
+    class Tokens {
+
+        @Test
+        @DisplayName("steps through objects and arrays")
+        void stepsThroughContainers() {
+            JsonReader reader = new JsonReader("{\"a\": [1, \"two\", true, null], \"b\": {}}");
+            assertEquals(JsonToken.BEGIN_OBJECT, reader.peek());
+            reader.beginObject();
+            assertEquals("a", reader.nextName());
+            reader.beginArray();
+            assertEquals(1L, reader.nextLong());
+            assertEquals("two", reader.nextString());
+            assertTrue(reader.nextBoolean());
+            assertEquals(JsonToken.NULL, reader.peek());
+            reader.nextNull();
+            assertFalse(reader.hasNext());
+            reader.endArray();
+            assertEquals("b", reader.nextName());
+            reader.beginObject();
+            reader.endObject();
+            reader.endObject();
+            assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+        }
+
+        @Test
+        @DisplayName("skips nested values without reading them")
+        void skipsNestedValues() {
+            JsonReader reader = new JsonReader(
+                    "{\"skip\": {\"x\": [1, {\"y\": \"]}\"}, [[]]]}, \"keep\": 7}");
+            reader.beginObject();
+            assertEquals("skip", reader.nextName());
+            reader.skipValue();
+            assertEquals("keep", reader.nextName());
+            assertEquals(7, reader.nextInt());
+            reader.endObject();
+        }
+
+        @Test
+        @DisplayName("decodes escapes and surrogate pairs")
+        void decodesEscapes() {
+            JsonReader reader = new JsonReader("\"a\\\"b\\\\c\\n\\u00e9\\ud83d\\ude00/\"");
+            assertEquals("a\"b\\c\né😀/", reader.nextString());
+        }
+
+        @Test
+        @DisplayName("reads integers as Long and decimals as Double")
+        void readsNumbers() {
+            Object value = new JsonReader("[42, -7, 3.5, 1e3, 12345678901234567890]").readValue();
+            List<?> numbers = (List<?>) value;
+            assertEquals(42L, numbers.get(0));
+            assertEquals(-7L, numbers.get(1));
+            assertEquals(3.5, numbers.get(2));
+            assertEquals(1000.0, numbers.get(3));
+            assertEquals("12345678901234567890", numbers.get(4).toString());
+        }
+
+        @Test
+        @DisplayName("accepts digit separators in numbers")
+        void lenientNumbers() {
+            Map<?, ?> map = (Map<?, ?>) new JsonReader("{\"a\": 1_000, \"b\": 2}").readValue();
+            assertEquals(1000L, map.get("a"));
+            assertEquals(2L, map.get("b"));
+        }
+    }
+
+    @Nested
+    @DisplayName("UTF-8 bytes")
+    class Bytes {
+
+        @Test
+        @DisplayName("reads the same tokens as text")
+        void readsTokens() {
+            String json = "{\"name\": \"caf\u00e9 \u2014 \ud83d\ude00\", \"n\": [-12, 3.25, true, null]}";
+            assertEquals(new JsonReader(json).readValue(), new JsonReader(utf8(json)).readValue());
+        }
+
+        @Test
+        @DisplayName("decodes multi-byte text around escapes")
+        void decodesAroundEscapes() {
+            JsonReader reader = new JsonReader(utf8("\"\u00fcber\\n\\u00e9\u2014\\\"x\\\"\""));
+            assertEquals("\u00fcber\n\u00e9\u2014\"x\"", reader.nextString());
+        }
+
+        @Test
+        @DisplayName("reads a slice of an array and reports positions within it")
+        void readsSlice() {
+            byte[] framed = utf8("xx[1, 2]yy");
+            assertEquals(List.of(1L, 2L), new JsonReader(framed, 2, 6).readValue());
+
+            byte[] broken = utf8("xx[1 2]");
+            JsonSyntaxException e = assertThrows(JsonSyntaxException.class,
+                    () -> new JsonReader(broken, 2, 5).readValue());
+            assertTrue(e.getMessage().contains("position 3"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("reads heap and direct buffers without moving them")
+        void readsBuffers() {
+            byte[] json = utf8("{\"a\": \"\u00e9\"}");
+            ByteBuffer heap = ByteBuffer.wrap(json);
+            ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+            assertEquals(Map.of("a", "\u00e9"), new JsonReader(heap).readValue());
+            assertEquals(Map.of("a", "\u00e9"), new JsonReader(direct).readValue());
+            assertEquals(0, heap.position());
+            assertEquals(0, direct.position());
+        }
+
+        @Test
+        @DisplayName("skips a byte order mark")
+        void skipsByteOrderMark() {
+            byte[] json = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']'};
+            assertEquals(List.of(1L), new JsonReader(json).readValue());
+        }
+
+        @Test
+        @DisplayName("reads long numbers past the in-place fast path")
+        void readsLongNumbers() {
+            assertEquals(List.of(Long.MAX_VALUE, Long.MIN_VALUE, 123456789012345678L),
+                    new JsonReader(utf8("[9223372036854775807, -9223372036854775808, 123456789012345678]")).readValue());
+        }
+
+        @Test
+        @DisplayName("binds provider payloads the same as text")
+        void bindsPayloads() {
+            String json = payload("gemini-generate-content.json");
+            assertEquals(ProtifyJson.toJson(ProtifyJson.fromJson(json, GeminiResponseBody.class)),
+                    ProtifyJson.toJson(ProtifyJson.fromReader(new JsonReader(utf8(json)), GeminiResponseBody.class)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Errors")
+    class Errors {
+
+        @Test
+        @DisplayName("reports the position of a syntax error")
+        void reportsPosition() {
+            JsonSyntaxException e = assertThrows(JsonSyntaxException.class,
+                    () -> new JsonReader("{\"a\" 1}").readValue());
+            assertTrue(e.getMessage().contains("position 5"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("rejects truncated input")
+        void rejectsTruncatedInput() {
+            assertThrows(JsonSyntaxException.class, () -> new JsonReader("[1, 2").readValue());
+            assertThrows(JsonSyntaxException.class, () -> new JsonReader("{\"a\": \"open").readValue());
+        }
+
+        @Test
+        @DisplayName("rejects a token of the wrong kind")
+        void rejectsWrongToken() {
+            JsonReader reader = new JsonReader("[1]");
+            assertThrows(JsonSyntaxException.class, reader::beginObject);
+        }
+    }
+
+    @Nested
+    @DisplayName("Binding")
+    class Binding {
+
+        @Test
+        @DisplayName("skips unknown fields of any shape")
+        void skipsUnknownFields() {
+            Item item = ProtifyJson.fromJson(
+                    "{\"extra\": {\"deep\": [1, [2, {\"x\": null}]]}, \"name\": \"a\", \"logprobs\": [], \"count\": 3}",
+                    Item.class);
+            assertEquals("a", item.getName());
+            assertEquals(3, item.getCount());
+        }
+
+        @Test
+        @DisplayName("streams a list of beans")
+        void streamsList() {
+            List<Item> items = ProtifyJson.fromJsonList(
+                    "[{\"name\": \"a\", \"count\": 1}, {\"name\": \"b\", \"count\": 2}]", Item.class);
+            assertEquals(2, items.size());
+            assertEquals("b", items.get(1).getName());
+        }
+
+        @Test
+        @DisplayName("rejects a list target for a non-array root")
+        void rejectsNonArrayList() {
+            assertThrows(IllegalArgumentException.class, () -> ProtifyJson.fromJsonList("{}", Item.class));
+        }
+
+        @Test
+        @DisplayName("binds provider payloads the same as the tree binder")
+        void matchesTreeBinder() {
+            assertSameBinding("anthropic-messages.json", AnthropicResponseBody.class);
+            assertSameBinding("openai-responses.json", OpenAIResponseBody.class);
+            assertSameBinding("gemini-generate-content.json", GeminiResponseBody.class);
+            assertSameBinding("chat-completions.json", ChatResponseBody.class);
+        }
+
+        @Test
+        @DisplayName("binds an Anthropic tool call")
+        void bindsAnthropicPayload() {
+            AnthropicResponseBody body = ProtifyJson.fromJson(payload("anthropic-messages.json"), AnthropicResponseBody.class);
+            assertEquals("tool_use", body.getStopReason());
+            assertEquals(4, body.getContent().size());
+            assertEquals("get_report", body.getContent().get(2).getName());
+            assertEquals("EMEA", body.getContent().get(2).getInput().get("region"));
+        }
+
+        private <T> void assertSameBinding(String name, Class<T> type) {
+            String json = payload(name);
+            assertEquals(ProtifyJson.toJson(ProtifyJson.fromJsonTree(json, type)),
+                    ProtifyJson.toJson(ProtifyJson.fromJson(json, type)), name);
+        }
+    }
+}
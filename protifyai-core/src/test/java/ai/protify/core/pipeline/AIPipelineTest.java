@@ -11,7 +11,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -369,6 +373,33 @@ class AIPipelineTest {
             assertTrue(text.contains("result-a"));
             assertTrue(text.contains("result-b"));
         }
+
+        @Test
+        @DisplayName("Nested parallel steps complete on a single-thread executor")
+        void nestedOnSingleThread() throws Exception {
+            AIClient client = clientFor(MockProvider.withResponse("leaf"));
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                PipelineStep leaf = ctx -> client.newRequest().addInput("leaf").build().execute();
+                AIPipeline inner = AIPipeline.builder()
+                        .inheritParentConfig()
+                        .withInitialStep(() -> client.newRequest().addInput("inner").build())
+                        .addParallelStep(List.of(leaf, leaf))
+                        .build();
+
+                AIPipelineResponse result = AIPipeline.builder()
+                        .executor(executor)
+                        .withInitialStep(() -> client.newRequest().addInput("start").build())
+                        .addParallelStep(List.of(inner, inner, inner))
+                        .build()
+                        .executeAsync()
+                        .get(10, TimeUnit.SECONDS);
+
+                assertEquals(String.join("\n---\n", Collections.nCopies(6, "leaf")), result.text());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
     }
 
     // ---------------------------------------------------------------
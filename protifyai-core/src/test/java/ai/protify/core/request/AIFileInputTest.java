@@ -7,8 +7,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Base64;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static ai.protify.core.request.InputType.*;
@@ -45,6 +48,13 @@ class AIFileInputTest {
             assertEquals(InputType.PDF, input.getType());
         }
 
+        @Test
+        @DisplayName("Reports the decoded content length")
+        void decodedContentLength() {
+            assertEquals(5, AIFileInput.fromDataUrl("data:application/pdf;base64,JVBERi0=").getContentLength());
+            assertEquals(8, AIFileInput.fromDataUrl("data:image/png;base64,iVBORw0KGgo=").getContentLength());
+        }
+
         @Test
         @DisplayName("Accepts custom filename")
         void customFilename() {
@@ -144,6 +154,67 @@ class AIFileInputTest {
                     AIFileInput.fromFile(txtFile.toFile())
             );
         }
+
+        @Test
+        @DisplayName("Keeps a reference to the file instead of reading it")
+        void isFileBacked(@TempDir Path tempDir) throws IOException {
+            Path pngFile = tempDir.resolve("test.png");
+            byte[] content = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D};
+            Files.write(pngFile, content);
+
+            AIFileInput input = AIFileInput.fromFile(pngFile.toFile());
+
+            assertEquals(pngFile, input.getPath());
+            assertEquals(content.length, input.getFileSize());
+            assertEquals("image/png", input.getMediaType());
+            assertEquals("data:image/png;base64," + Base64.getEncoder().encodeToString(content), input.getData());
+            try (InputStream in = input.openStream()) {
+                assertArrayEquals(content, in.readAllBytes());
+            }
+        }
+
+        @Test
+        @DisplayName("Content hash matches the equivalent data URL input")
+        void contentHashMatchesDataUrl(@TempDir Path tempDir) throws IOException {
+            Path pdfFile = tempDir.resolve("doc.pdf");
+            byte[] content = "%PDF-1.4 content".getBytes();
+            Files.write(pdfFile, content);
+
+            AIFileInput fromFile = AIFileInput.fromFile(pdfFile.toFile());
+            AIFileInput fromDataUrl = AIFileInput.fromDataUrl(
+                    "data:application/pdf;base64," + Base64.getEncoder().encodeToString(content));
+
+            assertEquals(64, fromFile.getContentHash().length());
+            assertEquals(fromDataUrl.getContentHash(), fromFile.getContentHash());
+            assertSame(fromFile.getContentHash(), fromFile.getContentHash());
+        }
+
+        @Test
+        @DisplayName("Fails instead of sending a file that changed after it was attached")
+        void detectsChangedFile(@TempDir Path tempDir) throws IOException {
+            Path pdfFile = tempDir.resolve("doc.pdf");
+            Files.write(pdfFile, "%PDF-1.4 content".getBytes());
+            AIFileInput input = AIFileInput.fromFile(pdfFile.toFile());
+            input.getContentHash();
+
+            Files.write(pdfFile, "%PDF-1.4 longer content".getBytes());
+
+            assertThrows(IOException.class, input::openStream);
+            assertThrows(UncheckedIOException.class, input::getContentHash);
+            assertThrows(UncheckedIOException.class, input::getData);
+        }
+
+        @Test
+        @DisplayName("Describes the file for logging without reading it")
+        void loggableData(@TempDir Path tempDir) throws IOException {
+            Path pngFile = tempDir.resolve("test.png");
+            Files.write(pngFile, new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47});
+            AIFileInput input = AIFileInput.fromFile(pngFile.toFile());
+
+            Files.delete(pngFile);
+
+            assertEquals("data:image/png;base64,<test.png, 4 bytes>", input.getLoggableData());
+        }
     }
 
     // ---------------------------------------------------------------
@@ -215,7 +286,35 @@ class AIFileInputTest {
     }
 
     // ---------------------------------------------------------------
-    // 5. fromClasspath
+    // 5. fromProviderId
+    // ---------------------------------------------------------------
+
+    @Nested
+    @DisplayName("fromProviderId")
+    class FromProviderId {
+
+        @Test
+        @DisplayName("References the provider file without inline content")
+        void referencesProviderFile() {
+            AIFileInput input = AIFileInput.fromProviderId(InputType.PDF, "file-abc123");
+
+            assertEquals(FileDataReferenceType.PROVIDER_ID, input.getReferenceType());
+            assertEquals("file-abc123", input.getData());
+            assertNull(input.getContentHash());
+            assertEquals(-1, input.getContentLength());
+        }
+
+        @Test
+        @DisplayName("Carries the media type when given")
+        void carriesMediaType() {
+            AIFileInput input = AIFileInput.fromProviderId(InputType.IMAGE, "https://example.com/files/1", "image/webp");
+
+            assertEquals("image/webp", input.getMediaType());
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // 6. fromClasspath
     // ---------------------------------------------------------------
 
     @Nested
@@ -0,0 +1,387 @@
+/*
+ * Copyright(c) 2026 Protify Consulting LLC. All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package ai.protify.core.resiliency;
+
+import ai.protify.core.AIClient;
+import ai.protify.core.internal.exception.BadRequestException;
+import ai.protify.core.internal.exception.CircuitOpenException;
+import ai.protify.core.internal.exception.RateLimitExceededException;
+import ai.protify.core.internal.exception.ServiceUnavailableException;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsClient;
+import ai.protify.core.internal.provider.chatcompletions.ChatCompletionsRequest;
+import ai.protify.core.internal.util.http.ProtifyHttpClient;
+import ai.protify.core.provider.AIProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static volatile String endpoint;
+
+    public static final class LocalChatRequest extends ChatCompletionsRequest {
+    }
+
+    public static final class LocalChatClient extends ChatCompletionsClient<LocalChatRequest> {
+        @Override
+        protected String getEndpointUrl() {
+            return endpoint;
+        }
+    }
+
+    private static final AIProvider LOCAL = AIProvider.custom("CircuitLocal")
+            .apiKeyVarName("LOCAL_API_KEY")
+            .clientType(LocalChatClient.class)
+            .allMimeTypesSupported()
+            .build();
+
+    private static final Throwable UNAVAILABLE = new ServiceUnavailableException("down");
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+
+    private CircuitBreaker breaker(CircuitBreakerPolicyBuilder builder) {
+        return new CircuitBreaker("test", builder.listener(events::add).build(), clock::get);
+    }
+
+    private static CircuitBreakerPolicyBuilder policy() {
+        return CircuitBreakerPolicy.builder()
+                .windowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(50f)
+                .slowCallDurationMillis(100L)
+                .openDurationMillis(1_000L)
+                .halfOpenProbes(2);
+    }
+
+    private static void call(CircuitBreaker breaker, long durationMillis, Throwable error) {
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onResult(TimeUnit.MILLISECONDS.toNanos(durationMillis), error);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Nested
+    @DisplayName("Policy")
+    class Policy {
+
+        @Test
+        @DisplayName("Fills unset values from the defaults")
+        void defaults() {
+            CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder().windowSize(10).minimumCalls(5).build();
+
+            assertEquals(10, policy.getWindowSize());
+            assertEquals(5, policy.getMinimumCalls());
+            assertEquals(50f, policy.getFailureRateThreshold());
+            assertEquals(30_000L, policy.getOpenDurationMillis());
+            assertTrue(policy.getRecordExceptions().contains(ServiceUnavailableException.class));
+            assertFalse(policy.getRecordExceptions().contains(RateLimitExceededException.class));
+        }
+
+        @Test
+        @DisplayName("Rejects invalid values")
+        void validation() {
+            assertThrows(IllegalArgumentException.class, () -> CircuitBreakerPolicy.builder().windowSize(0).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> CircuitBreakerPolicy.builder().windowSize(10).minimumCalls(11).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> CircuitBreakerPolicy.builder().failureRateThreshold(120f).build());
+            assertThrows(IllegalArgumentException.class, () -> CircuitBreakerPolicy.builder().halfOpenProbes(0).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> CircuitBreakerPolicy.builder().windowSize(2).minimumCalls(2).halfOpenProbes(3).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> CircuitBreakerPolicy.builder().recordExceptions(Set.of()).build());
+        }
+    }
+
+    @Nested
+    @DisplayName("State transitions")
+    class Transitions {
+
+        @Test
+        @DisplayName("Stays closed until the minimum number of calls is recorded")
+        void minimumCalls() {
+            CircuitBreaker breaker = breaker(policy());
+
+            call(breaker, 1, UNAVAILABLE);
+            call(breaker, 1, UNAVAILABLE);
+            call(breaker, 1, UNAVAILABLE);
+
+            assertEquals(CircuitState.CLOSED, breaker.getState());
+            assertEquals(-1f, breaker.getFailureRate());
+        }
+
+        @Test
+        @DisplayName("Opens at the failure rate threshold and fails fast")
+        void opensOnFailureRate() {
+            CircuitBreaker breaker = breaker(policy());
+
+            call(breaker, 1, null);
+            call(breaker, 1, UNAVAILABLE);
+            call(breaker, 1, null);
+            call(breaker, 1, UNAVAILABLE);
+
+            assertEquals(CircuitState.OPEN, breaker.getState());
+            assertFalse(breaker.tryAcquirePermission());
+            assertEquals(1, breaker.getNotPermittedCalls());
+            assertEquals(1, events.size());
+            CircuitBreakerEvent event = events.get(0);
+            assertEquals(CircuitState.CLOSED, event.getFromState());
+            assertEquals(CircuitState.OPEN, event.getToState());
+            assertEquals(50f, event.getFailureRate());
+            assertEquals(4, event.getBufferedCalls());
+        }
+
+        @Test
+        @DisplayName("Only the last windowSize calls count")
+        void slidingWindow() {
+            CircuitBreaker breaker = breaker(policy().windowSize(4).minimumCalls(2).failureRateThreshold(75f));
+
+            call(breaker, 1, UNAVAILABLE);
+            call(breaker, 1, null);
+            call(breaker, 1, null);
+            call(breaker, 1, null);
+            call(breaker, 1, UNAVAILABLE);
+
+            assertEquals(4, breaker.getBufferedCalls());
+            assertEquals(1, breaker.getFailedCalls());
+            assertEquals(25f, breaker.getFailureRate());
+        }
+
+        @Test
+        @DisplayName("Opens at the slow-call rate threshold")
+        void opensOnSlowCalls() {
+            CircuitBreaker breaker = breaker(policy().slowCallRateThreshold(75f));
+
+            call(breaker, 150, null);
+            call(breaker, 150, null);
+            call(breaker, 10, null);
+            call(breaker, 150, null);
+
+            assertEquals(CircuitState.OPEN, breaker.getState());
+            assertEquals(75f, events.get(0).getSlowCallRate());
+        }
+
+        @Test
+        @DisplayName("Errors outside recordExceptions do not count as failures")
+        void ignoresUnrecordedErrors() {
+            CircuitBreaker breaker = breaker(policy());
+
+            for (int i = 0; i < 4; i++) {
+                call(breaker, 1, new RateLimitExceededException("slow down"));
+            }
+            call(breaker, 1, new BadRequestException("bad"));
+
+            assertEquals(CircuitState.CLOSED, breaker.getState());
+            assertEquals(0, breaker.getFailedCalls());
+        }
+
+        @Test
+        @DisplayName("Half-opens after the open duration and closes when probes succeed")
+        void halfOpenCloses() {
+            CircuitBreaker breaker = breaker(policy());
+            for (int i = 0; i < 4; i++) {
+                call(breaker, 1, UNAVAILABLE);
+            }
+
+            advance(999);
+            assertFalse(breaker.tryAcquirePermission());
+            advance(1);
+            assertTrue(breaker.tryAcquirePermission());
+            assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+            assertTrue(breaker.tryAcquirePermission());
+            assertFalse(breaker.tryAcquirePermission(), "only halfOpenProbes calls are let through");
+
+            breaker.onResult(0, null);
+            breaker.onResult(0, null);
+
+            assertEquals(CircuitState.CLOSED, breaker.getState());
+            assertEquals(0, breaker.getBufferedCalls());
+            assertEquals(List.of(CircuitState.OPEN, CircuitState.HALF_OPEN, CircuitState.CLOSED),
+                    events.stream().map(CircuitBreakerEvent::getToState).collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("Reopens when probes fail")
+        void halfOpenReopens() {
+            CircuitBreaker breaker = breaker(policy());
+            for (int i = 0; i < 4; i++) {
+                call(breaker, 1, UNAVAILABLE);
+            }
+            advance(1_000);
+
+            call(breaker, 1, null);
+            call(breaker, 1, UNAVAILABLE);
+
+            assertEquals(CircuitState.OPEN, breaker.getState());
+            assertFalse(breaker.tryAcquirePermission());
+        }
+
+        @Test
+        @DisplayName("A released probe lets another one through")
+        void releasedProbe() {
+            CircuitBreaker breaker = breaker(policy().halfOpenProbes(1));
+            for (int i = 0; i < 4; i++) {
+                call(breaker, 1, UNAVAILABLE);
+            }
+            advance(1_000);
+
+            assertTrue(breaker.tryAcquirePermission());
+            assertFalse(breaker.tryAcquirePermission());
+            breaker.releasePermission();
+            assertTrue(breaker.tryAcquirePermission());
+        }
+
+        @Test
+        @DisplayName("A failing listener does not break the circuit")
+        void listenerFailure() {
+            CircuitBreaker breaker = new CircuitBreaker("test", policy().listener(event -> {
+                throw new IllegalStateException("boom");
+            }).build(), clock::get);
+
+            for (int i = 0; i < 4; i++) {
+                call(breaker, 1, UNAVAILABLE);
+            }
+
+            assertEquals(CircuitState.OPEN, breaker.getState());
+        }
+    }
+
+    @Nested
+    @DisplayName("Against a stub server")
+    class StubServer {
+
+        private HttpServer server;
+        private final Queue<Integer> script = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/chat/completions", this::handle);
+            server.start();
+            endpoint = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        }
+
+        @AfterEach
+        void stopServer() {
+            server.stop(0);
+        }
+
+        // Answers the next scripted status, or 200 once the script is empty
+        private void handle(HttpExchange exchange) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            calls.incrementAndGet();
+            Integer next = script.poll();
+            int status = (next != null) ? next : 200;
+            String body = (status == 200)
+                    ? "{\"id\":\"c1\",\"object\":\"chat.completion\",\"model\":\"local\",\"choices\":[{\"index\":0,"
+                    + "\"message\":{\"role\":\"assistant\",\"content\":\"ok\"},\"finish_reason\":\"stop\"}]}"
+                    : "{\"error\":{\"message\":\"status " + status + "\",\"type\":\"error\"}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        @Test
+        @DisplayName("fails fast while open, without retrying, then recovers through a probe")
+        void failsFastAndRecovers() throws InterruptedException {
+            for (int i = 0; i < 4; i++) {
+                script.add(503);
+            }
+            AIClient client = AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("local")
+                    .apiKey("local-key")
+                    .circuitBreakerPolicy(policy().openDurationMillis(200L).halfOpenProbes(1).listener(events::add).build())
+                    .retryPolicy(RetryPolicy.builder().maxRetries(3).delayMillis(1L).jitterMillis(0L)
+                            .retryOnHttpStatusCodes(Set.of(429)).build())
+                    .build();
+
+            for (int i = 0; i < 4; i++) {
+                String input = "failing " + i;
+                assertThrows(ServiceUnavailableException.class,
+                        () -> client.newRequest().addInput(input).build().execute());
+            }
+            assertThrows(CircuitOpenException.class,
+                    () -> client.newRequest().addInput("rejected").build().execute());
+            assertEquals(4, calls.get(), "the open circuit kept the call off the wire");
+            assertEquals(CircuitState.OPEN, ProtifyHttpClient.getInstance().getCircuitBreaker(endpoint).getState());
+
+            Thread.sleep(250);
+            assertEquals("ok", client.newRequest().addInput("probe").build().execute().text());
+
+            assertEquals(5, calls.get());
+            assertEquals(CircuitState.CLOSED, ProtifyHttpClient.getInstance().getCircuitBreaker(endpoint).getState());
+            assertEquals(CircuitState.CLOSED, events.get(events.size() - 1).getToState());
+        }
+
+        @Test
+        @DisplayName("a request rejected while open is sent again once the circuit recovers")
+        void rejectedRequestIsNotRemembered() throws InterruptedException {
+            for (int i = 0; i < 4; i++) {
+                script.add(503);
+            }
+            AIClient client = AIClient.builder()
+                    .provider(LOCAL)
+                    .explicitModelVersion("local")
+                    .apiKey("local-key")
+                    .circuitBreakerPolicy(policy().openDurationMillis(200L).halfOpenProbes(1).build())
+                    .retryPolicy(RetryPolicy.builder().maxRetries(0).build())
+                    .build();
+
+            for (int i = 0; i < 4; i++) {
+                String input = "failing again " + i;
+                assertThrows(ServiceUnavailableException.class,
+                        () -> client.newRequest().addInput(input).build().execute());
+            }
+            assertThrows(CircuitOpenException.class,
+                    () -> client.newRequest().addInput("rejected while open").build().execute());
+
+            Thread.sleep(250);
+            assertEquals("ok", client.newRequest().addInput("rejected while open").build().execute().text());
+            assertEquals(5, calls.get());
+        }
+    }
+}
@@ -23,6 +23,9 @@ import ai.protify.core.internal.provider.ProtifyAIProvider;
 import ai.protify.core.resiliency.RetryBackoffStrategy;
 import ai.protify.core.resiliency.RetryPolicy;
 import ai.protify.core.resiliency.RetryPolicyBuilder;
+import ai.protify.core.routing.RoutingStrategy;
+
+import java.util.function.Function;
 
 class AIClientFactory {
 
@@ -109,10 +112,42 @@ class AIClientFactory {
         if (props.getRetry() != null) {
             builder.retryPolicy(buildRetryPolicy(props.getRetry()));
         }
+        if (props.getRateLimit() != null) {
+            applyRateLimit(builder, props.getRateLimit());
+        }
 
         return builder.build();
     }
 
+    /**
+     * Builds the routing client configured under {@code protify.ai.routes.<name>}; targets name
+     * clients configured under {@code protify.ai.clients}.
+     */
+    static AIClient createRoutingClient(String name, ProtifyAIProperties.RouteProperties props,
+                                        Function<String, AIClient> clients) {
+        if (props.getTargets() == null || props.getTargets().isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Protify AI route '" + name + "' requires at least one target. " +
+                    "Set 'protify.ai.routes." + name + ".targets[0].client'.");
+        }
+
+        AIClientBuilder builder = AIClient.builder();
+        if (props.getStrategy() != null) {
+            builder.routingStrategy(RoutingStrategy.valueOf(
+                    props.getStrategy().trim().toUpperCase().replace("-", "_")));
+        }
+        for (ProtifyAIProperties.RouteTargetProperties target : props.getTargets()) {
+            if (target.getClient() == null || target.getClient().isEmpty()) {
+                throw new IllegalArgumentException(
+                        "Every target of Protify AI route '" + name + "' requires a client name.");
+            }
+            int weight = (target.getWeight() != null) ? target.getWeight() : 1;
+            double cost = (target.getCost() != null) ? target.getCost() : 0;
+            builder.route(clients.apply(target.getClient()), weight, cost);
+        }
+        return builder.build();
+    }
+
     private static RetryPolicy buildRetryPolicy(ProtifyAIProperties.RetryProperties retry) {
         RetryPolicyBuilder builder = RetryPolicy.builder();
         if (retry.getMaxRetries() != null) {
@@ -139,6 +174,20 @@ class AIClientFactory {
         return builder.build();
     }
 
+    private static void applyRateLimit(AIClientBuilder builder, ProtifyAIProperties.RateLimitProperties rateLimit) {
+        if (rateLimit.getRequestsPerMinute() != null) {
+            builder.requestsPerMinute(rateLimit.getRequestsPerMinute());
+        }
+        if (rateLimit.getTokensPerMinute() != null) {
+            builder.tokensPerMinute(rateLimit.getTokensPerMinute());
+        }
+        if (rateLimit.getConcurrencyLimit() != null) {
+            int min = (rateLimit.getMinConcurrencyLimit() != null) ? rateLimit.getMinConcurrencyLimit() : 1;
+            int max = (rateLimit.getMaxConcurrencyLimit() != null) ? rateLimit.getMaxConcurrencyLimit() : 64;
+            builder.concurrencyLimit(rateLimit.getConcurrencyLimit(), min, max);
+        }
+    }
+
     private static ProtifyAIProvider resolveProvider(String providerName) {
         String normalized = providerName.trim().toUpperCase().replace(" ", "_").replace("-", "_");
         for (ProtifyAIProvider p : ProtifyAIProvider.values()) {
@@ -33,6 +33,11 @@ public class AIClientRegistry {
     }
 
     void registerClient(String name, AIClient client) {
+        if (namedClients.containsKey(name)) {
+            throw new IllegalArgumentException(
+                    "An AIClient named '" + name + "' is already configured. " +
+                    "Names under 'protify.ai.clients' and 'protify.ai.routes' must be unique.");
+        }
         namedClients.put(name, client);
     }
 
@@ -49,7 +54,7 @@ public class AIClientRegistry {
             throw new IllegalArgumentException(
                     "No AIClient configured with name '" + name + "'. " +
                     "Available named clients: " + namedClients.keySet() +
-                    ". Configure it under 'protify.ai.clients." + name + "'.");
+                    ". Configure it under 'protify.ai.clients." + name + "' or 'protify.ai.routes." + name + "'.");
         }
         return client;
     }
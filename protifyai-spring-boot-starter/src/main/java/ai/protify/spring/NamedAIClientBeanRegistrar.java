@@ -56,6 +56,10 @@ class NamedAIClientBeanRegistrar implements BeanDefinitionRegistryPostProcessor,
             ProtifyAIProperties.ClientProperties clientProps = entry.getValue();
             registerNamedClientBean(registry, clientName, clientProps);
         }
+
+        for (Map.Entry<String, ProtifyAIProperties.RouteProperties> entry : properties.getRoutes().entrySet()) {
+            registerRoutingClientBean(registry, entry.getKey(), entry.getValue(), properties.getClients());
+        }
     }
 
     @Override
@@ -77,6 +81,30 @@ class NamedAIClientBeanRegistrar implements BeanDefinitionRegistryPostProcessor,
         LOGGER.info("Registered named AIClient bean '" + beanName + "' with @Qualifier(\"" + clientName + "\")");
     }
 
+    private void registerRoutingClientBean(BeanDefinitionRegistry registry, String routeName,
+                                           ProtifyAIProperties.RouteProperties routeProps,
+                                           Map<String, ProtifyAIProperties.ClientProperties> clients) {
+        String beanName = routeName + "AIClient";
+
+        AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+                .genericBeanDefinition(AIClient.class, () -> AIClientFactory.createRoutingClient(routeName, routeProps,
+                        clientName -> {
+                            ProtifyAIProperties.ClientProperties clientProps = clients.get(clientName);
+                            if (clientProps == null) {
+                                throw new IllegalArgumentException(
+                                        "Protify AI route '" + routeName + "' targets unknown client '" + clientName +
+                                        "'. Configure it under 'protify.ai.clients." + clientName + "'.");
+                            }
+                            return AIClientFactory.createClient(clientProps);
+                        }))
+                .getBeanDefinition();
+
+        beanDefinition.addQualifier(new AutowireCandidateQualifier(Qualifier.class, routeName));
+
+        registry.registerBeanDefinition(beanName, beanDefinition);
+        LOGGER.info("Registered routing AIClient bean '" + beanName + "' with @Qualifier(\"" + routeName + "\")");
+    }
+
     private ProtifyAIProperties bindProperties() {
         try {
             return Binder.get(environment)
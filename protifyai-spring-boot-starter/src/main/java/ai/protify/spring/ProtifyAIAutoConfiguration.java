@@ -55,6 +55,11 @@ public class ProtifyAIAutoConfiguration {
         for (Map.Entry<String, ProtifyAIProperties.ClientProperties> entry : properties.getClients().entrySet()) {
             registry.registerClient(entry.getKey(), AIClientFactory.createClient(entry.getValue()));
         }
+        // Routes are registered after clients so their targets can be looked up by name
+        for (Map.Entry<String, ProtifyAIProperties.RouteProperties> entry : properties.getRoutes().entrySet()) {
+            registry.registerClient(entry.getKey(),
+                    AIClientFactory.createRoutingClient(entry.getKey(), entry.getValue(), registry::getClient));
+        }
         return registry;
     }
 
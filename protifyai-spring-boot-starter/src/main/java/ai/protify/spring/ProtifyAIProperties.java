@@ -18,7 +18,9 @@ package ai.protify.spring;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @ConfigurationProperties(prefix = "protify.ai")
@@ -32,6 +34,8 @@ public class ProtifyAIProperties {
 
     private Map<String, ClientProperties> clients = new LinkedHashMap<>();
 
+    private Map<String, RouteProperties> routes = new LinkedHashMap<>();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -64,6 +68,14 @@ public class ProtifyAIProperties {
         this.clients = clients;
     }
 
+    public Map<String, RouteProperties> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, RouteProperties> routes) {
+        this.routes = routes;
+    }
+
     public static class ClientProperties {
 
         private String provider;
@@ -91,6 +103,9 @@ public class ProtifyAIProperties {
         // Retry
         private RetryProperties retry;
 
+        // Rate and concurrency limits
+        private RateLimitProperties rateLimit;
+
         // Cloud provider
         private String region;
         private String projectId;
@@ -231,6 +246,14 @@ public class ProtifyAIProperties {
             this.retry = retry;
         }
 
+        public RateLimitProperties getRateLimit() {
+            return rateLimit;
+        }
+
+        public void setRateLimit(RateLimitProperties rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+
         public String getRegion() {
             return region;
         }
@@ -361,4 +384,103 @@ public class ProtifyAIProperties {
             this.respectRetryAfter = respectRetryAfter;
         }
     }
+
+    public static class RateLimitProperties {
+        private Integer requestsPerMinute;
+        private Integer tokensPerMinute;
+        private Integer concurrencyLimit;
+        private Integer minConcurrencyLimit;
+        private Integer maxConcurrencyLimit;
+
+        public Integer getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public void setRequestsPerMinute(Integer requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        public Integer getTokensPerMinute() {
+            return tokensPerMinute;
+        }
+
+        public void setTokensPerMinute(Integer tokensPerMinute) {
+            this.tokensPerMinute = tokensPerMinute;
+        }
+
+        public Integer getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+
+        public void setConcurrencyLimit(Integer concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+        }
+
+        public Integer getMinConcurrencyLimit() {
+            return minConcurrencyLimit;
+        }
+
+        public void setMinConcurrencyLimit(Integer minConcurrencyLimit) {
+            this.minConcurrencyLimit = minConcurrencyLimit;
+        }
+
+        public Integer getMaxConcurrencyLimit() {
+            return maxConcurrencyLimit;
+        }
+
+        public void setMaxConcurrencyLimit(Integer maxConcurrencyLimit) {
+            this.maxConcurrencyLimit = maxConcurrencyLimit;
+        }
+    }
+
+    public static class RouteProperties {
+        private String strategy;
+        private List<RouteTargetProperties> targets = new ArrayList<>();
+
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public void setStrategy(String strategy) {
+            this.strategy = strategy;
+        }
+
+        public List<RouteTargetProperties> getTargets() {
+            return targets;
+        }
+
+        public void setTargets(List<RouteTargetProperties> targets) {
+            this.targets = targets;
+        }
+    }
+
+    public static class RouteTargetProperties {
+        private String client;
+        private Integer weight;
+        private Double cost;
+
+        public String getClient() {
+            return client;
+        }
+
+        public void setClient(String client) {
+            this.client = client;
+        }
+
+        public Integer getWeight() {
+            return weight;
+        }
+
+        public void setWeight(Integer weight) {
+            this.weight = weight;
+        }
+
+        public Double getCost() {
+            return cost;
+        }
+
+        public void setCost(Double cost) {
+            this.cost = cost;
+        }
+    }
 }